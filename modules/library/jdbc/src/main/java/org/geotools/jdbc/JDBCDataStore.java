@@ -588,6 +588,7 @@ public Map<Class<? extends FeatureVisitor>, String> getAggregateFunctions() {
         if (aggregateFunctions == null) {
             aggregateFunctions = new HashMap<>();
             dialect.registerAggregateFunctions(aggregateFunctions);
+            dialect.registerApproximateAggregateFunctions(aggregateFunctions);
         }
         return aggregateFunctions;
     }
@@ -50,6 +50,7 @@
 import org.geotools.api.referencing.operation.TransformException;
 import org.geotools.data.util.ScreenMap;
 import org.geotools.feature.GeometryAttributeImpl;
+import org.geotools.feature.simple.FlyweightSimpleFeature;
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.feature.type.AttributeDescriptorImpl;
 import org.geotools.feature.type.Types;
@@ -58,6 +59,7 @@
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.util.Converters;
 import org.geotools.util.factory.Hints;
+import org.geotools.util.instrumentation.Instrumentation;
 import org.geotools.util.logging.Logging;
 import org.locationtech.jts.geom.CoordinateSequenceFactory;
 import org.locationtech.jts.geom.Geometry;
@@ -126,6 +128,20 @@ public class JDBCFeatureReader implements FeatureReader<SimpleFeatureType, Simpl
     /** enum support */
     EnumMapper[] enumMappers;
 
+    /** The feature moved to each row when features are reused, null otherwise */
+    protected FlyweightSimpleFeature flyweight;
+
+    private Object[] rowValues;
+
+    /** Whether the time spent fetching and decoding rows is measured, and reported on close */
+    private final boolean instrumented = Instrumentation.isEnabled();
+
+    private long fetchNanos;
+
+    private long decodeNanos;
+
+    private long rows;
+
     public JDBCFeatureReader(
             String sql, Connection cx, JDBCFeatureSource featureSource, SimpleFeatureType featureType, Query query)
             throws SQLException {
@@ -285,6 +301,15 @@ public JDBCFeatureReader(JDBCFeatureReader other) {
         this.enumMappers = other.enumMappers;
     }
 
+    /**
+     * Makes the reader return the same {@link FlyweightSimpleFeature} for every row, instead of building a new feature
+     * each time
+     */
+    public void setReuseFeatures(boolean reuse) {
+        this.flyweight = reuse ? new FlyweightSimpleFeature(featureType) : null;
+        this.rowValues = reuse ? new Object[featureType.getAttributeCount()] : null;
+    }
+
     public void setNext(Boolean next) {
         this.next = next;
         if (next == null) {
@@ -313,11 +338,20 @@ public boolean hasNext() throws IOException {
             try {
                 while (nextFeature == null && !Boolean.FALSE.equals(next)) {
                     callback.beforeNext(rs);
+                    long start = instrumented ? System.nanoTime() : 0;
                     next = Boolean.valueOf(rs.next());
+                    if (instrumented) {
+                        fetchNanos += System.nanoTime() - start;
+                    }
                     callback.afterNext(rs, next);
 
                     if (next) {
+                        start = instrumented ? System.nanoTime() : 0;
                         nextFeature = readNextFeature();
+                        if (instrumented) {
+                            decodeNanos += System.nanoTime() - start;
+                            rows++;
+                        }
                     }
                 }
 
@@ -429,12 +463,21 @@ protected SimpleFeature readNextFeature() throws IOException {
                     }
                 }
 
-                builder.add(value);
+                if (flyweight != null) {
+                    rowValues[i] = SimpleFeatureBuilder.convertValue(value, type);
+                } else {
+                    builder.add(value);
+                }
             } catch (SQLException e) {
                 throw new RuntimeException(e);
             }
         }
 
+        if (flyweight != null) {
+            flyweight.moveTo(fid, rowValues, 0);
+            return flyweight;
+        }
+
         // create the feature
         try {
             return builder.buildFeature(fid);
@@ -508,6 +551,11 @@ private int[] buildAttributeRsIndex() {
 
     @Override
     public void close() throws IOException {
+        if (instrumented && dataStore != null) {
+            Instrumentation.time("jdbc.fetch", fetchNanos);
+            Instrumentation.time("jdbc.decode", decodeNanos);
+            Instrumentation.count("jdbc.rows", rows);
+        }
         if (dataStore != null) {
             // clean up
             dataStore.closeSafe(rs);
@@ -115,6 +115,7 @@ protected void addHints(Set<Key> hints) {
         // mark the features as detached, that is, the user can directly alter them
         // without altering the state of the datastore
         hints.add(Hints.FEATURE_DETACHED);
+        hints.add(Hints.FEATURE_REUSE);
         getDataStore().getSQLDialect().addSupportedHints(hints);
     }
 
@@ -622,6 +623,9 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
 
                     reader = new JDBCFeatureReader(sql, cx, this, querySchema, query);
                 }
+                // joins keep the features of the joined readers, reuse is limited to plain queries
+                ((JDBCFeatureReader) reader)
+                        .setReuseFeatures(Boolean.TRUE.equals(query.getHints().get(Hints.FEATURE_REUSE)));
             } else {
                 JoinInfo join = JoinInfo.create(preQuery, this);
 
@@ -62,6 +62,7 @@
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.data.jdbc.datasource.DataSourceFinder;
 import org.geotools.data.jdbc.datasource.UnWrapper;
+import org.geotools.feature.visitor.ApproximateUniqueCountVisitor;
 import org.geotools.feature.visitor.AverageVisitor;
 import org.geotools.feature.visitor.CountVisitor;
 import org.geotools.feature.visitor.FeatureAttributeVisitor;
@@ -427,6 +428,17 @@ public void registerAggregateFunctions(Map<Class<? extends FeatureVisitor>, Stri
         aggregates.put(StandardDeviationVisitor.class, "stddev_pop");
     }
 
+    /**
+     * Registers the native aggregate functions computing approximations, for the sketch based visitors, e.g., mapping
+     * {@link ApproximateUniqueCountVisitor} to "approx_count_distinct". The function is applied to the visitor
+     * expression like the exact aggregate functions, and its result set back on the visitor.
+     *
+     * <p>This base implementation registers none, the approximations being computed in memory.
+     */
+    public void registerApproximateAggregateFunctions(Map<Class<? extends FeatureVisitor>, String> aggregates) {
+        // no native approximation in the SQL standard
+    }
+
     /**
      * Returns the java class mapping for a particular column.
      *
@@ -46,6 +46,7 @@
 import org.geotools.feature.collection.MaxSimpleFeatureCollection;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.util.factory.Hints;
 
 /**
  * This is a "port" of ContentFeatureSource to work with an iterator.
@@ -157,6 +158,7 @@ public synchronized Set<Key> getSupportedHints() {
         if (hints == null) {
             Set<Key> supports = new HashSet<>();
             // supports.add( Hints.FEATURE_DETACHED );
+            supports.add(Hints.REPROJECTION_TOLERANCE);
             hints = Collections.unmodifiableSet(supports);
         }
         return hints;
@@ -209,7 +211,13 @@ public SimpleFeatureCollection getFeatures(Query query) {
         }
         // step two: reproject
         if (query.getCoordinateSystemReproject() != null) {
-            features = new ReprojectingFeatureCollection(features, query.getCoordinateSystemReproject());
+            ReprojectingFeatureCollection reprojected =
+                    new ReprojectingFeatureCollection(features, query.getCoordinateSystemReproject());
+            Double tolerance = (Double) query.getHints().get(Hints.REPROJECTION_TOLERANCE);
+            if (tolerance != null) {
+                reprojected.setReprojectionTolerance(tolerance);
+            }
+            features = reprojected;
         }
         // step two sort! (note this makes a sorted copy)
         if (query.getSortBy() != null && query.getSortBy().length != 0) {
@@ -20,6 +20,7 @@
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Set;
@@ -56,6 +57,7 @@
 import org.geotools.feature.collection.MaxSimpleFeatureCollection;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.util.factory.Hints;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 
@@ -161,7 +163,13 @@ private SimpleFeatureCollection getFeatureCollection(Query query, Envelope bound
         }
         // step two: reproject
         if (query.getCoordinateSystemReproject() != null) {
-            collection = new ReprojectingFeatureCollection(collection, query.getCoordinateSystemReproject());
+            ReprojectingFeatureCollection reprojected =
+                    new ReprojectingFeatureCollection(collection, query.getCoordinateSystemReproject());
+            Double tolerance = (Double) query.getHints().get(Hints.REPROJECTION_TOLERANCE);
+            if (tolerance != null) {
+                reprojected.setReprojectionTolerance(tolerance);
+            }
+            collection = reprojected;
         }
         // step two sort! (note this makes a sorted copy)
         if (query.getSortBy() != null && query.getSortBy().length != 0) {
@@ -253,6 +261,6 @@ public boolean isOffsetSupported() {
 
     @Override
     public Set<RenderingHints.Key> getSupportedHints() {
-        return new HashSet<>();
+        return new HashSet<>(Collections.singleton(Hints.REPROJECTION_TOLERANCE));
     }
 }
@@ -16,6 +16,7 @@
  */
 package org.geotools.data.crs;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import org.geotools.api.data.FeatureReader;
@@ -25,9 +26,7 @@
 import org.geotools.api.referencing.operation.TransformException;
 import org.geotools.data.simple.SimpleFeatureIterator;
 import org.geotools.feature.FeatureIterator;
-import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.geometry.jts.GeometryCoordinateSequenceTransformer;
-import org.locationtech.jts.geom.Geometry;
 
 /**
  * ReprojectFeatureReader provides a reprojection for FeatureTypes.
@@ -62,6 +61,7 @@ public class ReprojectFeatureIterator implements Iterator<SimpleFeature>, Simple
     FeatureIterator<SimpleFeature> reader;
     SimpleFeatureType schema;
     GeometryCoordinateSequenceTransformer transformer = new GeometryCoordinateSequenceTransformer();
+    ReprojectionBatch batch;
 
     public ReprojectFeatureIterator(
             FeatureIterator<SimpleFeature> reader, SimpleFeatureType schema, MathTransform transform) {
@@ -71,6 +71,12 @@ public ReprojectFeatureIterator(
 
         // set hte target coordinate system
         transformer.setCoordinateReferenceSystem(schema.getCoordinateReferenceSystem());
+
+        // all geometries go through the same transformer
+        GeometryCoordinateSequenceTransformer[] transformers =
+                new GeometryCoordinateSequenceTransformer[schema.getAttributeCount()];
+        Arrays.fill(transformers, transformer);
+        this.batch = new ReprojectionBatch(schema, transformers, null, false, ReprojectionBatch.DEFAULT_SIZE);
     }
 
     /**
@@ -101,24 +107,19 @@ public SimpleFeature next() throws NoSuchElementException {
             throw new IllegalStateException("Reader has already been closed");
         }
 
-        // grab the next feature
-        SimpleFeature next = reader.next();
-
-        Object[] attributes = next.getAttributes().toArray();
-
+        if (batch.isEmpty()) {
+            // read ahead, so that the geometries of many features are reprojected at once
+            do {
+                batch.add(reader.next());
+            } while (!batch.isFull() && reader.hasNext());
+        }
         try {
-            for (int i = 0; i < attributes.length; i++) {
-                if (attributes[i] instanceof Geometry) {
-                    attributes[i] = transformer.transform((Geometry) attributes[i]);
-                }
-            }
+            return batch.next();
         } catch (TransformException e) {
             throw (IllegalStateException)
                     new IllegalStateException("A transformation exception occurred while reprojecting data on the fly")
                             .initCause(e);
         }
-
-        return SimpleFeatureBuilder.build(schema, attributes, next.getID());
     }
 
     @Override
@@ -138,7 +139,7 @@ public boolean hasNext() {
             throw new IllegalStateException("Reader has already been closed");
         }
 
-        return reader.hasNext();
+        return !batch.isEmpty() || reader.hasNext();
     }
 
     /**
@@ -35,11 +35,8 @@
 import org.geotools.api.referencing.operation.TransformException;
 import org.geotools.feature.FeatureTypes;
 import org.geotools.feature.SchemaException;
-import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.geometry.jts.GeometryCoordinateSequenceTransformer;
-import org.geotools.geometry.jts.JTS;
 import org.geotools.referencing.CRS;
-import org.locationtech.jts.geom.Geometry;
 
 /**
  * ReprojectFeatureReader provides a reprojection for FeatureTypes.
@@ -77,6 +74,7 @@ public class ReprojectFeatureReader implements DelegatingFeatureReader<SimpleFea
     SimpleFeatureType schema;
     GeometryCoordinateSequenceTransformer transformer;
     Map<Name, GeometryCoordinateSequenceTransformer> transformers;
+    ReprojectionBatch batch;
 
     /**
      * Direct constructor reprojecting the provided reader into the schema indicated (using the supplied math
@@ -183,32 +181,36 @@ public SimpleFeature next() throws IOException, IllegalAttributeException, NoSuc
             throw new IllegalStateException("Reader has already been closed");
         }
 
-        SimpleFeature next = reader.next();
-        Object[] attributes = next.getAttributes().toArray();
-
+        if (batch == null) {
+            batch = createBatch();
+        }
+        if (batch.isEmpty()) {
+            // read ahead, so that the geometries of many features are reprojected at once
+            do {
+                batch.add(reader.next());
+            } while (!batch.isFull() && reader.hasNext());
+        }
         try {
-            for (int i = 0; i < schema.getDescriptors().size(); i++) {
-                if (schema.getDescriptor(i) instanceof GeometryDescriptor && attributes[i] instanceof Geometry) {
-                    GeometryDescriptor descr = (GeometryDescriptor) originalType.getDescriptor(i);
-                    GeometryCoordinateSequenceTransformer transformer = getTransformer(descr.getName());
-                    if (transformer != null) {
-                        attributes[i] = transformer.transform((Geometry) attributes[i]);
-                        JTS.setCRS(
-                                (Geometry) attributes[i],
-                                ((GeometryDescriptor) schema.getDescriptor(i)).getCoordinateReferenceSystem());
-                    }
-                }
-            }
+            return batch.next();
         } catch (TransformException e) {
             throw new DataSourceException("A transformation exception occurred while reprojecting data on the fly", e);
         }
-        // building the new reprojected feature
-        SimpleFeature reprojected = SimpleFeatureBuilder.build(schema, attributes, next.getID());
-        // copying the user data if any
-        if (next.hasUserData()) {
-            reprojected.getUserData().putAll(next.getUserData());
+    }
+
+    /** Sets up the batch reprojecting each geometry attribute with its transformer */
+    private ReprojectionBatch createBatch() {
+        int count = schema.getAttributeCount();
+        GeometryCoordinateSequenceTransformer[] transformers = new GeometryCoordinateSequenceTransformer[count];
+        CoordinateReferenceSystem[] crs = new CoordinateReferenceSystem[count];
+        for (int i = 0; i < count; i++) {
+            if (schema.getDescriptor(i) instanceof GeometryDescriptor) {
+                GeometryDescriptor descr = (GeometryDescriptor) schema.getDescriptor(i);
+                Name name = originalType != null ? originalType.getDescriptor(i).getName() : descr.getName();
+                transformers[i] = getTransformer(name);
+                crs[i] = descr.getCoordinateReferenceSystem();
+            }
         }
-        return reprojected;
+        return new ReprojectionBatch(schema, transformers, crs, true, ReprojectionBatch.DEFAULT_SIZE);
     }
 
     /**
@@ -224,7 +226,7 @@ public boolean hasNext() throws IOException {
             throw new IllegalStateException("Reader has already been closed");
         }
 
-        return reader.hasNext();
+        return (batch != null && !batch.isEmpty()) || reader.hasNext();
     }
 
     /**
@@ -243,5 +245,6 @@ public void close() throws IOException {
         reader.close();
         reader = null;
         schema = null;
+        batch = null;
     }
 }
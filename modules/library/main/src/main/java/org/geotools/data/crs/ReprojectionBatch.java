@@ -0,0 +1,214 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.crs;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.geometry.jts.GeometryCoordinateSequenceTransformer;
+import org.geotools.geometry.jts.JTS;
+import org.geotools.util.instrumentation.Instrumentation;
+import org.geotools.util.instrumentation.Span;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Holds the features read ahead by the reprojecting readers and iterators, and reprojects their geometries a batch at
+ * a time with {@link GeometryCoordinateSequenceTransformer#transform(Geometry[])}. The attributes, id and user data of
+ * each feature are copied when it is added, so features reused by the delegate reader can be buffered too.
+ *
+ * <p>The first batch holds a single feature, and each following one twice as many as the previous one, up to the
+ * batch size. Callers stopping early, for example to honour a feature limit, never read ahead more than the features
+ * they already consumed.
+ *
+ * <p>If a batch fails its features are reprojected one at a time instead, so that the failure is reported when the
+ * feature causing it is reached, as it would be without batching.
+ *
+ * @since 33
+ */
+public class ReprojectionBatch {
+
+    /**
+     * The default maximum number of features reprojected together, can be changed with the
+     * <code>org.geotools.reprojection.batchSize</code> system property
+     */
+    public static final int DEFAULT_SIZE = Integer.getInteger("org.geotools.reprojection.batchSize", 256);
+
+    private final SimpleFeatureType schema;
+
+    private final GeometryCoordinateSequenceTransformer[] transformers;
+
+    private final CoordinateReferenceSystem[] crs;
+
+    private final boolean copyUserData;
+
+    private final int size;
+
+    /** The number of features in the next batch, grows up to {@link #size} */
+    private int limit = 1;
+
+    private final ArrayDeque<Row> rows = new ArrayDeque<>();
+
+    private final ArrayDeque<SimpleFeature> reprojected = new ArrayDeque<>();
+
+    /** Set when the buffered rows could not be reprojected as a single batch */
+    private boolean failed;
+
+    /**
+     * Builds a new batch
+     *
+     * @param schema the schema of the reprojected features
+     * @param transformers the transformer for each attribute, null for the attributes left untouched
+     * @param crs the CRS set on the reprojected geometries of each attribute, or null to leave them untouched
+     * @param copyUserData whether the feature user data is copied to the reprojected features
+     * @param size the maximum number of features reprojected together
+     */
+    public ReprojectionBatch(
+            SimpleFeatureType schema,
+            GeometryCoordinateSequenceTransformer[] transformers,
+            CoordinateReferenceSystem[] crs,
+            boolean copyUserData,
+            int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive, but was " + size);
+        }
+        this.schema = schema;
+        this.transformers = transformers;
+        this.crs = crs;
+        this.copyUserData = copyUserData;
+        this.size = size;
+    }
+
+    /** Returns true if no more features should be added before calling {@link #next()} */
+    public boolean isFull() {
+        return rows.size() >= limit;
+    }
+
+    /** Returns true if there are no features left to return */
+    public boolean isEmpty() {
+        return rows.isEmpty() && reprojected.isEmpty();
+    }
+
+    /** Adds a feature to the batch */
+    public void add(SimpleFeature feature) {
+        Map<Object, Object> userData =
+                copyUserData && feature.hasUserData() ? new HashMap<>(feature.getUserData()) : null;
+        rows.add(new Row(feature.getAttributes().toArray(), feature.getID(), userData));
+    }
+
+    /**
+     * Returns the next reprojected feature, in the order they were added
+     *
+     * @throws TransformException if the geometries of the feature could not be reprojected, the feature is skipped
+     */
+    public SimpleFeature next() throws TransformException {
+        if (reprojected.isEmpty() && !failed && !rows.isEmpty()) {
+            limit = limit < size / 2 ? limit * 2 : size;
+            try (Span span = Instrumentation.span("reprojection.batch")) {
+                reprojectAll();
+            } catch (TransformException e) {
+                failed = true;
+            }
+        }
+        if (!reprojected.isEmpty()) {
+            return reprojected.poll();
+        }
+        Row row = rows.poll();
+        if (row == null) {
+            throw new NoSuchElementException();
+        }
+        if (rows.isEmpty()) {
+            failed = false;
+        }
+        return build(row, reproject(row.attributes.clone()));
+    }
+
+    private void reprojectAll() throws TransformException {
+        int n = rows.size();
+        // work on copies, a failure midway falls back on the original values
+        Object[][] attributes = new Object[n][];
+        int r = 0;
+        for (Row row : rows) {
+            attributes[r++] = row.attributes.clone();
+        }
+        for (int c = 0; c < transformers.length; c++) {
+            if (transformers[c] == null) {
+                continue;
+            }
+            Geometry[] geometries = new Geometry[n];
+            for (r = 0; r < n; r++) {
+                if (attributes[r][c] instanceof Geometry) {
+                    geometries[r] = (Geometry) attributes[r][c];
+                }
+            }
+            Geometry[] transformed = transformers[c].transform(geometries);
+            for (r = 0; r < n; r++) {
+                if (transformed[r] != null) {
+                    setCRS(transformed[r], c);
+                    attributes[r][c] = transformed[r];
+                }
+            }
+        }
+        for (r = 0; r < n; r++) {
+            reprojected.add(build(rows.poll(), attributes[r]));
+        }
+    }
+
+    private Object[] reproject(Object[] attributes) throws TransformException {
+        for (int c = 0; c < transformers.length; c++) {
+            if (transformers[c] != null && attributes[c] instanceof Geometry) {
+                Geometry transformed = transformers[c].transform((Geometry) attributes[c]);
+                setCRS(transformed, c);
+                attributes[c] = transformed;
+            }
+        }
+        return attributes;
+    }
+
+    private void setCRS(Geometry geometry, int attribute) {
+        if (crs != null && crs[attribute] != null) {
+            JTS.setCRS(geometry, crs[attribute]);
+        }
+    }
+
+    private SimpleFeature build(Row row, Object[] attributes) {
+        SimpleFeature feature = SimpleFeatureBuilder.build(schema, attributes, row.id);
+        if (row.userData != null) {
+            feature.getUserData().putAll(row.userData);
+        }
+        return feature;
+    }
+
+    private static class Row {
+        final Object[] attributes;
+
+        final String id;
+
+        final Map<Object, Object> userData;
+
+        Row(Object[] attributes, String id, Map<Object, Object> userData) {
+            this.attributes = attributes;
+            this.id = id;
+            this.userData = userData;
+        }
+    }
+}
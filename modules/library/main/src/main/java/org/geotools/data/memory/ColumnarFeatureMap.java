@@ -0,0 +1,702 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import java.lang.invoke.VarHandle;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.feature.type.GeometryDescriptor;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.feature.simple.SimpleFeatureImpl;
+import org.geotools.filter.identity.FeatureIdImpl;
+import org.geotools.filter.visitor.ExtractBoundsFilterVisitor;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.referencing.CRS;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Feature storage of a {@link MemoryEntry} keeping the attribute values in columns, primitive arrays for numbers and
+ * booleans, and packed arrays for geometries (see {@link GeometryColumn}), instead of one {@link SimpleFeature} object
+ * per row. Features are decoded on access, each call returning a new feature, trading some CPU for a much smaller heap
+ * footprint on large layers.
+ *
+ * <p>Changes are serialized on the map monitor, reads do not lock: readers work on an immutable snapshot of the
+ * columns, the only mutable state shared with the writer being the rows updated or deleted in place, which are guarded
+ * by striped sequence locks. When the columns have to grow, or be compacted, the writer copies them and publishes a new
+ * snapshot, leaving the older ones untouched.
+ *
+ * <p>Bounding box queries on layers with a single geometry attribute are answered using a packed STR tree, built
+ * lazily from the stored envelopes and rebuilt on the first query following a change.
+ */
+final class ColumnarFeatureMap extends AbstractMap<String, SimpleFeature> {
+
+    /** Number of sequence locks, rows are assigned to them round robin */
+    private static final int STRIPES = 64;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Below this number of rows, queries scan the envelopes instead of building an index */
+    static final int INDEX_THRESHOLD = 1024;
+
+    private final SimpleFeatureType schema;
+
+    /** Index of the geometry column used for spatial queries, -1 if there is none, or several */
+    private final int spatialColumn;
+
+    private final AtomicIntegerArray versions = new AtomicIntegerArray(STRIPES);
+
+    private volatile Columns columns;
+
+    private volatile int size;
+
+    /** Incremented on each change, to detect an out of date spatial index */
+    private volatile long modifications;
+
+    private volatile SpatialIndex spatialIndex;
+
+    // writer state, guarded by this
+
+    /** Open addressing table of row + 1 by feature id, 0 marking empty slots */
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+
+    private int deleted;
+
+    ColumnarFeatureMap(SimpleFeatureType schema) {
+        this.schema = schema;
+        int geometries = 0;
+        int spatial = -1;
+        for (int i = 0; i < schema.getAttributeCount(); i++) {
+            if (schema.getDescriptor(i) instanceof GeometryDescriptor) {
+                geometries++;
+                spatial = i;
+            }
+        }
+        this.spatialColumn = geometries == 1 ? spatial : -1;
+        this.columns = new Columns(schema, INITIAL_CAPACITY);
+    }
+
+    /** An immutable view of the rows, only the rows below {@link #count} are visible */
+    private static final class Columns {
+
+        final int count;
+
+        final String[] fids;
+
+        final boolean[] deleted;
+
+        final FeatureColumn[] values;
+
+        /** User data of the rows that have some, null until the first one */
+        final Object[] userData;
+
+        Columns(SimpleFeatureType schema, int capacity) {
+            this.count = 0;
+            this.fids = new String[capacity];
+            this.deleted = new boolean[capacity];
+            this.values = new FeatureColumn[schema.getAttributeCount()];
+            for (int i = 0; i < values.length; i++) {
+                AttributeDescriptor descriptor = schema.getDescriptor(i);
+                values[i] = FeatureColumn.create(descriptor.getType().getBinding(), capacity);
+            }
+            this.userData = null;
+        }
+
+        Columns(int count, String[] fids, boolean[] deleted, FeatureColumn[] values, Object[] userData) {
+            this.count = count;
+            this.fids = fids;
+            this.deleted = deleted;
+            this.values = values;
+            this.userData = userData;
+        }
+
+        int capacity() {
+            return fids.length;
+        }
+
+        Columns withCount(int count) {
+            return new Columns(count, fids, deleted, values, userData);
+        }
+    }
+
+    /** A spatial index along with the state it was built from */
+    private static final class SpatialIndex {
+
+        final Columns columns;
+
+        final long modifications;
+
+        final PackedSTRIndex index;
+
+        SpatialIndex(Columns columns, long modifications, PackedSTRIndex index) {
+            this.columns = columns;
+            this.modifications = modifications;
+            this.index = index;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized SimpleFeature get(Object key) {
+        int row = key instanceof String ? find((String) key) : -1;
+        return row < 0 ? null : read(columns, row);
+    }
+
+    @Override
+    public synchronized boolean containsKey(Object key) {
+        return key instanceof String && find((String) key) >= 0;
+    }
+
+    @Override
+    public synchronized SimpleFeature put(String fid, SimpleFeature feature) {
+        if (feature.getAttributeCount() != schema.getAttributeCount()) {
+            throw new IllegalArgumentException("Expected a feature of type " + schema.getTypeName());
+        }
+        Object[] values = feature.getAttributes().toArray();
+        Map<Object, Object> userData = feature.getUserData().isEmpty() ? null : new HashMap<>(feature.getUserData());
+        int row = find(fid);
+        if (row >= 0) {
+            SimpleFeature previous = read(columns, row);
+            update(row, values, userData);
+            return previous;
+        }
+        append(fid, values, userData);
+        return null;
+    }
+
+    @Override
+    public synchronized SimpleFeature remove(Object key) {
+        int row = key instanceof String ? find((String) key) : -1;
+        if (row < 0) {
+            return null;
+        }
+        SimpleFeature previous = read(columns, row);
+        delete(row);
+        return previous;
+    }
+
+    /** Same as {@link #remove(Object)}, without decoding the removed feature */
+    private synchronized void removeFeature(String fid) {
+        int row = find(fid);
+        if (row >= 0) {
+            delete(row);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        columns = new Columns(schema, INITIAL_CAPACITY);
+        table = new int[INITIAL_CAPACITY * 2];
+        deleted = 0;
+        size = 0;
+        modifications++;
+    }
+
+    @Override
+    public Set<Entry<String, SimpleFeature>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, SimpleFeature>> iterator() {
+                Iterator<SimpleFeature> features = features(null);
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return features.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, SimpleFeature> next() {
+                        SimpleFeature feature = features.next();
+                        return new SimpleImmutableEntry<>(feature.getID(), feature);
+                    }
+
+                    @Override
+                    public void remove() {
+                        features.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Returns the features, in insertion order, without locking. When the filter has a bounding box in the native CRS,
+     * features whose geometry is outside of it may be skipped, the filter itself is not evaluated.
+     */
+    Iterator<SimpleFeature> features(Filter filter) {
+        return split(filter, Integer.MAX_VALUE).get(0);
+    }
+
+    /**
+     * Same as {@link #features(Filter)}, but split in consecutive parts of at most <code>partSize</code> rows, that can
+     * be read in parallel. All the parts read the same snapshot of the rows.
+     */
+    List<Iterator<SimpleFeature>> split(Filter filter, int partSize) {
+        Columns snapshot = columns;
+        int[] rows = null;
+        Envelope bbox = getQueryBounds(filter);
+        if (bbox != null) {
+            rows = snapshot.count < INDEX_THRESHOLD ? scan(snapshot, bbox) : getIndex(snapshot).query(bbox);
+        }
+        int count = rows == null ? snapshot.count : rows.length;
+        List<Iterator<SimpleFeature>> parts = new ArrayList<>();
+        int start = 0;
+        do {
+            int end = (int) Math.min((long) start + partSize, count);
+            parts.add(new FeatureIterator(snapshot, rows, start, end));
+            start = end;
+        } while (start < count);
+        return parts;
+    }
+
+    /** The bounds of all the geometries, empty if there are none */
+    ReferencedEnvelope getBounds() {
+        CoordinateReferenceSystem crs = schema.getCoordinateReferenceSystem();
+        ReferencedEnvelope bounds = ReferencedEnvelope.create(crs);
+        Columns snapshot = columns;
+        double[] envelope = new double[4];
+        for (int i = 0; i < snapshot.values.length; i++) {
+            if (!(snapshot.values[i] instanceof GeometryColumn)) {
+                continue;
+            }
+            for (int row = 0; row < snapshot.count; row++) {
+                if (readEnvelope(snapshot, i, row, envelope)) {
+                    bounds.expandToInclude(envelope[0], envelope[1]);
+                    bounds.expandToInclude(envelope[2], envelope[3]);
+                }
+            }
+        }
+        return bounds;
+    }
+
+    /** Returns the bounding box of the filter, if it is usable against the spatial column, or null */
+    private Envelope getQueryBounds(Filter filter) {
+        if (filter == null || filter == Filter.INCLUDE || spatialColumn < 0) {
+            return null;
+        }
+        Envelope bbox = (Envelope) filter.accept(ExtractBoundsFilterVisitor.BOUNDS_VISITOR, null);
+        if (bbox == null
+                || Double.isInfinite(bbox.getWidth())
+                || Double.isInfinite(bbox.getHeight())
+                || Double.isNaN(bbox.getWidth())) {
+            return null;
+        }
+        if (bbox instanceof ReferencedEnvelope) {
+            CoordinateReferenceSystem crs = ((ReferencedEnvelope) bbox).getCoordinateReferenceSystem();
+            CoordinateReferenceSystem native_ = schema.getCoordinateReferenceSystem();
+            if (crs != null && native_ != null && !CRS.equalsIgnoreMetadata(crs, native_)) {
+                return null;
+            }
+        }
+        return bbox;
+    }
+
+    private int[] scan(Columns snapshot, Envelope bbox) {
+        int[] rows = new int[16];
+        int found = 0;
+        double[] envelope = new double[4];
+        for (int row = 0; row < snapshot.count; row++) {
+            if (readEnvelope(snapshot, spatialColumn, row, envelope) && intersects(envelope, bbox)) {
+                if (found == rows.length) {
+                    rows = Arrays.copyOf(rows, found * 2);
+                }
+                rows[found++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, found);
+    }
+
+    private static boolean intersects(double[] envelope, Envelope bbox) {
+        return envelope[0] <= bbox.getMaxX()
+                && envelope[2] >= bbox.getMinX()
+                && envelope[1] <= bbox.getMaxY()
+                && envelope[3] >= bbox.getMinY();
+    }
+
+    /** Returns the spatial index of the snapshot, building it if missing or out of date */
+    private PackedSTRIndex getIndex(Columns snapshot) {
+        long mods = modifications;
+        SpatialIndex cached = spatialIndex;
+        if (cached != null && cached.columns == snapshot && cached.modifications == mods) {
+            return cached.index;
+        }
+        int[] rows = new int[snapshot.count];
+        double[] bounds = new double[snapshot.count * 4];
+        double[] envelope = new double[4];
+        int count = 0;
+        for (int row = 0; row < snapshot.count; row++) {
+            if (readEnvelope(snapshot, spatialColumn, row, envelope)) {
+                rows[count] = row;
+                System.arraycopy(envelope, 0, bounds, count * 4, 4);
+                count++;
+            }
+        }
+        PackedSTRIndex index = new PackedSTRIndex(rows, bounds, count);
+        if (snapshot == columns) {
+            spatialIndex = new SpatialIndex(snapshot, mods, index);
+        }
+        return index;
+    }
+
+    /** Reads the envelope of a geometry column, returns false if the row is deleted or has no geometry */
+    private boolean readEnvelope(Columns snapshot, int attribute, int row, double[] envelope) {
+        GeometryColumn column = (GeometryColumn) snapshot.values[attribute];
+        int stripe = row & (STRIPES - 1);
+        for (; ; ) {
+            int version = versions.get(stripe);
+            if ((version & 1) == 0) {
+                boolean found = !snapshot.deleted[row] && column.getEnvelope(row, envelope);
+                VarHandle.acquireFence();
+                if (versions.get(stripe) == version) {
+                    return found;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /** Decodes a row, returns null if it has been deleted */
+    private SimpleFeature read(Columns snapshot, int row) {
+        int stripe = row & (STRIPES - 1);
+        Object[] values = new Object[snapshot.values.length];
+        for (; ; ) {
+            int version = versions.get(stripe);
+            if ((version & 1) == 0) {
+                try {
+                    boolean isDeleted = snapshot.deleted[row];
+                    if (!isDeleted) {
+                        for (int i = 0; i < values.length; i++) {
+                            values[i] = snapshot.values[i].get(row);
+                        }
+                    }
+                    Object userData = snapshot.userData == null ? null : snapshot.userData[row];
+                    VarHandle.acquireFence();
+                    if (versions.get(stripe) == version) {
+                        return isDeleted ? null : build(snapshot.fids[row], values, userData);
+                    }
+                } catch (RuntimeException e) {
+                    // a row changing under our feet can be decoded inconsistently, only fail if it did not change
+                    VarHandle.acquireFence();
+                    if (versions.get(stripe) == version) {
+                        throw e;
+                    }
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private SimpleFeature build(String fid, Object[] values, Object userData) {
+        SimpleFeatureImpl feature = new SimpleFeatureImpl(values, schema, new FeatureIdImpl(fid), false);
+        if (userData != null) {
+            feature.getUserData().putAll((Map<Object, Object>) userData);
+        }
+        return feature;
+    }
+
+    private void append(String fid, Object[] values, Map<Object, Object> userData) {
+        Columns target = prepare(columns, columns.count + 1, values, userData);
+        int row = target.count;
+        // the row is not visible to readers yet, no need to lock it
+        write(target, row, values, userData);
+        target.fids[row] = fid;
+        columns = target.withCount(row + 1);
+        insert(fid, row);
+        size++;
+        modifications++;
+    }
+
+    private void update(int row, Object[] values, Map<Object, Object> userData) {
+        Columns current = columns;
+        Columns target = prepare(current, current.count, values, userData);
+        if (target == current) {
+            int stripe = row & (STRIPES - 1);
+            versions.incrementAndGet(stripe);
+            try {
+                write(target, row, values, userData);
+            } finally {
+                versions.incrementAndGet(stripe);
+            }
+        } else {
+            // a private copy, published once written
+            write(target, row, values, userData);
+            columns = target;
+        }
+        modifications++;
+        compactIfNeeded();
+    }
+
+    private void delete(int row) {
+        Columns current = columns;
+        int stripe = row & (STRIPES - 1);
+        versions.incrementAndGet(stripe);
+        try {
+            current.deleted[row] = true;
+            // release the values, a compaction will reclaim the room
+            for (FeatureColumn column : current.values) {
+                column.set(row, null);
+            }
+            if (current.userData != null) {
+                current.userData[row] = null;
+            }
+        } finally {
+            versions.incrementAndGet(stripe);
+        }
+        unlink(current.fids[row]);
+        size--;
+        deleted++;
+        modifications++;
+        compactIfNeeded();
+    }
+
+    private void write(Columns target, int row, Object[] values, Map<Object, Object> userData) {
+        for (int i = 0; i < values.length; i++) {
+            target.values[i].set(row, values[i]);
+        }
+        if (target.userData != null) {
+            target.userData[row] = userData;
+        }
+    }
+
+    /**
+     * Returns the columns to write the values in: the current ones if they have room for them, otherwise a private
+     * copy, grown as needed. Copies share nothing mutable with the current columns, whose readers are not disturbed.
+     */
+    private Columns prepare(Columns current, int count, Object[] values, Map<Object, Object> userData) {
+        boolean fits = count <= current.capacity() && (userData == null || current.userData != null);
+        for (int i = 0; fits && i < values.length; i++) {
+            fits = current.values[i].accepts(values[i]);
+        }
+        if (fits) {
+            return current;
+        }
+        int capacity = current.capacity();
+        if (count > capacity) {
+            capacity = Math.max(count, capacity + (capacity >> 1));
+        }
+        FeatureColumn[] copies = new FeatureColumn[values.length];
+        for (int i = 0; i < values.length; i++) {
+            FeatureColumn column = current.values[i];
+            if (column.accepts(values[i])) {
+                copies[i] = column.copy(null, current.count, capacity);
+            } else if (column instanceof GeometryColumn && values[i] instanceof Geometry) {
+                copies[i] = ((GeometryColumn) column).grow(values[i], capacity);
+            } else {
+                // values of an unexpected class, keep them as objects
+                FeatureColumn objects = new FeatureColumn.ObjectColumn(capacity);
+                for (int row = 0; row < current.count; row++) {
+                    objects.set(row, column.get(row));
+                }
+                copies[i] = objects;
+            }
+        }
+        Object[] userDataCopy = null;
+        if (current.userData != null || userData != null) {
+            userDataCopy = current.userData == null ? new Object[capacity] : Arrays.copyOf(current.userData, capacity);
+        }
+        return new Columns(
+                current.count,
+                Arrays.copyOf(current.fids, capacity),
+                Arrays.copyOf(current.deleted, capacity),
+                copies,
+                userDataCopy);
+    }
+
+    /** Rebuilds the columns without the deleted rows when they, or replaced geometries, take too much room */
+    private void compactIfNeeded() {
+        Columns current = columns;
+        boolean compact = current.count >= INITIAL_CAPACITY && deleted * 2 > current.count;
+        for (int i = 0; !compact && i < current.values.length; i++) {
+            FeatureColumn column = current.values[i];
+            compact = column instanceof GeometryColumn && ((GeometryColumn) column).garbageRatio() > 0.5;
+        }
+        if (!compact) {
+            return;
+        }
+        int[] rows = new int[size];
+        int count = 0;
+        for (int row = 0; row < current.count; row++) {
+            if (!current.deleted[row]) {
+                rows[count++] = row;
+            }
+        }
+        int capacity = Math.max(INITIAL_CAPACITY, count + (count >> 1));
+        String[] fids = new String[capacity];
+        FeatureColumn[] values = new FeatureColumn[current.values.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = current.values[i].copy(rows, count, capacity);
+        }
+        Object[] userData = current.userData == null ? null : new Object[capacity];
+        for (int i = 0; i < count; i++) {
+            fids[i] = current.fids[rows[i]];
+            if (userData != null) {
+                userData[i] = current.userData[rows[i]];
+            }
+        }
+        columns = new Columns(count, fids, new boolean[capacity], values, userData);
+        deleted = 0;
+        table = new int[tableSize(count)];
+        for (int i = 0; i < count; i++) {
+            insert(fids[i], i);
+        }
+        modifications++;
+    }
+
+    // fid lookup table, linear probing
+
+    private static int tableSize(int count) {
+        int size = INITIAL_CAPACITY * 2;
+        while (size < count * 2) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    private int slot(String fid) {
+        int h = fid.hashCode();
+        return (h ^ (h >>> 16)) & (table.length - 1);
+    }
+
+    private int find(String fid) {
+        String[] fids = columns.fids;
+        for (int i = slot(fid); ; i = (i + 1) & (table.length - 1)) {
+            int entry = table[i];
+            if (entry == 0) {
+                return -1;
+            } else if (fids[entry - 1].equals(fid)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private void insert(String fid, int row) {
+        if ((size + 1) * 2 > table.length) {
+            int[] old = table;
+            table = new int[tableSize(size + 1)];
+            String[] fids = columns.fids;
+            for (int entry : old) {
+                if (entry != 0) {
+                    place(fids[entry - 1], entry);
+                }
+            }
+        }
+        place(fid, row + 1);
+    }
+
+    private void place(String fid, int entry) {
+        int i = slot(fid);
+        while (table[i] != 0) {
+            i = (i + 1) & (table.length - 1);
+        }
+        table[i] = entry;
+    }
+
+    /** Removes the fid, shifting back the following entries of its probe sequence */
+    private void unlink(String fid) {
+        String[] fids = columns.fids;
+        int mask = table.length - 1;
+        int i = slot(fid);
+        while (!fids[table[i] - 1].equals(fid)) {
+            i = (i + 1) & mask;
+        }
+        int hole = i;
+        for (int j = (hole + 1) & mask; table[j] != 0; j = (j + 1) & mask) {
+            int home = slot(fids[table[j] - 1]);
+            // move the entry if its home slot is not between the hole and its current slot
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                table[hole] = table[j];
+                hole = j;
+            }
+        }
+        table[hole] = 0;
+    }
+
+    /** Iterates over a snapshot, skipping the deleted rows */
+    private final class FeatureIterator implements Iterator<SimpleFeature> {
+
+        final Columns snapshot;
+
+        final int[] rows;
+
+        final int end;
+
+        int position;
+
+        SimpleFeature next;
+
+        SimpleFeature last;
+
+        FeatureIterator(Columns snapshot, int[] rows, int start, int end) {
+            this.snapshot = snapshot;
+            this.rows = rows;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && position < end) {
+                int row = rows == null ? position : rows[position];
+                position++;
+                next = read(snapshot, row);
+            }
+            return next != null;
+        }
+
+        @Override
+        public SimpleFeature next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = null;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            removeFeature(last.getID());
+            last = null;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import java.util.Arrays;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * The values of one attribute for all the rows of a {@link ColumnarFeatureMap}, stored in primitive arrays when the
+ * attribute binding allows it.
+ *
+ * <p>Columns never grow in place, {@link #copy(int[], int, int)} builds a larger or compacted one, so that readers
+ * holding an older column keep seeing consistent arrays. Values of a class other than the one the column stores are
+ * rejected by {@link #set(int, Object)}, the caller then switches to an {@link ObjectColumn}.
+ */
+abstract class FeatureColumn {
+
+    /** Builds an empty column suitable for the given binding */
+    static FeatureColumn create(Class<?> binding, int capacity) {
+        if (binding == Integer.class || binding == Short.class || binding == Byte.class) {
+            return new IntColumn(binding, capacity);
+        } else if (binding == Long.class) {
+            return new LongColumn(capacity);
+        } else if (binding == Double.class) {
+            return new DoubleColumn(capacity);
+        } else if (binding == Float.class) {
+            return new FloatColumn(capacity);
+        } else if (binding == Boolean.class) {
+            return new BooleanColumn(capacity);
+        } else if (Geometry.class.isAssignableFrom(binding)) {
+            return new GeometryColumn(capacity);
+        } else {
+            return new ObjectColumn(capacity);
+        }
+    }
+
+    /** Number of rows the column can hold */
+    abstract int capacity();
+
+    abstract Object get(int row);
+
+    /** Stores the value, returns false if the column cannot hold values of its class */
+    abstract boolean set(int row, Object value);
+
+    /** Returns true if {@link #set(int, Object)} would store the value, without storing it */
+    abstract boolean accepts(Object value);
+
+    /**
+     * Builds a new column with the given capacity, holding the values of the given rows (all rows up to
+     * <code>count</code> if <code>rows</code> is null)
+     */
+    FeatureColumn copy(int[] rows, int count, int capacity) {
+        FeatureColumn copy = empty(capacity);
+        for (int i = 0; i < count; i++) {
+            copy.set(i, get(rows == null ? i : rows[i]));
+        }
+        return copy;
+    }
+
+    /** Builds an empty column of the same kind */
+    abstract FeatureColumn empty(int capacity);
+
+    /** Base class for columns of primitives, tracking nulls in a bit set */
+    abstract static class PrimitiveColumn extends FeatureColumn {
+
+        final long[] nulls;
+
+        PrimitiveColumn(int capacity) {
+            this.nulls = new long[(capacity + 63) >>> 6];
+        }
+
+        boolean isNull(int row) {
+            return (nulls[row >>> 6] & (1L << row)) != 0;
+        }
+
+        void setNull(int row, boolean isNull) {
+            if (isNull) {
+                nulls[row >>> 6] |= 1L << row;
+            } else {
+                nulls[row >>> 6] &= ~(1L << row);
+            }
+        }
+
+        @Override
+        Object get(int row) {
+            return isNull(row) ? null : getValue(row);
+        }
+
+        @Override
+        boolean set(int row, Object value) {
+            if (value == null) {
+                setNull(row, true);
+                return true;
+            }
+            if (!accepts(value)) {
+                return false;
+            }
+            setValue(row, value);
+            setNull(row, false);
+            return true;
+        }
+
+        abstract Object getValue(int row);
+
+        abstract void setValue(int row, Object value);
+    }
+
+    /** Integers, shorts and bytes */
+    static final class IntColumn extends PrimitiveColumn {
+
+        final Class<?> binding;
+
+        final int[] values;
+
+        IntColumn(Class<?> binding, int capacity) {
+            super(capacity);
+            this.binding = binding;
+            this.values = new int[capacity];
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        Object getValue(int row) {
+            int value = values[row];
+            if (binding == Integer.class) {
+                return value;
+            } else if (binding == Short.class) {
+                return (short) value;
+            } else {
+                return (byte) value;
+            }
+        }
+
+        @Override
+        boolean accepts(Object value) {
+            return value == null || value.getClass() == binding;
+        }
+
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = ((Number) value).intValue();
+        }
+
+        @Override
+        FeatureColumn empty(int capacity) {
+            return new IntColumn(binding, capacity);
+        }
+    }
+
+    static final class LongColumn extends PrimitiveColumn {
+
+        final long[] values;
+
+        LongColumn(int capacity) {
+            super(capacity);
+            this.values = new long[capacity];
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        boolean accepts(Object value) {
+            return value == null || value instanceof Long;
+        }
+
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = (Long) value;
+        }
+
+        @Override
+        FeatureColumn empty(int capacity) {
+            return new LongColumn(capacity);
+        }
+    }
+
+    static final class DoubleColumn extends PrimitiveColumn {
+
+        final double[] values;
+
+        DoubleColumn(int capacity) {
+            super(capacity);
+            this.values = new double[capacity];
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        boolean accepts(Object value) {
+            return value == null || value instanceof Double;
+        }
+
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = (Double) value;
+        }
+
+        @Override
+        FeatureColumn empty(int capacity) {
+            return new DoubleColumn(capacity);
+        }
+    }
+
+    static final class FloatColumn extends PrimitiveColumn {
+
+        final float[] values;
+
+        FloatColumn(int capacity) {
+            super(capacity);
+            this.values = new float[capacity];
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        boolean accepts(Object value) {
+            return value == null || value instanceof Float;
+        }
+
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = (Float) value;
+        }
+
+        @Override
+        FeatureColumn empty(int capacity) {
+            return new FloatColumn(capacity);
+        }
+    }
+
+    static final class BooleanColumn extends PrimitiveColumn {
+
+        final long[] values;
+
+        final int capacity;
+
+        BooleanColumn(int capacity) {
+            super(capacity);
+            this.capacity = capacity;
+            this.values = new long[(capacity + 63) >>> 6];
+        }
+
+        @Override
+        int capacity() {
+            return capacity;
+        }
+
+        @Override
+        Object getValue(int row) {
+            return (values[row >>> 6] & (1L << row)) != 0;
+        }
+
+        @Override
+        boolean accepts(Object value) {
+            return value == null || value instanceof Boolean;
+        }
+
+        @Override
+        void setValue(int row, Object value) {
+            if ((Boolean) value) {
+                values[row >>> 6] |= 1L << row;
+            } else {
+                values[row >>> 6] &= ~(1L << row);
+            }
+        }
+
+        @Override
+        FeatureColumn empty(int capacity) {
+            return new BooleanColumn(capacity);
+        }
+    }
+
+    /** Any other value, kept as is */
+    static final class ObjectColumn extends FeatureColumn {
+
+        final Object[] values;
+
+        ObjectColumn(int capacity) {
+            this.values = new Object[capacity];
+        }
+
+        @Override
+        int capacity() {
+            return values.length;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        boolean set(int row, Object value) {
+            values[row] = value;
+            return true;
+        }
+
+        @Override
+        boolean accepts(Object value) {
+            return true;
+        }
+
+        @Override
+        FeatureColumn copy(int[] rows, int count, int capacity) {
+            if (rows == null) {
+                return new ObjectColumn(Arrays.copyOf(values, capacity));
+            }
+            return super.copy(rows, count, capacity);
+        }
+
+        private ObjectColumn(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        FeatureColumn empty(int capacity) {
+            return new ObjectColumn(capacity);
+        }
+    }
+}
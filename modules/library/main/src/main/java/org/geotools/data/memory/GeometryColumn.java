@@ -0,0 +1,514 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * A column of geometries packed in two shared arrays, one for the structure (geometry types, part counts, dimensions)
+ * and one for the ordinates. Each row only holds the offset of its record in the structure array, the record starts
+ * with the offset of its envelope in the ordinates array, the index of its {@link GeometryFactory} and its SRID. Non
+ * point geometries also store their envelope in front of their ordinates, to support bounds computation and spatial
+ * indexing without decoding.
+ *
+ * <p>Records are never modified once written: updating a row appends a new record, so a reader that read the row
+ * offset always decodes a consistent geometry. Geometries that cannot be packed (curved ones, carrying user data, or
+ * built by a factory past the first {@link #MAX_FACTORIES} distinct ones) are kept as objects.
+ */
+final class GeometryColumn extends FeatureColumn {
+
+    static final int NULL = -1;
+
+    private static final int T_POINT = 1;
+    private static final int T_LINESTRING = 2;
+    private static final int T_LINEARRING = 3;
+    private static final int T_POLYGON = 4;
+    private static final int T_MULTIPOINT = 5;
+    private static final int T_MULTILINESTRING = 6;
+    private static final int T_MULTIPOLYGON = 7;
+    private static final int T_COLLECTION = 8;
+
+    /** Marks records holding a geometry object in place of a factory index */
+    private static final int FALLBACK = -1;
+
+    /** The maximum number of distinct factories referenced by packed records */
+    static final int MAX_FACTORIES = 256;
+
+    /** Envelope offset, factory index, SRID, record length */
+    private static final int HEADER = 4;
+
+    final int[] records;
+
+    final int[] structure;
+
+    final double[] ordinates;
+
+    final Object[] fallback;
+
+    /** The factories of the geometries, shared among the copies of a column */
+    final List<GeometryFactory> factories;
+
+    // writer state, the used part of the packed arrays
+    int structureLength;
+
+    int ordinatesLength;
+
+    int fallbackLength;
+
+    /** Structure ints of the records no longer referenced */
+    long garbage;
+
+    // encoding state
+    private int sp;
+
+    private int op;
+
+    private boolean dry;
+
+    GeometryColumn(int capacity) {
+        this(
+                new int[capacity],
+                new int[Math.max(16, capacity * 8)],
+                new double[Math.max(16, capacity * 4)],
+                null,
+                new CopyOnWriteArrayList<>());
+        Arrays.fill(records, NULL);
+    }
+
+    private GeometryColumn(
+            int[] records, int[] structure, double[] ordinates, Object[] fallback, List<GeometryFactory> factories) {
+        this.records = records;
+        this.structure = structure;
+        this.ordinates = ordinates;
+        this.fallback = fallback;
+        this.factories = factories;
+    }
+
+    @Override
+    int capacity() {
+        return records.length;
+    }
+
+    @Override
+    FeatureColumn empty(int capacity) {
+        return new GeometryColumn(capacity);
+    }
+
+    /** Returns false if the value is not a geometry, or there is no room for it in the packed arrays */
+    @Override
+    boolean set(int row, Object value) {
+        if (value == null) {
+            release(row);
+            records[row] = NULL;
+            return true;
+        } else if (!(value instanceof Geometry)) {
+            return false;
+        }
+        Geometry geometry = (Geometry) value;
+        boolean packable = canPack(geometry);
+        Envelope envelope = geometry.getEnvelopeInternal();
+        int envelopeSize = geometry instanceof Point || envelope.isNull() ? 0 : 4;
+        // check the room needed first, the record is written only if it fits
+        if (!fits(geometry, packable, envelopeSize)) {
+            return false;
+        }
+
+        int record = structureLength;
+        structure[record] = envelopeSize > 0 ? ordinatesLength : NULL;
+        if (envelopeSize > 0) {
+            ordinates[ordinatesLength++] = envelope.getMinX();
+            ordinates[ordinatesLength++] = envelope.getMinY();
+            ordinates[ordinatesLength++] = envelope.getMaxX();
+            ordinates[ordinatesLength++] = envelope.getMaxY();
+        }
+        if (packable) {
+            structure[record + 1] = factoryIndex(geometry.getFactory());
+            structure[record + 2] = geometry.getSRID();
+            dry = false;
+            sp = record + HEADER;
+            op = ordinatesLength;
+            encode(geometry);
+            structureLength = sp;
+            ordinatesLength = op;
+        } else {
+            structure[record + 1] = FALLBACK;
+            structure[record + 2] = fallbackLength;
+            fallback[fallbackLength++] = geometry;
+            structureLength = record + HEADER;
+        }
+        structure[record + 3] = structureLength - record;
+
+        release(row);
+        records[row] = record;
+        return true;
+    }
+
+    @Override
+    boolean accepts(Object value) {
+        if (value == null) {
+            return true;
+        } else if (!(value instanceof Geometry)) {
+            return false;
+        }
+        Geometry geometry = (Geometry) value;
+        boolean envelope = !(geometry instanceof Point) && !geometry.getEnvelopeInternal().isNull();
+        return fits(geometry, canPack(geometry), envelope ? 4 : 0);
+    }
+
+    /** Checks there is room in the packed arrays for the record of the geometry */
+    private boolean fits(Geometry geometry, boolean packable, int envelopeSize) {
+        int structureSize = HEADER;
+        int ordinatesSize = envelopeSize;
+        if (packable) {
+            dry = true;
+            sp = 0;
+            op = 0;
+            encode(geometry);
+            structureSize += sp;
+            ordinatesSize += op;
+        } else if (fallback == null || fallbackLength >= fallback.length) {
+            return false;
+        }
+        return structureLength + structureSize <= structure.length
+                && ordinatesLength + ordinatesSize <= ordinates.length;
+    }
+
+    /** Accounts for the record of the row being replaced */
+    private void release(int row) {
+        if (records[row] != NULL) {
+            garbage += structure[records[row] + 3];
+        }
+    }
+
+    /** Returns the index of a factory equivalent to the given one, adding it if missing */
+    private int factoryIndex(GeometryFactory factory) {
+        int index = indexOf(factory);
+        if (index < 0) {
+            factories.add(factory);
+            index = factories.size() - 1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index of a factory building the same geometries as the given one, or -1. Geometries are often built
+     * with a new factory each, matching by identity would fill the list with equivalent factories.
+     */
+    private int indexOf(GeometryFactory factory) {
+        for (int i = 0; i < factories.size(); i++) {
+            GeometryFactory f = factories.get(i);
+            if (f == factory
+                    || (f.getSRID() == factory.getSRID()
+                            && f.getPrecisionModel().equals(factory.getPrecisionModel())
+                            && f.getCoordinateSequenceFactory().equals(factory.getCoordinateSequenceFactory()))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns true if the geometry can be packed, and its factory is known or there is room for it. Past
+     * {@link #MAX_FACTORIES} factories, geometries are kept as objects along with their own factory.
+     */
+    private boolean canPack(Geometry geometry) {
+        return isPackable(geometry) && (factories.size() < MAX_FACTORIES || indexOf(geometry.getFactory()) >= 0);
+    }
+
+    /** Builds a copy able to hold the given value, with at least the given row capacity */
+    GeometryColumn grow(Object value, int capacity) {
+        int structureSize = structure.length;
+        int ordinatesSize = ordinates.length;
+        int fallbackSize = fallback == null ? 0 : fallback.length;
+        if (value instanceof Geometry) {
+            Geometry geometry = (Geometry) value;
+            if (canPack(geometry)) {
+                dry = true;
+                sp = 0;
+                op = 0;
+                encode(geometry);
+                structureSize = grow(structureSize, structureLength + sp + HEADER);
+                ordinatesSize = grow(ordinatesSize, ordinatesLength + op + 4);
+            } else {
+                structureSize = grow(structureSize, structureLength + HEADER);
+                ordinatesSize = grow(ordinatesSize, ordinatesLength + 4);
+                fallbackSize = grow(fallbackSize, fallbackLength + 1);
+            }
+        }
+        GeometryColumn copy = new GeometryColumn(
+                Arrays.copyOf(records, capacity),
+                Arrays.copyOf(structure, structureSize),
+                Arrays.copyOf(ordinates, ordinatesSize),
+                fallbackSize == 0 ? null : Arrays.copyOf(fallback == null ? new Object[0] : fallback, fallbackSize),
+                factories);
+        Arrays.fill(copy.records, records.length, capacity, NULL);
+        copy.structureLength = structureLength;
+        copy.ordinatesLength = ordinatesLength;
+        copy.fallbackLength = fallbackLength;
+        copy.garbage = garbage;
+        return copy;
+    }
+
+    private static int grow(int size, int required) {
+        if (required < 0) {
+            throw new OutOfMemoryError("Packed geometries do not fit in an array");
+        }
+        return size >= required ? size : Math.max(required, size + (size >> 1));
+    }
+
+    @Override
+    FeatureColumn copy(int[] rows, int count, int capacity) {
+        if (rows == null && capacity >= records.length) {
+            return grow(null, capacity);
+        }
+        // compact by repacking the referenced records only
+        GeometryColumn copy = new GeometryColumn(capacity);
+        for (int i = 0; i < count; i++) {
+            Object value = get(rows == null ? i : rows[i]);
+            if (!copy.set(i, value)) {
+                copy = copy.grow(value, capacity);
+                copy.set(i, value);
+            }
+        }
+        return copy;
+    }
+
+    /** Fraction of the packed structure no longer referenced */
+    double garbageRatio() {
+        return structureLength == 0 ? 0 : garbage / (double) structureLength;
+    }
+
+    /**
+     * Copies the envelope of the geometry of the row into the target array (minx, miny, maxx, maxy), returns false if
+     * the geometry is null or empty
+     */
+    boolean getEnvelope(int row, double[] target) {
+        int record = records[row];
+        if (record == NULL) {
+            return false;
+        }
+        int offset = structure[record];
+        if (offset != NULL) {
+            System.arraycopy(ordinates, offset, target, 0, 4);
+            return true;
+        }
+        if (structure[record + 1] == FALLBACK) {
+            return false;
+        }
+        // a point, the envelope is the point itself
+        int p = record + HEADER;
+        if (structure[p] != T_POINT || structure[p + 3] == 0) {
+            return false;
+        }
+        // the ordinates follow the previous record ordinates, look them up from the encoding
+        int o = pointOrdinates(record);
+        target[0] = target[2] = ordinates[o];
+        target[1] = target[3] = ordinates[o + 1];
+        return true;
+    }
+
+    private int pointOrdinates(int record) {
+        // points have no envelope, their ordinate offset is the one saved in the sequence slot
+        return structure[record + HEADER + 4];
+    }
+
+    @Override
+    Object get(int row) {
+        int record = records[row];
+        if (record == NULL) {
+            return null;
+        }
+        int factoryIndex = structure[record + 1];
+        if (factoryIndex == FALLBACK) {
+            return fallback[structure[record + 2]];
+        }
+        GeometryFactory factory = factories.get(factoryIndex);
+        // readers run concurrently, the decoding position is local
+        int[] position = {record + HEADER};
+        Geometry geometry = decode(factory, position);
+        int srid = structure[record + 2];
+        if (geometry.getSRID() != srid) {
+            geometry.setSRID(srid);
+        }
+        return geometry;
+    }
+
+    private static boolean isPackable(Geometry g) {
+        if (g.getUserData() != null) {
+            return false;
+        }
+        Class<?> c = g.getClass();
+        if (c == Point.class || c == LineString.class || c == LinearRing.class) {
+            return true;
+        } else if (c == Polygon.class) {
+            return true;
+        } else if (c == MultiPoint.class
+                || c == MultiLineString.class
+                || c == MultiPolygon.class
+                || c == GeometryCollection.class) {
+            for (int i = 0; i < g.getNumGeometries(); i++) {
+                if (!isPackable(g.getGeometryN(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void put(int value) {
+        if (!dry) {
+            structure[sp] = value;
+        }
+        sp++;
+    }
+
+    private void encode(Geometry g) {
+        if (g instanceof Point) {
+            encode(T_POINT, ((Point) g).getCoordinateSequence());
+        } else if (g instanceof LinearRing) {
+            encode(T_LINEARRING, ((LinearRing) g).getCoordinateSequence());
+        } else if (g instanceof LineString) {
+            encode(T_LINESTRING, ((LineString) g).getCoordinateSequence());
+        } else if (g instanceof Polygon) {
+            Polygon polygon = (Polygon) g;
+            put(T_POLYGON);
+            if (polygon.isEmpty()) {
+                put(0);
+            } else {
+                put(polygon.getNumInteriorRing() + 1);
+                encode(T_LINEARRING, polygon.getExteriorRing().getCoordinateSequence());
+                for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                    encode(T_LINEARRING, polygon.getInteriorRingN(i).getCoordinateSequence());
+                }
+            }
+        } else {
+            if (g instanceof MultiPoint) {
+                put(T_MULTIPOINT);
+            } else if (g instanceof MultiLineString) {
+                put(T_MULTILINESTRING);
+            } else if (g instanceof MultiPolygon) {
+                put(T_MULTIPOLYGON);
+            } else {
+                put(T_COLLECTION);
+            }
+            put(g.getNumGeometries());
+            for (int i = 0; i < g.getNumGeometries(); i++) {
+                encode(g.getGeometryN(i));
+            }
+        }
+    }
+
+    /** Sequences are encoded as type, dimension, measures, size, offset of the ordinates */
+    private void encode(int type, CoordinateSequence cs) {
+        int dimension = cs.getDimension();
+        int size = cs.size();
+        put(type);
+        put(dimension);
+        put(cs.getMeasures());
+        put(size);
+        put(op);
+        if (!dry) {
+            for (int i = 0; i < size; i++) {
+                for (int d = 0; d < dimension; d++) {
+                    ordinates[op++] = cs.getOrdinate(i, d);
+                }
+            }
+        } else {
+            op += size * dimension;
+        }
+    }
+
+    private Geometry decode(GeometryFactory factory, int[] position) {
+        int p = position[0];
+        int type = structure[p];
+        switch (type) {
+            case T_POINT:
+                return factory.createPoint(decodeSequence(factory, position));
+            case T_LINESTRING:
+                return factory.createLineString(decodeSequence(factory, position));
+            case T_LINEARRING:
+                return factory.createLinearRing(decodeSequence(factory, position));
+            case T_POLYGON:
+                int rings = structure[p + 1];
+                position[0] = p + 2;
+                if (rings == 0) {
+                    return factory.createPolygon();
+                }
+                LinearRing shell = (LinearRing) decode(factory, position);
+                LinearRing[] holes = new LinearRing[rings - 1];
+                for (int i = 0; i < holes.length; i++) {
+                    holes[i] = (LinearRing) decode(factory, position);
+                }
+                return factory.createPolygon(shell, holes);
+            default:
+                int count = structure[p + 1];
+                position[0] = p + 2;
+                Geometry[] parts;
+                if (type == T_MULTIPOINT) {
+                    parts = new Point[count];
+                } else if (type == T_MULTILINESTRING) {
+                    parts = new LineString[count];
+                } else if (type == T_MULTIPOLYGON) {
+                    parts = new Polygon[count];
+                } else {
+                    parts = new Geometry[count];
+                }
+                for (int i = 0; i < count; i++) {
+                    parts[i] = decode(factory, position);
+                }
+                if (type == T_MULTIPOINT) {
+                    return factory.createMultiPoint((Point[]) parts);
+                } else if (type == T_MULTILINESTRING) {
+                    return factory.createMultiLineString((LineString[]) parts);
+                } else if (type == T_MULTIPOLYGON) {
+                    return factory.createMultiPolygon((Polygon[]) parts);
+                }
+                return factory.createGeometryCollection(parts);
+        }
+    }
+
+    private CoordinateSequence decodeSequence(GeometryFactory factory, int[] position) {
+        int p = position[0];
+        int dimension = structure[p + 1];
+        int measures = structure[p + 2];
+        int size = structure[p + 3];
+        int o = structure[p + 4];
+        position[0] = p + 5;
+        CoordinateSequence cs = factory.getCoordinateSequenceFactory().create(size, dimension, measures);
+        for (int i = 0; i < size; i++) {
+            for (int d = 0; d < dimension; d++) {
+                cs.setOrdinate(i, d, ordinates[o++]);
+            }
+        }
+        return cs;
+    }
+}
@@ -59,6 +59,8 @@
 @SuppressFBWarnings("JLM_JSR166_UTILCONCURRENT_MONITORENTER")
 public class MemoryDataStore extends ContentDataStore {
 
+    private volatile boolean columnar;
+
     public MemoryDataStore() {
         super();
     }
@@ -283,6 +285,21 @@ protected MemoryEntry entry(SimpleFeatureType schema) throws IOException {
         }
     }
 
+    /**
+     * Whether the feature types created from now on store their features in columns, primitive arrays for numbers and
+     * packed arrays for geometries, rather than as feature objects. Columnar storage takes a fraction of the memory of
+     * large layers and answers bounding box queries from a spatial index, at the cost of decoding the features on each
+     * read. Defaults to false.
+     */
+    public void setColumnar(boolean columnar) {
+        this.columnar = columnar;
+    }
+
+    /** Whether the feature types created from now on store their features in columns */
+    public boolean isColumnar() {
+        return columnar;
+    }
+
     /**
      * List of available types provided by this DataStore.
      *
@@ -52,11 +52,18 @@ public class MemoryEntry extends ContentEntry {
      */
     private final Map<String, SimpleFeature> memory;
 
-    /** Entry to store content of the provided SimpleFeatureType. */
+    /**
+     * Entry to store content of the provided SimpleFeatureType, in columns if the store is
+     * {@link MemoryDataStore#isColumnar() columnar}.
+     */
     MemoryEntry(MemoryDataStore store, SimpleFeatureType schema) {
         super(store, schema.getName());
         this.schema = schema;
-        memory = Collections.synchronizedMap(new LinkedHashMap<>());
+        if (store.isColumnar()) {
+            memory = new ColumnarFeatureMap(schema);
+        } else {
+            memory = Collections.synchronizedMap(new LinkedHashMap<>());
+        }
     }
 
     protected MemoryState createContentState(ContentEntry entry) {
@@ -66,6 +73,9 @@ protected MemoryState createContentState(ContentEntry entry) {
     /**
      * Access the {@link #memory} field used to store feature content.
      *
+     * <p>When the store is columnar the features are decoded on access, changes made to them are not stored until they
+     * are put back in the map.
+     *
      * @return the memory
      */
     public Map<String, SimpleFeature> getMemory() {
@@ -36,13 +36,24 @@ public class MemoryFeatureReader implements FeatureReader<SimpleFeatureType, Sim
     SimpleFeatureType featureType;
     Iterator<SimpleFeature> iterator;
 
+    /** Whether the features need copying to protect the stored ones */
+    boolean copy;
+
     public MemoryFeatureReader(ContentState state, Query query) throws IOException {
         featureType = state.getFeatureType();
         MemoryEntry entry = (MemoryEntry) state.getEntry();
 
-        final List<SimpleFeature> internalCollection =
-                new ArrayList<>(entry.getMemory().values());
-        iterator = internalCollection.iterator();
+        if (entry.getMemory() instanceof ColumnarFeatureMap) {
+            // features are decoded from the columns, no copy needed, and rows outside of the query bbox are skipped
+            ColumnarFeatureMap columns = (ColumnarFeatureMap) entry.getMemory();
+            iterator = columns.features(query.getFilter());
+            copy = false;
+        } else {
+            final List<SimpleFeature> internalCollection =
+                    new ArrayList<>(entry.getMemory().values());
+            iterator = internalCollection.iterator();
+            copy = true;
+        }
     }
 
     @Override
@@ -57,7 +68,7 @@ public SimpleFeature next() throws IOException, IllegalAttributeException, NoSuc
         }
 
         try {
-            return SimpleFeatureBuilder.copy(iterator.next());
+            return copy ? SimpleFeatureBuilder.copy(iterator.next()) : iterator.next();
         } catch (NoSuchElementException end) {
             throw new DataSourceException("There are no more Features", end);
         }
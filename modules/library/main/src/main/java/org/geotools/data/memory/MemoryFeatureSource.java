@@ -17,6 +17,11 @@
 package org.geotools.data.memory;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import org.geotools.api.data.FeatureReader;
 import org.geotools.api.data.Query;
 import org.geotools.api.feature.FeatureVisitor;
@@ -26,6 +31,8 @@
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.data.store.ContentEntry;
 import org.geotools.data.store.ContentFeatureSource;
+import org.geotools.feature.visitor.MergeableFeatureCalc;
+import org.geotools.feature.visitor.ParallelAggregator;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 
 /**
@@ -35,6 +42,9 @@
  */
 public class MemoryFeatureSource extends ContentFeatureSource {
 
+    /** Number of features visited by each of the parallel tasks of an aggregation */
+    static final int AGGREGATION_PART_SIZE = 10000;
+
     public MemoryFeatureSource(ContentEntry entry) {
         this(entry, Query.ALL);
     }
@@ -62,6 +72,10 @@ public MemoryEntry getEntry() {
     @Override
     protected ReferencedEnvelope getBoundsInternal(Query query) throws IOException {
         if (query.getFilter() == Filter.INCLUDE) { // filtering not implemented
+            if (getEntry().getMemory() instanceof ColumnarFeatureMap) {
+                // computed from the stored envelopes, without decoding the geometries
+                return ((ColumnarFeatureMap) getEntry().getMemory()).getBounds();
+            }
             try (FeatureReader<SimpleFeatureType, SimpleFeature> featureReader = getReaderInternal(query)) {
                 CoordinateReferenceSystem crs = featureReader.getFeatureType().getCoordinateReferenceSystem();
                 ReferencedEnvelope bounds = ReferencedEnvelope.create(crs);
@@ -96,8 +110,48 @@ protected SimpleFeatureType buildFeatureType() {
         return getState().getEntry().schema; // cache schema unchanged (as we do not retype/reproject)
     }
 
+    /**
+     * Aggregations over large contents are split in parts of {@link #AGGREGATION_PART_SIZE} features, visited in
+     * parallel on the common fork-join pool.
+     */
     @Override
     protected boolean handleVisitor(Query query, FeatureVisitor visitor) throws IOException {
+        Query joined = joinQuery(query);
+        if (visitor instanceof MergeableFeatureCalc
+                && isNativeScan(joined)
+                && joined.getPropertyNames() == Query.ALL_NAMES
+                && getEntry().getMemory().size() > AGGREGATION_PART_SIZE) {
+            Filter filter = joined.getFilter();
+            List<Iterator<SimpleFeature>> parts = split(filter);
+            ParallelAggregator.PartVisitor partVisitor = (part, partial) -> {
+                // visitors do not modify the features, no need to copy them like the reader does
+                Iterator<SimpleFeature> features = parts.get(part);
+                while (features.hasNext()) {
+                    SimpleFeature feature = features.next();
+                    if (filter == null || filter.evaluate(feature)) {
+                        partial.visit(feature);
+                    }
+                }
+            };
+            if (ParallelAggregator.accepts(visitor, parts.size(), partVisitor, ForkJoinPool.commonPool())) {
+                return true;
+            }
+        }
         return super.handleVisitor(query, visitor);
     }
+
+    /** Splits a snapshot of the features in parts of at most {@link #AGGREGATION_PART_SIZE} features */
+    private List<Iterator<SimpleFeature>> split(Filter filter) {
+        Map<String, SimpleFeature> memory = getEntry().getMemory();
+        if (memory instanceof ColumnarFeatureMap) {
+            return ((ColumnarFeatureMap) memory).split(filter, AGGREGATION_PART_SIZE);
+        }
+        List<SimpleFeature> features = new ArrayList<>(memory.values());
+        List<Iterator<SimpleFeature>> parts = new ArrayList<>();
+        for (int start = 0; start < features.size(); start += AGGREGATION_PART_SIZE) {
+            int end = Math.min(features.size(), start + AGGREGATION_PART_SIZE);
+            parts.add(features.subList(start, end).iterator());
+        }
+        return parts;
+    }
 }
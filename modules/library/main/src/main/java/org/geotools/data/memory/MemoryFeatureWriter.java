@@ -133,6 +133,10 @@ public void write() throws IOException {
                 //
                 try {
                     live.setAttributes(current.getAttributes());
+                    if (state.getEntry().getMemory() instanceof ColumnarFeatureMap) {
+                        // live is a decoded copy, store the changes back
+                        state.getEntry().getMemory().put(live.getID(), live);
+                    }
                 } catch (Exception e) {
                     throw new DataSourceException(
                             "Unable to accept modifications to " + live.getID() + " on " + typeName);
@@ -0,0 +1,178 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import java.util.Arrays;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A read only R-tree built with the Sort-Tile-Recursive algorithm, stored in flat arrays: one array of row numbers for
+ * the leaves, and one array of bounds (minx, miny, maxx, maxy) per level. Unlike
+ * {@link org.locationtech.jts.index.strtree.STRtree} it does not allocate an object per item, which matters for layers
+ * of millions of features.
+ */
+final class PackedSTRIndex {
+
+    static final int NODE_CAPACITY = 16;
+
+    /** The row numbers, in leaf order */
+    private final int[] rows;
+
+    /** The bounds of the items of each level, level 0 being the rows */
+    private final double[][] levels;
+
+    /**
+     * Builds the index
+     *
+     * @param rows The row numbers to index
+     * @param bounds The bounds of the rows, four values per row, in the same order as <code>rows</code>
+     * @param count The number of rows
+     */
+    PackedSTRIndex(int[] rows, double[] bounds, int count) {
+        int[] order = strOrder(bounds, count);
+        this.rows = new int[count];
+        double[] leaves = new double[count * 4];
+        for (int i = 0; i < count; i++) {
+            int item = order[i];
+            this.rows[i] = rows[item];
+            System.arraycopy(bounds, item * 4, leaves, i * 4, 4);
+        }
+
+        int depth = 1;
+        for (int n = count; n > 1; n = (n + NODE_CAPACITY - 1) / NODE_CAPACITY) {
+            depth++;
+        }
+        levels = new double[depth][];
+        levels[0] = leaves;
+        for (int level = 1; level < depth; level++) {
+            double[] children = levels[level - 1];
+            int childCount = children.length / 4;
+            int nodeCount = (childCount + NODE_CAPACITY - 1) / NODE_CAPACITY;
+            double[] nodes = new double[nodeCount * 4];
+            for (int node = 0; node < nodeCount; node++) {
+                double minx = Double.POSITIVE_INFINITY;
+                double miny = Double.POSITIVE_INFINITY;
+                double maxx = Double.NEGATIVE_INFINITY;
+                double maxy = Double.NEGATIVE_INFINITY;
+                int end = Math.min(childCount, (node + 1) * NODE_CAPACITY);
+                for (int c = node * NODE_CAPACITY; c < end; c++) {
+                    minx = Math.min(minx, children[c * 4]);
+                    miny = Math.min(miny, children[c * 4 + 1]);
+                    maxx = Math.max(maxx, children[c * 4 + 2]);
+                    maxy = Math.max(maxy, children[c * 4 + 3]);
+                }
+                nodes[node * 4] = minx;
+                nodes[node * 4 + 1] = miny;
+                nodes[node * 4 + 2] = maxx;
+                nodes[node * 4 + 3] = maxy;
+            }
+            levels[level] = nodes;
+        }
+    }
+
+    /** Sorts the items in STR order: vertical slices by center x, each slice sorted by center y */
+    private static int[] strOrder(double[] bounds, int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = key((bounds[i * 4] + bounds[i * 4 + 2]) / 2, i);
+        }
+        Arrays.sort(keys);
+        int leafCount = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        int sliceCount = (int) Math.ceil(Math.sqrt(leafCount));
+        int sliceSize = sliceCount == 0 ? count : ((leafCount + sliceCount - 1) / sliceCount) * NODE_CAPACITY;
+        for (int start = 0; start < count; start += sliceSize) {
+            int end = Math.min(count, start + sliceSize);
+            for (int i = start; i < end; i++) {
+                int item = (int) keys[i];
+                keys[i] = key((bounds[item * 4 + 1] + bounds[item * 4 + 3]) / 2, item);
+            }
+            Arrays.sort(keys, start, end);
+        }
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    /**
+     * Packs a coordinate, as a float, and an item number in a long sorting like the coordinate. The precision loss
+     * only affects the quality of the tree, not the query results.
+     */
+    private static long key(double coordinate, int item) {
+        int bits = Float.floatToIntBits((float) coordinate);
+        bits ^= (bits >> 31) | Integer.MIN_VALUE;
+        return ((long) (bits ^ Integer.MIN_VALUE) << 32) | item;
+    }
+
+    /** Returns the rows whose bounds intersect the envelope, in increasing row order */
+    int[] query(Envelope envelope) {
+        if (rows.length == 0 || envelope.isNull()) {
+            return new int[0];
+        }
+        double minx = envelope.getMinX();
+        double miny = envelope.getMinY();
+        double maxx = envelope.getMaxX();
+        double maxy = envelope.getMaxY();
+
+        int[] result = new int[16];
+        int found = 0;
+        // depth first, a stack of (level, node) pairs
+        int[] stack = new int[levels.length * NODE_CAPACITY * 2];
+        int top = 0;
+        int root = levels.length - 1;
+        for (int i = 0; i < levels[root].length / 4; i++) {
+            stack = push(stack, top, root, i);
+            top += 2;
+        }
+        while (top > 0) {
+            top -= 2;
+            int level = stack[top];
+            int item = stack[top + 1];
+            double[] bounds = levels[level];
+            int b = item * 4;
+            if (bounds[b] > maxx || bounds[b + 2] < minx || bounds[b + 1] > maxy || bounds[b + 3] < miny) {
+                continue;
+            }
+            if (level == 0) {
+                if (found == result.length) {
+                    result = Arrays.copyOf(result, found * 2);
+                }
+                result[found++] = rows[item];
+            } else {
+                int childCount = levels[level - 1].length / 4;
+                int end = Math.min(childCount, (item + 1) * NODE_CAPACITY);
+                for (int c = item * NODE_CAPACITY; c < end; c++) {
+                    stack = push(stack, top, level - 1, c);
+                    top += 2;
+                }
+            }
+        }
+        result = Arrays.copyOf(result, found);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static int[] push(int[] stack, int top, int level, int item) {
+        if (top + 2 > stack.length) {
+            stack = Arrays.copyOf(stack, stack.length * 2);
+        }
+        stack[top] = level;
+        stack[top + 1] = item;
+        return stack;
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.sort;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.geotools.api.data.SimpleFeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.sort.SortBy;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.data.simple.DelegateSimpleFeatureReader;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.feature.simple.FlyweightSimpleFeature;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Sorts the contents of a reader, in memory if they fit the given limits, otherwise by writing sorted runs to
+ * temporary files and merging them back.
+ *
+ * <p>Runs are sorted and written on a {@link ForkJoinPool} while the next one is read, each record carrying a
+ * normalized sort key (see {@link SortKeyEncoder}) so that merging only compares bytes and decodes just the features it
+ * returns. When there are more runs than {@link #MAX_MERGE_WIDTH}, they are merged in multiple passes to keep the
+ * number of open files bounded.
+ */
+final class ExternalSorter {
+
+    /** The max number of runs merged at the same time */
+    static final int MAX_MERGE_WIDTH = 64;
+
+    /** System property enabling the compression of the runs, true by default */
+    static final String COMPRESS_KEY = "org.geotools.sort.compress";
+
+    private final SimpleFeatureType schema;
+
+    private final Comparator<SimpleFeature> comparator;
+
+    private final SortKeyEncoder encoder;
+
+    private final int maxFeatures;
+
+    private final long maxMemory;
+
+    private final boolean compress;
+
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * @param schema The schema of the features to be sorted
+     * @param sortBy The sorting directives
+     * @param comparator The comparator matching the sorting directives
+     * @param maxFeatures The max number of features to keep in memory
+     * @param maxMemory The max amount of memory, in bytes, used by the features kept in memory
+     */
+    ExternalSorter(
+            SimpleFeatureType schema,
+            SortBy[] sortBy,
+            Comparator<SimpleFeature> comparator,
+            int maxFeatures,
+            long maxMemory) {
+        this.schema = schema;
+        this.comparator = comparator;
+        this.encoder = SortKeyEncoder.create(schema, sortBy);
+        this.maxFeatures = maxFeatures;
+        this.maxMemory = maxMemory;
+        this.compress = Boolean.parseBoolean(System.getProperty(COMPRESS_KEY, "true"));
+    }
+
+    /** Sorts the reader contents, closing it once done */
+    SimpleFeatureReader sort(SimpleFeatureReader reader) throws IOException {
+        // a run is written while the next one is read, each gets half of the memory
+        long runMemory = maxMemory / 2;
+        List<SortRun> runs = new ArrayList<>();
+        ForkJoinTask<SortRun> pending = null;
+        boolean success = false;
+        try {
+            List<SimpleFeature> features = new ArrayList<>();
+            long size = 0;
+            while (reader.hasNext()) {
+                // features are kept until the run is full, flyweight ones have to be copied
+                SimpleFeature f = FlyweightSimpleFeature.retain(reader.next());
+                features.add(f);
+                size += estimateSize(f);
+
+                if (features.size() > maxFeatures || size > runMemory) {
+                    if (pending != null) {
+                        runs.add(join(pending));
+                    }
+                    List<SimpleFeature> run = features;
+                    pending = pool.submit(() -> writeRun(run));
+                    features = new ArrayList<>();
+                    size = 0;
+                }
+            }
+
+            if (pending == null) {
+                // simple case, we managed to keep everything in memory
+                SimpleFeature[] sorted = features.toArray(new SimpleFeature[features.size()]);
+                Arrays.parallelSort(sorted, comparator);
+
+                @SuppressWarnings("PMD.CloseResource") // returned in wrapper
+                SimpleFeatureIterator fi = new ListFeatureCollection(schema, sorted).features();
+                success = true;
+                return new DelegateSimpleFeatureReader(schema, fi);
+            }
+
+            runs.add(join(pending));
+            pending = null;
+            if (!features.isEmpty()) {
+                runs.add(writeRun(features));
+            }
+            while (runs.size() > MAX_MERGE_WIDTH) {
+                runs = mergePass(runs);
+            }
+            SimpleFeatureReader merged = new RunMergeReader(this, runs);
+            success = true;
+            return merged;
+        } finally {
+            if (!success) {
+                if (pending != null) {
+                    try {
+                        runs.add(join(pending));
+                    } catch (IOException e) {
+                        // already failing, the original exception is the one to report
+                    }
+                }
+                runs.forEach(SortRun::delete);
+            }
+            reader.close();
+        }
+    }
+
+    private static SortRun join(ForkJoinTask<SortRun> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing sorted features", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Failed to write sorted features", e.getCause());
+        }
+    }
+
+    /** Sorts the features and writes them to a new run */
+    SortRun writeRun(List<SimpleFeature> features) throws IOException {
+        Record[] records = new Record[features.size()];
+        SortBuffer key = new SortBuffer(64);
+        for (int i = 0; i < records.length; i++) {
+            SimpleFeature feature = features.get(i);
+            byte[] bytes = null;
+            if (encoder != null) {
+                key.reset();
+                encoder.encode(feature, key);
+                bytes = Arrays.copyOf(key.bytes, key.length);
+            }
+            records[i] = new Record(bytes, feature);
+        }
+        if (encoder != null) {
+            Arrays.parallelSort(records, (r1, r2) -> Arrays.compareUnsigned(r1.key, r2.key));
+        } else {
+            Arrays.parallelSort(records, (r1, r2) -> comparator.compare(r1.feature, r2.feature));
+        }
+
+        SortRun run = SortRun.create();
+        boolean success = false;
+        try (SortRun.Writer writer = run.writer(compress)) {
+            FeatureRowCodec codec = new FeatureRowCodec(schema);
+            SortBuffer row = new SortBuffer(1024);
+            byte[] empty = new byte[0];
+            for (int i = 0; i < records.length; i++) {
+                Record r = records[i];
+                row.reset();
+                codec.encode(r.feature, row);
+                byte[] k = r.key != null ? r.key : empty;
+                writer.write(k, 0, k.length, row.bytes, 0, row.length);
+                // let the feature be collected
+                records[i] = null;
+            }
+            success = true;
+        } finally {
+            if (!success) {
+                run.delete();
+            }
+        }
+        return run;
+    }
+
+    /** Merges the runs in groups of {@link #MAX_MERGE_WIDTH}, returning the merged runs */
+    private List<SortRun> mergePass(List<SortRun> runs) throws IOException {
+        List<SortRun> result = new ArrayList<>();
+        try {
+            for (int i = 0; i < runs.size(); i += MAX_MERGE_WIDTH) {
+                List<SortRun> group = new ArrayList<>(runs.subList(i, Math.min(i + MAX_MERGE_WIDTH, runs.size())));
+                SortRun merged = SortRun.create();
+                result.add(merged);
+                try (RunMergeReader reader = new RunMergeReader(this, group);
+                        SortRun.Writer writer = merged.writer(compress)) {
+                    reader.copyTo(writer);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            result.forEach(SortRun::delete);
+            runs.forEach(SortRun::delete);
+            throw e;
+        }
+        return result;
+    }
+
+    SimpleFeatureType getSchema() {
+        return schema;
+    }
+
+    Comparator<SimpleFeature> getComparator() {
+        return comparator;
+    }
+
+    /** True if the runs records have normalized keys, false if they must be compared with the comparator */
+    boolean hasKeys() {
+        return encoder != null;
+    }
+
+    /** Rough estimate of the heap used by a feature */
+    static long estimateSize(SimpleFeature feature) {
+        long size = 64;
+        String id = feature.getID();
+        if (id != null) {
+            size += 40 + 2 * id.length();
+        }
+        for (Object value : feature.getAttributes()) {
+            if (value == null) {
+                continue;
+            } else if (value instanceof String) {
+                size += 40 + 2 * ((String) value).length();
+            } else if (value instanceof Geometry) {
+                // coordinate objects or packed sequences, plus the geometry objects
+                size += 80 + 40L * ((Geometry) value).getNumPoints();
+            } else if (value instanceof Number || value instanceof Boolean) {
+                size += 16;
+            } else if (value instanceof java.util.Date) {
+                size += 24;
+            } else {
+                size += 64;
+            }
+            // the reference in the attribute array
+            size += 8;
+        }
+        return size;
+    }
+
+    /** A feature along with its sort key */
+    private static final class Record {
+
+        final byte[] key;
+
+        final SimpleFeature feature;
+
+        Record(byte[] key, SimpleFeature feature) {
+            this.key = key;
+            this.feature = feature;
+        }
+    }
+}
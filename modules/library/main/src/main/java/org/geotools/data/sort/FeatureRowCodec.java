@@ -0,0 +1,263 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.sort;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+
+/**
+ * Encodes features in the compact binary rows used by the external sort: the feature id, a bitmap of the null
+ * attributes, and the non null attribute values. Integral numbers and dates are written as variable length values,
+ * strings with the {@link SortBuffer} encoding, geometries as WKB, other types with Java serialization (see
+ * {@link SimpleFeatureIO#ENABLE_DESERIALIZATION}).
+ *
+ * <p>Instances are not thread safe.
+ */
+final class FeatureRowCodec {
+
+    private static final int BOOLEAN = 0;
+    private static final int BYTE = 1;
+    private static final int SHORT = 2;
+    private static final int INTEGER = 3;
+    private static final int LONG = 4;
+    private static final int FLOAT = 5;
+    private static final int DOUBLE = 6;
+    private static final int STRING = 7;
+    private static final int UTIL_DATE = 8;
+    private static final int SQL_DATE = 9;
+    private static final int SQL_TIME = 10;
+    private static final int SQL_TIMESTAMP = 11;
+    private static final int GEOMETRY = 12;
+    private static final int OBJECT = 13;
+
+    private final SimpleFeatureBuilder builder;
+
+    private final int[] types;
+
+    private final byte[] nulls;
+
+    private final WKBWriter writer = new WKBWriter();
+
+    private final WKBReader reader = new WKBReader();
+
+    private final String enableDeserialization = System.getProperty(SimpleFeatureIO.ENABLE_DESERIALIZATION);
+
+    FeatureRowCodec(SimpleFeatureType schema) {
+        this.builder = new SimpleFeatureBuilder(schema);
+        List<AttributeDescriptor> attributes = schema.getAttributeDescriptors();
+        this.types = new int[attributes.size()];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = getType(attributes.get(i).getType().getBinding());
+        }
+        this.nulls = new byte[(types.length + 7) / 8];
+    }
+
+    private static int getType(Class<?> binding) {
+        // as in SimpleFeatureIO, identity comparison on the bindings we can optimize, the values
+        // are read back with the very same class
+        if (binding == Boolean.class) {
+            return BOOLEAN;
+        } else if (binding == Byte.class) {
+            return BYTE;
+        } else if (binding == Short.class) {
+            return SHORT;
+        } else if (binding == Integer.class) {
+            return INTEGER;
+        } else if (binding == Long.class) {
+            return LONG;
+        } else if (binding == Float.class) {
+            return FLOAT;
+        } else if (binding == Double.class) {
+            return DOUBLE;
+        } else if (binding == String.class) {
+            return STRING;
+        } else if (binding == Date.class) {
+            return UTIL_DATE;
+        } else if (binding == java.sql.Date.class) {
+            return SQL_DATE;
+        } else if (binding == java.sql.Time.class) {
+            return SQL_TIME;
+        } else if (binding == java.sql.Timestamp.class) {
+            return SQL_TIMESTAMP;
+        } else if (Geometry.class.isAssignableFrom(binding)) {
+            return GEOMETRY;
+        } else {
+            return OBJECT;
+        }
+    }
+
+    /** Appends the row of the feature to the buffer */
+    void encode(SimpleFeature feature, SortBuffer buffer) throws IOException {
+        String fid = feature.getID();
+        if (fid == null) {
+            buffer.writeByte(0);
+        } else {
+            buffer.writeByte(1);
+            buffer.writeString(fid);
+        }
+
+        Arrays.fill(nulls, (byte) 0);
+        for (int i = 0; i < types.length; i++) {
+            if (feature.getAttribute(i) == null) {
+                nulls[i >> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        buffer.write(nulls, 0, nulls.length);
+
+        for (int i = 0; i < types.length; i++) {
+            Object value = feature.getAttribute(i);
+            if (value != null) {
+                encodeValue(types[i], value, buffer);
+            }
+        }
+    }
+
+    private void encodeValue(int type, Object value, SortBuffer buffer) throws IOException {
+        switch (type) {
+            case BOOLEAN:
+                buffer.writeByte((Boolean) value ? 1 : 0);
+                break;
+            case BYTE:
+                buffer.writeByte((Byte) value);
+                break;
+            case SHORT:
+            case INTEGER:
+            case LONG:
+                buffer.writeVarLong(((Number) value).longValue());
+                break;
+            case FLOAT:
+                buffer.writeInt(Float.floatToRawIntBits((Float) value));
+                break;
+            case DOUBLE:
+                buffer.writeLong(Double.doubleToRawLongBits((Double) value));
+                break;
+            case STRING:
+                buffer.writeString((String) value);
+                break;
+            case UTIL_DATE:
+            case SQL_DATE:
+            case SQL_TIME:
+            case SQL_TIMESTAMP:
+                buffer.writeVarLong(((Date) value).getTime());
+                break;
+            case GEOMETRY:
+                byte[] wkb = writer.write((Geometry) value);
+                buffer.writeVarInt(wkb.length);
+                buffer.write(wkb, 0, wkb.length);
+                break;
+            default:
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                    oos.writeObject(value);
+                }
+                byte[] bytes = bos.toByteArray();
+                buffer.writeVarInt(bytes.length);
+                buffer.write(bytes, 0, bytes.length);
+        }
+    }
+
+    /** Decodes the row at the read position of the buffer */
+    SimpleFeature decode(SortBuffer buffer) throws IOException {
+        String fid = buffer.readByte() == 0 ? null : buffer.readString();
+
+        for (int i = 0; i < nulls.length; i++) {
+            nulls[i] = (byte) buffer.readByte();
+        }
+        for (int i = 0; i < types.length; i++) {
+            if ((nulls[i >> 3] & (1 << (i & 7))) != 0) {
+                builder.add(null);
+            } else {
+                builder.add(decodeValue(types[i], buffer));
+            }
+        }
+        return builder.buildFeature(fid);
+    }
+
+    private Object decodeValue(int type, SortBuffer buffer) throws IOException {
+        switch (type) {
+            case BOOLEAN:
+                return buffer.readByte() != 0;
+            case BYTE:
+                return (byte) buffer.readByte();
+            case SHORT:
+                return (short) buffer.readVarLong();
+            case INTEGER:
+                return (int) buffer.readVarLong();
+            case LONG:
+                return buffer.readVarLong();
+            case FLOAT:
+                return Float.intBitsToFloat(buffer.readInt());
+            case DOUBLE:
+                return Double.longBitsToDouble(buffer.readLong());
+            case STRING:
+                return buffer.readString();
+            case UTIL_DATE:
+                return new Date(buffer.readVarLong());
+            case SQL_DATE:
+                return new java.sql.Date(buffer.readVarLong());
+            case SQL_TIME:
+                return new java.sql.Time(buffer.readVarLong());
+            case SQL_TIMESTAMP:
+                return new java.sql.Timestamp(buffer.readVarLong());
+            case GEOMETRY:
+                try {
+                    return reader.read(readBytes(buffer));
+                } catch (ParseException e) {
+                    throw new IOException("Failed to parse the geometry WKB", e);
+                }
+            default:
+                return readObject(buffer);
+        }
+    }
+
+    private static byte[] readBytes(SortBuffer buffer) throws IOException {
+        int length = buffer.readVarInt();
+        if (buffer.position + length > buffer.length) {
+            throw new IOException("Unexpected end of the sorted features row");
+        }
+        byte[] bytes = Arrays.copyOfRange(buffer.bytes, buffer.position, buffer.position + length);
+        buffer.position += length;
+        return bytes;
+    }
+
+    @SuppressWarnings("BanSerializableRead")
+    private Object readObject(SortBuffer buffer) throws IOException {
+        // the rows are written by this very codec in a new temp file, only an explicit opt-out applies
+        if ("false".equalsIgnoreCase(enableDeserialization)) {
+            throw new IllegalStateException("Object deserialization is not allowed");
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(readBytes(buffer)))) {
+            return ois.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Could not read back object", e);
+        }
+    }
+}
@@ -16,28 +16,24 @@
  */
 package org.geotools.data.sort;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.List;
 import org.geotools.api.data.Query;
 import org.geotools.api.data.SimpleFeatureReader;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.filter.sort.SortBy;
-import org.geotools.data.collection.ListFeatureCollection;
-import org.geotools.data.simple.DelegateSimpleFeatureReader;
-import org.geotools.data.simple.SimpleFeatureIterator;
 import org.geotools.util.factory.Hints;
 import org.locationtech.jts.geom.Geometry;
 
 class MergeSortDumper {
 
+    /** Default max amount of memory used by the features kept in memory, unless the heap is small */
+    static final long DEFAULT_MAX_MEMORY = 64 * 1024 * 1024;
+
     static final boolean canSort(SimpleFeatureType schema, SortBy... sortBy) {
         if (sortBy == SortBy.UNSORTED) {
             return true;
@@ -70,9 +66,8 @@ static final boolean canSort(SimpleFeatureType schema, SortBy... sortBy) {
     }
 
     static SimpleFeatureReader getDelegateReader(SimpleFeatureReader reader, Query query) throws IOException {
-        int maxFeatures = getMaxFeatures(query);
-
-        return getDelegateReader(reader, query.getSortBy(), maxFeatures);
+        Hints hints = query.getHints();
+        return getDelegateReader(reader, query.getSortBy(), getMaxFeaturesLimit(hints), getMaxMemory(hints));
     }
 
     /** Gets the max amount amount of features to keep in memory from the query and system hints */
@@ -90,11 +85,39 @@ static int getMaxFeatures(Query query) {
         return maxFeatures;
     }
 
+    /**
+     * Gets the max amount of features to keep in memory when sorting, from the given and system hints. Unlike
+     * {@link #getMaxFeatures(Query)} there is no default, the memory limit applies instead.
+     */
+    static int getMaxFeaturesLimit(Hints hints) {
+        if (hints != null && hints.get(Hints.MAX_MEMORY_SORT) != null) {
+            return (Integer) hints.get(Hints.MAX_MEMORY_SORT);
+        } else if (Hints.getSystemDefault(Hints.MAX_MEMORY_SORT) != null) {
+            return (Integer) Hints.getSystemDefault(Hints.MAX_MEMORY_SORT);
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /** Gets the max amount of memory used by the features kept in memory, from the given and system hints */
+    static long getMaxMemory(Hints hints) {
+        if (hints != null && hints.get(Hints.MAX_MEMORY_SORT_BYTES) != null) {
+            return ((Number) hints.get(Hints.MAX_MEMORY_SORT_BYTES)).longValue();
+        } else if (Hints.getSystemDefault(Hints.MAX_MEMORY_SORT_BYTES) != null) {
+            return ((Number) Hints.getSystemDefault(Hints.MAX_MEMORY_SORT_BYTES)).longValue();
+        }
+        return Math.min(DEFAULT_MAX_MEMORY, Runtime.getRuntime().maxMemory() / 8);
+    }
+
     static SimpleFeatureReader getDelegateReader(SimpleFeatureReader reader, SortBy[] sortBy, int maxFeatures)
             throws IOException {
         if (maxFeatures < 0) {
-            maxFeatures = getMaxFeatures(Query.ALL);
+            maxFeatures = getMaxFeaturesLimit(null);
         }
+        return getDelegateReader(reader, sortBy, maxFeatures, getMaxMemory(null));
+    }
+
+    static SimpleFeatureReader getDelegateReader(
+            SimpleFeatureReader reader, SortBy[] sortBy, int maxFeatures, long maxMemory) throws IOException {
         Comparator<SimpleFeature> comparator = SortedFeatureReader.getComparator(sortBy, reader.getFeatureType());
 
         // easy case, no sorting needed
@@ -112,75 +135,6 @@ static SimpleFeatureReader getDelegateReader(SimpleFeatureReader reader, SortBy[
                     + Arrays.toString(sortBy));
         }
 
-        int count = 0;
-        File file = null;
-        SimpleFeatureIO io = null;
-        List<SimpleFeature> features = new ArrayList<>();
-        List<FeatureBlockReader> readers = new ArrayList<>();
-        boolean cleanFile = true;
-        try {
-            // read and store into files as necessary
-            while (reader.hasNext()) {
-                SimpleFeature f = reader.next();
-                features.add(f);
-                count++;
-
-                if (count > maxFeatures) {
-                    Collections.sort(features, comparator);
-                    if (io == null) {
-                        file = File.createTempFile("sorted", ".features");
-                        file.delete();
-                        io = new SimpleFeatureIO(file, schema);
-                    }
-                    FeatureBlockReader fbr = storeToFile(io, features);
-                    readers.add(fbr);
-                    count = 0;
-                    features.clear();
-                }
-            }
-            // if we got to file storing, store residual features to file too
-            if (count > 0 && io != null) {
-                Collections.sort(features, comparator);
-                file = File.createTempFile("sorted", ".features");
-                file.delete();
-                FeatureBlockReader fbr = storeToFile(io, features);
-                readers.add(fbr);
-            }
-
-            // return the appropriate reader
-            if (io == null) {
-                // simple case, we managed to keep everything in memory, sort and return a
-                // reader based on the collection contents
-                Collections.sort(features, comparator);
-
-                @SuppressWarnings("PMD.CloseResource") // returned in wrapper
-                SimpleFeatureIterator fi = new ListFeatureCollection(schema, features).features();
-                return new DelegateSimpleFeatureReader(schema, fi);
-            } else {
-                // go merge-sort
-                cleanFile = false;
-                return new MergeSortReader(schema, io, readers, comparator);
-            }
-
-        } finally {
-            if (cleanFile && io != null) {
-                io.close(true);
-                file.delete();
-            }
-
-            reader.close();
-        }
-    }
-
-    /** Writes the feature attributes to a binary file */
-    static FeatureBlockReader storeToFile(SimpleFeatureIO io, List<SimpleFeature> features) throws IOException {
-        long start = io.getOffset();
-
-        // write each attribute in the random access file
-        for (SimpleFeature sf : features) {
-            io.write(sf);
-        }
-
-        return new FeatureBlockReader(io, start, features.size());
+        return new ExternalSorter(schema, sortBy, comparator, maxFeatures, maxMemory).sort(reader);
     }
 }
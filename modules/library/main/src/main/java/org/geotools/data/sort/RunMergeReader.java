@@ -0,0 +1,170 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.sort;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import org.geotools.api.data.SimpleFeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+
+/**
+ * Merges the sorted runs written by {@link ExternalSorter}, keeping the head record of each run in a priority queue.
+ * Records are compared on their normalized keys when available, otherwise the rows are decoded and compared with the
+ * sort comparator. Equal records are returned in run order, keeping the sort stable. The runs are deleted on close.
+ */
+class RunMergeReader implements SimpleFeatureReader {
+
+    private final SimpleFeatureType schema;
+
+    private final List<SortRun> runs;
+
+    private final PriorityQueue<Cursor> queue;
+
+    private final boolean decodeToCompare;
+
+    private final FeatureRowCodec codec;
+
+    private final SortBuffer row = new SortBuffer(0);
+
+    RunMergeReader(ExternalSorter sorter, List<SortRun> runs) throws IOException {
+        this.schema = sorter.getSchema();
+        this.runs = runs;
+        this.codec = new FeatureRowCodec(schema);
+        this.decodeToCompare = !sorter.hasKeys();
+        Comparator<Cursor> order;
+        if (decodeToCompare) {
+            Comparator<SimpleFeature> comparator = sorter.getComparator();
+            order = (c1, c2) -> comparator.compare(c1.feature, c2.feature);
+        } else {
+            order = (c1, c2) -> Arrays.compareUnsigned(
+                    c1.reader.bytes,
+                    c1.reader.keyOffset,
+                    c1.reader.keyOffset + c1.reader.keyLength,
+                    c2.reader.bytes,
+                    c2.reader.keyOffset,
+                    c2.reader.keyOffset + c2.reader.keyLength);
+        }
+        this.queue = new PriorityQueue<>(Math.max(1, runs.size()), order.thenComparingInt(c -> c.index));
+
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                Cursor cursor = new Cursor(runs.get(i).reader(), i);
+                boolean queued = false;
+                try {
+                    if (advance(cursor)) {
+                        queue.add(cursor);
+                        queued = true;
+                    }
+                } finally {
+                    if (!queued) {
+                        cursor.reader.close();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /** Moves the cursor to its next record, decoding it if needed for comparison */
+    private boolean advance(Cursor cursor) throws IOException {
+        if (!cursor.reader.next()) {
+            return false;
+        }
+        if (decodeToCompare) {
+            cursor.feature = decode(cursor.reader);
+        }
+        return true;
+    }
+
+    private SimpleFeature decode(SortRun.Reader reader) throws IOException {
+        row.wrap(reader.bytes, reader.rowOffset, reader.rowLength);
+        return codec.decode(row);
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return schema;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        return !queue.isEmpty();
+    }
+
+    @Override
+    public SimpleFeature next() throws IOException, IllegalArgumentException, NoSuchElementException {
+        Cursor cursor = queue.poll();
+        if (cursor == null) {
+            throw new NoSuchElementException();
+        }
+        SimpleFeature result = decodeToCompare ? cursor.feature : decode(cursor.reader);
+        moveOn(cursor);
+        return result;
+    }
+
+    /** Copies the merged records, without decoding them, to the given run */
+    void copyTo(SortRun.Writer writer) throws IOException {
+        Cursor cursor;
+        while ((cursor = queue.poll()) != null) {
+            SortRun.Reader r = cursor.reader;
+            writer.write(r.bytes, r.keyOffset, r.keyLength, r.bytes, r.rowOffset, r.rowLength);
+            moveOn(cursor);
+        }
+    }
+
+    private void moveOn(Cursor cursor) throws IOException {
+        if (advance(cursor)) {
+            queue.add(cursor);
+        } else {
+            cursor.reader.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            for (Cursor cursor : queue) {
+                cursor.reader.close();
+            }
+            queue.clear();
+        } finally {
+            runs.forEach(SortRun::delete);
+        }
+    }
+
+    /** The current record of a run */
+    private static final class Cursor {
+
+        final SortRun.Reader reader;
+
+        final int index;
+
+        SimpleFeature feature;
+
+        Cursor(SortRun.Reader reader, int index) {
+            this.reader = reader;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.sort;
+
+import java.io.EOFException;
+import java.util.Arrays;
+
+/**
+ * A growable byte array with a write and a read position, used to encode and decode the rows and sort keys of the
+ * external sort.
+ *
+ * <p>Strings are written with an order preserving, self delimiting encoding: comparing the encoded bytes as unsigned
+ * values gives the same result as {@link String#compareTo(String)} on the original strings, whatever follows them. Each
+ * char takes one byte in the 0x01-0x7F range, two bytes up to 0x3FFF, three bytes otherwise, the char 0 is written as
+ * 0x00 0x01 and the string is terminated by 0x00 0x00.
+ */
+final class SortBuffer {
+
+    byte[] bytes;
+
+    /** The write position, also the end of the readable bytes */
+    int length;
+
+    /** The read position */
+    int position;
+
+    SortBuffer(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    /** Makes the buffer read the given bytes */
+    void wrap(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.position = offset;
+        this.length = offset + length;
+    }
+
+    /** Empties the buffer, keeping its storage */
+    void reset() {
+        length = 0;
+        position = 0;
+    }
+
+    private void ensureCapacity(int extra) {
+        int required = length + extra;
+        if (required > bytes.length) {
+            if (required < 0) {
+                throw new OutOfMemoryError();
+            }
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+        }
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        bytes[length++] = (byte) value;
+    }
+
+    void writeShort(int value) {
+        ensureCapacity(2);
+        bytes[length++] = (byte) (value >>> 8);
+        bytes[length++] = (byte) value;
+    }
+
+    void writeInt(int value) {
+        ensureCapacity(4);
+        bytes[length++] = (byte) (value >>> 24);
+        bytes[length++] = (byte) (value >>> 16);
+        bytes[length++] = (byte) (value >>> 8);
+        bytes[length++] = (byte) value;
+    }
+
+    void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    /** Writes a non negative int in 1 to 5 bytes */
+    void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        bytes[length++] = (byte) value;
+    }
+
+    /** Writes a long in 1 to 10 bytes, small absolute values taking less space */
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            bytes[length++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        bytes[length++] = (byte) zigzag;
+    }
+
+    void write(byte[] source, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(source, offset, bytes, length, count);
+        length += count;
+    }
+
+    /** Writes a string with the order preserving encoding */
+    void writeString(String value) {
+        int count = value.length();
+        ensureCapacity(count * 3 + 2);
+        for (int i = 0; i < count; i++) {
+            char c = value.charAt(i);
+            if (c == 0) {
+                bytes[length++] = 0;
+                bytes[length++] = 1;
+            } else if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            } else if (c < 0x4000) {
+                bytes[length++] = (byte) (0x80 | (c >>> 8));
+                bytes[length++] = (byte) c;
+            } else {
+                bytes[length++] = (byte) 0xC0;
+                bytes[length++] = (byte) (c >>> 8);
+                bytes[length++] = (byte) c;
+            }
+        }
+        bytes[length++] = 0;
+        bytes[length++] = 0;
+    }
+
+    /** Flips all the bits written since the given position, reversing their sort order */
+    void invert(int from) {
+        for (int i = from; i < length; i++) {
+            bytes[i] = (byte) ~bytes[i];
+        }
+    }
+
+    private void require(int count) throws EOFException {
+        if (position + count > length) {
+            throw new EOFException("Unexpected end of the sorted features row");
+        }
+    }
+
+    int readByte() throws EOFException {
+        require(1);
+        return bytes[position++];
+    }
+
+    short readShort() throws EOFException {
+        require(2);
+        int value = ((bytes[position] & 0xFF) << 8) | (bytes[position + 1] & 0xFF);
+        position += 2;
+        return (short) value;
+    }
+
+    int readInt() throws EOFException {
+        require(4);
+        int value = ((bytes[position] & 0xFF) << 24)
+                | ((bytes[position + 1] & 0xFF) << 16)
+                | ((bytes[position + 2] & 0xFF) << 8)
+                | (bytes[position + 3] & 0xFF);
+        position += 4;
+        return value;
+    }
+
+    long readLong() throws EOFException {
+        long high = readInt();
+        return (high << 32) | (readInt() & 0xFFFFFFFFL);
+    }
+
+    int readVarInt() throws EOFException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new EOFException("Invalid variable length int in the sorted features row");
+    }
+
+    long readVarLong() throws EOFException {
+        long zigzag = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+        }
+        throw new EOFException("Invalid variable length long in the sorted features row");
+    }
+
+    /** Reads a string written by {@link #writeString(String)} */
+    String readString() throws EOFException {
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            int b = readByte() & 0xFF;
+            if (b == 0) {
+                if (readByte() == 0) {
+                    return sb.toString();
+                }
+                sb.append((char) 0);
+            } else if (b < 0x80) {
+                sb.append((char) b);
+            } else if (b < 0xC0) {
+                sb.append((char) (((b & 0x3F) << 8) | (readByte() & 0xFF)));
+            } else {
+                sb.append((char) (readShort() & 0xFFFF));
+            }
+        }
+    }
+}
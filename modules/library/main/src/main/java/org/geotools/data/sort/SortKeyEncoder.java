@@ -0,0 +1,132 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.sort;
+
+import java.util.Date;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.sort.SortBy;
+import org.geotools.api.filter.sort.SortOrder;
+
+/**
+ * Encodes the sorting attributes of a feature in a normalized key, a byte sequence whose unsigned lexicographic order
+ * is the order the {@link SortBy} ask for, nulls first in ascending order as in {@link AbstractPropertyComparator}.
+ * Comparing keys is a plain byte comparison, without any attribute decoding or type dispatch.
+ */
+final class SortKeyEncoder {
+
+    /** Marks the position of the feature id among the sorting attributes */
+    private static final int FID = -1;
+
+    private final int[] indexes;
+
+    private final Class<?>[] bindings;
+
+    private final boolean[] ascending;
+
+    private SortKeyEncoder(int[] indexes, Class<?>[] bindings, boolean[] ascending) {
+        this.indexes = indexes;
+        this.bindings = bindings;
+        this.ascending = ascending;
+    }
+
+    /**
+     * Builds an encoder for the given sorting directives, or returns null if any of the sorting attributes has a type
+     * that cannot be normalized (in that case, sorting has to use a {@link java.util.Comparator})
+     */
+    static SortKeyEncoder create(SimpleFeatureType schema, SortBy[] sortBy) {
+        int[] indexes = new int[sortBy.length];
+        Class<?>[] bindings = new Class<?>[sortBy.length];
+        boolean[] ascending = new boolean[sortBy.length];
+        for (int i = 0; i < sortBy.length; i++) {
+            SortBy sb = sortBy[i];
+            if (sb == SortBy.NATURAL_ORDER || sb == SortBy.REVERSE_ORDER) {
+                indexes[i] = FID;
+                bindings[i] = String.class;
+                ascending[i] = sb == SortBy.NATURAL_ORDER;
+            } else {
+                indexes[i] = schema.indexOf(sb.getPropertyName().getPropertyName());
+                if (indexes[i] < 0) {
+                    return null;
+                }
+                bindings[i] = schema.getDescriptor(indexes[i]).getType().getBinding();
+                if (!isSupported(bindings[i])) {
+                    return null;
+                }
+                ascending[i] = sb.getSortOrder() == SortOrder.ASCENDING;
+            }
+        }
+        return new SortKeyEncoder(indexes, bindings, ascending);
+    }
+
+    private static boolean isSupported(Class<?> binding) {
+        return binding == String.class
+                || binding == Integer.class
+                || binding == Long.class
+                || binding == Short.class
+                || binding == Byte.class
+                || binding == Double.class
+                || binding == Float.class
+                || binding == Boolean.class
+                || binding == Date.class
+                || binding == java.sql.Date.class
+                || binding == java.sql.Time.class;
+    }
+
+    /** Appends the key of the feature to the buffer */
+    void encode(SimpleFeature feature, SortBuffer buffer) {
+        for (int i = 0; i < indexes.length; i++) {
+            int start = buffer.length;
+            Object value = indexes[i] == FID ? feature.getID() : feature.getAttribute(indexes[i]);
+            if (value == null) {
+                buffer.writeByte(0);
+            } else {
+                buffer.writeByte(1);
+                encodeValue(bindings[i], value, buffer);
+            }
+            if (!ascending[i]) {
+                // all encodings are self delimiting, so flipping the bits reverses the order
+                buffer.invert(start);
+            }
+        }
+    }
+
+    private static void encodeValue(Class<?> binding, Object value, SortBuffer buffer) {
+        if (binding == String.class) {
+            buffer.writeString((String) value);
+        } else if (binding == Integer.class) {
+            buffer.writeInt(((Number) value).intValue() ^ Integer.MIN_VALUE);
+        } else if (binding == Long.class) {
+            buffer.writeLong(((Number) value).longValue() ^ Long.MIN_VALUE);
+        } else if (binding == Short.class) {
+            buffer.writeShort(((Number) value).shortValue() ^ Short.MIN_VALUE);
+        } else if (binding == Byte.class) {
+            buffer.writeByte(((Number) value).byteValue() ^ Byte.MIN_VALUE);
+        } else if (binding == Double.class) {
+            // same order as Double.compare, -0.0 before 0.0 and NaN last
+            long bits = Double.doubleToLongBits(((Number) value).doubleValue());
+            buffer.writeLong(bits ^ ((bits >> 63) | Long.MIN_VALUE));
+        } else if (binding == Float.class) {
+            int bits = Float.floatToIntBits(((Number) value).floatValue());
+            buffer.writeInt(bits ^ ((bits >> 31) | Integer.MIN_VALUE));
+        } else if (binding == Boolean.class) {
+            buffer.writeByte((Boolean) value ? 1 : 0);
+        } else {
+            buffer.writeLong(((Date) value).getTime() ^ Long.MIN_VALUE);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.sort;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A temporary file holding a sorted sequence of records, each made of a sort key and a feature row. Records are
+ * grouped in blocks, optionally compressed, and read back sequentially.
+ *
+ * <p>Block layout: a compression flag, the raw length, the stored length, the stored bytes. Inside a block each record
+ * is the key length, the key bytes, the row length, the row bytes.
+ */
+final class SortRun {
+
+    /** Target size of the uncompressed blocks */
+    static final int BLOCK_SIZE = 64 * 1024;
+
+    final File file;
+
+    SortRun(File file) {
+        this.file = file;
+    }
+
+    static SortRun create() throws IOException {
+        return new SortRun(File.createTempFile("sorted", ".features"));
+    }
+
+    Writer writer(boolean compress) throws IOException {
+        return new Writer(this, compress);
+    }
+
+    Reader reader() throws IOException {
+        return new Reader(this);
+    }
+
+    void delete() {
+        file.delete();
+    }
+
+    /** Appends records to a run */
+    static final class Writer implements Closeable {
+
+        private final DataOutputStream out;
+
+        private final Deflater deflater;
+
+        private final SortBuffer block = new SortBuffer(BLOCK_SIZE + 1024);
+
+        private byte[] compressed;
+
+        private Writer(SortRun run, boolean compress) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(run.file), BLOCK_SIZE));
+            this.deflater = compress ? new Deflater(Deflater.BEST_SPEED) : null;
+        }
+
+        void write(byte[] key, int keyOffset, int keyLength, byte[] row, int rowOffset, int rowLength)
+                throws IOException {
+            block.writeVarInt(keyLength);
+            block.write(key, keyOffset, keyLength);
+            block.writeVarInt(rowLength);
+            block.write(row, rowOffset, rowLength);
+            if (block.length >= BLOCK_SIZE) {
+                flushBlock();
+            }
+        }
+
+        private void flushBlock() throws IOException {
+            if (block.length == 0) {
+                return;
+            }
+            int stored = 0;
+            if (deflater != null) {
+                if (compressed == null || compressed.length < block.length) {
+                    compressed = new byte[block.length];
+                }
+                deflater.reset();
+                deflater.setInput(block.bytes, 0, block.length);
+                deflater.finish();
+                stored = deflater.deflate(compressed, 0, compressed.length);
+            }
+            if (deflater != null && deflater.finished() && stored < block.length) {
+                out.writeBoolean(true);
+                out.writeInt(block.length);
+                out.writeInt(stored);
+                out.write(compressed, 0, stored);
+            } else {
+                // not compressing, or not worth it
+                out.writeBoolean(false);
+                out.writeInt(block.length);
+                out.writeInt(block.length);
+                out.write(block.bytes, 0, block.length);
+            }
+            block.reset();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flushBlock();
+            } finally {
+                if (deflater != null) {
+                    deflater.end();
+                }
+                out.close();
+            }
+        }
+    }
+
+    /** Reads the records of a run, in order */
+    static final class Reader implements Closeable {
+
+        private final DataInputStream in;
+
+        private final Inflater inflater = new Inflater();
+
+        private byte[] stored = new byte[0];
+
+        private byte[] block = new byte[0];
+
+        private int blockLength;
+
+        private int position;
+
+        /** The buffer holding the current record */
+        byte[] bytes;
+
+        int keyOffset;
+
+        int keyLength;
+
+        int rowOffset;
+
+        int rowLength;
+
+        private final SortBuffer header = new SortBuffer(0);
+
+        private Reader(SortRun run) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(run.file), 8192));
+        }
+
+        /** Moves to the next record, returns false if the run is over */
+        boolean next() throws IOException {
+            if (position >= blockLength && !readBlock()) {
+                return false;
+            }
+            header.wrap(block, position, blockLength - position);
+            keyLength = header.readVarInt();
+            keyOffset = header.position;
+            header.position += keyLength;
+            rowLength = header.readVarInt();
+            rowOffset = header.position;
+            position = rowOffset + rowLength;
+            if (position > blockLength) {
+                throw new EOFException("Truncated record in sort run");
+            }
+            bytes = block;
+            return true;
+        }
+
+        private boolean readBlock() throws IOException {
+            boolean compressed;
+            try {
+                compressed = in.readBoolean();
+            } catch (EOFException e) {
+                return false;
+            }
+            int rawLength = in.readInt();
+            int storedLength = in.readInt();
+            if (block.length < rawLength) {
+                block = new byte[rawLength];
+            }
+            if (compressed) {
+                if (stored.length < storedLength) {
+                    stored = new byte[storedLength];
+                }
+                in.readFully(stored, 0, storedLength);
+                inflater.reset();
+                inflater.setInput(stored, 0, storedLength);
+                try {
+                    if (inflater.inflate(block, 0, rawLength) != rawLength) {
+                        throw new IOException("Corrupted block in sort run");
+                    }
+                } catch (DataFormatException e) {
+                    throw new IOException("Corrupted block in sort run", e);
+                }
+            } else {
+                in.readFully(block, 0, rawLength);
+            }
+            blockLength = rawLength;
+            position = 0;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inflater.end();
+            in.close();
+        }
+    }
+}
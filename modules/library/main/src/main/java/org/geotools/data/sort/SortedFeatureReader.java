@@ -58,8 +58,8 @@ public static int getMaxFeaturesInMemory(Query q) {
      * Builds a new sorting feature reader
      *
      * @param reader The reader to be sorted
-     * @param query The query holding the SortBy directives, and the eventual max features in memory hint
-     *     {@link Hints#MAX_MEMORY_SORT}
+     * @param query The query holding the SortBy directives, and the eventual max features and max memory hints
+     *     {@link Hints#MAX_MEMORY_SORT} and {@link Hints#MAX_MEMORY_SORT_BYTES}
      */
     public SortedFeatureReader(SimpleFeatureReader reader, Query query) throws IOException {
         this.delegate = MergeSortDumper.getDelegateReader(reader, query);
@@ -70,7 +70,8 @@ public SortedFeatureReader(SimpleFeatureReader reader, Query query) throws IOExc
      *
      * @param reader The reader to be sorted
      * @param sortBy The sorting directives
-     * @param maxFeatures The maximum number of features to keep in memory
+     * @param maxFeatures The maximum number of features to keep in memory, or a negative number to use the system
+     *     default
      */
     public SortedFeatureReader(SimpleFeatureReader reader, SortBy[] sortBy, int maxFeatures) throws IOException {
         this.delegate = MergeSortDumper.getDelegateReader(reader, sortBy, maxFeatures);
@@ -80,6 +80,8 @@
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.util.factory.Hints;
 import org.geotools.util.factory.Hints.Key;
+import org.geotools.util.instrumentation.Instrumentation;
+import org.geotools.util.instrumentation.Span;
 
 /**
  * Abstract implementation of FeatureSource.
@@ -582,6 +584,14 @@ public final ContentFeatureCollection getFeatures(Query query) throws IOExceptio
 
     /** Returns a reader for the features specified by a query. */
     public final FeatureReader<SimpleFeatureType, SimpleFeature> getReader(Query query) throws IOException {
+        try (Span span = Instrumentation.span("datastore.getReader")) {
+            span.tag("typeName", entry.getTypeName());
+            return createReader(query);
+        }
+    }
+
+    /** Opens the reader, and wraps it to handle the query parts the subclass cannot */
+    private FeatureReader<SimpleFeatureType, SimpleFeature> createReader(Query query) throws IOException {
         query = joinQuery(query);
         query = resolvePropertyNames(query);
 
@@ -814,6 +824,23 @@ protected boolean handleVisitor(Query query, FeatureVisitor visitor) throws IOEx
         return false;
     }
 
+    /**
+     * Returns true if {@link #getReader(Query)} would return the features read by {@link #getReaderInternal(Query)}
+     * without a transaction diff, sorting, paging or reprojection on top of them. Subclasses can use it in
+     * {@link #handleVisitor(Query, FeatureVisitor)} to decide whether a visitor can be run against their native data.
+     *
+     * @param query The query, already joined with the definition query of this feature source
+     */
+    protected boolean isNativeScan(Query query) {
+        return (transaction == null || transaction == Transaction.AUTO_COMMIT)
+                && query.getJoins().isEmpty()
+                && (query.getSortBy() == null || query.getSortBy().length == 0)
+                && query.getStartIndex() == null
+                && query.isMaxFeaturesUnlimited()
+                && (canReproject()
+                        || (query.getCoordinateSystem() == null && query.getCoordinateSystemReproject() == null));
+    }
+
     /**
      * Subclass method for returning a native reader from the datastore.
      * <p>
@@ -16,6 +16,7 @@
  */
 package org.geotools.data.store;
 
+import java.awt.geom.Rectangle2D;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -33,6 +34,7 @@
 import org.geotools.api.referencing.FactoryException;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.MathTransform2D;
 import org.geotools.data.DataUtilities;
 import org.geotools.data.collection.DelegateFeatureReader;
 import org.geotools.data.simple.SimpleFeatureCollection;
@@ -50,6 +52,8 @@
 import org.geotools.geometry.jts.GeometryCoordinateSequenceTransformer;
 import org.geotools.geometry.jts.ReferencedEnvelope;
 import org.geotools.referencing.CRS;
+import org.geotools.referencing.operation.transform.ApproximateTransform2D;
+import org.geotools.util.factory.Hints;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 
@@ -73,6 +77,12 @@ public class ReprojectingFeatureCollection extends DecoratingSimpleFeatureCollec
     /** Transformer used to transform geometries; */
     GeometryCoordinateSequenceTransformer transformer;
 
+    /** The maximum reprojection error, in target units, or zero to reproject exactly */
+    double tolerance;
+
+    /** The transform approximated over the delegate bounds, built on demand when a tolerance is set */
+    MathTransform approximated;
+
     public ReprojectingFeatureCollection(
             FeatureCollection<SimpleFeatureType, SimpleFeature> delegate, CoordinateReferenceSystem target) {
         this(DataUtilities.simple(delegate), target);
@@ -111,6 +121,39 @@ public void setTransformer(GeometryCoordinateSequenceTransformer transformer) {
         this.transformer = transformer;
     }
 
+    /**
+     * Allows the geometries to be reprojected with an approximation of the transform, within the given distance in
+     * target units from the exact result (see {@link Hints#REPROJECTION_TOLERANCE}). The transform is approximated over
+     * the bounds of the delegate collection, zero disables the approximation.
+     *
+     * @since 33
+     */
+    public void setReprojectionTolerance(double tolerance) {
+        if (tolerance < 0) {
+            throw new IllegalArgumentException("The reprojection tolerance cannot be negative, but was " + tolerance);
+        }
+        this.tolerance = tolerance;
+        this.approximated = null;
+    }
+
+    /** Returns the transform used to reproject the features, approximated if a tolerance has been set */
+    private MathTransform getReprojectionTransform() {
+        if (tolerance == 0 || !(transform instanceof MathTransform2D)) {
+            return transform;
+        }
+        if (approximated == null) {
+            ReferencedEnvelope bounds = delegate.getBounds();
+            if (bounds == null || bounds.isEmpty()) {
+                approximated = transform;
+            } else {
+                Rectangle2D domain = new Rectangle2D.Double(
+                        bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+                approximated = ApproximateTransform2D.create((MathTransform2D) transform, domain, tolerance);
+            }
+        }
+        return approximated;
+    }
+
     private MathTransform transform(CoordinateReferenceSystem source, CoordinateReferenceSystem target) {
         try {
             return CRS.findMathTransform(source, target, true);
@@ -134,7 +177,8 @@ public FeatureReader<SimpleFeatureType, SimpleFeature> reader() throws IOExcepti
     @Override
     public SimpleFeatureIterator features() {
         try {
-            return new ReprojectingFeatureIterator(delegate.features(), transform, schema, transformer);
+            MathTransform reprojection = getReprojectionTransform();
+            return new ReprojectingFeatureIterator(delegate.features(), reprojection, schema, transformer);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -159,7 +203,10 @@ public SimpleFeatureCollection subCollection(Filter filter) {
             }
         }
 
-        return new ReprojectingFeatureCollection(delegate.subCollection(filter), target);
+        ReprojectingFeatureCollection result =
+                new ReprojectingFeatureCollection(delegate.subCollection(filter), target);
+        result.setReprojectionTolerance(tolerance);
+        return result;
     }
 
     @Override
@@ -17,8 +17,7 @@
 package org.geotools.data.store;
 
 import java.io.IOException;
-import java.util.List;
-import org.geotools.api.feature.IllegalAttributeException;
+import java.util.Arrays;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.referencing.FactoryException;
@@ -26,12 +25,11 @@
 import org.geotools.api.referencing.operation.MathTransform;
 import org.geotools.api.referencing.operation.OperationNotFoundException;
 import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.data.crs.ReprojectionBatch;
 import org.geotools.data.simple.SimpleFeatureIterator;
-import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.geometry.jts.GeometryCoordinateSequenceTransformer;
 import org.geotools.referencing.ReferencingFactoryFinder;
 import org.geotools.util.factory.FactoryRegistryException;
-import org.locationtech.jts.geom.Geometry;
 
 public class ReprojectingFeatureIterator implements SimpleFeatureIterator {
 
@@ -47,6 +45,9 @@ public class ReprojectingFeatureIterator implements SimpleFeatureIterator {
     /** Transformer */
     GeometryCoordinateSequenceTransformer tx;
 
+    /** Features read ahead and reprojected together */
+    ReprojectionBatch batch;
+
     public ReprojectingFeatureIterator(
             SimpleFeatureIterator delegate,
             MathTransform transform,
@@ -85,46 +86,28 @@ public SimpleFeatureIterator getDelegate() {
 
     @Override
     public boolean hasNext() {
-        return delegate.hasNext();
+        return (batch != null && !batch.isEmpty()) || delegate.hasNext();
     }
 
     @Override
     public SimpleFeature next() {
-        SimpleFeature feature = delegate.next();
-        try {
-            return reproject(feature);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        if (batch == null) {
+            // all geometries go through the same transformer
+            GeometryCoordinateSequenceTransformer[] transformers =
+                    new GeometryCoordinateSequenceTransformer[schema.getAttributeCount()];
+            Arrays.fill(transformers, tx);
+            batch = new ReprojectionBatch(schema, transformers, null, true, ReprojectionBatch.DEFAULT_SIZE);
         }
-    }
-
-    SimpleFeature reproject(SimpleFeature feature) throws IOException {
-
-        List<Object> attributes = feature.getAttributes();
-
-        for (int i = 0; i < attributes.size(); i++) {
-            Object object = attributes.get(i);
-            if (object instanceof Geometry) {
-                // do the transformation
-                Geometry geometry = (Geometry) object;
-                try {
-                    attributes.set(i, tx.transform(geometry));
-                } catch (TransformException e) {
-                    String msg = "Error occured transforming " + geometry.toString();
-                    throw (IOException) new IOException(msg).initCause(e);
-                }
-            }
+        if (batch.isEmpty()) {
+            // read ahead, so that the geometries of many features are reprojected at once
+            do {
+                batch.add(delegate.next());
+            } while (!batch.isFull() && delegate.hasNext());
         }
-
         try {
-            SimpleFeature result = SimpleFeatureBuilder.build(schema, attributes, feature.getID());
-            if (feature.hasUserData()) {
-                result.getUserData().putAll(feature.getUserData());
-            }
-            return result;
-        } catch (IllegalAttributeException e) {
-            String msg = "Error creating reprojeced feature";
-            throw (IOException) new IOException(msg).initCause(e);
+            return batch.next();
+        } catch (TransformException e) {
+            throw new RuntimeException(new IOException("Error occured reprojecting feature", e));
         }
     }
 
@@ -228,6 +228,15 @@ private static <T> T lookup(Class<T> category, Hints hints, Hints.Key key) {
             }
         }
 
+        // then the factories already looked up, without locking
+        final FactoryRegistry registry = CommonFactoryFinder.registry;
+        if (registry != null) {
+            final T factory = registry.getResolvedFactory(category, hints, key);
+            if (factory != null) {
+                return factory;
+            }
+        }
+
         // otherwise do the lousy slow system scan
         synchronized (CommonFactoryFinder.class) {
             return getServiceRegistry().getFactory(category, null, hints, key);
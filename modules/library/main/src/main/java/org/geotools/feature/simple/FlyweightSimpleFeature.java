@@ -0,0 +1,93 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.simple;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.filter.identity.FeatureIdImpl;
+
+/**
+ * A {@link SimpleFeature} acting as a cursor over the rows read by a feature reader: the reader moves the same instance
+ * from row to row, copying the values from its row buffer, instead of building a new feature per row. This allows
+ * streaming large data sets without allocating a feature, its value array, identifier and user data map for each
+ * row.
+ *
+ * <p>The feature contents, identifier included, change at each move. Code keeping features around after moving on
+ * to the next one (collecting them in a list, sorting them, handing them to another thread) has to retain them
+ * first, calling {@link #retain(SimpleFeature)} or {@link #copy()}. Readers only return flyweight features when asked
+ * to with the {@link org.geotools.util.factory.Hints#FEATURE_REUSE} query hint.
+ */
+public class FlyweightSimpleFeature extends SimpleFeatureImpl {
+
+    /** Builds a feature cursor for the given type, positioned on no row */
+    public FlyweightSimpleFeature(SimpleFeatureType featureType) {
+        super(new Object[featureType.getAttributeCount()], featureType, new RowId(), false);
+    }
+
+    /**
+     * Moves the cursor to a new row, whose values are copied from the buffer. The user data of the previous row is
+     * cleared.
+     *
+     * @param fid The feature identifier of the row
+     * @param buffer The buffer holding the row values
+     * @param offset The position of the first value of the row in the buffer
+     */
+    public void moveTo(String fid, Object[] buffer, int offset) {
+        ((RowId) id).move(fid);
+        System.arraycopy(buffer, offset, values, 0, values.length);
+        if (userData != null) {
+            userData.clear();
+        }
+        attributeUserData = null;
+    }
+
+    /** Returns a regular feature holding the current row, unaffected by the following moves */
+    public SimpleFeature copy() {
+        SimpleFeatureImpl copy =
+                new SimpleFeatureImpl(values.clone(), featureType, new FeatureIdImpl(getID()), validating, index);
+        if (hasUserData()) {
+            copy.getUserData().putAll(userData);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a feature that can be safely kept: a copy of the current row for flyweight features, the feature itself
+     * otherwise.
+     */
+    public static SimpleFeature retain(SimpleFeature feature) {
+        if (feature instanceof FlyweightSimpleFeature) {
+            return ((FlyweightSimpleFeature) feature).copy();
+        }
+        return feature;
+    }
+
+    /** A feature identifier following the cursor, without keeping track of the previous values like setID does */
+    private static final class RowId extends FeatureIdImpl {
+
+        RowId() {
+            super("");
+        }
+
+        void move(String fid) {
+            if (fid == null) {
+                throw new NullPointerException("fid must not be null");
+            }
+            this.fid = fid;
+        }
+    }
+}
@@ -35,6 +35,7 @@
 import org.geotools.factory.CommonFactoryFinder;
 import org.geotools.feature.FeatureBuilder;
 import org.geotools.feature.type.Types;
+import org.geotools.util.Converters;
 import org.locationtech.jts.geom.Geometry;
 
 /**
@@ -278,6 +279,25 @@ public void set(int index, Object value) {
      * @return object of the correct type for the descriptor
      */
     private Object convert(Object value, AttributeDescriptor descriptor) {
+        if (value == null) {
+            return convertValue(null, descriptor);
+        }
+        // make sure the type of the value and the binding of the type match up
+        return super.convert(value, descriptor);
+    }
+
+    /**
+     * Converts a value the same way the builder does when it is {@link #set(int, Object) set}, for readers filling the
+     * feature values without a builder: values that cannot be converted to the binding of the descriptor are kept as
+     * they are, and nulls of non nillable attributes are replaced by the default value.
+     *
+     * @param value value, or {@code null}
+     * @param descriptor Attribute descriptor providing type information and default value
+     * @return object of the correct type for the descriptor
+     * @since 33
+     */
+    public static Object convertValue(Object value, AttributeDescriptor descriptor) {
+        Class<?> binding = descriptor.getType().getBinding();
         if (value == null) {
             // if the content is null and the descriptor says isNillable is false,
             // then set the default value
@@ -285,12 +305,14 @@ private Object convert(Object value, AttributeDescriptor descriptor) {
                 value = descriptor.getDefaultValue();
                 if (value == null) {
                     // no default value, try to generate one
-                    value = DataUtilities.defaultValue(descriptor.getType().getBinding());
+                    value = DataUtilities.defaultValue(binding);
                 }
             }
-        } else {
-            // make sure the type of the value and the binding of the type match up
-            value = super.convert(value, descriptor);
+        } else if (!binding.isInstance(value)) {
+            Object converted = Converters.convert(value, binding);
+            if (converted != null) {
+                value = converted;
+            }
         }
         return value;
     }
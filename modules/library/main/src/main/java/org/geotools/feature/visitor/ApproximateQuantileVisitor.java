@@ -0,0 +1,174 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import org.geotools.api.feature.Feature;
+import org.geotools.api.filter.expression.Expression;
+
+/**
+ * Estimates the quantiles of a numeric expression with a t-digest sketch. Unlike {@link QuantileListVisitor} and
+ * {@link MedianVisitor} it does not keep the values: the memory used depends on the compression only, a few KB with the
+ * default one, 100, while the estimates stay within a fraction of a percent of the exact quantiles, and are even more
+ * accurate near the extremes.
+ *
+ * <p>The result is the list of the class breaks splitting the values in classes of equal size: the minimum, the
+ * estimated quantiles at <code>1 / classes</code>, <code>2 / classes</code>, ..., and the maximum. Any other
+ * quantile can be read with {@link #getQuantile(double)}. Dates are handled as their time in milliseconds.
+ *
+ * @since 33
+ */
+public class ApproximateQuantileVisitor implements MergeableFeatureCalc, FeatureAttributeVisitor {
+
+    private final Expression expr;
+
+    private final int classes;
+
+    private final TDigest digest;
+
+    int countNull = 0;
+
+    int countNaN = 0;
+
+    /**
+     * Builds a visitor with the default compression
+     *
+     * @param expr The expression whose quantiles are estimated
+     * @param classes The number of classes of equal size the result is made of
+     */
+    public ApproximateQuantileVisitor(Expression expr, int classes) {
+        this(expr, classes, TDigest.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Builds a visitor with the given compression, higher values increase both the accuracy and the memory used
+     *
+     * @param expr The expression whose quantiles are estimated
+     * @param classes The number of classes of equal size the result is made of
+     * @param compression The digest compression, at least 10
+     */
+    public ApproximateQuantileVisitor(Expression expr, int classes, double compression) {
+        if (classes <= 0) {
+            throw new IllegalArgumentException("The number of classes must be positive, but was " + classes);
+        }
+        this.expr = expr;
+        this.classes = classes;
+        this.digest = new TDigest(compression);
+    }
+
+    public Expression getExpression() {
+        return expr;
+    }
+
+    @Override
+    public List<Expression> getExpressions() {
+        return Arrays.asList(expr);
+    }
+
+    @Override
+    public Optional<List<Class>> getResultType(List<Class> inputTypes) {
+        if (inputTypes == null || inputTypes.size() != 1)
+            throw new IllegalArgumentException("Expecting a single type in input, not " + inputTypes);
+        return Optional.of(Collections.singletonList(List.class));
+    }
+
+    @Override
+    public void visit(Feature feature) {
+        Object value = expr.evaluate(feature);
+        if (value == null) {
+            countNull++;
+            return;
+        }
+        double x;
+        if (value instanceof Number) {
+            x = ((Number) value).doubleValue();
+        } else if (value instanceof Date) {
+            x = ((Date) value).getTime();
+        } else {
+            throw new IllegalArgumentException("Quantiles can only be estimated on numbers or dates, not on " + value);
+        }
+        if (Double.isNaN(x) || Double.isInfinite(x)) {
+            countNaN++;
+            return;
+        }
+        digest.add(x);
+    }
+
+    /**
+     * Returns the estimated value at the given quantile
+     *
+     * @param q The quantile, between 0 and 1, e.g., 0.5 for the median
+     * @return the estimated value, or NaN if no value was visited
+     */
+    public double getQuantile(double q) {
+        return digest.quantile(q);
+    }
+
+    /** Returns the number of values summarized by the sketch */
+    public long getCount() {
+        return digest.getCount();
+    }
+
+    /** @return the number of features which returned a NaN */
+    public int getNaNCount() {
+        return countNaN;
+    }
+
+    /** @return the number of features which returned a null */
+    public int getNullCount() {
+        return countNull;
+    }
+
+    @Override
+    public MergeableFeatureCalc createPartial() {
+        if (getClass() != ApproximateQuantileVisitor.class) {
+            return null;
+        }
+        return new ApproximateQuantileVisitor(expr, classes, digest.getCompression());
+    }
+
+    @Override
+    public void merge(MergeableFeatureCalc partial) {
+        ApproximateQuantileVisitor other = (ApproximateQuantileVisitor) partial;
+        digest.merge(other.digest);
+        countNull += other.countNull;
+        countNaN += other.countNaN;
+    }
+
+    @Override
+    public CalcResult getResult() {
+        if (digest.getCount() == 0) {
+            return CalcResult.NULL_RESULT;
+        }
+        Double[] breaks = new Double[classes + 1];
+        breaks[0] = digest.getMin();
+        for (int i = 1; i < classes; i++) {
+            breaks[i] = digest.quantile((double) i / classes);
+        }
+        breaks[classes] = digest.getMax();
+        return new AbstractCalcResult() {
+            @Override
+            public Object getValue() {
+                return Arrays.asList(breaks);
+            }
+        };
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.geotools.api.feature.Feature;
+import org.geotools.api.filter.expression.Expression;
+
+/**
+ * Estimates the number of distinct non null values of an expression, using a HyperLogLog sketch. Unlike
+ * {@link UniqueCountVisitor} it does not keep the values, the memory used only depends on the precision: with the
+ * default one, 14, it uses 16KB and the relative standard error is about 0.8%.
+ *
+ * <p>Data stores with a native approximate distinct count can compute it directly, and set the result with
+ * {@link #setValue(Object)}.
+ *
+ * @since 33
+ */
+public class ApproximateUniqueCountVisitor implements MergeableFeatureCalc, FeatureAttributeVisitor {
+
+    private final Expression expr;
+
+    private final HyperLogLog sketch;
+
+    /** Result provided by an optimization, the sketch is not used in that case */
+    private Long count;
+
+    public ApproximateUniqueCountVisitor(Expression expr) {
+        this(expr, HyperLogLog.DEFAULT_PRECISION);
+    }
+
+    /**
+     * Builds a visitor with a sketch of <code>2^precision</code> registers
+     *
+     * @param expr The expression whose values are counted
+     * @param precision The sketch precision, between 4 and 18
+     */
+    public ApproximateUniqueCountVisitor(Expression expr, int precision) {
+        this.expr = expr;
+        this.sketch = new HyperLogLog(precision);
+    }
+
+    public Expression getExpression() {
+        return expr;
+    }
+
+    @Override
+    public List<Expression> getExpressions() {
+        return Arrays.asList(expr);
+    }
+
+    @Override
+    public Optional<List<Class>> getResultType(List<Class> inputTypes) {
+        if (inputTypes == null || inputTypes.size() != 1)
+            throw new IllegalArgumentException("Expecting a single type in input, not " + inputTypes);
+        return Optional.of(Arrays.asList(Long.class));
+    }
+
+    @Override
+    public void visit(Feature feature) {
+        Object value = expr.evaluate(feature);
+        if (value != null) {
+            sketch.add(value);
+        }
+    }
+
+    /** Returns the estimated number of distinct values */
+    public long getCount() {
+        return count != null ? count : sketch.estimate();
+    }
+
+    /**
+     * Overwrites the result stored by the visitor. This should only be used by optimizations which will tell the
+     * visitor the answer rather than visiting all features.
+     */
+    public void setValue(Object value) {
+        if (!(value instanceof Number)) {
+            throw new IllegalArgumentException("Result must be a Number, but was " + value);
+        }
+        this.count = ((Number) value).longValue();
+    }
+
+    /** Returns a partial visitor, or null if a result was stored, as the sketch cannot be merged with it */
+    @Override
+    public MergeableFeatureCalc createPartial() {
+        if (count != null || getClass() != ApproximateUniqueCountVisitor.class) {
+            return null;
+        }
+        return new ApproximateUniqueCountVisitor(expr, sketch.getPrecision());
+    }
+
+    @Override
+    public void merge(MergeableFeatureCalc partial) {
+        sketch.merge(((ApproximateUniqueCountVisitor) partial).sketch);
+    }
+
+    @Override
+    public CalcResult getResult() {
+        long result = getCount();
+        if (result == 0) {
+            return CalcResult.NULL_RESULT;
+        }
+        return new Result(result);
+    }
+
+    public static class Result extends AbstractCalcResult {
+        private final long count;
+
+        public Result(long count) {
+            this.count = count;
+        }
+
+        @Override
+        public Object getValue() {
+            return count;
+        }
+    }
+}
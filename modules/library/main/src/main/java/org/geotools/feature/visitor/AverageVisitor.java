@@ -36,7 +36,7 @@
  * @author Cory Horner, Refractions
  * @since 2.2.M2
  */
-public class AverageVisitor implements FeatureCalc, FeatureAttributeVisitor {
+public class AverageVisitor implements MergeableFeatureCalc, FeatureAttributeVisitor {
     private Expression expr;
 
     /**
@@ -156,6 +156,33 @@ public void reset() {
         isOptimized = false;
     }
 
+    /**
+     * Returns a partial average, or null if an optimized result was stored, as there is not enough information to merge
+     * it, or for subclasses
+     */
+    @Override
+    public MergeableFeatureCalc createPartial() {
+        if (isOptimized || getClass() != AverageVisitor.class) {
+            return null;
+        }
+        return new AverageVisitor(expr);
+    }
+
+    @Override
+    public void merge(MergeableFeatureCalc partial) {
+        AverageStrategy partialStrategy = ((AverageVisitor) partial).strategy;
+        if (partialStrategy == null) {
+            return;
+        }
+        // as in a serial visit, the type of the first value found picks the strategy
+        if (strategy == null) {
+            strategy = partialStrategy;
+        } else {
+            Number sum = CalcUtil.sum((Number) strategy.getSum(), (Number) partialStrategy.getSum());
+            strategy.set(strategy.getCount() + partialStrategy.getCount(), sum);
+        }
+    }
+
     /** Returns a CalcResult object (containing the Average) */
     @Override
     public CalcResult getResult() {
@@ -26,7 +26,7 @@
  * @author Cory Horner, Refractions
  * @since 2.2.M2
  */
-public class CountVisitor implements FeatureCalc {
+public class CountVisitor implements MergeableFeatureCalc {
     Integer count = null;
 
     public void init(SimpleFeatureCollection collection) {
@@ -60,6 +60,19 @@ public void reset() {
         this.count = null;
     }
 
+    @Override
+    public MergeableFeatureCalc createPartial() {
+        return getClass() == CountVisitor.class ? new CountVisitor() : null;
+    }
+
+    @Override
+    public void merge(MergeableFeatureCalc partial) {
+        Integer partialCount = ((CountVisitor) partial).count;
+        if (partialCount != null) {
+            count = count == null ? partialCount : count + partialCount;
+        }
+    }
+
     @Override
     public CalcResult getResult() {
         if (count == null) {
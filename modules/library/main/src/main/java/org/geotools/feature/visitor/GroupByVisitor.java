@@ -34,7 +34,7 @@
 import org.locationtech.jts.geom.Point;
 
 /** Group features by one or several attributes and applies an aggregator visitor to each group. */
-public class GroupByVisitor implements FeatureCalc, FeatureAttributeVisitor {
+public class GroupByVisitor implements MergeableFeatureCalc, FeatureAttributeVisitor {
 
     private final Aggregate aggregate;
     private final Expression expression;
@@ -104,6 +104,31 @@ public List<Expression> getGroupByAttributes() {
         return groupByAttributes;
     }
 
+    /** Returns a partial group by, or null if the aggregate visitor cannot be merged */
+    @Override
+    public MergeableFeatureCalc createPartial() {
+        if (getClass() != GroupByVisitor.class
+                || !(visitorProtoType instanceof MergeableFeatureCalc)
+                || ((MergeableFeatureCalc) visitorProtoType).createPartial() == null) {
+            return null;
+        }
+        return new GroupByVisitor(aggregate, expression, groupByAttributes, null);
+    }
+
+    @Override
+    public void merge(MergeableFeatureCalc partial) {
+        Map<List<Object>, FeatureCalc> groups = inMemoryGroupBy.groupByIndexes;
+        for (Map.Entry<List<Object>, FeatureCalc> entry :
+                ((GroupByVisitor) partial).inMemoryGroupBy.groupByIndexes.entrySet()) {
+            FeatureCalc calc = groups.get(entry.getKey());
+            if (calc == null) {
+                groups.put(entry.getKey(), entry.getValue());
+            } else {
+                ((MergeableFeatureCalc) calc).merge((MergeableFeatureCalc) entry.getValue());
+            }
+        }
+    }
+
     /**
      * Methods that allow optimizations to directly set the group by visitor result instead of computing it visiting all
      * the features. Aggregate visitor results are wrapped with the appropriate feature calculation type.
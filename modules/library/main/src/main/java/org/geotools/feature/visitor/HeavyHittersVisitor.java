@@ -0,0 +1,184 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.geotools.api.feature.Feature;
+import org.geotools.api.filter.expression.Expression;
+
+/**
+ * Finds the most frequent values of an expression with the Misra-Gries algorithm, keeping at most
+ * <code>capacity</code> counters whatever the number of distinct values. Every value occurring more than
+ * <code>count / (capacity + 1)</code> times is guaranteed to be found, and the counts are underestimated by at most
+ * {@link #getMaxError()}.
+ *
+ * <p>The result is a map from the values found to their estimated counts, sorted by decreasing count.
+ *
+ * @since 33
+ */
+public class HeavyHittersVisitor implements MergeableFeatureCalc, FeatureAttributeVisitor {
+
+    private final Expression expr;
+
+    private final int capacity;
+
+    private Map<Object, long[]> counters = new HashMap<>();
+
+    private long count;
+
+    /** The total amount subtracted from each counter, bounds the count underestimation */
+    private long decrements;
+
+    /**
+     * Builds a new visitor
+     *
+     * @param expr The expression whose most frequent values are searched
+     * @param capacity The maximum number of values tracked at the same time
+     */
+    public HeavyHittersVisitor(Expression expr, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive, but was " + capacity);
+        }
+        this.expr = expr;
+        this.capacity = capacity;
+    }
+
+    public Expression getExpression() {
+        return expr;
+    }
+
+    @Override
+    public List<Expression> getExpressions() {
+        return Arrays.asList(expr);
+    }
+
+    @Override
+    public Optional<List<Class>> getResultType(List<Class> inputTypes) {
+        if (inputTypes == null || inputTypes.size() != 1)
+            throw new IllegalArgumentException("Expecting a single type in input, not " + inputTypes);
+        return Optional.of(Collections.singletonList(Map.class));
+    }
+
+    @Override
+    public void visit(Feature feature) {
+        Object value = expr.evaluate(feature);
+        if (value == null) {
+            return;
+        }
+        count++;
+        long[] counter = counters.get(value);
+        if (counter != null) {
+            counter[0]++;
+        } else if (counters.size() < capacity) {
+            counters.put(value, new long[] {1});
+        } else {
+            // no room, the new value and one occurrence of every tracked value cancel out
+            decrements++;
+            for (Iterator<long[]> it = counters.values().iterator(); it.hasNext(); ) {
+                if (--it.next()[0] == 0) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    /** Returns the number of non null values visited */
+    public long getCount() {
+        return count;
+    }
+
+    /** Returns the maximum difference between the estimated and the actual counts */
+    public long getMaxError() {
+        return decrements;
+    }
+
+    /** Returns the values found, and their estimated counts, sorted by decreasing count */
+    public Map<Object, Long> getHeavyHitters() {
+        List<Map.Entry<Object, long[]>> entries = new ArrayList<>(counters.entrySet());
+        entries.sort((e1, e2) -> Long.compare(e2.getValue()[0], e1.getValue()[0]));
+        Map<Object, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<Object, long[]> entry : entries) {
+            result.put(entry.getKey(), entry.getValue()[0]);
+        }
+        return result;
+    }
+
+    @Override
+    public MergeableFeatureCalc createPartial() {
+        return getClass() == HeavyHittersVisitor.class ? new HeavyHittersVisitor(expr, capacity) : null;
+    }
+
+    /** Sums the counters, then subtracts the count of the (capacity + 1)th one from all, to keep at most capacity */
+    @Override
+    public void merge(MergeableFeatureCalc partial) {
+        HeavyHittersVisitor other = (HeavyHittersVisitor) partial;
+        count += other.count;
+        decrements += other.decrements;
+        for (Map.Entry<Object, long[]> entry : other.counters.entrySet()) {
+            long[] counter = counters.get(entry.getKey());
+            if (counter != null) {
+                counter[0] += entry.getValue()[0];
+            } else {
+                counters.put(entry.getKey(), new long[] {entry.getValue()[0]});
+            }
+        }
+        if (counters.size() > capacity) {
+            long[] counts = new long[counters.size()];
+            int i = 0;
+            for (long[] counter : counters.values()) {
+                counts[i++] = counter[0];
+            }
+            Arrays.sort(counts);
+            long threshold = counts[counts.length - capacity - 1];
+            decrements += threshold;
+            for (Iterator<long[]> it = counters.values().iterator(); it.hasNext(); ) {
+                long[] counter = it.next();
+                counter[0] -= threshold;
+                if (counter[0] <= 0) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    @Override
+    public CalcResult getResult() {
+        if (counters.isEmpty()) {
+            return CalcResult.NULL_RESULT;
+        }
+        Map<Object, Long> result = getHeavyHitters();
+        return new AbstractCalcResult() {
+            @Override
+            public Object getValue() {
+                return result;
+            }
+
+            @Override
+            public Map toMap() {
+                return result;
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import java.util.Date;
+
+/**
+ * A HyperLogLog sketch estimating the number of distinct values added to it, using <code>2^precision</code> one byte
+ * registers. The relative standard error is about <code>1.04 / sqrt(2^precision)</code>, e.g., 0.8% with the default
+ * precision of 14, using 16KB of memory regardless of the number of values.
+ */
+final class HyperLogLog {
+
+    static final int DEFAULT_PRECISION = 14;
+
+    static final int MIN_PRECISION = 4;
+
+    static final int MAX_PRECISION = 18;
+
+    private final int precision;
+
+    private final byte[] registers;
+
+    HyperLogLog(int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(
+                    "Precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION + ", but was " + precision);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    int getPrecision() {
+        return precision;
+    }
+
+    void add(Object value) {
+        long hash = hash(value);
+        int index = (int) (hash >>> (64 - precision));
+        // position of the first one bit in the remaining bits, the sentinel bit caps it
+        int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    void merge(HyperLogLog other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException(
+                    "Cannot merge sketches with different precisions: " + precision + " and " + other.precision);
+        }
+        for (int i = 0; i < registers.length; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += Double.longBitsToDouble((1023L - register) << 52);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double alpha = 0.7213 / (1 + 1.079 / m);
+        double estimate = alpha * m * m / sum;
+        // small cardinalities are better estimated by linear counting, a 64 bits hash needs no large range correction
+        if (estimate <= 2.5 * m && zeros > 0) {
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * A 64 bits hash of the value. Numbers are hashed by value, so that the same number is counted once regardless of
+     * its class, strings are hashed on all their characters, as 32 bits hash codes would collide too often on large
+     * data sets.
+     */
+    static long hash(Object value) {
+        long bits;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            long l = ((Number) value).longValue();
+            // same hash as the equivalent floating point number, when there is one
+            bits = (long) (double) l == l ? Double.doubleToLongBits(l) : l;
+        } else if (value instanceof Double || value instanceof Float) {
+            bits = Double.doubleToLongBits(((Number) value).doubleValue());
+        } else if (value instanceof CharSequence) {
+            CharSequence cs = (CharSequence) value;
+            // FNV-1a
+            bits = 0xcbf29ce484222325L;
+            for (int i = 0; i < cs.length(); i++) {
+                bits ^= cs.charAt(i);
+                bits *= 0x100000001b3L;
+            }
+        } else if (value instanceof Date) {
+            bits = ((Date) value).getTime();
+        } else {
+            bits = value.hashCode();
+        }
+        return mix(bits);
+    }
+
+    /** The MurmurHash3 finalizer, spreads the bits of the key over the whole hash */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
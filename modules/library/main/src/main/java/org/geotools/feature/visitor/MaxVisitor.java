@@ -33,7 +33,7 @@
  * @author Cory Horner, Refractions Research Inc.
  * @since 2.2.M2
  */
-public class MaxVisitor implements FeatureCalc, FeatureAttributeVisitor {
+public class MaxVisitor implements MergeableFeatureCalc, FeatureAttributeVisitor {
     private Expression expr;
     Comparable maxvalue;
     boolean visited = false;
@@ -148,6 +148,23 @@ public void reset() {
         this.countNull = 0;
     }
 
+    @Override
+    public MergeableFeatureCalc createPartial() {
+        return getClass() == MaxVisitor.class ? new MaxVisitor(expr) : null;
+    }
+
+    @Override
+    public void merge(MergeableFeatureCalc partial) {
+        MaxVisitor other = (MaxVisitor) partial;
+        countNull += other.countNull;
+        countNaN += other.countNaN;
+        // same comparison as visit, so that ties keep the first value found, as in a serial visit
+        if (other.visited && (!visited || compare(other.maxvalue))) {
+            maxvalue = other.maxvalue;
+            visited = true;
+        }
+    }
+
     public Expression getExpression() {
         return expr;
     }
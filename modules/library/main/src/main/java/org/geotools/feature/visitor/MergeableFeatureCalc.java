@@ -0,0 +1,46 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+/**
+ * A {@link FeatureCalc} whose calculation can be split: each part of a collection is visited by its own partial
+ * calculation, possibly in a separate thread, and the partials are then merged back into the original visitor.
+ *
+ * <p>Visitors are still single threaded: a partial is only ever visited by one thread, and merging happens after all
+ * the partials are done. Partials are merged in the order of the parts they visited, so that order sensitive
+ * calculations (e.g., unique values with paging or preserved order) return the same result as a serial visit.
+ *
+ * @see ParallelAggregator
+ * @since 33
+ */
+public interface MergeableFeatureCalc extends FeatureCalc {
+
+    /**
+     * Creates a new, empty calculation with the same configuration as this one, to be used on a part of the
+     * collection.
+     *
+     * @return the partial calculation, or null if the current configuration cannot be split
+     */
+    MergeableFeatureCalc createPartial();
+
+    /**
+     * Merges the state of a partial calculation, created by {@link #createPartial()} on this visitor, into this one.
+     *
+     * @param partial the partial calculation to merge
+     */
+    void merge(MergeableFeatureCalc partial);
+}
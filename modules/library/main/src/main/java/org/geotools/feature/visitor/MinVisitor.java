@@ -33,7 +33,7 @@
  * @author Cory Horner, Refractions
  * @since 2.2.M2
  */
-public class MinVisitor implements FeatureCalc, FeatureAttributeVisitor {
+public class MinVisitor implements MergeableFeatureCalc, FeatureAttributeVisitor {
     private Expression expr;
     Comparable minvalue;
     boolean visited = false;
@@ -123,6 +123,21 @@ public void reset() {
         this.minvalue = null;
     }
 
+    @Override
+    public MergeableFeatureCalc createPartial() {
+        return getClass() == MinVisitor.class ? new MinVisitor(expr) : null;
+    }
+
+    @Override
+    public void merge(MergeableFeatureCalc partial) {
+        MinVisitor other = (MinVisitor) partial;
+        // same comparison as visit, so that ties keep the first value found, as in a serial visit
+        if (other.visited && (!visited || compare(other.minvalue))) {
+            minvalue = other.minvalue;
+            visited = true;
+        }
+    }
+
     @Override
     public CalcResult getResult() {
         if (!visited) {
@@ -0,0 +1,109 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.geotools.api.feature.FeatureVisitor;
+
+/**
+ * Runs a {@link MergeableFeatureCalc} over a collection split in parts: each part is visited by a partial calculation
+ * in a fork-join pool, and the partials are merged back into the visitor in part order. Used by the data stores whose
+ * content can be split, e.g. in ranges of records, to compute aggregates on all cores.
+ *
+ * @since 33
+ */
+public final class ParallelAggregator {
+
+    /** Feeds the features of a part of the collection to a visitor */
+    @FunctionalInterface
+    public interface PartVisitor {
+
+        /**
+         * Visits all the features of a part, called from the pool threads
+         *
+         * @param part The part number, between zero (inclusive) and the number of parts (exclusive)
+         * @param visitor The partial calculation to feed
+         */
+        void visit(int part, FeatureVisitor visitor) throws IOException;
+    }
+
+    private ParallelAggregator() {}
+
+    /**
+     * Visits the parts in parallel and merges the results into the visitor.
+     *
+     * @param visitor The visitor to run
+     * @param parts The number of parts
+     * @param partVisitor Feeds the features of each part to its partial calculation
+     * @param pool The pool running the partial calculations
+     * @return true if the visitor has been run, false if it cannot be split, in which case nothing has been visited
+     */
+    public static boolean accepts(FeatureVisitor visitor, int parts, PartVisitor partVisitor, ForkJoinPool pool)
+            throws IOException {
+        if (!(visitor instanceof MergeableFeatureCalc)) {
+            return false;
+        }
+        MergeableFeatureCalc calc = (MergeableFeatureCalc) visitor;
+        List<MergeableFeatureCalc> partials = new ArrayList<>(parts);
+        for (int i = 0; i < parts; i++) {
+            MergeableFeatureCalc partial = calc.createPartial();
+            if (partial == null) {
+                return false;
+            }
+            partials.add(partial);
+        }
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(parts);
+        for (int i = 0; i < parts; i++) {
+            final int part = i;
+            final MergeableFeatureCalc partial = partials.get(i);
+            tasks.add(pool.submit(() -> {
+                partVisitor.visit(part, partial);
+                return null;
+            }));
+        }
+        try {
+            for (ForkJoinTask<?> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the partial aggregates", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Failed to compute a partial aggregate", cause);
+        } finally {
+            // on failure, the queued parts won't start
+            for (ForkJoinTask<?> task : tasks) {
+                task.cancel(false);
+            }
+        }
+
+        for (MergeableFeatureCalc partial : partials) {
+            calc.merge(partial);
+        }
+        return true;
+    }
+}
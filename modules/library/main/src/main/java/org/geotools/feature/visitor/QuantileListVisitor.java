@@ -30,7 +30,7 @@
  *
  * @author Cory Horner, Refractions Research Inc.
  */
-public class QuantileListVisitor implements FeatureCalc {
+public class QuantileListVisitor implements MergeableFeatureCalc {
     private Expression expr;
     private int count = 0;
     private int bins;
@@ -127,6 +127,20 @@ public void reset(int bins) {
         this.countNaN = 0;
     }
 
+    @Override
+    public MergeableFeatureCalc createPartial() {
+        return getClass() == QuantileListVisitor.class ? new QuantileListVisitor(expr, bins) : null;
+    }
+
+    @Override
+    public void merge(MergeableFeatureCalc partial) {
+        QuantileListVisitor other = (QuantileListVisitor) partial;
+        count += other.count;
+        countNull += other.countNull;
+        countNaN += other.countNaN;
+        items.addAll(other.items);
+    }
+
     /** @return the number of features which returned a NaN */
     public int getNaNCount() {
         return countNaN;
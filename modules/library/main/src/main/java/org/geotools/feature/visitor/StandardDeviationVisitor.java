@@ -37,12 +37,13 @@
  * aka std dev = sqrt((sum((x-mean)^2))/N) where N is the number of samples.
  *
  * <p>It uses the rolling variance algorithm described here:
- * http://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#On-line_algorithm
+ * http://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#On-line_algorithm, partial results being combined
+ * with the parallel variant of the same algorithm.
  *
  * @author Cory Horner, Refractions Research Inc.
  * @author Andrea Aime, GeoSolutions
  */
-public class StandardDeviationVisitor implements FeatureCalc, FeatureAttributeVisitor {
+public class StandardDeviationVisitor implements MergeableFeatureCalc, FeatureAttributeVisitor {
     public static class Result extends AbstractCalcResult {
         final Double deviation;
 
@@ -152,6 +153,30 @@ public void reset() {
         this.mean = 0;
     }
 
+    /** Returns a partial visitor, or null if a result was stored, as there is not enough information to merge it */
+    @Override
+    public MergeableFeatureCalc createPartial() {
+        if (result != null || getClass() != StandardDeviationVisitor.class) {
+            return null;
+        }
+        return new StandardDeviationVisitor(expr);
+    }
+
+    @Override
+    public void merge(MergeableFeatureCalc partial) {
+        StandardDeviationVisitor other = (StandardDeviationVisitor) partial;
+        countNull += other.countNull;
+        countNaN += other.countNaN;
+        if (other.count == 0) {
+            return;
+        }
+        int total = count + other.count;
+        double delta = other.mean - mean;
+        mean = mean + delta * other.count / total;
+        m2 = m2 + other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+    }
+
     /** mean value generated when calcualting standard deviation */
     public double getMean() {
         return mean;
@@ -37,7 +37,7 @@
  * @author Cory Horner, Refractions
  * @since 2.2.M2
  */
-public class SumVisitor implements FeatureCalc, FeatureAttributeVisitor {
+public class SumVisitor implements MergeableFeatureCalc, FeatureAttributeVisitor {
     private Expression expr;
 
     SumStrategy strategy;
@@ -141,6 +141,26 @@ public void reset() {
         strategy = null;
     }
 
+    /** Returns a partial sum, or null for subclasses, which might carry state or strategies this class ignores */
+    @Override
+    public MergeableFeatureCalc createPartial() {
+        return getClass() == SumVisitor.class ? new SumVisitor(expr) : null;
+    }
+
+    @Override
+    public void merge(MergeableFeatureCalc partial) {
+        SumStrategy partialStrategy = ((SumVisitor) partial).strategy;
+        if (partialStrategy == null) {
+            return;
+        }
+        // as in a serial visit, the type of the first value found picks the strategy
+        if (strategy == null) {
+            strategy = partialStrategy;
+        } else {
+            strategy.add(partialStrategy.getResult());
+        }
+    }
+
     @Override
     public CalcResult getResult() {
         if (strategy == null) {
@@ -0,0 +1,240 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import java.util.Arrays;
+
+/**
+ * A merging t-digest, estimating the quantiles of the values added to it. Values are summarized by weighted
+ * centroids, small ones near the tails and larger ones in the middle of the distribution, so that extreme quantiles
+ * stay accurate. New values are buffered and merged with the centroids in a single sorted pass when the buffer is
+ * full. The memory used is proportional to the compression, not to the number of values.
+ *
+ * <p>See Dunning and Ertl, "Computing Extremely Accurate Quantiles Using t-Digests".
+ */
+final class TDigest {
+
+    static final double DEFAULT_COMPRESSION = 100;
+
+    private final double compression;
+
+    private double[] means = new double[0];
+
+    private double[] weights = new double[0];
+
+    private int centroids;
+
+    private final double[] bufferMeans;
+
+    private final double[] bufferWeights;
+
+    private int buffered;
+
+    private double totalWeight;
+
+    private double min = Double.POSITIVE_INFINITY;
+
+    private double max = Double.NEGATIVE_INFINITY;
+
+    TDigest(double compression) {
+        if (!(compression >= 10)) {
+            throw new IllegalArgumentException("Compression must be at least 10, but was " + compression);
+        }
+        this.compression = compression;
+        int bufferSize = (int) Math.ceil(5 * compression);
+        this.bufferMeans = new double[bufferSize];
+        this.bufferWeights = new double[bufferSize];
+    }
+
+    double getCompression() {
+        return compression;
+    }
+
+    long getCount() {
+        return Math.round(totalWeight);
+    }
+
+    double getMin() {
+        return min;
+    }
+
+    double getMax() {
+        return max;
+    }
+
+    void add(double value) {
+        add(value, 1);
+    }
+
+    private void add(double value, double weight) {
+        if (buffered == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[buffered] = value;
+        bufferWeights[buffered] = weight;
+        buffered++;
+        totalWeight += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    void merge(TDigest other) {
+        for (int i = 0; i < other.centroids; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        for (int i = 0; i < other.buffered; i++) {
+            add(other.bufferMeans[i], other.bufferWeights[i]);
+        }
+        // the centroid means are not the actual extremes
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /** Merges the buffer into the centroids */
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        sort(bufferMeans, bufferWeights, 0, buffered - 1);
+
+        int capacity = centroids + buffered;
+        double[] newMeans = new double[capacity];
+        double[] newWeights = new double[capacity];
+        int count = 0;
+        double weightSoFar = 0;
+        int i = 0;
+        int j = 0;
+        while (i < centroids || j < buffered) {
+            double mean;
+            double weight;
+            if (j == buffered || (i < centroids && means[i] <= bufferMeans[j])) {
+                mean = means[i];
+                weight = weights[i++];
+            } else {
+                mean = bufferMeans[j];
+                weight = bufferWeights[j++];
+            }
+            if (count > 0) {
+                double current = newWeights[count - 1];
+                double proposed = current + weight;
+                double q0 = weightSoFar / totalWeight;
+                double q2 = (weightSoFar + proposed) / totalWeight;
+                if (scale(q2) - scale(q0) <= 1) {
+                    newMeans[count - 1] += (mean - newMeans[count - 1]) * weight / proposed;
+                    newWeights[count - 1] = proposed;
+                    continue;
+                }
+                weightSoFar += current;
+            }
+            newMeans[count] = mean;
+            newWeights[count] = weight;
+            count++;
+        }
+        means = Arrays.copyOf(newMeans, count);
+        weights = Arrays.copyOf(newWeights, count);
+        centroids = count;
+        buffered = 0;
+    }
+
+    /**
+     * The k1 scale function: a centroid can only span a unit of it, which keeps centroids small near the tails and
+     * bounds their number to the compression.
+     */
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, q) - 1);
+    }
+
+    /** Returns the estimated value at the given quantile, between 0 and 1, or NaN if no value has been added */
+    double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1, but was " + q);
+        }
+        compress();
+        if (centroids == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1) {
+            return means[0];
+        }
+        double index = q * totalWeight;
+        // the first and last half centroids interpolate with the actual min and max
+        if (index < weights[0] / 2) {
+            return min + (means[0] - min) * index / (weights[0] / 2);
+        }
+        double lastHalf = weights[centroids - 1] / 2;
+        if (index > totalWeight - lastHalf) {
+            return max - (max - means[centroids - 1]) * (totalWeight - index) / lastHalf;
+        }
+        // otherwise interpolate between the centers of the two centroids surrounding the index
+        double center = weights[0] / 2;
+        for (int i = 0; i < centroids - 1; i++) {
+            double distance = (weights[i] + weights[i + 1]) / 2;
+            if (index <= center + distance) {
+                double value = means[i] + (means[i + 1] - means[i]) * (index - center) / distance;
+                return Math.max(min, Math.min(max, value));
+            }
+            center += distance;
+        }
+        return means[centroids - 1];
+    }
+
+    /** Sorts the means, and the weights along with them, between two indexes (inclusive) */
+    private static void sort(double[] keys, double[] values, int from, int to) {
+        while (from < to) {
+            if (to - from < 16) {
+                for (int i = from + 1; i <= to; i++) {
+                    double key = keys[i];
+                    double value = values[i];
+                    int j = i - 1;
+                    while (j >= from && keys[j] > key) {
+                        keys[j + 1] = keys[j];
+                        values[j + 1] = values[j];
+                        j--;
+                    }
+                    keys[j + 1] = key;
+                    values[j + 1] = value;
+                }
+                return;
+            }
+            double pivot = keys[(from + to) >>> 1];
+            int i = from;
+            int j = to;
+            while (i <= j) {
+                while (keys[i] < pivot) i++;
+                while (keys[j] > pivot) j--;
+                if (i <= j) {
+                    double k = keys[i];
+                    keys[i] = keys[j];
+                    keys[j] = k;
+                    double v = values[i];
+                    values[i] = values[j];
+                    values[j] = v;
+                    i++;
+                    j--;
+                }
+            }
+            // recurse on the smaller half, loop on the larger one
+            if (j - from < to - i) {
+                sort(keys, values, from, j);
+                from = i;
+            } else {
+                sort(keys, values, i, to);
+                to = j;
+            }
+        }
+    }
+}
@@ -42,7 +42,7 @@
  * @author Cory Horner, Refractions
  * @since 2.2.M2
  */
-public class UniqueVisitor implements FeatureCalc, FeatureAttributeVisitor, LimitingVisitor {
+public class UniqueVisitor implements MergeableFeatureCalc, FeatureAttributeVisitor, LimitingVisitor {
     private List<Expression> expressions = new LinkedList<>();
     Set<Object> set = new HashSet<>();
     Set<Object> skipped = new HashSet<>();
@@ -142,14 +142,7 @@ private void visitWithSingleAttribute(Feature feature) {
         Object value = expr.evaluate(feature);
 
         if (value != null) {
-            if (!set.contains(value) && !skipped.contains(value)) {
-                if (currentItem >= startIndex && currentItem < (startIndex + maxFeatures)) {
-                    set.add(value);
-                } else {
-                    skipped.add(value);
-                }
-                currentItem++;
-            }
+            add(value);
         }
     }
 
@@ -162,11 +155,16 @@ private void visitWithMultiAttributes(Feature feature) {
         if (skipped == null) {
             skipped = new LinkedHashSet<>();
         }
-        if (!set.contains(uniqueVal) && !skipped.contains(uniqueVal)) {
+        add(uniqueVal);
+    }
+
+    /** Adds a value, if not found before, applying the paging limits */
+    private void add(Object value) {
+        if (!set.contains(value) && !skipped.contains(value)) {
             if (currentItem >= startIndex && currentItem < (startIndex + maxFeatures)) {
-                set.add(uniqueVal);
+                set.add(value);
             } else {
-                skipped.add(uniqueVal);
+                skipped.add(value);
             }
             currentItem++;
         }
@@ -213,6 +211,27 @@ public void reset() {
         currentItem = 0;
     }
 
+    /**
+     * Returns a partial visitor collecting the unique values of a part, without limits and in encounter order. The
+     * limits and ordering of this visitor are applied when merging, which returns the same values as a serial visit.
+     */
+    @Override
+    public MergeableFeatureCalc createPartial() {
+        if (getClass() != UniqueVisitor.class) {
+            return null;
+        }
+        UniqueVisitor partial = new UniqueVisitor(expressions.toArray(new Expression[expressions.size()]));
+        partial.setPreserveOrder(true);
+        return partial;
+    }
+
+    @Override
+    public void merge(MergeableFeatureCalc partial) {
+        for (Object value : ((UniqueVisitor) partial).set) {
+            add(value);
+        }
+    }
+
     @Override
     public CalcResult getResult() {
         if (set.isEmpty()) return CalcResult.NULL_RESULT;
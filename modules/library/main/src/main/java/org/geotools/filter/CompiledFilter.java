@@ -0,0 +1,125 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterVisitor;
+
+/**
+ * A {@link Filter} specialized for the features of a given {@link SimpleFeatureType}, built by
+ * {@link FilterCompiler#compile(Filter, SimpleFeatureType)}. It evaluates to the same results as the original filter,
+ * but reads the attributes by index, and compares them to literals evaluated once.
+ *
+ * <p>Besides the usual one feature at a time {@link #evaluate(Object)}, the
+ * {@link #select(SimpleFeature[], int[], int)} method evaluates a batch of features, running each part of the filter
+ * only on the features that can still match.
+ *
+ * <p>Features whose type is not the one the filter has been compiled for are evaluated with the original filter.
+ * Visitors are applied to the original filter.
+ */
+public final class CompiledFilter implements Filter {
+
+    final Filter filter;
+
+    final SimpleFeatureType schema;
+
+    final FilterCompiler.Node root;
+
+    /**
+     * The last feature type found to be compatible with the compiled one (ContentFeatureSource and friends return
+     * features whose type is equal, but not the same, as the one advertised by the reader). Races are harmless, the
+     * worst case is a repeated equality check.
+     */
+    private SimpleFeatureType compatible;
+
+    CompiledFilter(Filter filter, SimpleFeatureType schema, FilterCompiler.Node root) {
+        this.filter = filter;
+        this.schema = schema;
+        this.root = root;
+        this.compatible = schema;
+    }
+
+    /** The filter this one has been compiled from */
+    public Filter getFilter() {
+        return filter;
+    }
+
+    /** The feature type this filter has been compiled for */
+    public SimpleFeatureType getFeatureType() {
+        return schema;
+    }
+
+    @Override
+    public boolean evaluate(Object object) {
+        if (object instanceof SimpleFeature) {
+            SimpleFeature feature = (SimpleFeature) object;
+            if (isCompatible(feature.getFeatureType())) {
+                return root.evaluate(feature);
+            }
+        }
+        return filter.evaluate(object);
+    }
+
+    /**
+     * Evaluates the filter against a batch of features. The <code>selection</code> array contains the positions of the
+     * features to be evaluated, in increasing order, and on return its first positions contain those of the features
+     * matching the filter, in the same order.
+     *
+     * @param features The features
+     * @param selection The positions of the features to evaluate, compacted to the matching ones on return
+     * @param count The number of positions in the selection
+     * @return The number of matching features
+     */
+    public int select(SimpleFeature[] features, int[] selection, int count) {
+        for (int i = 0; i < count; i++) {
+            if (!isCompatible(features[selection[i]].getFeatureType())) {
+                // mixed types, rare enough to go one by one
+                int matches = 0;
+                for (int j = 0; j < count; j++) {
+                    if (evaluate(features[selection[j]])) {
+                        selection[matches++] = selection[j];
+                    }
+                }
+                return matches;
+            }
+        }
+        return root.select(features, selection, count);
+    }
+
+    private boolean isCompatible(SimpleFeatureType type) {
+        if (type == schema || type == compatible) {
+            return true;
+        }
+        if (schema.equals(type)) {
+            compatible = type;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Object accept(FilterVisitor visitor, Object extraData) {
+        return filter.accept(visitor, extraData);
+    }
+
+    @Override
+    public String toString() {
+        return filter.toString();
+    }
+}
@@ -0,0 +1,706 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter;
+
+import java.util.Collection;
+import java.util.List;
+import org.geotools.api.feature.Attribute;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.feature.type.AttributeDescriptor;
+import org.geotools.api.filter.And;
+import org.geotools.api.filter.ExcludeFilter;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.IncludeFilter;
+import org.geotools.api.filter.Not;
+import org.geotools.api.filter.Or;
+import org.geotools.api.filter.PropertyIsEqualTo;
+import org.geotools.api.filter.PropertyIsGreaterThan;
+import org.geotools.api.filter.PropertyIsGreaterThanOrEqualTo;
+import org.geotools.api.filter.PropertyIsLessThan;
+import org.geotools.api.filter.PropertyIsLessThanOrEqualTo;
+import org.geotools.api.filter.PropertyIsNotEqualTo;
+import org.geotools.api.filter.PropertyIsNull;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.api.filter.expression.ExpressionVisitor;
+import org.geotools.api.filter.expression.Literal;
+import org.geotools.api.filter.expression.PropertyName;
+import org.geotools.filter.visitor.DuplicatingFilterVisitor;
+import org.geotools.util.Converters;
+import org.geotools.util.factory.Hints;
+import org.locationtech.jts.geom.Geometry;
+import org.xml.sax.helpers.NamespaceSupport;
+
+/**
+ * Compiles a {@link Filter} into a {@link CompiledFilter} specialized for the features of a {@link SimpleFeatureType}:
+ *
+ * <ul>
+ *   <li>property names are resolved to attribute indexes
+ *   <li>literals are evaluated once, and converted to the type of the attribute they are compared to, when the
+ *       comparison would have done the same
+ *   <li>comparisons between an attribute and a literal of the same type skip the generic conversion logic
+ *   <li>spatial filters against a literal geometry read the geometry by index and reuse the filter prepared geometry
+ * </ul>
+ *
+ * <p>The parts of the filter that cannot be specialized are evaluated by a copy of the original filter reading the
+ * attributes by index. Multi valued attributes are always handed over to the original filter, so that the match action
+ * is honored.
+ */
+public final class FilterCompiler {
+
+    static final Hints SAFE_CONVERSION_HINTS = IsEqualsToImpl.SAFE_CONVERSION_HINTS;
+
+    private FilterCompiler() {}
+
+    /**
+     * Compiles the filter for the given feature type
+     *
+     * @param filter The filter to compile
+     * @param schema The type of the features the filter will be evaluated against
+     * @return A filter evaluating to the same results as the original one
+     */
+    public static CompiledFilter compile(Filter filter, SimpleFeatureType schema) {
+        if (filter instanceof CompiledFilter && ((CompiledFilter) filter).schema == schema) {
+            return (CompiledFilter) filter;
+        }
+        Filter source = filter instanceof CompiledFilter ? ((CompiledFilter) filter).filter : filter;
+        return new CompiledFilter(source, schema, new FilterCompiler.Builder(schema).build(source));
+    }
+
+    /** Builds the evaluation tree for a filter */
+    static class Builder {
+
+        final SimpleFeatureType schema;
+
+        final IndexingVisitor indexer;
+
+        Builder(SimpleFeatureType schema) {
+            this.schema = schema;
+            this.indexer = new IndexingVisitor(schema);
+        }
+
+        Node build(Filter filter) {
+            if (filter instanceof IncludeFilter) {
+                return new Constant(true);
+            } else if (filter instanceof ExcludeFilter) {
+                return new Constant(false);
+            } else if (filter instanceof And) {
+                return new AndNode(build(((And) filter).getChildren()));
+            } else if (filter instanceof Or) {
+                return new OrNode(build(((Or) filter).getChildren()));
+            } else if (filter instanceof Not) {
+                return new NotNode(build(((Not) filter).getFilter()));
+            } else if (filter instanceof IsNullImpl) {
+                int index = indexOf(((PropertyIsNull) filter).getExpression());
+                if (index >= 0) {
+                    return new NullNode(filter, index);
+                }
+            } else if (filter instanceof MultiCompareFilterImpl) {
+                Node node = buildComparison((MultiCompareFilterImpl) filter);
+                if (node != null) {
+                    return node;
+                }
+            } else if (filter instanceof GeometryFilterImpl) {
+                Node node = buildSpatial((GeometryFilterImpl) filter);
+                if (node != null) {
+                    return node;
+                }
+            }
+            return new Generic((Filter) filter.accept(indexer, null));
+        }
+
+        Node[] build(List<Filter> filters) {
+            Node[] result = new Node[filters.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = build(filters.get(i));
+            }
+            return result;
+        }
+
+        int indexOf(Expression expression) {
+            if (expression instanceof PropertyName) {
+                return schema.indexOf(((PropertyName) expression).getPropertyName());
+            }
+            return -1;
+        }
+
+        Node buildComparison(MultiCompareFilterImpl filter) {
+            Expression e1 = filter.getExpression1();
+            Expression e2 = filter.getExpression2();
+            boolean attributeFirst;
+            int index;
+            Object literal;
+            if (e2 instanceof Literal && (index = indexOf(e1)) >= 0) {
+                attributeFirst = true;
+                literal = e2.evaluate(null);
+            } else if (e1 instanceof Literal && (index = indexOf(e2)) >= 0) {
+                attributeFirst = false;
+                literal = e1.evaluate(null);
+            } else {
+                return null;
+            }
+            if (literal == null || isMultiValued(literal) || literal instanceof Attribute) {
+                return null;
+            }
+
+            Class<?> binding = schema.getDescriptor(index).getType().getBinding();
+            if (filter instanceof PropertyIsEqualTo || filter instanceof PropertyIsNotEqualTo) {
+                // same conversion IsEqualsToImpl tries for literals, a match is final
+                Object converted = literal.getClass() == binding ? literal : Converters.convert(literal, binding);
+                if (converted != null && converted.getClass() != binding) {
+                    converted = null;
+                }
+                boolean equal = filter instanceof PropertyIsEqualTo;
+                return new EqualsNode(filter, index, literal, converted, attributeFirst, equal);
+            }
+
+            int operator;
+            if (filter instanceof PropertyIsLessThan) {
+                operator = LESS_THAN;
+            } else if (filter instanceof PropertyIsLessThanOrEqualTo) {
+                operator = LESS_THAN_OR_EQUAL;
+            } else if (filter instanceof PropertyIsGreaterThan) {
+                operator = GREATER_THAN;
+            } else if (filter instanceof PropertyIsGreaterThanOrEqualTo) {
+                operator = GREATER_THAN_OR_EQUAL;
+            } else {
+                return null;
+            }
+            Object converted = null;
+            if (attributeFirst) {
+                // same conversion BinaryComparisonAbstract.eval tries first
+                converted = literal.getClass() == binding
+                        ? literal
+                        : Converters.convert(literal, binding, SAFE_CONVERSION_HINTS);
+                if (converted != null && converted.getClass() != binding) {
+                    converted = null;
+                }
+            }
+            return new OrderNode(filter, index, literal, converted, attributeFirst, operator);
+        }
+
+        Node buildSpatial(GeometryFilterImpl filter) {
+            Expression e1 = filter.getExpression1();
+            Expression e2 = filter.getExpression2();
+            boolean attributeFirst;
+            int index;
+            Object literal;
+            if (e2 instanceof Literal && (index = indexOf(e1)) >= 0) {
+                attributeFirst = true;
+                literal = e2.evaluate(null);
+            } else if (e1 instanceof Literal && (index = indexOf(e2)) >= 0) {
+                attributeFirst = false;
+                literal = e1.evaluate(null);
+            } else {
+                return null;
+            }
+            if (literal instanceof Collection) {
+                return null;
+            }
+            Geometry geometry = Converters.convert(literal, Geometry.class);
+            if (geometry == null) {
+                // same as GeometryFilterImpl, a missing geometry never matches
+                return new Constant(false);
+            }
+            return new SpatialNode(filter, index, geometry, attributeFirst);
+        }
+    }
+
+    static boolean isMultiValued(Object value) {
+        return value instanceof Collection || value.getClass().isArray();
+    }
+
+    /**
+     * Compares two numbers the same way {@link CompareFilterImpl#compare(Comparable, Comparable)} does, as doubles
+     */
+    static int compareNumbers(Number n1, Number n2) {
+        double left = n1.doubleValue();
+        double right = n2.doubleValue();
+        return left > right ? 1 : (left == right ? 0 : -1);
+    }
+
+    static final int LESS_THAN = 0;
+
+    static final int LESS_THAN_OR_EQUAL = 1;
+
+    static final int GREATER_THAN = 2;
+
+    static final int GREATER_THAN_OR_EQUAL = 3;
+
+    /** A node of the evaluation tree */
+    abstract static class Node {
+
+        abstract boolean evaluate(SimpleFeature feature);
+
+        /**
+         * Compacts the selection to the positions of the matching features, returning their number, see
+         * {@link CompiledFilter#select(SimpleFeature[], int[], int)}
+         */
+        int select(SimpleFeature[] features, int[] selection, int count) {
+            int matches = 0;
+            for (int i = 0; i < count; i++) {
+                int position = selection[i];
+                if (evaluate(features[position])) {
+                    selection[matches++] = position;
+                }
+            }
+            return matches;
+        }
+    }
+
+    static final class Constant extends Node {
+
+        final boolean value;
+
+        Constant(boolean value) {
+            this.value = value;
+        }
+
+        @Override
+        boolean evaluate(SimpleFeature feature) {
+            return value;
+        }
+
+        @Override
+        int select(SimpleFeature[] features, int[] selection, int count) {
+            return value ? count : 0;
+        }
+    }
+
+    /** Each child only sees the features the previous ones matched */
+    static final class AndNode extends Node {
+
+        final Node[] children;
+
+        AndNode(Node[] children) {
+            this.children = children;
+        }
+
+        @Override
+        boolean evaluate(SimpleFeature feature) {
+            for (Node child : children) {
+                if (!child.evaluate(feature)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        int select(SimpleFeature[] features, int[] selection, int count) {
+            for (int i = 0; i < children.length && count > 0; i++) {
+                count = children[i].select(features, selection, count);
+            }
+            return count;
+        }
+    }
+
+    /** Each child only sees the features the previous ones did not match */
+    static final class OrNode extends Node {
+
+        final Node[] children;
+
+        OrNode(Node[] children) {
+            this.children = children;
+        }
+
+        @Override
+        boolean evaluate(SimpleFeature feature) {
+            for (Node child : children) {
+                if (child.evaluate(feature)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        int select(SimpleFeature[] features, int[] selection, int count) {
+            boolean[] matched = null;
+            int[] pending = selection.clone();
+            int pendingCount = count;
+            int[] work = new int[count];
+            for (int i = 0; i < children.length && pendingCount > 0; i++) {
+                System.arraycopy(pending, 0, work, 0, pendingCount);
+                int matches = children[i].select(features, work, pendingCount);
+                if (matches == 0) {
+                    continue;
+                }
+                if (matched == null) {
+                    matched = new boolean[features.length];
+                }
+                // mark the matches, and remove them from the pending positions
+                int p = 0;
+                int remaining = 0;
+                for (int j = 0; j < pendingCount; j++) {
+                    int position = pending[j];
+                    if (p < matches && work[p] == position) {
+                        matched[position] = true;
+                        p++;
+                    } else {
+                        pending[remaining++] = position;
+                    }
+                }
+                pendingCount = remaining;
+            }
+            if (matched == null) {
+                return 0;
+            }
+            int result = 0;
+            for (int i = 0; i < count; i++) {
+                int position = selection[i];
+                if (matched[position]) {
+                    selection[result++] = position;
+                }
+            }
+            return result;
+        }
+    }
+
+    static final class NotNode extends Node {
+
+        final Node child;
+
+        NotNode(Node child) {
+            this.child = child;
+        }
+
+        @Override
+        boolean evaluate(SimpleFeature feature) {
+            return !child.evaluate(feature);
+        }
+
+        @Override
+        int select(SimpleFeature[] features, int[] selection, int count) {
+            int[] work = new int[count];
+            System.arraycopy(selection, 0, work, 0, count);
+            int matches = child.select(features, work, count);
+            // keep the positions the child did not match
+            int p = 0;
+            int result = 0;
+            for (int i = 0; i < count; i++) {
+                int position = selection[i];
+                if (p < matches && work[p] == position) {
+                    p++;
+                } else {
+                    selection[result++] = position;
+                }
+            }
+            return result;
+        }
+    }
+
+    /** Runs a filter that could not be specialized */
+    static final class Generic extends Node {
+
+        final Filter filter;
+
+        Generic(Filter filter) {
+            this.filter = filter;
+        }
+
+        @Override
+        boolean evaluate(SimpleFeature feature) {
+            return filter.evaluate(feature);
+        }
+    }
+
+    static final class NullNode extends Node {
+
+        final Filter filter;
+
+        final int index;
+
+        NullNode(Filter filter, int index) {
+            this.filter = filter;
+            this.index = index;
+        }
+
+        @Override
+        boolean evaluate(SimpleFeature feature) {
+            Object value = feature.getAttribute(index);
+            if (value instanceof Attribute) {
+                return filter.evaluate(feature);
+            }
+            return value == null;
+        }
+    }
+
+    /** Equality between an attribute and a literal, mirroring {@link IsEqualsToImpl#evaluateInternal} */
+    static final class EqualsNode extends Node {
+
+        final MultiCompareFilterImpl filter;
+
+        final int index;
+
+        final Object literal;
+
+        final Object converted;
+
+        final boolean attributeFirst;
+
+        final boolean matchCase;
+
+        final boolean equal;
+
+        EqualsNode(
+                MultiCompareFilterImpl filter,
+                int index,
+                Object literal,
+                Object converted,
+                boolean attributeFirst,
+                boolean equal) {
+            this.filter = filter;
+            this.index = index;
+            this.literal = literal;
+            this.converted = converted;
+            this.attributeFirst = attributeFirst;
+            this.matchCase = filter.isMatchingCase();
+            this.equal = equal;
+        }
+
+        @Override
+        boolean evaluate(SimpleFeature feature) {
+            Object value = feature.getAttribute(index);
+            if (value == null) {
+                return !equal;
+            }
+            if (isMultiValued(value) || value instanceof Attribute) {
+                return filter.evaluate(feature);
+            }
+            Class<?> type = value.getClass();
+            if (type == literal.getClass()) {
+                boolean result = !matchCase && value instanceof String
+                        ? ((String) value).equalsIgnoreCase((String) literal)
+                        : value.equals(literal);
+                return result == equal;
+            }
+            if (converted != null && type == converted.getClass() && value.equals(converted)) {
+                return equal;
+            }
+            return attributeFirst ? filter.evaluateInternal(value, literal) : filter.evaluateInternal(literal, value);
+        }
+    }
+
+    /** Ordering between an attribute and a literal, mirroring {@link CompareFilterImpl#compare} */
+    static final class OrderNode extends Node {
+
+        final MultiCompareFilterImpl filter;
+
+        final int index;
+
+        final Object literal;
+
+        final Object converted;
+
+        final boolean attributeFirst;
+
+        final int operator;
+
+        OrderNode(
+                MultiCompareFilterImpl filter,
+                int index,
+                Object literal,
+                Object converted,
+                boolean attributeFirst,
+                int operator) {
+            this.filter = filter;
+            this.index = index;
+            this.literal = literal;
+            this.converted = converted;
+            this.attributeFirst = attributeFirst;
+            this.operator = operator;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        boolean evaluate(SimpleFeature feature) {
+            Object value = feature.getAttribute(index);
+            if (value == null) {
+                return false;
+            }
+            if (isMultiValued(value) || value instanceof Attribute) {
+                return filter.evaluate(feature);
+            }
+            if (converted != null && value.getClass() == converted.getClass()) {
+                int comparison;
+                if (value instanceof Number) {
+                    comparison = compareNumbers((Number) value, (Number) converted);
+                } else if (!(value instanceof String) && value instanceof Comparable) {
+                    comparison = ((Comparable<Object>) value).compareTo(converted);
+                } else {
+                    // strings are compared as numbers when possible, let the filter do it
+                    return filter.evaluateInternal(value, literal);
+                }
+                switch (operator) {
+                    case LESS_THAN:
+                        return comparison < 0;
+                    case LESS_THAN_OR_EQUAL:
+                        return comparison <= 0;
+                    case GREATER_THAN:
+                        return comparison > 0;
+                    default:
+                        return comparison >= 0;
+                }
+            }
+            return attributeFirst ? filter.evaluateInternal(value, literal) : filter.evaluateInternal(literal, value);
+        }
+    }
+
+    /** A spatial filter against a literal geometry, reusing the geometry the filter prepared */
+    static final class SpatialNode extends Node {
+
+        final GeometryFilterImpl filter;
+
+        final int index;
+
+        final Geometry literal;
+
+        final boolean attributeFirst;
+
+        SpatialNode(GeometryFilterImpl filter, int index, Geometry literal, boolean attributeFirst) {
+            this.filter = filter;
+            this.index = index;
+            this.literal = literal;
+            this.attributeFirst = attributeFirst;
+        }
+
+        @Override
+        boolean evaluate(SimpleFeature feature) {
+            Object value = feature.getAttribute(index);
+            if (value == null) {
+                return false;
+            }
+            if (value instanceof Collection || value instanceof Attribute) {
+                return filter.evaluate(feature);
+            }
+            Geometry geometry =
+                    value instanceof Geometry ? (Geometry) value : Converters.convert(value, Geometry.class);
+            if (geometry == null) {
+                return false;
+            }
+            return attributeFirst
+                    ? filter.evaluateInternal(geometry, literal)
+                    : filter.evaluateInternal(literal, geometry);
+        }
+    }
+
+    /** Replaces the property names with index based access */
+    static class IndexingVisitor extends DuplicatingFilterVisitor {
+
+        final SimpleFeatureType schema;
+
+        IndexingVisitor(SimpleFeatureType schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public Object visit(PropertyName expression, Object extraData) {
+            int index = schema.indexOf(expression.getPropertyName());
+            if (index >= 0) {
+                return new IndexedPropertyName(expression, index, schema);
+            }
+            return super.visit(expression, extraData);
+        }
+    }
+
+    /**
+     * Reads a simple feature attribute by index. Features of another type than the compiled one, which the expression
+     * may still be evaluated against once it escapes the compiled filter, are handed over to the original property name
+     */
+    static final class IndexedPropertyName implements PropertyName {
+
+        final PropertyName delegate;
+
+        final int index;
+
+        final SimpleFeatureType schema;
+
+        final AttributeDescriptor descriptor;
+
+        /** The last feature type found to be equal to the compiled one, as in {@link CompiledFilter} */
+        private SimpleFeatureType compatible;
+
+        IndexedPropertyName(PropertyName delegate, int index, SimpleFeatureType schema) {
+            this.delegate = delegate;
+            this.index = index;
+            this.schema = schema;
+            this.descriptor = schema.getDescriptor(index);
+            this.compatible = schema;
+        }
+
+        @Override
+        public String getPropertyName() {
+            return delegate.getPropertyName();
+        }
+
+        @Override
+        public NamespaceSupport getNamespaceContext() {
+            return delegate.getNamespaceContext();
+        }
+
+        @Override
+        public Object evaluate(Object object) {
+            return evaluate(object, null);
+        }
+
+        @Override
+        public <T> T evaluate(Object object, Class<T> context) {
+            if (object instanceof SimpleFeature && isCompatible(((SimpleFeature) object).getFeatureType())) {
+                Object value = ((SimpleFeature) object).getAttribute(index);
+                if (context == null || context.isInstance(value)) {
+                    @SuppressWarnings("unchecked")
+                    T result = (T) value;
+                    return result;
+                }
+                return Converters.convert(value, context);
+            }
+            return delegate.evaluate(object, context);
+        }
+
+        private boolean isCompatible(SimpleFeatureType type) {
+            if (type == schema || type == compatible) {
+                return true;
+            }
+            if (schema.equals(type)) {
+                compatible = type;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Object accept(ExpressionVisitor visitor, Object extraData) {
+            return delegate.accept(visitor, extraData);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof IndexedPropertyName && delegate.equals(((IndexedPropertyName) obj).delegate);
+        }
+
+        @Override
+        public int hashCode() {
+            return delegate.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.geotools.geometry.jts;
 
+import java.awt.geom.AffineTransform;
 import java.awt.geom.PathIterator;
 
 /**
@@ -26,6 +27,9 @@
  */
 public abstract class AbstractLiteIterator implements PathIterator {
 
+    /** Identity transform shared by the iterators that have not been given one, never modified */
+    static final AffineTransform NO_TRANSFORM = new AffineTransform();
+
     protected double[] dcoords = new double[2];
 
     /** @see java.awt.geom.PathIterator#currentSegment(float[]) */
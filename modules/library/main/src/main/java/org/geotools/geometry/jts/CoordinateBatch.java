@@ -0,0 +1,239 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.geometry.jts;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.geotools.api.geometry.MismatchedDimensionException;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.TransformException;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Transforms the coordinate sequences of many geometries at once: their coordinates are gathered in a single buffer,
+ * transformed with one {@link MathTransform} call, or with parallel calls on chunks of the buffer for large batches,
+ * and scattered back into new sequences. This amortizes the cost of each call, which dominates with short sequences
+ * and long chains of concatenated transforms.
+ *
+ * <p>Sequences are collected in the order {@link GeometryCoordinateSequenceTransformer} visits them, and transformed
+ * the same way {@link DefaultCoordinateSequenceTransformer} does, ordinates not handled by the transform being copied
+ * over.
+ */
+final class CoordinateBatch {
+
+    /** Number of points above which the buffer is transformed in parallel chunks */
+    static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /** Number of points in each parallel chunk */
+    static final int CHUNK_SIZE = 1 << 14;
+
+    private final List<CoordinateSequence> sequences = new ArrayList<>();
+
+    private final List<CoordinateSequenceFactory> factories = new ArrayList<>();
+
+    private int points;
+
+    /**
+     * Collects the sequences of the geometry
+     *
+     * @return false if the geometry cannot be batched, curved and unknown geometries are transformed on their own
+     */
+    boolean add(Geometry g) {
+        if (!isBatchable(g)) {
+            return false;
+        }
+        collect(g, g.getFactory().getCoordinateSequenceFactory());
+        return true;
+    }
+
+    /** Returns false if the geometry has curved parts, at any depth, or unknown ones */
+    private static boolean isBatchable(Geometry g) {
+        if (g instanceof CurvedGeometry) {
+            return false;
+        }
+        if (g instanceof Point || g instanceof LineString) {
+            return true;
+        }
+        if (g instanceof Polygon) {
+            Polygon polygon = (Polygon) g;
+            if (polygon.getExteriorRing() instanceof CurvedGeometry) {
+                return false;
+            }
+            for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                if (polygon.getInteriorRingN(i) instanceof CurvedGeometry) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (g instanceof GeometryCollection) {
+            for (int i = 0; i < g.getNumGeometries(); i++) {
+                if (!isBatchable(g.getGeometryN(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private void collect(Geometry g, CoordinateSequenceFactory csf) {
+        if (g instanceof Point) {
+            add(((Point) g).getCoordinateSequence(), csf);
+        } else if (g instanceof LineString) {
+            add(((LineString) g).getCoordinateSequence(), csf);
+        } else if (g instanceof Polygon) {
+            Polygon polygon = (Polygon) g;
+            add(polygon.getExteriorRing().getCoordinateSequence(), csf);
+            for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                add(polygon.getInteriorRingN(i).getCoordinateSequence(), csf);
+            }
+        } else if (g instanceof MultiPoint || g instanceof MultiLineString || g instanceof MultiPolygon) {
+            for (int i = 0; i < g.getNumGeometries(); i++) {
+                collect(g.getGeometryN(i), csf);
+            }
+        } else {
+            // generic collections transform each member with its own factory
+            for (int i = 0; i < g.getNumGeometries(); i++) {
+                Geometry member = g.getGeometryN(i);
+                collect(member, member.getFactory().getCoordinateSequenceFactory());
+            }
+        }
+    }
+
+    private void add(CoordinateSequence sequence, CoordinateSequenceFactory csf) {
+        sequences.add(sequence);
+        factories.add(csf);
+        points += sequence.size();
+    }
+
+    /** Returns the transformed sequences, in the order they have been collected */
+    List<CoordinateSequence> transform(MathTransform transform) throws TransformException {
+        if (sequences.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final int sourceDim = transform.getSourceDimensions();
+        final int targetDim = transform.getTargetDimensions();
+        if (sourceDim > 3) {
+            throw new MismatchedDimensionException();
+        }
+
+        // gather
+        double[] source = new double[points * sourceDim];
+        int ib = 0;
+        for (CoordinateSequence sequence : sequences) {
+            for (int i = 0; i < sequence.size(); i++) {
+                switch (sourceDim) {
+                    case 3:
+                        source[ib + 2] = sequence.getOrdinate(i, 2); // Fall through
+                    case 2:
+                        source[ib + 1] = sequence.getY(i); // Fall through
+                    case 1:
+                        source[ib] = sequence.getX(i); // Fall through
+                    default:
+                        break;
+                }
+                ib += sourceDim;
+            }
+        }
+
+        // transform
+        double[] target;
+        if (points >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            target = new double[points * targetDim];
+            transformParallel(transform, source, target);
+        } else {
+            target = sourceDim == targetDim ? source : new double[points * targetDim];
+            transform.transform(source, 0, target, 0, points);
+        }
+
+        // scatter
+        List<CoordinateSequence> result = new ArrayList<>(sequences.size());
+        int it = 0;
+        for (int s = 0; s < sequences.size(); s++) {
+            CoordinateSequence sequence = sequences.get(s);
+            int size = sequence.size();
+            // dimensions not contemplated by the transform are copied over (think Z or M with a 2d CRS)
+            int targetCSDim = targetDim + (sequence.getDimension() - sourceDim);
+            CoordinateSequence transformed =
+                    JTS.createCS(factories.get(s), size, targetCSDim, sequence.getMeasures());
+            for (int i = 0; i < size; i++) {
+                int oi = 0;
+                for (; oi < targetDim; oi++) {
+                    transformed.setOrdinate(i, oi, target[it++]);
+                }
+                for (; oi < targetCSDim; oi++) {
+                    transformed.setOrdinate(i, oi, sequence.getOrdinate(i, oi - targetDim + sourceDim));
+                }
+                for (; oi < transformed.getDimension(); oi++) {
+                    transformed.setOrdinate(i, oi, Double.NaN);
+                }
+            }
+            result.add(transformed);
+        }
+        return result;
+    }
+
+    /** Transforms the buffer in chunks on the common pool, math transforms are immutable and thread safe */
+    private void transformParallel(MathTransform transform, double[] source, double[] target)
+            throws TransformException {
+        final int sourceDim = transform.getSourceDimensions();
+        final int targetDim = transform.getTargetDimensions();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        List<ForkJoinTask<Void>> tasks = new ArrayList<>();
+        for (int start = 0; start < points; start += CHUNK_SIZE) {
+            int from = start;
+            int count = Math.min(CHUNK_SIZE, points - start);
+            tasks.add(pool.submit(() -> {
+                transform.transform(source, from * sourceDim, target, from * targetDim, count);
+                return null;
+            }));
+        }
+        // wait for all the chunks, so that none is left running after a failure
+        TransformException failure = null;
+        for (ForkJoinTask<Void> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TransformException("Interrupted while transforming coordinates", e);
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof TransformException
+                            ? (TransformException) e.getCause()
+                            : new TransformException("Failed to transform coordinates", e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.geotools.geometry.jts;
 
 import java.awt.Rectangle;
+import java.util.Arrays;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.geotools.api.referencing.operation.MathTransform;
@@ -25,6 +26,7 @@
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.LinearRing;
 import org.locationtech.jts.geom.MultiPoint;
@@ -63,6 +65,14 @@ public final class Decimator {
 
     private static final double EPS = 1e-9;
 
+    /** Largest scratch buffer (in doubles) kept around by each thread, larger ones are thrown away after use */
+    static final int MAX_SCRATCH_LENGTH = 1 << 20;
+
+    /** Per thread buffer the coordinates are generalized and transformed into, before getting copied out */
+    private static final ThreadLocal<double[]> SCRATCH = ThreadLocal.withInitial(() -> new double[1024]);
+
+    private static final GeometryFactory LITE_FACTORY = new GeometryFactory(new LiteCoordinateSequenceFactory());
+
     private double spanx = -1;
 
     private double spany = -1;
@@ -213,21 +223,7 @@ public final Geometry decimateTransformGeneralize(Geometry geometry, MathTransfo
                 }
             }
             if (cloned) {
-                if (elementType == Point.class) {
-                    Point[] points = new Point[elements.length];
-                    System.arraycopy(elements, 0, points, 0, elements.length);
-                    return collection.getFactory().createMultiPoint(points);
-                } else if (elementType == LineString.class) {
-                    LineString[] lines = new LineString[elements.length];
-                    System.arraycopy(elements, 0, lines, 0, elements.length);
-                    return collection.getFactory().createMultiLineString(lines);
-                } else if (elementType == Polygon.class) {
-                    Polygon[] polys = new Polygon[elements.length];
-                    System.arraycopy(elements, 0, polys, 0, elements.length);
-                    return collection.getFactory().createMultiPolygon(polys);
-                } else {
-                    return collection.getFactory().createGeometryCollection(elements);
-                }
+                return createCollection(collection.getFactory(), elements, elementType);
             } else {
                 return collection;
             }
@@ -297,6 +293,130 @@ public final Geometry decimateTransformGeneralize(Geometry geometry, MathTransfo
         }
     }
 
+    /**
+     * Same as {@link #decimateTransformGeneralize(Geometry, MathTransform)}, but if clone is true the source geometry
+     * is left untouched: the coordinates are read straight from the source sequences into a per thread scratch
+     * buffer, generalized and transformed there, and only the surviving ones are copied in the returned geometry. This
+     * avoids cloning the whole geometry (and converting non lite sequences via coordinate arrays) just to throw
+     * away most of its points right after.
+     */
+    public final Geometry decimateTransformGeneralize(Geometry geometry, MathTransform transform, boolean clone)
+            throws TransformException {
+        if (!clone) {
+            return decimateTransformGeneralize(geometry, transform);
+        }
+        if (transform != null && (transform.getSourceDimensions() != 2 || transform.getTargetDimensions() != 2)) {
+            // the scratch buffer only holds x and y
+            return decimateTransformGeneralize(LiteCoordinateSequence.cloneGeometry(geometry), transform);
+        }
+        return copyTransformGeneralize(geometry, transform);
+    }
+
+    private Geometry copyTransformGeneralize(Geometry geometry, MathTransform transform) throws TransformException {
+        if (geometry instanceof GeometryCollection) {
+            GeometryCollection collection = (GeometryCollection) geometry;
+            Geometry[] elements = new Geometry[collection.getNumGeometries()];
+            Class elementType = null;
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = copyTransformGeneralize(collection.getGeometryN(i), transform);
+                elementType = accumulateGeometryType(elementType, elements[i]);
+            }
+            return createCollection(LITE_FACTORY, elements, elementType);
+        } else if (geometry instanceof Point) {
+            LiteCoordinateSequence seq = new LiteCoordinateSequence(((Point) geometry).getCoordinateSequence(), 2);
+            if (transform != null && seq.size() > 0) {
+                transform.transform(seq.getArray(), 0, seq.getArray(), 0, seq.size());
+            }
+            return LITE_FACTORY.createPoint(seq);
+        } else if (geometry instanceof Polygon) {
+            Polygon polygon = (Polygon) geometry;
+            LinearRing shell = (LinearRing) copyTransformGeneralize(polygon.getExteriorRing(), transform);
+            LinearRing[] holes = new LinearRing[polygon.getNumInteriorRing()];
+            for (int i = 0; i < holes.length; i++) {
+                holes[i] = (LinearRing) copyTransformGeneralize(polygon.getInteriorRingN(i), transform);
+            }
+            return LITE_FACTORY.createPolygon(shell, holes);
+        } else if (geometry instanceof LineString) {
+            double spanx = this.spanx;
+            double spany = this.spany;
+            LineString ls = (LineString) geometry;
+            if (ls instanceof CurvedGeometry<?>) {
+                @SuppressWarnings("unchecked")
+                CurvedGeometry<LineString> curved = (CurvedGeometry<LineString>) ls;
+                ls = curved.linearize(Math.min(Math.abs(spanx), Math.abs(spany)));
+                // do not generalize further, we already got a good representation
+                spanx = -1;
+                spany = -1;
+            }
+            CoordinateSequence cs = ls.getCoordinateSequence();
+            int ncoords = cs.size();
+            boolean ring = ls instanceof LinearRing;
+            boolean loop = ring
+                    || (ncoords > 1
+                            && Math.abs(cs.getX(0) - cs.getX(ncoords - 1)) < EPS
+                            && Math.abs(cs.getY(0) - cs.getY(ncoords - 1)) < EPS);
+
+            double[] coords = getScratch(ncoords * 2);
+            for (int i = 0; i < ncoords; i++) {
+                coords[i * 2] = cs.getX(i);
+                coords[i * 2 + 1] = cs.getY(i);
+            }
+            int actualCoords = ncoords;
+            if (ncoords > 1 && (spanx != -1 || spany != -1)) {
+                actualCoords = generalize(ncoords, coords, ncoords * 2, loop, spanx, spany);
+            }
+            if (transform != null && !transform.isIdentity() && actualCoords > 0) {
+                transform.transform(coords, 0, coords, 0, actualCoords);
+            }
+            LiteCoordinateSequence seq = new LiteCoordinateSequence(Arrays.copyOf(coords, actualCoords * 2), 2);
+
+            if (!ring) {
+                return LITE_FACTORY.createLineString(seq);
+            } else if (actualCoords == 0 || actualCoords >= 4) {
+                return LITE_FACTORY.createLinearRing(seq);
+            } else {
+                // degenerate ring, build it empty and fill it afterwards, as the in place decimation would do,
+                // to skip the validation performed by the ring constructor
+                LinearRing result = LITE_FACTORY.createLinearRing(new LiteCoordinateSequence(0, 2));
+                ((LiteCoordinateSequence) result.getCoordinateSequence()).setArray(seq.getArray(), 2);
+                result.geometryChanged();
+                return result;
+            }
+        } else {
+            return geometry;
+        }
+    }
+
+    /** Returns the current thread scratch buffer, growing it if needed */
+    private static double[] getScratch(int length) {
+        double[] scratch = SCRATCH.get();
+        if (scratch.length < length) {
+            scratch = new double[Math.max(length, Math.min(scratch.length * 2, MAX_SCRATCH_LENGTH))];
+            if (scratch.length <= MAX_SCRATCH_LENGTH) {
+                SCRATCH.set(scratch);
+            }
+        }
+        return scratch;
+    }
+
+    private static Geometry createCollection(GeometryFactory factory, Geometry[] elements, Class<?> elementType) {
+        if (elementType == Point.class) {
+            Point[] points = new Point[elements.length];
+            System.arraycopy(elements, 0, points, 0, elements.length);
+            return factory.createMultiPoint(points);
+        } else if (elementType == LineString.class) {
+            LineString[] lines = new LineString[elements.length];
+            System.arraycopy(elements, 0, lines, 0, elements.length);
+            return factory.createMultiLineString(lines);
+        } else if (elementType == Polygon.class) {
+            Polygon[] polys = new Polygon[elements.length];
+            System.arraycopy(elements, 0, polys, 0, elements.length);
+            return factory.createMultiPolygon(polys);
+        } else {
+            return factory.createGeometryCollection(elements);
+        }
+    }
+
     private Class accumulateGeometryType(Class<?> elementType, Geometry generalized) {
         Class<? extends Geometry> geometryType = generalized.getClass();
         if (elementType == null) {
@@ -440,6 +560,28 @@ private final void decimateTransformGeneralize(
             return;
         }
 
+        int actualCoords = generalize(ncoords, coords, coords.length, ring, spanx, spany);
+
+        // DO THE XFORM
+        if (transform != null && !transform.isIdentity()) {
+            transform.transform(coords, 0, coords, 0, actualCoords);
+        }
+
+        // stick back into the coordinate sequence
+        if (actualCoords * 2 < coords.length) {
+            double[] seqDouble = new double[2 * actualCoords];
+            System.arraycopy(coords, 0, seqDouble, 0, actualCoords * 2);
+            seq.setArray(seqDouble, 2);
+        } else {
+            seq.setArray(coords, 2);
+        }
+    }
+
+    /**
+     * Generalizes the first ncoords points in the array, moving the surviving ones at its beginning, and returns their
+     * number. The first and last point are always kept, and rings are kept at least three points long.
+     */
+    private int generalize(int ncoords, double[] coords, int length, boolean ring, double spanx, double spany) {
         // generalize, use the heavier algorithm for longer lines
         int actualCoords = spanBasedGeneralize(ncoords, coords, spanx, spany);
         if (DP_THRESHOLD > 0 && actualCoords > DP_THRESHOLD) {
@@ -448,14 +590,14 @@ private final void decimateTransformGeneralize(
 
         // handle rings
         if (ring && actualCoords <= 3) {
-            if (coords.length > 6) {
+            if (length > 6) {
                 // normal rings
                 coords[2] = coords[2];
                 coords[3] = coords[3];
                 coords[4] = coords[4];
                 coords[5] = coords[5];
                 actualCoords = 3;
-            } else if (coords.length > 4) {
+            } else if (length > 4) {
                 // invalid rings, they do A-B-A, that is, two overlapping lines
                 coords[2] = coords[2];
                 coords[3] = coords[3];
@@ -466,21 +608,7 @@ private final void decimateTransformGeneralize(
         // always have last one
         coords[actualCoords * 2] = coords[(ncoords - 1) * 2];
         coords[actualCoords * 2 + 1] = coords[(ncoords - 1) * 2 + 1];
-        actualCoords++;
-
-        // DO THE XFORM
-        if (transform != null && !transform.isIdentity()) {
-            transform.transform(coords, 0, coords, 0, actualCoords);
-        }
-
-        // stick back into the coordinate sequence
-        if (actualCoords * 2 < coords.length) {
-            double[] seqDouble = new double[2 * actualCoords];
-            System.arraycopy(coords, 0, seqDouble, 0, actualCoords * 2);
-            seq.setArray(seqDouble, 2);
-        } else {
-            seq.setArray(coords, 2);
-        }
+        return actualCoords + 1;
     }
 
     private int spanBasedGeneralize(int ncoords, double[] coords, double spanx, double spany) {
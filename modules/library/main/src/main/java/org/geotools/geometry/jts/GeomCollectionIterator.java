@@ -55,12 +55,18 @@ public final class GeomCollectionIterator extends AbstractLiteIterator {
     /** Maximum distance for point elision when generalizing */
     private double maxDistance = 1.0;
 
+    /** Reused for all the lines in the collection, only one sub-iterator is active at a time */
+    private LineIterator lineIterator;
+
+    /** Reused for all the polygons in the collection, only one sub-iterator is active at a time */
+    private PolygonIterator polygonIterator;
+
     public GeomCollectionIterator() {}
 
     /** */
     public void init(GeometryCollection gc, AffineTransform at, boolean generalize, double maxDistance) {
         this.gc = gc;
-        this.at = at == null ? new AffineTransform() : at;
+        this.at = at == null ? NO_TRANSFORM : at;
         this.generalize = generalize;
         this.maxDistance = maxDistance;
         currentGeom = 0;
@@ -111,13 +117,22 @@ private AbstractLiteIterator getIterator(Geometry g) {
         if (g.isEmpty()) return EmptyIterator.INSTANCE;
         if (g instanceof Polygon) {
             Polygon p = (Polygon) g;
-            pi = new PolygonIterator(p, at, generalize, maxDistance);
+            if (polygonIterator == null) {
+                polygonIterator = new PolygonIterator(p, at, generalize, maxDistance);
+            } else {
+                polygonIterator.init(p, at, generalize, maxDistance);
+            }
+            pi = polygonIterator;
         } else if (g instanceof GeometryCollection) {
             GeometryCollection gc = (GeometryCollection) g;
             pi = new GeomCollectionIterator(gc, at, generalize, maxDistance);
         } else if (g instanceof LineString || g instanceof LinearRing) {
             LineString ls = (LineString) g;
-            pi = new LineIterator(ls, at, generalize, (float) maxDistance);
+            if (lineIterator == null) {
+                lineIterator = new LineIterator();
+            }
+            lineIterator.init(ls, at, generalize, (float) maxDistance);
+            pi = lineIterator;
         } else if (g instanceof Point) {
             Point p = (Point) g;
             pi = new PointIterator(p, at);
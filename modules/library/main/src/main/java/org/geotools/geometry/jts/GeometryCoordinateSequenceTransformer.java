@@ -17,6 +17,7 @@
 package org.geotools.geometry.jts;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
 import org.geotools.api.referencing.operation.MathTransform;
@@ -112,6 +113,14 @@ private void init(GeometryFactory gf) {
      * @return a new transformed geometry
      */
     public Geometry transform(Geometry g) throws TransformException {
+        return transform(g, null);
+    }
+
+    /**
+     * Transforms the geometry, taking its coordinate sequences from the batched ones if not null, in the order
+     * {@link CoordinateBatch} collected them
+     */
+    private Geometry transform(Geometry g, Iterator<CoordinateSequence> batched) throws TransformException {
         GeometryFactory factory = g.getFactory();
         Geometry transformed = null;
 
@@ -119,35 +128,35 @@ public Geometry transform(Geometry g) throws TransformException {
         init(factory);
 
         if (g instanceof Point) {
-            transformed = transformPoint((Point) g, factory);
+            transformed = transformPoint((Point) g, factory, batched);
         } else if (g instanceof MultiPoint) {
             MultiPoint mp = (MultiPoint) g;
             Point[] points = new Point[mp.getNumGeometries()];
 
             for (int i = 0; i < points.length; i++) {
-                points[i] = transformPoint((Point) mp.getGeometryN(i), factory);
+                points[i] = transformPoint((Point) mp.getGeometryN(i), factory, batched);
             }
 
             transformed = factory.createMultiPoint(points);
         } else if (g instanceof LineString) {
-            transformed = transformLineString((LineString) g, factory);
+            transformed = transformLineString((LineString) g, factory, batched);
         } else if (g instanceof MultiLineString) {
             MultiLineString mls = (MultiLineString) g;
             LineString[] lines = new LineString[mls.getNumGeometries()];
 
             for (int i = 0; i < lines.length; i++) {
-                lines[i] = transformLineString((LineString) mls.getGeometryN(i), factory);
+                lines[i] = transformLineString((LineString) mls.getGeometryN(i), factory, batched);
             }
 
             transformed = factory.createMultiLineString(lines);
         } else if (g instanceof Polygon) {
-            transformed = transformPolygon((Polygon) g, factory);
+            transformed = transformPolygon((Polygon) g, factory, batched);
         } else if (g instanceof MultiPolygon) {
             MultiPolygon mp = (MultiPolygon) g;
             Polygon[] polygons = new Polygon[mp.getNumGeometries()];
 
             for (int i = 0; i < polygons.length; i++) {
-                polygons[i] = transformPolygon((Polygon) mp.getGeometryN(i), factory);
+                polygons[i] = transformPolygon((Polygon) mp.getGeometryN(i), factory, batched);
             }
 
             transformed = factory.createMultiPolygon(polygons);
@@ -156,7 +165,7 @@ public Geometry transform(Geometry g) throws TransformException {
             Geometry[] geoms = new Geometry[gc.getNumGeometries()];
 
             for (int i = 0; i < geoms.length; i++) {
-                geoms[i] = transform(gc.getGeometryN(i));
+                geoms[i] = transform(gc.getGeometryN(i), batched);
             }
 
             transformed = factory.createGeometryCollection(geoms);
@@ -178,12 +187,47 @@ public Geometry transform(Geometry g) throws TransformException {
         return transformed;
     }
 
+    /**
+     * Applies the transform to a batch of geometries, creating new transformed geometries. The coordinates of all the
+     * geometries are gathered in a single buffer and transformed at once, in parallel chunks for large batches, which
+     * is much faster than transforming each coordinate sequence on its own. Curved geometries, and all geometries when
+     * a custom {@link CoordinateSequenceTransformer} was provided, are transformed one by one.
+     *
+     * @param geometries the geometries to transform, may contain nulls
+     * @return the transformed geometries, in the same order, with nulls where the input had them
+     * @since 33
+     */
+    public Geometry[] transform(Geometry[] geometries) throws TransformException {
+        CoordinateBatch batch = new CoordinateBatch();
+        boolean[] inBatch = new boolean[geometries.length];
+        if (inputCSTransformer == null) {
+            for (int i = 0; i < geometries.length; i++) {
+                inBatch[i] = geometries[i] != null && batch.add(geometries[i]);
+            }
+        }
+        Iterator<CoordinateSequence> sequences = batch.transform(transform).iterator();
+
+        Geometry[] result = new Geometry[geometries.length];
+        for (int i = 0; i < geometries.length; i++) {
+            if (geometries[i] != null) {
+                result[i] = transform(geometries[i], inBatch[i] ? sequences : null);
+            }
+        }
+        return result;
+    }
+
     /** @throws TransformException */
     public LineString transformLineString(LineString ls, GeometryFactory gf) throws TransformException {
+        return transformLineString(ls, gf, null);
+    }
+
+    private LineString transformLineString(LineString ls, GeometryFactory gf, Iterator<CoordinateSequence> batched)
+            throws TransformException {
         if (ls instanceof CurvedGeometry<?> && curveCompatible) {
+            // never batched, see CoordinateBatch
             return transformCurvedLineString((CurvedGeometry) ls, gf);
         } else {
-            return transformStraightLineString(ls, gf);
+            return transformStraightLineString(ls, gf, batched);
         }
     }
 
@@ -198,11 +242,12 @@ private boolean isCurveCompatible(MathTransform mt) {
         return at.getScaleX() == at.getScaleY() && Math.abs(at.getShearX()) == Math.abs(at.getShearY());
     }
 
-    private LineString transformStraightLineString(LineString ls, GeometryFactory gf) throws TransformException {
+    private LineString transformStraightLineString(
+            LineString ls, GeometryFactory gf, Iterator<CoordinateSequence> batched) throws TransformException {
         // if required, init csTransformer using geometry's CSFactory
         init(gf);
 
-        CoordinateSequence cs = projectCoordinateSequence(ls.getCoordinateSequence());
+        CoordinateSequence cs = projectCoordinateSequence(ls.getCoordinateSequence(), batched);
         LineString transformed = null;
 
         if (ls instanceof LinearRing) {
@@ -237,28 +282,45 @@ private LineString transformCurvedLineString(CurvedGeometry<?> curved, GeometryF
 
     /** */
     public Point transformPoint(Point point, GeometryFactory gf) throws TransformException {
+        return transformPoint(point, gf, null);
+    }
+
+    private Point transformPoint(Point point, GeometryFactory gf, Iterator<CoordinateSequence> batched)
+            throws TransformException {
 
         // if required, init csTransformer using geometry's CSFactory
         init(gf);
 
-        CoordinateSequence cs = projectCoordinateSequence(point.getCoordinateSequence());
+        CoordinateSequence cs = projectCoordinateSequence(point.getCoordinateSequence(), batched);
         Point transformed = gf.createPoint(cs);
         transformed.setUserData(point.getUserData());
         return transformed;
     }
 
-    /** @param cs a CoordinateSequence */
-    private CoordinateSequence projectCoordinateSequence(CoordinateSequence cs) throws TransformException {
+    /**
+     * @param cs a CoordinateSequence
+     * @param batched the already transformed sequences to take the result from, or null to transform cs
+     */
+    private CoordinateSequence projectCoordinateSequence(CoordinateSequence cs, Iterator<CoordinateSequence> batched)
+            throws TransformException {
+        if (batched != null) {
+            return batched.next();
+        }
         return csTransformer.transform(cs, transform);
     }
 
     /** */
     public Polygon transformPolygon(Polygon polygon, GeometryFactory gf) throws TransformException {
-        LinearRing exterior = (LinearRing) transformLineString(polygon.getExteriorRing(), gf);
+        return transformPolygon(polygon, gf, null);
+    }
+
+    private Polygon transformPolygon(Polygon polygon, GeometryFactory gf, Iterator<CoordinateSequence> batched)
+            throws TransformException {
+        LinearRing exterior = (LinearRing) transformLineString(polygon.getExteriorRing(), gf, batched);
         LinearRing[] interiors = new LinearRing[polygon.getNumInteriorRing()];
 
         for (int i = 0; i < interiors.length; i++) {
-            interiors[i] = (LinearRing) transformLineString(polygon.getInteriorRingN(i), gf);
+            interiors[i] = (LinearRing) transformLineString(polygon.getInteriorRingN(i), gf, batched);
         }
 
         Polygon transformed = gf.createPolygon(exterior, interiors);
@@ -63,8 +63,6 @@ public final class LineIterator extends AbstractLiteIterator {
 
     private int coordinateCount;
 
-    private static final AffineTransform NO_TRANSFORM = new AffineTransform();
-
     /** */
     public LineIterator() {}
 
@@ -117,7 +115,7 @@ public void init(
 
     /** */
     public void init(LineString ls, AffineTransform at, boolean generalize, float maxDistance) {
-        if (at == null) at = new AffineTransform();
+        if (at == null) at = NO_TRANSFORM;
         _init(ls, at, generalize, maxDistance);
 
         xScale = (float) Math.sqrt((at.getScaleX() * at.getScaleX()) + (at.getShearX() * at.getShearX()));
@@ -104,17 +104,18 @@ public LiteShape2(Geometry geom, MathTransform mathTransform, Decimator decimato
     public LiteShape2(
             Geometry geom, MathTransform mathTransform, Decimator decimator, boolean generalize, boolean clone)
             throws TransformException, FactoryException {
-        if (geom != null) {
-            if (!clone && geom.getFactory().getCoordinateSequenceFactory() instanceof LiteCoordinateSequenceFactory)
-                this.geometry = geom;
-            else this.geometry = LiteCoordinateSequence.cloneGeometry(geom);
-        }
-
         this.mathTransform = mathTransform;
-        if (decimator != null) {
-            this.geometry = decimator.decimateTransformGeneralize(this.geometry, this.mathTransform);
+        boolean inPlace = !clone
+                && geom != null
+                && geom.getFactory().getCoordinateSequenceFactory() instanceof LiteCoordinateSequenceFactory;
+        if (decimator != null && geom != null) {
+            // when cloning the decimator copies only the coordinates surviving the generalization
+            this.geometry = decimator.decimateTransformGeneralize(geom, this.mathTransform, !inPlace);
             this.geometry.geometryChanged();
         } else {
+            if (geom != null) {
+                this.geometry = inPlace ? geom : LiteCoordinateSequence.cloneGeometry(geom);
+            }
             // if we have a transform a decimation span can be detected, so try to decimate anyways
             if (mathTransform != null && !mathTransform.isIdentity() && generalize && geometry != null) {
                 new Decimator(mathTransform.inverse(), getRectangle(this.geometry.getEnvelopeInternal()))
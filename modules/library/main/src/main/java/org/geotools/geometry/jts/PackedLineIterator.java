@@ -71,7 +71,7 @@ public final class PackedLineIterator extends AbstractLiteIterator {
      */
     public PackedLineIterator(LineString ls, AffineTransform at, boolean generalize, float maxDistance) {
         if (at == null) {
-            at = new AffineTransform();
+            at = NO_TRANSFORM;
         }
 
         this.at = at;
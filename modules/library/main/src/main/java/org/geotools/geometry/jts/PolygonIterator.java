@@ -17,9 +17,7 @@
 package org.geotools.geometry.jts;
 
 import java.awt.geom.AffineTransform;
-import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
-import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Polygon;
 
 /**
@@ -33,8 +31,11 @@ public final class PolygonIterator extends AbstractLiteIterator {
     /** Transform applied on the coordinates during iteration */
     private AffineTransform at;
 
-    /** The rings describing the polygon geometry */
-    private LineString[] rings;
+    /** The polygon being iterated, ring 0 is the exterior one, the others are the interior rings */
+    private Polygon polygon;
+
+    /** The number of rings in the polygon */
+    private int numRings;
 
     /** The current ring during iteration */
     private int currentRing = 0;
@@ -45,8 +46,14 @@ public final class PolygonIterator extends AbstractLiteIterator {
     /** The array of coordinates that represents the line geometry */
     private CoordinateSequence coords = null;
 
-    /** The previous coordinate (during iteration) */
-    private Coordinate oldCoord = null;
+    /** True if the previous coordinate has been set (during iteration) */
+    private boolean hasOld = false;
+
+    /** The previous coordinate x (during iteration) */
+    private double oldX;
+
+    /** The previous coordinate y (during iteration) */
+    private double oldY;
 
     /** True when the iteration is terminated */
     private boolean done = false;
@@ -70,23 +77,7 @@ public final class PolygonIterator extends AbstractLiteIterator {
      * @param at The affine transform applied to coordinates during iteration
      */
     public PolygonIterator(Polygon p, AffineTransform at) {
-        int numInteriorRings = p.getNumInteriorRing();
-        rings = new LineString[numInteriorRings + 1];
-        rings[0] = p.getExteriorRing();
-
-        for (int i = 0; i < numInteriorRings; i++) {
-            rings[i + 1] = p.getInteriorRingN(i);
-        }
-
-        if (at == null) {
-            at = new AffineTransform();
-        }
-
-        this.at = at;
-        xScale = Math.sqrt((at.getScaleX() * at.getScaleX()) + (at.getShearX() * at.getShearX()));
-        yScale = Math.sqrt((at.getScaleY() * at.getScaleY()) + (at.getShearY() * at.getShearY()));
-
-        coords = rings[0].getCoordinateSequence();
+        init(p, at, false, 1.0);
     }
 
     /**
@@ -111,8 +102,31 @@ public PolygonIterator(Polygon p, AffineTransform at, boolean generalize) {
      *     maxDistance
      */
     public PolygonIterator(Polygon p, AffineTransform at, boolean generalize, double maxDistance) {
-        this(p, at, generalize);
+        init(p, at, generalize, maxDistance);
+    }
+
+    /**
+     * Resets the iterator so that it walks over the given polygon, allows to reuse the same iterator for all the
+     * polygons in a collection
+     */
+    public void init(Polygon p, AffineTransform at, boolean generalize, double maxDistance) {
+        if (at == null) {
+            at = NO_TRANSFORM;
+        }
+
+        this.polygon = p;
+        this.numRings = p.getNumInteriorRing() + 1;
+        this.at = at;
+        this.generalize = generalize;
         this.maxDistance = maxDistance;
+        xScale = Math.sqrt((at.getScaleX() * at.getScaleX()) + (at.getShearX() * at.getShearX()));
+        yScale = Math.sqrt((at.getScaleY() * at.getScaleY()) + (at.getShearY() * at.getShearY()));
+
+        currentRing = 0;
+        currentCoord = 0;
+        hasOld = false;
+        done = false;
+        coords = p.getExteriorRing().getCoordinateSequence();
     }
 
     /**
@@ -200,18 +214,20 @@ public boolean isDone() {
     @Override
     public void next() {
         if (currentCoord == coords.size()) {
-            if (currentRing < (rings.length - 1)) {
+            if (currentRing < (numRings - 1)) {
                 currentCoord = 0;
                 currentRing++;
-                coords = rings[currentRing].getCoordinateSequence();
+                coords = polygon.getInteriorRingN(currentRing - 1).getCoordinateSequence();
             } else {
                 done = true;
             }
         } else {
             if (generalize) {
-                if (oldCoord == null) {
+                if (!hasOld) {
                     currentCoord++;
-                    oldCoord = coords.getCoordinate(currentCoord);
+                    oldX = coords.getX(currentCoord);
+                    oldY = coords.getY(currentCoord);
+                    hasOld = true;
                 } else {
                     double distx = 0;
                     double disty = 0;
@@ -220,17 +236,18 @@ public void next() {
                         currentCoord++;
 
                         if (currentCoord < coords.size()) {
-                            distx = Math.abs(coords.getX(currentCoord) - oldCoord.x);
-                            disty = Math.abs(coords.getY(currentCoord) - oldCoord.y);
+                            distx = Math.abs(coords.getX(currentCoord) - oldX);
+                            disty = Math.abs(coords.getY(currentCoord) - oldY);
                         }
                     } while (((distx * xScale) < maxDistance)
                             && ((disty * yScale) < maxDistance)
                             && (currentCoord < coords.size()));
 
                     if (currentCoord < coords.size()) {
-                        oldCoord = coords.getCoordinate(currentCoord);
+                        oldX = coords.getX(currentCoord);
+                        oldY = coords.getY(currentCoord);
                     } else {
-                        oldCoord = null;
+                        hasOld = false;
                     }
                 }
             } else {
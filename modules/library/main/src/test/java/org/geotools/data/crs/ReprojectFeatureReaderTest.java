@@ -19,15 +19,20 @@
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
 
+import java.io.IOException;
+import org.geotools.api.data.DataSourceException;
 import org.geotools.api.data.FeatureReader;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.TransformException;
 import org.geotools.data.DataUtilities;
 import org.geotools.data.collection.ListFeatureCollection;
 import org.geotools.data.simple.SimpleFeatureCollection;
 import org.geotools.referencing.CRS;
+import org.geotools.referencing.operation.transform.AbstractMathTransform;
 import org.junit.Test;
 import org.locationtech.jts.geom.Point;
 
@@ -64,6 +69,135 @@ public void testReprojectWithUserData() throws Exception {
         assertThat(featuresCount, is(1));
     }
 
+    @Test
+    public void testBatchedReprojection() throws Exception {
+        SimpleFeatureType featureType = DataUtilities.createType("feature", "id:int,geometry:Point:srid=4326");
+        ListFeatureCollection features = new ListFeatureCollection(featureType);
+        int count = ReprojectionBatch.DEFAULT_SIZE * 2 + 10;
+        for (int i = 0; i < count; i++) {
+            features.add(DataUtilities.createFeature(featureType, "f" + i + "=" + i + "|POINT(" + (i % 180) + " 0)"));
+        }
+        CoordinateReferenceSystem sphericalMercator = CRS.decode("EPSG:3857");
+        FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                DataUtilities.reader((SimpleFeatureCollection) features);
+        try (ReprojectFeatureReader reprojected = new ReprojectFeatureReader(reader, sphericalMercator)) {
+            int i = 0;
+            while (reprojected.hasNext()) {
+                SimpleFeature feature = reprojected.next();
+                // features come out in order, with their own geometry
+                assertThat(feature.getID(), is("f" + i));
+                Point geometry = (Point) feature.getDefaultGeometry();
+                checkDoubleValue(geometry.getX(), 6378137 * Math.toRadians(i % 180), 0.001);
+                assertThat(geometry.getUserData(), notNullValue());
+                i++;
+            }
+            assertThat(i, is(count));
+        }
+    }
+
+    @Test
+    public void testReadAheadGrows() throws Exception {
+        SimpleFeatureType featureType = DataUtilities.createType("feature", "id:int,geometry:Point:srid=4326");
+        ListFeatureCollection features = new ListFeatureCollection(featureType);
+        for (int i = 0; i < ReprojectionBatch.DEFAULT_SIZE * 2; i++) {
+            features.add(DataUtilities.createFeature(featureType, "f" + i + "=" + i + "|POINT(" + (i % 180) + " 0)"));
+        }
+        CountingReader reader = new CountingReader(DataUtilities.reader((SimpleFeatureCollection) features));
+        try (ReprojectFeatureReader reprojected = new ReprojectFeatureReader(reader, CRS.decode("EPSG:3857"))) {
+            // a caller stopping early, e.g. on maxFeatures, does not make the delegate read a full batch
+            for (int i = 0; i < 10; i++) {
+                assertThat(reprojected.next().getID(), is("f" + i));
+                assertThat(reader.count <= 2 * (i + 1), is(true));
+            }
+        }
+    }
+
+    @Test
+    public void testFailureReportedOnFeature() throws Exception {
+        SimpleFeatureType featureType = DataUtilities.createType("feature", "id:int,geometry:Point");
+        ListFeatureCollection features = new ListFeatureCollection(featureType);
+        for (int i = 0; i < 10; i++) {
+            // the transform fails on the third feature only
+            int x = i == 2 ? -1 : i;
+            features.add(DataUtilities.createFeature(featureType, "f" + i + "=" + i + "|POINT(" + x + " 0)"));
+        }
+        try (ReprojectFeatureReader reprojected = new ReprojectFeatureReader(
+                DataUtilities.reader((SimpleFeatureCollection) features), featureType, new FailingTransform())) {
+            assertThat(reprojected.next().getID(), is("f0"));
+            assertThat(reprojected.next().getID(), is("f1"));
+            try {
+                reprojected.next();
+                fail("Should have failed on the third feature");
+            } catch (DataSourceException e) {
+                assertThat(e.getCause() instanceof TransformException, is(true));
+            }
+            for (int i = 3; i < 10; i++) {
+                SimpleFeature feature = reprojected.next();
+                assertThat(feature.getID(), is("f" + i));
+                checkDoubleValue(((Point) feature.getDefaultGeometry()).getX(), i * 2, 1e-9);
+            }
+            assertThat(reprojected.hasNext(), is(false));
+        }
+    }
+
+    /** Counts the features read from the delegate */
+    private static class CountingReader implements FeatureReader<SimpleFeatureType, SimpleFeature> {
+
+        final FeatureReader<SimpleFeatureType, SimpleFeature> delegate;
+
+        int count;
+
+        CountingReader(FeatureReader<SimpleFeatureType, SimpleFeature> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public SimpleFeatureType getFeatureType() {
+            return delegate.getFeatureType();
+        }
+
+        @Override
+        public SimpleFeature next() throws IOException {
+            count++;
+            return delegate.next();
+        }
+
+        @Override
+        public boolean hasNext() throws IOException {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    /** Doubles the coordinates, fails on negative x */
+    private static class FailingTransform extends AbstractMathTransform {
+
+        @Override
+        public int getSourceDimensions() {
+            return 2;
+        }
+
+        @Override
+        public int getTargetDimensions() {
+            return 2;
+        }
+
+        @Override
+        public void transform(double[] srcPts, int srcOff, double[] dstPts, int dstOff, int numPts)
+                throws TransformException {
+            for (int i = 0; i < numPts * 2; i++) {
+                if (i % 2 == 0 && srcPts[srcOff + i] < 0) {
+                    throw new TransformException("Negative x");
+                }
+                dstPts[dstOff + i] = srcPts[srcOff + i] * 2;
+            }
+        }
+    }
+
     /** Compare two double values with an accepted error. */
     private void checkDoubleValue(double value, double expected, double error) {
         double difference = Math.abs(value - expected);
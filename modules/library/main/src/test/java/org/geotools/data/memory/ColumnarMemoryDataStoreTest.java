@@ -0,0 +1,318 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.SimpleFeatureStore;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.geometry.jts.WKTReader2;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+
+public class ColumnarMemoryDataStoreTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    SimpleFeatureType schema;
+
+    MemoryDataStore columnar;
+
+    MemoryDataStore regular;
+
+    @Before
+    public void setUp() throws Exception {
+        schema = DataUtilities.createType("test", "geom:Geometry,name:String,i:Integer,d:Double,b:Boolean,l:Long");
+        columnar = new MemoryDataStore();
+        columnar.setColumnar(true);
+        columnar.createSchema(schema);
+        regular = new MemoryDataStore();
+        regular.createSchema(schema);
+    }
+
+    @Test
+    public void testColumnarEntry() throws Exception {
+        assertTrue(columnar.entry(schema).getMemory() instanceof ColumnarFeatureMap);
+        assertFalse(regular.entry(schema).getMemory() instanceof ColumnarFeatureMap);
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        WKTReader2 reader = new WKTReader2();
+        Geometry point = reader.read("POINT (1 2)");
+        point.setSRID(4326);
+        Geometry withUserData = reader.read("POINT (3 4)");
+        withUserData.setUserData("data");
+        String[] wkts = {
+            "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 4 2, 4 4, 2 4, 2 2))",
+            "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5)))",
+            "GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (0 0, 1 1, 2 0))",
+            "MULTILINESTRING ((0 0, 1 1), (2 2, 3 3))",
+            "MULTIPOINT ((1 1), (2 2))",
+            "LINESTRING Z (0 0 1, 1 1 2)",
+            "POLYGON EMPTY",
+            "CIRCULARSTRING (0 0, 1 1, 2 0)"
+        };
+        List<SimpleFeature> features = new ArrayList<>();
+        features.add(feature("f0", point, "point", 1, 1.5, true, 10L));
+        features.add(feature("f1", withUserData, null, null, null, null, null));
+        features.add(feature("f2", null, "no geometry", -1, -0.5, false, -10L));
+        for (int i = 0; i < wkts.length; i++) {
+            features.add(feature("g" + i, reader.read(wkts[i]), wkts[i], i, (double) i, i % 2 == 0, (long) i));
+        }
+        features.get(0).getUserData().put("key", "value");
+        columnar.addFeatures(features);
+
+        List<SimpleFeature> actual = read(columnar, Filter.INCLUDE);
+        assertEquals(features.size(), actual.size());
+        for (int i = 0; i < features.size(); i++) {
+            assertFeatureEquals(features.get(i), actual.get(i));
+        }
+        assertEquals("value", actual.get(0).getUserData().get("key"));
+        assertEquals(4326, ((Geometry) actual.get(0).getDefaultGeometry()).getSRID());
+        assertEquals("data", ((Geometry) actual.get(1).getDefaultGeometry()).getUserData());
+        assertEquals(features.size(), columnar.getFeatureSource("test").getCount(Query.ALL));
+    }
+
+    @Test
+    public void testBounds() throws Exception {
+        List<SimpleFeature> features = randomFeatures(100);
+        columnar.addFeatures(features);
+        regular.addFeatures(features);
+        ReferencedEnvelope expected = regular.getFeatureSource("test").getBounds();
+        ReferencedEnvelope actual = columnar.getFeatureSource("test").getBounds();
+        assertTrue(expected.boundsEquals2D(actual, 0));
+    }
+
+    @Test
+    public void testBBoxQueries() throws Exception {
+        // enough features to use the spatial index
+        List<SimpleFeature> features = randomFeatures(ColumnarFeatureMap.INDEX_THRESHOLD * 3);
+        columnar.addFeatures(features);
+        regular.addFeatures(features);
+        assertSameResults(FF.bbox("geom", 10, 10, 30, 40, null));
+        assertSameResults(FF.and(FF.bbox("geom", 0, 0, 50, 50, null), FF.greater(FF.property("i"), FF.literal(100))));
+        assertSameResults(FF.or(FF.bbox("geom", 0, 0, 5, 5, null), FF.bbox("geom", 90, 90, 100, 100, null)));
+        assertSameResults(FF.bbox("geom", 200, 200, 300, 300, null));
+
+        // the index follows the changes
+        SimpleFeatureStore store = (SimpleFeatureStore) columnar.getFeatureSource("test");
+        store.removeFeatures(FF.less(FF.property("i"), FF.literal(500)));
+        ((SimpleFeatureStore) regular.getFeatureSource("test"))
+                .removeFeatures(FF.less(FF.property("i"), FF.literal(500)));
+        assertSameResults(FF.bbox("geom", 10, 10, 30, 40, null));
+    }
+
+    @Test
+    public void testUpdates() throws Exception {
+        List<SimpleFeature> features = randomFeatures(500);
+        columnar.addFeatures(features);
+        regular.addFeatures(features);
+        GeometryFactory gf = new GeometryFactory();
+        for (MemoryDataStore ds : new MemoryDataStore[] {columnar, regular}) {
+            SimpleFeatureStore store = (SimpleFeatureStore) ds.getFeatureSource("test");
+            // repeated geometry updates leave garbage in the packed arrays, removals leave deleted rows
+            for (int i = 0; i < 5; i++) {
+                store.modifyFeatures(
+                        "geom",
+                        gf.createLineString(new Coordinate[] {new Coordinate(i, i), new Coordinate(50, 50)}),
+                        FF.less(FF.property("i"), FF.literal(100)));
+            }
+            store.modifyFeatures("name", "changed", FF.greater(FF.property("i"), FF.literal(400)));
+            // a value of a different class than the binding
+            store.modifyFeatures("d", 3, FF.equals(FF.property("i"), FF.literal(120)));
+            store.removeFeatures(FF.between(FF.property("i"), FF.literal(150), FF.literal(450)));
+        }
+        assertSameResults(Filter.INCLUDE);
+        assertSameResults(FF.bbox("geom", 10, 10, 30, 40, null));
+        assertEquals(
+                regular.getFeatureSource("test").getCount(Query.ALL),
+                columnar.getFeatureSource("test").getCount(Query.ALL));
+
+        // new features are appended after compaction
+        SimpleFeature added = feature("added", gf.createPoint(new Coordinate(1, 1)), "new", 1000, 1d, true, 1L);
+        columnar.addFeature(added);
+        List<SimpleFeature> actual = read(columnar, Filter.INCLUDE);
+        assertFeatureEquals(added, actual.get(actual.size() - 1));
+        assertNull(columnar.entry(schema).getMemory().get("test.200"));
+    }
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        GeometryFactory gf = new GeometryFactory();
+        int count = 200;
+        List<SimpleFeature> features = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            features.add(feature("f" + i, gf.createPoint(new Coordinate(i, i)), "0", i, 0d, true, 0L));
+        }
+        columnar.addFeatures(features);
+        ColumnarFeatureMap memory = (ColumnarFeatureMap) columnar.entry(schema).getMemory();
+
+        // the writer keeps the name, d and l attributes of a feature equal, readers check they are
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            Random random = new Random(0);
+            for (int version = 1; version < 20000; version++) {
+                String fid = "f" + random.nextInt(count);
+                SimpleFeature f = memory.get(fid);
+                f.setAttribute("name", String.valueOf(version));
+                f.setAttribute("d", (double) version);
+                f.setAttribute("l", (long) version);
+                f.setDefaultGeometry(gf.createPoint(new Coordinate(version, version)));
+                memory.put(fid, f);
+            }
+            done.set(true);
+        });
+        List<Thread> readers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            readers.add(new Thread(() -> {
+                while (!done.get() && failure.get() == null) {
+                    for (SimpleFeature f : memory.values()) {
+                        long version = (Long) f.getAttribute("l");
+                        Point p = (Point) f.getDefaultGeometry();
+                        if (version > 0
+                                && (!String.valueOf(version).equals(f.getAttribute("name"))
+                                        || (Double) f.getAttribute("d") != version
+                                        || p.getX() != version)) {
+                            failure.set("Inconsistent feature " + f);
+                        }
+                    }
+                }
+            }));
+        }
+        writer.start();
+        readers.forEach(Thread::start);
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(failure.get());
+        assertEquals(count, memory.size());
+    }
+
+    @Test
+    public void testGeometryFactories() throws Exception {
+        GeometryColumn column = new GeometryColumn(16);
+        int count = GeometryColumn.MAX_FACTORIES + 10;
+        for (int i = 0; i < count; i++) {
+            // a new but equivalent factory for each geometry, and one factory per SRID
+            column = set(column, 2 * i, new GeometryFactory().createPoint(new Coordinate(i, i)));
+            GeometryFactory gf = new GeometryFactory(new PrecisionModel(), i);
+            column = set(column, 2 * i + 1, gf.createPoint(new Coordinate(i, i)));
+        }
+        // the equivalent factories are stored once, past the limit geometries are kept with their own factory
+        assertEquals(GeometryColumn.MAX_FACTORIES, column.factories.size());
+        for (int i = 0; i < count; i++) {
+            Point shared = (Point) column.get(2 * i);
+            assertEquals(i, shared.getX(), 0d);
+            assertEquals(0, shared.getFactory().getSRID());
+            Point own = (Point) column.get(2 * i + 1);
+            assertEquals(i, own.getX(), 0d);
+            assertEquals(i, own.getSRID());
+            assertEquals(i, own.getFactory().getSRID());
+        }
+    }
+
+    private static GeometryColumn set(GeometryColumn column, int row, Object value) {
+        if (row >= column.capacity() || !column.set(row, value)) {
+            column = column.grow(value, Math.max(column.capacity(), row * 2));
+            column.set(row, value);
+        }
+        return column;
+    }
+
+    private SimpleFeature feature(String fid, Object... values) {
+        return SimpleFeatureBuilder.build(schema, values, fid);
+    }
+
+    private List<SimpleFeature> randomFeatures(int count) {
+        GeometryFactory gf = new GeometryFactory();
+        Random random = new Random(0);
+        List<SimpleFeature> features = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            double x = random.nextDouble() * 100;
+            double y = random.nextDouble() * 100;
+            Geometry geometry;
+            if (i % 3 == 0) {
+                geometry = gf.createPoint(new Coordinate(x, y));
+            } else {
+                geometry = gf.createLineString(new Coordinate[] {
+                    new Coordinate(x, y), new Coordinate(x + random.nextDouble() * 5, y + random.nextDouble() * 5)
+                });
+            }
+            features.add(feature("test." + i, i % 50 == 0 ? null : geometry, "n" + i, i, x, i % 2 == 0, (long) i));
+        }
+        return features;
+    }
+
+    private List<SimpleFeature> read(MemoryDataStore ds, Filter filter) throws Exception {
+        List<SimpleFeature> result = new ArrayList<>();
+        try (SimpleFeatureIterator it =
+                ds.getFeatureSource("test").getFeatures(filter).features()) {
+            while (it.hasNext()) {
+                result.add(it.next());
+            }
+        }
+        return result;
+    }
+
+    private void assertSameResults(Filter filter) throws Exception {
+        List<SimpleFeature> expected = read(regular, filter);
+        List<SimpleFeature> actual = read(columnar, filter);
+        assertEquals(filter.toString(), expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertFeatureEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    private void assertFeatureEquals(SimpleFeature expected, SimpleFeature actual) {
+        assertEquals(expected.getID(), actual.getID());
+        for (int i = 0; i < schema.getAttributeCount(); i++) {
+            Object e = expected.getAttribute(i);
+            Object a = actual.getAttribute(i);
+            if (e instanceof Geometry) {
+                assertEquals(e.getClass(), a.getClass());
+                assertTrue(e + " " + a, ((Geometry) e).equalsExact((Geometry) a));
+            } else {
+                assertEquals(e, a);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.sort;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.geotools.api.data.SimpleFeatureReader;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.sort.SortBy;
+import org.geotools.api.filter.sort.SortOrder;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+
+public class ExternalSorterTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    SimpleFeatureType schema;
+
+    List<SimpleFeature> features;
+
+    @Before
+    public void setUp() throws Exception {
+        schema = DataUtilities.createType(
+                "test",
+                "geom:Point,name:String,d:Double,f:Float,i:Integer,l:Long,b:Boolean,date:java.util.Date,"
+                        + "uuid:java.util.UUID,big:java.math.BigDecimal");
+        GeometryFactory gf = new GeometryFactory();
+        Random random = new Random(0);
+        String[] names = {"", "a", "ab", "b", "\0", "a\0", "\u00e8", "\u4e2d\u6587", "\uffff", null};
+        double[] doubles = {0d, -0d, 1.5, -1.5, Double.NaN, Double.NEGATIVE_INFINITY, Double.MAX_VALUE};
+        features = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Object[] values = {
+                i % 7 == 0 ? null : gf.createPoint(new Coordinate(random.nextDouble(), random.nextDouble())),
+                names[random.nextInt(names.length)],
+                i % 11 == 0 ? null : doubles[random.nextInt(doubles.length)],
+                (float) random.nextGaussian(),
+                random.nextInt(20) - 10,
+                random.nextLong(),
+                random.nextBoolean(),
+                new Date(random.nextInt(100) * 1000L),
+                new UUID(random.nextLong(), random.nextLong()),
+                new BigDecimal(random.nextInt(50)).movePointLeft(1)
+            };
+            features.add(SimpleFeatureBuilder.build(schema, values, "test." + random.nextInt(300)));
+        }
+    }
+
+    @Test
+    public void testKeysFollowComparator() {
+        assertKeysFollowComparator(sort("name", true));
+        assertKeysFollowComparator(sort("name", false));
+        assertKeysFollowComparator(sort("d", true));
+        assertKeysFollowComparator(sort("d", false));
+        assertKeysFollowComparator(sort("f", true), sort("i", false));
+        assertKeysFollowComparator(sort("l", true));
+        assertKeysFollowComparator(sort("b", false), sort("date", true), SortBy.REVERSE_ORDER);
+        assertKeysFollowComparator(SortBy.NATURAL_ORDER);
+    }
+
+    @Test
+    public void testUnsupportedKey() {
+        assertNull(SortKeyEncoder.create(schema, sort("big", true)));
+        assertNull(SortKeyEncoder.create(schema, sort("name", true), sort("uuid", true)));
+        assertNotNull(SortKeyEncoder.create(schema, sort("name", true), sort("i", true)));
+    }
+
+    @Test
+    public void testInMemory() throws Exception {
+        assertSorted(Integer.MAX_VALUE, Long.MAX_VALUE, sort("name", true), sort("d", false));
+    }
+
+    @Test
+    public void testFeatureLimit() throws Exception {
+        assertSorted(100, Long.MAX_VALUE, sort("name", true), sort("d", false));
+        assertSorted(100, Long.MAX_VALUE, sort("big", false), sort("i", true));
+    }
+
+    @Test
+    public void testMemoryLimit() throws Exception {
+        assertSorted(Integer.MAX_VALUE, 20000, sort("i", false), SortBy.NATURAL_ORDER);
+    }
+
+    @Test
+    public void testMultiPassMerge() throws Exception {
+        // more runs than can be merged at once
+        assertSorted(5, Long.MAX_VALUE, sort("date", true));
+        assertSorted(5, Long.MAX_VALUE, sort("uuid", true));
+    }
+
+    @Test
+    public void testUncompressed() throws Exception {
+        System.setProperty(ExternalSorter.COMPRESS_KEY, "false");
+        try {
+            assertSorted(50, Long.MAX_VALUE, sort("name", false));
+        } finally {
+            System.clearProperty(ExternalSorter.COMPRESS_KEY);
+        }
+    }
+
+    private SortBy sort(String property, boolean ascending) {
+        return FF.sort(property, ascending ? SortOrder.ASCENDING : SortOrder.DESCENDING);
+    }
+
+    private void assertKeysFollowComparator(SortBy... sortBy) {
+        SortKeyEncoder encoder = SortKeyEncoder.create(schema, sortBy);
+        Comparator<SimpleFeature> comparator = SortedFeatureReader.getComparator(sortBy, schema);
+        byte[][] keys = new byte[features.size()][];
+        for (int i = 0; i < keys.length; i++) {
+            SortBuffer buffer = new SortBuffer(16);
+            encoder.encode(features.get(i), buffer);
+            keys[i] = Arrays.copyOf(buffer.bytes, buffer.length);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            for (int j = 0; j < keys.length; j += 7) {
+                int expected = Integer.signum(comparator.compare(features.get(i), features.get(j)));
+                int actual = Integer.signum(Arrays.compareUnsigned(keys[i], keys[j]));
+                assertEquals(Arrays.toString(sortBy) + " " + features.get(i) + " " + features.get(j), expected, actual);
+            }
+        }
+    }
+
+    /** Sorts with the given limits and checks the results match a stable in memory sort */
+    private void assertSorted(int maxFeatures, long maxMemory, SortBy... sortBy) throws IOException {
+        Comparator<SimpleFeature> comparator = SortedFeatureReader.getComparator(sortBy, schema);
+        List<SimpleFeature> expected = new ArrayList<>(features);
+        expected.sort(comparator);
+
+        ExternalSorter sorter = new ExternalSorter(schema, sortBy, comparator, maxFeatures, maxMemory);
+        SimpleFeatureReader source = DataUtilities.reader(new ListFeatureCollection(schema, features));
+        try (SimpleFeatureReader reader = sorter.sort(source)) {
+            for (SimpleFeature e : expected) {
+                SimpleFeature actual = reader.next();
+                assertEquals(e.getID(), actual.getID());
+                for (int i = 0; i < schema.getAttributeCount(); i++) {
+                    assertEquals(schema.getDescriptor(i).getLocalName(), e.getAttribute(i), actual.getAttribute(i));
+                }
+            }
+            assertFalse(reader.hasNext());
+        }
+    }
+}
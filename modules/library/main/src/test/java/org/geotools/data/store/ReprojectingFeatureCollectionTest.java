@@ -101,6 +101,29 @@ public void testNormal() throws Exception {
         }
     }
 
+    @Test
+    public void testReprojectionTolerance() throws Exception {
+        ReprojectingFeatureCollection rfc = new ReprojectingFeatureCollection(delegate, target);
+        rfc.setReprojectionTolerance(1);
+        try (SimpleFeatureIterator reproject = rfc.features();
+                SimpleFeatureIterator reader = delegate.features()) {
+            while (reader.hasNext()) {
+                SimpleFeature normal = reader.next();
+                SimpleFeature reprojected = reproject.next();
+                for (String name : new String[] {"defaultGeom", "otherGeom"}) {
+                    Geometry g1 = (Geometry) normal.getAttribute(name);
+                    Geometry g2 = (Geometry) reprojected.getAttribute(name);
+                    if (g1 != null) {
+                        g1 = transformer.transform(g1);
+                        assertTrue(g1.equalsExact(g2, 1));
+                    } else {
+                        assertNull(g2);
+                    }
+                }
+            }
+        }
+    }
+
     @Test
     public void testBounds() throws Exception {
         ReprojectingFeatureCollection rfc = new ReprojectingFeatureCollection(delegate, target);
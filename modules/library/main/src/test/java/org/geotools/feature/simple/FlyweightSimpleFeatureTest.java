@@ -0,0 +1,105 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.simple;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+
+public class FlyweightSimpleFeatureTest {
+
+    @Test
+    public void testMoveAndRetain() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("test", "geom:Point,name:String,value:Integer");
+        GeometryFactory gf = new GeometryFactory();
+        Point p1 = gf.createPoint(new Coordinate(1, 1));
+        Point p2 = gf.createPoint(new Coordinate(2, 2));
+        Object[] buffer = {p1, "one", 1, p2, "two", 2};
+
+        FlyweightSimpleFeature feature = new FlyweightSimpleFeature(type);
+        feature.moveTo("test.1", buffer, 0);
+        feature.getUserData().put("key", "value");
+        assertEquals("test.1", feature.getID());
+        assertEquals("one", feature.getAttribute("name"));
+        assertSame(p1, feature.getDefaultGeometry());
+
+        SimpleFeature copy = feature.copy();
+        SimpleFeature retained = FlyweightSimpleFeature.retain(feature);
+        assertFalse(copy instanceof FlyweightSimpleFeature);
+        assertEquals(feature, copy);
+        assertEquals(feature, retained);
+
+        feature.moveTo("test.2", buffer, 3);
+        assertEquals("test.2", feature.getID());
+        assertEquals("test.2", feature.getIdentifier().getID());
+        assertEquals(2, feature.getAttribute("value"));
+        assertEquals(p2.getEnvelopeInternal(), feature.getBounds());
+        assertTrue(feature.getUserData().isEmpty());
+
+        // the copies keep the first row
+        assertEquals("test.1", copy.getID());
+        assertEquals("one", copy.getAttribute("name"));
+        assertEquals("value", copy.getUserData().get("key"));
+        assertEquals("test.1", retained.getID());
+        assertNotSame(copy, retained);
+
+        // regular features are retained as is
+        assertSame(copy, FlyweightSimpleFeature.retain(copy));
+    }
+
+    @Test
+    public void testConvertLikeBuilder() throws Exception {
+        SimpleFeatureTypeBuilder tb = new SimpleFeatureTypeBuilder();
+        tb.setName("test");
+        tb.add("geom", Point.class);
+        tb.add("value", Integer.class);
+        tb.nillable(false).defaultValue(42).add("mandatory", Integer.class);
+        tb.nillable(false).add("required", Double.class);
+        tb.add("date", Date.class);
+        SimpleFeatureType type = tb.buildFeatureType();
+
+        // nulls of non nillable attributes get the default value, unconvertible values are kept
+        Object[] row = {null, "abc", null, null, "not a date"};
+        SimpleFeature built = SimpleFeatureBuilder.build(type, row, "test.1");
+        FlyweightSimpleFeature flyweight = new FlyweightSimpleFeature(type);
+        Object[] converted = new Object[row.length];
+        for (int i = 0; i < row.length; i++) {
+            converted[i] = SimpleFeatureBuilder.convertValue(row[i], type.getDescriptor(i));
+        }
+        flyweight.moveTo("test.1", converted, 0);
+        assertEquals(built.getAttributes(), flyweight.getAttributes());
+        assertEquals("abc", flyweight.getAttribute("value"));
+        assertEquals(42, flyweight.getAttribute("mandatory"));
+        assertNotNull(flyweight.getAttribute("required"));
+        assertEquals("not a date", flyweight.getAttribute("date"));
+
+        // convertible values are converted
+        assertEquals(12, SimpleFeatureBuilder.convertValue("12", type.getDescriptor("value")));
+    }
+}
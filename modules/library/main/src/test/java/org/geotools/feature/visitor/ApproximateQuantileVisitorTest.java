@@ -0,0 +1,105 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.DataUtilities;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ApproximateQuantileVisitorTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    SimpleFeatureType type;
+
+    SimpleFeatureBuilder fb;
+
+    @Before
+    public void setUp() throws Exception {
+        type = DataUtilities.createType("test", "value:Double");
+        fb = new SimpleFeatureBuilder(type);
+    }
+
+    private SimpleFeature feature(Double value) {
+        fb.add(value);
+        return fb.buildFeature(null);
+    }
+
+    @Test
+    public void testUniform() {
+        ApproximateQuantileVisitor visitor = new ApproximateQuantileVisitor(FF.property("value"), 4);
+        assertSame(CalcResult.NULL_RESULT, visitor.getResult());
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            visitor.visit(feature(random.nextDouble() * 1000));
+        }
+        visitor.visit(feature(null));
+        visitor.visit(feature(Double.NaN));
+
+        assertEquals(100000, visitor.getCount());
+        assertEquals(1, visitor.getNullCount());
+        assertEquals(1, visitor.getNaNCount());
+        assertEquals(500, visitor.getQuantile(0.5), 5);
+        assertEquals(10, visitor.getQuantile(0.01), 1);
+        assertEquals(990, visitor.getQuantile(0.99), 1);
+
+        @SuppressWarnings("unchecked")
+        List<Double> breaks = (List<Double>) visitor.getResult().getValue();
+        assertEquals(5, breaks.size());
+        assertEquals(0, breaks.get(0), 0.1);
+        assertEquals(250, breaks.get(1), 5);
+        assertEquals(750, breaks.get(3), 5);
+        assertEquals(1000, breaks.get(4), 0.1);
+    }
+
+    @Test
+    public void testMerge() {
+        ApproximateQuantileVisitor visitor = new ApproximateQuantileVisitor(FF.property("value"), 10);
+        MergeableFeatureCalc low = visitor.createPartial();
+        MergeableFeatureCalc high = visitor.createPartial();
+        for (int i = 0; i < 50000; i++) {
+            low.visit(feature((double) i));
+            high.visit(feature((double) (i + 50000)));
+        }
+        visitor.merge(low);
+        visitor.merge(high);
+        assertEquals(100000, visitor.getCount());
+        assertEquals(50000, visitor.getQuantile(0.5), 500);
+        assertEquals(90000, visitor.getQuantile(0.9), 500);
+        assertEquals(0, visitor.getQuantile(0), 0);
+        assertEquals(99999, visitor.getQuantile(1), 0);
+    }
+
+    @Test
+    public void testSingleValue() {
+        ApproximateQuantileVisitor visitor = new ApproximateQuantileVisitor(FF.property("value"), 3);
+        visitor.visit(feature(7d));
+        assertEquals(7, visitor.getQuantile(0.3), 0);
+        assertTrue(Double.isNaN(new ApproximateQuantileVisitor(FF.property("value"), 3).getQuantile(0.5)));
+    }
+}
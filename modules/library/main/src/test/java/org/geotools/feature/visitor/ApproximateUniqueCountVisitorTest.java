@@ -0,0 +1,104 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.DataUtilities;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ApproximateUniqueCountVisitorTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    SimpleFeatureType type;
+
+    SimpleFeatureBuilder fb;
+
+    @Before
+    public void setUp() throws Exception {
+        type = DataUtilities.createType("test", "name:String,value:Integer");
+        fb = new SimpleFeatureBuilder(type);
+    }
+
+    private SimpleFeature feature(String name, Integer value) {
+        fb.add(name);
+        fb.add(value);
+        return fb.buildFeature(null);
+    }
+
+    @Test
+    public void testSmallCardinality() {
+        ApproximateUniqueCountVisitor visitor = new ApproximateUniqueCountVisitor(FF.property("name"));
+        assertSame(CalcResult.NULL_RESULT, visitor.getResult());
+        for (int i = 0; i < 1000; i++) {
+            visitor.visit(feature("name" + (i % 10), i));
+        }
+        visitor.visit(feature(null, 0));
+        // linear counting is exact for so few values
+        assertEquals(10L, visitor.getResult().getValue());
+    }
+
+    @Test
+    public void testLargeCardinality() {
+        ApproximateUniqueCountVisitor visitor = new ApproximateUniqueCountVisitor(FF.property("name"));
+        int distinct = 200000;
+        for (int i = 0; i < distinct * 2; i++) {
+            visitor.visit(feature("name" + (i % distinct), i));
+        }
+        // 0.8% standard error, allow for four of them
+        assertEquals(distinct, visitor.getCount(), distinct * 0.032);
+    }
+
+    @Test
+    public void testMerge() {
+        ApproximateUniqueCountVisitor serial = new ApproximateUniqueCountVisitor(FF.property("value"));
+        ApproximateUniqueCountVisitor merged = new ApproximateUniqueCountVisitor(FF.property("value"));
+        MergeableFeatureCalc p1 = merged.createPartial();
+        MergeableFeatureCalc p2 = merged.createPartial();
+        for (int i = 0; i < 50000; i++) {
+            SimpleFeature f = feature(null, i % 30000);
+            serial.visit(f);
+            (i % 2 == 0 ? p1 : p2).visit(f);
+        }
+        merged.merge(p1);
+        merged.merge(p2);
+        // the registers are the same, so is the estimate
+        assertEquals(serial.getCount(), merged.getCount());
+    }
+
+    @Test
+    public void testOptimizedValue() {
+        ApproximateUniqueCountVisitor visitor = new ApproximateUniqueCountVisitor(FF.property("value"));
+        visitor.setValue(new java.math.BigDecimal("12345"));
+        assertEquals(12345L, visitor.getCount());
+        assertNull(visitor.createPartial());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPrecision() {
+        new ApproximateUniqueCountVisitor(FF.property("value"), 30);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.data.DataUtilities;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HeavyHittersVisitorTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    List<SimpleFeature> features;
+
+    @Before
+    public void setUp() throws Exception {
+        SimpleFeatureType type = DataUtilities.createType("test", "name:String");
+        SimpleFeatureBuilder fb = new SimpleFeatureBuilder(type);
+        features = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            // two values are frequent, the others show up once
+            String name = i % 5 == 0 ? "frequent" : i % 7 == 0 ? "common" : "rare" + i;
+            fb.add(name);
+            features.add(fb.buildFeature(null));
+        }
+    }
+
+    private void check(HeavyHittersVisitor visitor) {
+        Map<Object, Long> hitters = visitor.getHeavyHitters();
+        List<Object> values = new ArrayList<>(hitters.keySet());
+        assertEquals("frequent", values.get(0));
+        assertEquals("common", values.get(1));
+        assertTrue(hitters.size() <= 10);
+        assertEquals(100000, visitor.getCount());
+        assertTrue(visitor.getMaxError() <= 100000 / 11);
+        // the counts are underestimated by at most the max error
+        long frequent = 20000;
+        assertTrue(hitters.get("frequent") <= frequent);
+        assertTrue(hitters.get("frequent") >= frequent - visitor.getMaxError());
+    }
+
+    @Test
+    public void testSerial() {
+        HeavyHittersVisitor visitor = new HeavyHittersVisitor(FF.property("name"), 10);
+        for (SimpleFeature f : features) {
+            visitor.visit(f);
+        }
+        check(visitor);
+        assertEquals(visitor.getHeavyHitters(), visitor.getResult().toMap());
+    }
+
+    @Test
+    public void testMerge() {
+        HeavyHittersVisitor visitor = new HeavyHittersVisitor(FF.property("name"), 10);
+        List<MergeableFeatureCalc> partials = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            partials.add(visitor.createPartial());
+        }
+        for (int i = 0; i < features.size(); i++) {
+            partials.get(i * 4 / features.size()).visit(features.get(i));
+        }
+        for (MergeableFeatureCalc partial : partials) {
+            visitor.merge(partial);
+        }
+        check(visitor);
+    }
+}
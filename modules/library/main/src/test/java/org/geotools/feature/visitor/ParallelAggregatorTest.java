@@ -0,0 +1,244 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.feature.visitor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.memory.MemoryDataStore;
+import org.geotools.data.simple.SimpleFeatureSource;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelAggregatorTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    static final Expression VALUE = FF.property("value");
+
+    static final Expression COUNT = FF.property("count");
+
+    static final Expression GROUP = FF.property("group");
+
+    SimpleFeatureType type;
+
+    List<SimpleFeature> features;
+
+    @Before
+    public void setUp() throws Exception {
+        type = DataUtilities.createType("test", "value:Double,count:Integer,group:String");
+        features = new ArrayList<>();
+        SimpleFeatureBuilder fb = new SimpleFeatureBuilder(type);
+        for (int i = 0; i < 25000; i++) {
+            Double value;
+            if (i % 97 == 0) {
+                value = null;
+            } else if (i % 101 == 0) {
+                value = Double.NaN;
+            } else {
+                value = (i * 7919 % 1000) / 10d;
+            }
+            fb.add(value);
+            fb.add(i % 13);
+            fb.add("g" + (i % 5));
+            features.add(fb.buildFeature("test." + i));
+        }
+    }
+
+    /** Visits the features split in parts of the given size, in parallel */
+    private boolean visitParallel(FeatureCalc visitor, int partSize) throws IOException {
+        int parts = (features.size() + partSize - 1) / partSize;
+        return ParallelAggregator.accepts(
+                visitor,
+                parts,
+                (part, partial) -> {
+                    int end = Math.min(features.size(), (part + 1) * partSize);
+                    for (SimpleFeature f : features.subList(part * partSize, end)) {
+                        partial.visit(f);
+                    }
+                },
+                ForkJoinPool.commonPool());
+    }
+
+    private <T extends FeatureCalc> T visitSerial(T visitor) {
+        for (SimpleFeature f : features) {
+            visitor.visit(f);
+        }
+        return visitor;
+    }
+
+    @Test
+    public void testCount() throws Exception {
+        CountVisitor parallel = new CountVisitor();
+        assertTrue(visitParallel(parallel, 1000));
+        assertEquals(visitSerial(new CountVisitor()).getCount(), parallel.getCount());
+
+        // subclasses may count differently, they are not split unless they say so
+        CountVisitor subclass = new CountVisitor() {};
+        assertNull(subclass.createPartial());
+        assertFalse(visitParallel(subclass, 1000));
+    }
+
+    @Test
+    public void testSum() throws Exception {
+        SumVisitor parallel = new SumVisitor(COUNT);
+        assertTrue(visitParallel(parallel, 1000));
+        assertEquals(visitSerial(new SumVisitor(COUNT)).getSum(), parallel.getSum());
+    }
+
+    @Test
+    public void testMinMax() throws Exception {
+        MinVisitor min = new MinVisitor(COUNT);
+        assertTrue(visitParallel(min, 1000));
+        assertEquals(visitSerial(new MinVisitor(COUNT)).getMin(), min.getMin());
+
+        MaxVisitor max = new MaxVisitor(VALUE);
+        assertTrue(visitParallel(max, 1000));
+        MaxVisitor serial = visitSerial(new MaxVisitor(VALUE));
+        assertEquals(serial.getMax(), max.getMax());
+        assertEquals(serial.getNullCount(), max.getNullCount());
+        assertEquals(serial.getNaNCount(), max.getNaNCount());
+    }
+
+    @Test
+    public void testAverage() throws Exception {
+        AverageVisitor parallel = new AverageVisitor(COUNT);
+        assertTrue(visitParallel(parallel, 1000));
+        assertEquals(visitSerial(new AverageVisitor(COUNT)).getAverage(), parallel.getAverage());
+
+        // an optimized result cannot be merged
+        AverageVisitor optimized = new AverageVisitor(COUNT);
+        optimized.setValue(10d);
+        assertFalse(visitParallel(optimized, 1000));
+        assertEquals(10d, optimized.getAverage());
+    }
+
+    @Test
+    public void testUniquePaged() throws Exception {
+        UniqueVisitor parallel = new UniqueVisitor(VALUE);
+        parallel.setPreserveOrder(true);
+        parallel.setStartIndex(100);
+        parallel.setMaxFeatures(50);
+        assertTrue(visitParallel(parallel, 100));
+
+        UniqueVisitor serial = new UniqueVisitor(VALUE);
+        serial.setPreserveOrder(true);
+        serial.setStartIndex(100);
+        serial.setMaxFeatures(50);
+        visitSerial(serial);
+        assertEquals(50, serial.getUnique().size());
+        assertEquals(new ArrayList<>(serial.getUnique()), new ArrayList<>(parallel.getUnique()));
+    }
+
+    @Test
+    public void testUniqueMultiAttribute() throws Exception {
+        UniqueVisitor parallel = new UniqueVisitor(COUNT, GROUP);
+        assertTrue(visitParallel(parallel, 1000));
+        assertEquals(visitSerial(new UniqueVisitor(COUNT, GROUP)).getUnique(), parallel.getUnique());
+    }
+
+    @Test
+    public void testGroupBy() throws Exception {
+        GroupByVisitor parallel = new GroupByVisitor(Aggregate.MAX, VALUE, Arrays.asList(GROUP), null);
+        assertTrue(visitParallel(parallel, 1000));
+        GroupByVisitor serial = new GroupByVisitor(Aggregate.MAX, VALUE, Arrays.asList(GROUP), null);
+        visitSerial(serial);
+        Map expected = serial.getResult().toMap();
+        assertEquals(5, expected.size());
+        assertEquals(expected, parallel.getResult().toMap());
+
+        // medians cannot be merged
+        GroupByVisitor median = new GroupByVisitor(Aggregate.MEDIAN, VALUE, Arrays.asList(GROUP), null);
+        assertFalse(visitParallel(median, 1000));
+    }
+
+    @Test
+    public void testStandardDeviation() throws Exception {
+        StandardDeviationVisitor parallel = new StandardDeviationVisitor(VALUE);
+        assertTrue(visitParallel(parallel, 1000));
+        StandardDeviationVisitor serial = visitSerial(new StandardDeviationVisitor(VALUE));
+        assertEquals(serial.getResult().toDouble(), parallel.getResult().toDouble(), 1e-9);
+        assertEquals(serial.getMean(), parallel.getMean(), 1e-9);
+        assertEquals(serial.getNullCount(), parallel.getNullCount());
+        assertEquals(serial.getNaNCount(), parallel.getNaNCount());
+    }
+
+    @Test
+    public void testQuantileList() throws Exception {
+        QuantileListVisitor parallel = new QuantileListVisitor(VALUE, 4);
+        assertTrue(visitParallel(parallel, 1000));
+        QuantileListVisitor serial = visitSerial(new QuantileListVisitor(VALUE, 4));
+        Object[] expected = (Object[]) serial.getResult().getValue();
+        Object[] actual = (Object[]) parallel.getResult().getValue();
+        assertTrue(Arrays.deepEquals(expected, actual));
+    }
+
+    @Test
+    public void testNotMergeable() throws Exception {
+        MedianVisitor median = new MedianVisitor(VALUE);
+        assertFalse(visitParallel(median, 1000));
+        assertSame(CalcResult.NULL_RESULT, median.getResult());
+    }
+
+    @Test
+    public void testMemoryDataStore() throws Exception {
+        for (boolean columnar : new boolean[] {false, true}) {
+            MemoryDataStore store = new MemoryDataStore();
+            store.setColumnar(columnar);
+            store.createSchema(type);
+            store.addFeatures(features);
+            SimpleFeatureSource source = store.getFeatureSource("test");
+
+            GroupByVisitor parallel = new GroupByVisitor(Aggregate.SUM, COUNT, Arrays.asList(GROUP), null);
+            source.getFeatures(FF.greater(COUNT, FF.literal(3))).accepts(parallel, null);
+            GroupByVisitor serial = new GroupByVisitor(Aggregate.SUM, COUNT, Arrays.asList(GROUP), null);
+            for (SimpleFeature f : features) {
+                if ((Integer) f.getAttribute("count") > 3) {
+                    serial.visit(f);
+                }
+            }
+            assertEquals(serial.getResult().toMap(), parallel.getResult().toMap());
+
+            UniqueVisitor unique = limited(new UniqueVisitor(VALUE));
+            source.getFeatures().accepts(unique, null);
+            UniqueVisitor expected = visitSerial(limited(new UniqueVisitor(VALUE)));
+            assertEquals(new ArrayList<>(expected.getUnique()), new ArrayList<>(unique.getUnique()));
+        }
+    }
+
+    private UniqueVisitor limited(UniqueVisitor visitor) {
+        visitor.setPreserveOrder(true);
+        visitor.setMaxFeatures(20);
+        return visitor;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.filter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.FilterFactory;
+import org.geotools.api.filter.expression.PropertyName;
+import org.geotools.data.DataUtilities;
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.filter.visitor.DuplicatingFilterVisitor;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+
+public class FilterCompilerTest {
+
+    static final FilterFactory FF = CommonFactoryFinder.getFilterFactory();
+
+    SimpleFeatureType schema;
+
+    SimpleFeature[] features;
+
+    @Before
+    public void setUp() throws Exception {
+        schema = DataUtilities.createType(
+                "test", "geom:Point:srid=4326,id:Integer,name:String,value:Double,date:java.util.Date");
+        GeometryFactory gf = new GeometryFactory();
+        Random random = new Random(0);
+        String[] names = {"alpha", "Alpha", "beta", "10", "9.5", null};
+        features = new SimpleFeature[200];
+        for (int i = 0; i < features.length; i++) {
+            Coordinate c = new Coordinate(random.nextDouble() * 100, random.nextDouble() * 100);
+            Object[] values = {
+                i % 17 == 0 ? null : gf.createPoint(c),
+                i % 13 == 0 ? null : i,
+                names[i % names.length],
+                i % 11 == 0 ? null : random.nextDouble() * 100 - 50,
+                new Date(i * 1000L)
+            };
+            features[i] = SimpleFeatureBuilder.build(schema, values, "test." + i);
+        }
+    }
+
+    @Test
+    public void testComparisons() {
+        assertSameResults(FF.equals(FF.property("id"), FF.literal(10)));
+        assertSameResults(FF.equals(FF.property("id"), FF.literal("10")));
+        assertSameResults(FF.equals(FF.property("id"), FF.literal(10L)));
+        assertSameResults(FF.equals(FF.literal(10d), FF.property("id")));
+        assertSameResults(FF.notEqual(FF.property("id"), FF.literal(10)));
+        assertSameResults(FF.equals(FF.property("name"), FF.literal("alpha")));
+        assertSameResults(FF.equal(FF.property("name"), FF.literal("ALPHA"), false));
+        assertSameResults(FF.equals(FF.property("name"), FF.literal(10)));
+        assertSameResults(FF.less(FF.property("id"), FF.literal(100)));
+        assertSameResults(FF.lessOrEqual(FF.property("id"), FF.literal("100")));
+        assertSameResults(FF.greater(FF.property("value"), FF.literal(0)));
+        assertSameResults(FF.greaterOrEqual(FF.literal(0), FF.property("value")));
+        assertSameResults(FF.greater(FF.property("name"), FF.literal("9.6")));
+        assertSameResults(FF.less(FF.property("date"), FF.literal(new Date(50000))));
+        assertSameResults(FF.less(FF.property("date"), FF.literal("1970-01-01T00:01:00Z")));
+        assertSameResults(FF.isNull(FF.property("value")));
+    }
+
+    @Test
+    public void testLogic() {
+        Filter a = FF.greater(FF.property("id"), FF.literal(50));
+        Filter b = FF.less(FF.property("value"), FF.literal(10));
+        Filter c = FF.like(FF.property("name"), "a*");
+        assertSameResults(FF.and(a, b));
+        assertSameResults(FF.or(a, b));
+        assertSameResults(FF.not(FF.or(Arrays.asList(a, b, c))));
+        assertSameResults(FF.and(FF.or(a, c), FF.not(b)));
+        assertSameResults(FF.or(FF.and(a, Filter.EXCLUDE), Filter.INCLUDE));
+    }
+
+    @Test
+    public void testSpatial() {
+        Envelope envelope = new Envelope(10, 60, 20, 70);
+        assertSameResults(FF.bbox("geom", 10, 20, 60, 70, null));
+        assertSameResults(FF.intersects(FF.property("geom"), FF.literal(new GeometryFactory().toGeometry(envelope))));
+        assertSameResults(FF.within(FF.literal(new GeometryFactory().toGeometry(envelope)), FF.property("geom")));
+        Point center = new GeometryFactory().createPoint(new Coordinate(50, 50));
+        assertSameResults(FF.dwithin(FF.property("geom"), FF.literal(center), 10, "m"));
+    }
+
+    @Test
+    public void testIndexedAccess() {
+        // a filter that cannot be specialized still reads the attributes by index
+        Filter filter = FF.between(FF.property("id"), FF.literal(20), FF.literal(80));
+        CompiledFilter compiled = FilterCompiler.compile(filter, schema);
+        assertTrue(compiled.root instanceof FilterCompiler.Generic);
+        Filter generic = ((FilterCompiler.Generic) compiled.root).filter;
+        List<PropertyName> names = new ArrayList<>();
+        generic.accept(
+                new DuplicatingFilterVisitor() {
+                    @Override
+                    public Object visit(PropertyName expression, Object extraData) {
+                        names.add(expression);
+                        return expression;
+                    }
+                },
+                null);
+        assertEquals(1, names.size());
+        assertTrue(names.get(0) instanceof FilterCompiler.IndexedPropertyName);
+        assertSameResults(filter);
+    }
+
+    @Test
+    public void testIndexedPropertyNameOtherType() throws Exception {
+        PropertyName id = (PropertyName) FF.property("id").accept(new FilterCompiler.IndexingVisitor(schema), null);
+        assertTrue(id instanceof FilterCompiler.IndexedPropertyName);
+        assertEquals(features[1].getAttribute("id"), id.evaluate(features[1]));
+
+        // an equal type read by index, another one by name
+        SimpleFeatureType copy = DataUtilities.createType(
+                "test", "geom:Point:srid=4326,id:Integer,name:String,value:Double,date:java.util.Date");
+        SimpleFeature feature = SimpleFeatureBuilder.build(copy, new Object[] {null, 7, "a", 1d, null}, "copy.1");
+        assertEquals(7, id.evaluate(feature));
+        SimpleFeatureType other = DataUtilities.createType("other", "name:String,id:Integer");
+        feature = SimpleFeatureBuilder.build(other, new Object[] {"beta", 42}, "other.1");
+        assertEquals(42, id.evaluate(feature));
+        assertEquals("42", id.evaluate(feature, String.class));
+    }
+
+    @Test
+    public void testDifferentType() throws Exception {
+        Filter filter = FF.equals(FF.property("name"), FF.literal("beta"));
+        CompiledFilter compiled = FilterCompiler.compile(filter, schema);
+        assertSame(compiled, FilterCompiler.compile(compiled, schema));
+
+        // a type with the attribute at a different position
+        SimpleFeatureType other = DataUtilities.createType("test", "name:String,geom:Point:srid=4326");
+        SimpleFeature feature = SimpleFeatureBuilder.build(other, new Object[] {"beta", null}, "other.1");
+        assertTrue(compiled.evaluate(feature));
+    }
+
+    private void assertSameResults(Filter filter) {
+        CompiledFilter compiled = FilterCompiler.compile(filter, schema);
+        int[] expected = new int[features.length];
+        int expectedCount = 0;
+        for (int i = 0; i < features.length; i++) {
+            boolean result = filter.evaluate(features[i]);
+            assertEquals(filter + " on " + features[i], result, compiled.evaluate(features[i]));
+            if (result) {
+                expected[expectedCount++] = i;
+            }
+        }
+
+        // batch evaluation, on all features and on a subset
+        int[] selection = new int[features.length];
+        for (int i = 0; i < selection.length; i++) {
+            selection[i] = i;
+        }
+        int count = compiled.select(features, selection, selection.length);
+        assertEquals(filter.toString(), expectedCount, count);
+        assertEquals(
+                filter.toString(),
+                Arrays.toString(Arrays.copyOf(expected, expectedCount)),
+                Arrays.toString(Arrays.copyOf(selection, count)));
+
+        int[] odd = new int[features.length / 2];
+        for (int i = 0; i < odd.length; i++) {
+            odd[i] = i * 2 + 1;
+        }
+        int oddCount = compiled.select(features, odd, odd.length);
+        int[] expectedOdd = Arrays.stream(expected, 0, expectedCount)
+                .filter(i -> i % 2 == 1)
+                .toArray();
+        assertEquals(filter.toString(), Arrays.toString(expectedOdd), Arrays.toString(Arrays.copyOf(odd, oddCount)));
+    }
+}
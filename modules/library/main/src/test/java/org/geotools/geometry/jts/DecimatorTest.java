@@ -18,6 +18,7 @@
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 
 import java.awt.Rectangle;
@@ -27,11 +28,13 @@
 import org.geotools.referencing.operation.transform.AbstractMathTransform;
 import org.geotools.referencing.operation.transform.AffineTransform2D;
 import org.junit.Test;
+import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.LinearRing;
 import org.locationtech.jts.geom.MultiLineString;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
 
 public class DecimatorTest {
 
@@ -192,4 +195,41 @@ public void testDecimateCollection() throws Exception {
         assertEquals("CircularString", origin.getGeometryN(1).getGeometryType());
         assertEquals("LineString", simplified.getGeometryN(1).getGeometryType());
     }
+
+    @Test
+    public void testCloneMatchesInPlace() throws Exception {
+        WKTReader2 reader = new WKTReader2();
+        Geometry source = reader.read("GEOMETRYCOLLECTION(POLYGON((0 0, 0.1 0.1, 0 10, 0.2 10.2, 10 10, 10 0, 0 0),"
+                + "(2 2, 2.1 3, 2 4, 4 4, 4 2, 2 2)), LINESTRING(0 0, 0.1 0.1, 0.2 0, 30 0), POINT(3 3))");
+        Geometry original = source.copy();
+        MathTransform transform = new AffineTransform2D(new AffineTransform(2, 0, 0, -2, 10, 100));
+        Decimator d = new Decimator(0.5, 0.5);
+
+        Geometry inPlace = d.decimateTransformGeneralize(LiteCoordinateSequence.cloneGeometry(source), transform);
+        Geometry cloned = d.decimateTransformGeneralize(source, transform, true);
+
+        // the source is untouched, the result is the same as cloning and then decimating in place
+        assertNotSame(source, cloned);
+        assertTrue(original.equalsExact(source));
+        assertTrue(inPlace.equalsExact(cloned));
+        Polygon polygon = (Polygon) cloned.getGeometryN(0);
+        assertTrue(polygon.getExteriorRing().getCoordinateSequence() instanceof LiteCoordinateSequence);
+        assertEquals(5, polygon.getExteriorRing().getNumPoints());
+        assertEquals(2, cloned.getGeometryN(1).getNumPoints());
+        assertEquals(16, ((Point) cloned.getGeometryN(2)).getX(), 0d);
+        assertEquals(94, ((Point) cloned.getGeometryN(2)).getY(), 0d);
+    }
+
+    @Test
+    public void testCloneDegenerateRing() throws Exception {
+        // the whole ring fits in a generalization span, in place decimation leaves just three points
+        Polygon source = (Polygon) new WKTReader2().read("POLYGON((0 0, 0 1, 1 0, 0 0))");
+        Decimator d = new Decimator(10, 10);
+        Geometry inPlace = d.decimateTransformGeneralize(LiteCoordinateSequence.cloneGeometry(source), identity);
+        Polygon cloned = (Polygon) d.decimateTransformGeneralize(source, identity, true);
+
+        assertEquals(4, source.getExteriorRing().getNumPoints());
+        assertEquals(3, cloned.getExteriorRing().getNumPoints());
+        assertTrue(inPlace.equalsExact(cloned));
+    }
 }
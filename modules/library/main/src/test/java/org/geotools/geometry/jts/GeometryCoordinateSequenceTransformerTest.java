@@ -19,8 +19,10 @@
 // J2SE dependencies
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
@@ -114,6 +116,81 @@ public void testFullTransformOnCurved() throws Exception {
         assertTrue(ls.getCoordinateSequence().size() > 3);
     }
 
+    @Test
+    public void testBatch() throws Exception {
+        GeometryCoordinateSequenceTransformer transformer = new GeometryCoordinateSequenceTransformer();
+        transformer.setMathTransform(
+                CRS.findMathTransform(CRS.decode("EPSG:4326", true), CRS.decode("EPSG:3857"), true));
+
+        CircularString curve =
+                (CircularString) new CurvedGeometryFactory(0.1).createCurvedGeometry(2, 0, 1, 1, 2, 2, 1);
+        Geometry[] geometries = {
+            gb.point(10, 11),
+            gb.lineStringZ(10, 11, 1, 20, 21, 2),
+            null,
+            gb.polygon(gb.boxZ(10, 10, 20, 20, 99), gb.boxZ(11, 11, 19, 19, 99)),
+            curve,
+            gb.multiPolygon(gb.box(10, 10, 20, 20), gb.box(30, 30, 40, 40)),
+            gb.geometryCollection(gb.point(10, 11), gb.lineString(10, 10, 20, 20))
+        };
+        Geometry[] batched = transformer.transform(geometries);
+
+        assertEquals(geometries.length, batched.length);
+        assertNull(batched[2]);
+        for (int i = 0; i < geometries.length; i++) {
+            if (geometries[i] != null) {
+                Geometry expected = transformer.transform(geometries[i]);
+                assertEquals(expected.getClass(), batched[i].getClass());
+                assertTrue(expected.equalsExact(batched[i], ORD_TOLERANCE));
+                assertTrue(hasSameValuesAndStructure(expected, batched[i]));
+            }
+        }
+    }
+
+    @Test
+    public void testBatchNestedCurves() throws Exception {
+        GeometryCoordinateSequenceTransformer transformer = new GeometryCoordinateSequenceTransformer();
+        // curve compatible, curves are transformed through their control points
+        transformer.setMathTransform(ProjectiveTransform.createTranslation(2, 100));
+
+        CircularRing ring = new CircularRing(new double[] {0, 0, 1, 1, 2, 0, 1, -1, 0, 0}, geomFact, 0.1);
+        Geometry[] geometries = {
+            geomFact.createPolygon(ring),
+            gb.lineString(10, 11, 20, 21),
+            gb.multiPolygon(gb.box(10, 10, 20, 20), geomFact.createPolygon(ring)),
+            gb.point(10, 11)
+        };
+        Geometry[] batched = transformer.transform(geometries);
+
+        for (int i = 0; i < geometries.length; i++) {
+            Geometry expected = transformer.transform(geometries[i]);
+            assertTrue(expected.equalsExact(batched[i], ORD_TOLERANCE));
+        }
+    }
+
+    @Test
+    public void testLargeBatch() throws Exception {
+        GeometryCoordinateSequenceTransformer transformer = new GeometryCoordinateSequenceTransformer();
+        transformer.setMathTransform(
+                CRS.findMathTransform(CRS.decode("EPSG:4326", true), CRS.decode("EPSG:3857"), true));
+
+        // enough points to be transformed in parallel chunks
+        Geometry[] geometries = new Geometry[100];
+        for (int i = 0; i < geometries.length; i++) {
+            double[] ordinates = new double[2000];
+            for (int j = 0; j < ordinates.length; j += 2) {
+                ordinates[j] = -170 + i * 3 + j * 0.001;
+                ordinates[j + 1] = -80 + j * 0.08;
+            }
+            geometries[i] = gb.lineString(ordinates);
+        }
+        Geometry[] batched = transformer.transform(geometries);
+
+        for (int i = 0; i < geometries.length; i++) {
+            assertTrue(transformer.transform(geometries[i]).equalsExact(batched[i], ORD_TOLERANCE));
+        }
+    }
+
     /** Confirm that testing method is accurate! */
     @Test
     public void testDifferentDimensionsFailure() throws Exception {
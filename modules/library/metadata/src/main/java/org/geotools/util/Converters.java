@@ -16,10 +16,14 @@
  */
 package org.geotools.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.geotools.util.factory.FactoryCreator;
@@ -41,6 +45,12 @@ public final class Converters {
     /** Cached list of converter factories */
     static volatile ConverterFactory[] factories;
 
+    /** The maximum number of source and target pairs whose converter factories are memoized */
+    private static final int MAX_MEMOIZED = 1024;
+
+    /** The factories able to convert between source and target classes, for the current {@link #factories} */
+    private static volatile FactoryMemo memo;
+
     /** The service registry for this manager. Will be initialized only when first needed. */
     private static volatile FactoryRegistry registry;
 
@@ -132,7 +142,9 @@ public static <T> T convert(Object source, Class<T> target, Hints hints) {
             return target.cast(source);
         }
 
-        for (ConverterFactory factory : factories()) {
+        // without hints, only the factories known to handle the classes are tried
+        ConverterFactory[] candidates = hints == null ? factories(sourceClass, target) : factories();
+        for (ConverterFactory factory : candidates) {
             Converter converter = factory.createConverter(sourceClass, target, hints);
             if (converter != null) {
                 try {
@@ -176,4 +188,59 @@ static ConverterFactory[] factories() {
         }
         return factories;
     }
+
+    /** Returns the factories creating a converter between the given classes without hints, in lookup order */
+    private static ConverterFactory[] factories(Class<?> source, Class<?> target) {
+        final ConverterFactory[] all = factories();
+        FactoryMemo memo = Converters.memo;
+        if (memo == null || memo.factories != all || memo.candidates.size() >= MAX_MEMOIZED) {
+            memo = new FactoryMemo(all);
+            Converters.memo = memo;
+        }
+        return memo.candidates.computeIfAbsent(new ClassPair(source, target), pair -> {
+            List<ConverterFactory> candidates = new ArrayList<>();
+            for (ConverterFactory factory : all) {
+                if (factory.createConverter(source, target, null) != null) {
+                    candidates.add(factory);
+                }
+            }
+            return candidates.toArray(new ConverterFactory[candidates.size()]);
+        });
+    }
+
+    /** The candidate factories for each source and target classes, valid for a given factories array */
+    private static final class FactoryMemo {
+        final ConverterFactory[] factories;
+
+        final Map<ClassPair, ConverterFactory[]> candidates = new ConcurrentHashMap<>();
+
+        FactoryMemo(ConverterFactory[] factories) {
+            this.factories = factories;
+        }
+    }
+
+    private static final class ClassPair {
+        final Class<?> source;
+
+        final Class<?> target;
+
+        ClassPair(Class<?> source, Class<?> target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ClassPair)) {
+                return false;
+            }
+            ClassPair other = (ClassPair) obj;
+            return source == other.source && target == other.target;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * source.hashCode() + target.hashCode();
+        }
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util;
+
+/**
+ * A snapshot of the statistics of an {@link ObjectCache}, as returned by
+ * {@link ObjectCaches#getStatistics(ObjectCache)}.
+ *
+ * @since 33
+ */
+public final class ObjectCacheStatistics {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    private final long size;
+
+    private final long weight;
+
+    ObjectCacheStatistics(long hitCount, long missCount, long evictionCount, long size, long weight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.weight = weight;
+    }
+
+    /** Returns the number of {@link ObjectCache#get(Object)} calls that found a value */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /** Returns the number of {@link ObjectCache#get(Object)} calls that did not find a value */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /** Returns the ratio of the lookups that found a value, or 1 if there was no lookup */
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 1 : (double) hitCount / requests;
+    }
+
+    /** Returns the number of values evicted, or not admitted, to keep the cache within its bounds */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /** Returns the number of values in the cache */
+    public long getSize() {
+        return size;
+    }
+
+    /** Returns the total weight of the values in the cache, their number if no weigher was provided */
+    public long getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return "ObjectCacheStatistics[hits="
+                + hitCount
+                + ", misses="
+                + missCount
+                + ", evictions="
+                + evictionCount
+                + ", size="
+                + size
+                + ", weight="
+                + weight
+                + "]";
+    }
+}
@@ -17,6 +17,7 @@
 package org.geotools.util;
 
 import java.util.Set;
+import java.util.function.ToLongFunction;
 import org.geotools.api.metadata.citation.Citation;
 import org.geotools.api.util.GenericName;
 import org.geotools.metadata.iso.citation.Citations;
@@ -30,7 +31,7 @@
  * <p>This class provides the following services:
  *
  * <ul>
- *   <li>Access to an implementation of "weak", "all" and "none" implementations of {@link ObjectCache}.
+ *   <li>Access to an implementation of "weak", "all", "none" and "lfu" implementations of {@link ObjectCache}.
  *   <li>The ability to turn a "code" into a good "key" for use with an ObjectCache.
  *   <li>A Pair data object (think of C STRUCT) for use as a key when storing a value against two objects.
  * </ul>
@@ -186,8 +187,9 @@ public static <K, V> ObjectCache<K, V> create(Hints hints) throws FactoryRegistr
     /**
      * Utility method used to produce an ObjectCache.
      *
-     * @param policy One of "weak", "all", "none", "soft"
-     * @param size Used to indicate requested size, exact use depends on policy
+     * @param policy One of "weak", "all", "none", "fixed", "soft", "lfu"
+     * @param size Used to indicate requested size, exact use depends on policy. For "lfu" it is the maximum number of
+     *     values held, the least frequently used ones being evicted beyond it
      * @return A new ObjectCache
      * @see Hints.BUFFER_POLICY
      */
@@ -204,11 +206,45 @@ public static <K, V> ObjectCache<K, V> create(String policy, int size) {
             return new FixedSizeObjectCache<>(size);
         } else if ("soft".equals(policy)) {
             return new SoftObjectCache<>(size);
+        } else if ("lfu".equals(policy)) {
+            return new TinyLFUObjectCache<>(size, null);
         } else {
             return new DefaultObjectCache<>(size);
         }
     }
 
+    /**
+     * Creates a cache bounded by the total weight of its values, rather than by their number. Values are held through
+     * strong references, and the least frequently used ones are evicted when the maximum weight is exceeded, like with
+     * the "lfu" policy. Any value up to the maximum weight can be cached, but puts are serialized on a single lock.
+     *
+     * @param maximumWeight The maximum total weight of the values
+     * @param weigher Computes the weight of a value, e.g., an estimate of its size in bytes, must not be negative
+     * @return A new ObjectCache
+     * @since 33
+     */
+    public static <K, V> ObjectCache<K, V> create(long maximumWeight, ToLongFunction<? super V> weigher) {
+        if (weigher == null) {
+            throw new IllegalArgumentException("The weigher cannot be null");
+        }
+        return new TinyLFUObjectCache<>(maximumWeight, weigher);
+    }
+
+    /**
+     * Returns the hit, miss and eviction statistics of a cache, if it collects them. Only the caches created with the
+     * "lfu" policy, or with a weigher, currently do.
+     *
+     * @param cache The cache to inspect
+     * @return The statistics, or null if the cache does not collect them
+     * @since 33
+     */
+    public static ObjectCacheStatistics getStatistics(ObjectCache<?, ?> cache) {
+        if (cache instanceof TinyLFUObjectCache) {
+            return ((TinyLFUObjectCache<?, ?>) cache).getStatistics();
+        }
+        return null;
+    }
+
     /**
      * Produce a good key based on the privided citaiton and code. You can think of the citation as being "here" and the
      * code being the "what".
@@ -0,0 +1,539 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongFunction;
+
+/**
+ * A bounded {@link ObjectCache} holding its values through strong references, up to a maximum number of values or,
+ * when a weigher is provided, up to a maximum total weight, e.g., an estimate of the values size in bytes.
+ *
+ * <p>Values are chosen for eviction with the W-TinyLFU policy: new values enter a small LRU window, and when they
+ * leave it they are only admitted in the main area if they have been requested more often than the value they would
+ * replace. The main area is a segmented LRU, values requested again being protected from eviction. Request
+ * frequencies are estimated by a count-min sketch of 4 bits counters, halved periodically so that old popularity
+ * fades. This keeps the values used over and over while a scan of values used once passes through the window only.
+ *
+ * <p>Caches bounded by the number of values are split in segments, each with its own lock and share of the maximum.
+ * Weighted caches use a single segment, so that a value is never rejected for weighing more than a share of the
+ * maximum weight. Lookups never block: they read a concurrent map, and update the policy only if the segment lock is
+ * free, dropping the update otherwise.
+ *
+ * <p>Keys cannot be null. Lookups, hits and evictions are counted, see {@link #getStatistics()}.
+ *
+ * @since 33
+ */
+final class TinyLFUObjectCache<K, V> implements ObjectCache<K, V> {
+
+    /** The maximum number of segments, each with its own lock */
+    static final int MAX_SEGMENTS = 16;
+
+    /** The minimum maximum of a segment, smaller caches use less segments */
+    static final int MIN_SEGMENT_SIZE = 64;
+
+    /** The share of the maximum used by the LRU window, in percent */
+    static final int WINDOW_PERCENT = 1;
+
+    /** The share of the main area used by the protected segment, in percent */
+    static final int PROTECTED_PERCENT = 80;
+
+    /** The queues a node can be in */
+    static final byte WINDOW = 0, PROBATION = 1, PROTECTED = 2;
+
+    private final Map<K, Node<K, V>> data = new ConcurrentHashMap<>();
+
+    private final Segment[] segments;
+
+    private final ToLongFunction<? super V> weigher;
+
+    /** The locks for keys under construction. */
+    private final Map<K, KeyLock> locks = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache. With a weigher, the cache is not segmented, and a value heavier than the maximum weight is
+     * never kept.
+     *
+     * @param maximum The maximum number of values, or their maximum total weight if a weigher is provided
+     * @param weigher Computes the weight of the values, must return a non negative number, can be null
+     */
+    TinyLFUObjectCache(long maximum, ToLongFunction<? super V> weigher) {
+        if (maximum < 0) {
+            throw new IllegalArgumentException("The cache maximum cannot be negative, but was " + maximum);
+        }
+        this.weigher = weigher;
+        int count = weigher != null
+                ? 1
+                : (int) Math.min(MAX_SEGMENTS, Long.highestOneBit(Math.max(1, maximum / MIN_SEGMENT_SIZE)));
+        // unchecked, but the array never leaks outside of this instance
+        @SuppressWarnings("unchecked")
+        Segment[] segments = (Segment[]) new TinyLFUObjectCache.Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maximum / count + (i < maximum % count ? 1 : 0), weigher == null);
+        }
+        this.segments = segments;
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash & (segments.length - 1)];
+    }
+
+    /** Spreads the hash code bits, so that the low ones selecting the segment depend on all of them */
+    static int spread(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        int hash = spread(key);
+        Node<K, V> node = data.get(key);
+        Segment segment = segmentFor(hash);
+        // the policy is only updated if the segment is not busy, losing a few accesses is harmless
+        if (segment.lock.tryLock()) {
+            try {
+                segment.sketch.increment(hash);
+                if (node != null && node.queue >= 0) {
+                    segment.onAccess(node);
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return node.value;
+    }
+
+    @Override
+    public V peek(K key) {
+        Node<K, V> node = data.get(key);
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public void put(K key, V object) {
+        long weight = weigher == null ? 1 : weigher.applyAsLong(object);
+        if (weight < 0) {
+            throw new IllegalArgumentException("The weight of " + object + " is negative: " + weight);
+        }
+        int hash = spread(key);
+        Segment segment = segmentFor(hash);
+        segment.lock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node == null) {
+                node = new Node<>(key, object, weight, hash);
+                data.put(key, node);
+                segment.sketch.increment(hash);
+                segment.add(node);
+            } else {
+                node.value = object;
+                segment.updateWeight(node, weight);
+                segment.onAccess(node);
+            }
+            segment.evict();
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    @Override
+    public void writeLock(K key) {
+        KeyLock lock = locks.compute(key, (k, l) -> {
+            if (l == null) {
+                l = new KeyLock();
+            }
+            l.users++;
+            return l;
+        });
+        // Must be outside the above compute section, since this call may block.
+        lock.lock();
+    }
+
+    @Override
+    public void writeUnLock(K key) {
+        locks.compute(key, (k, l) -> {
+            if (l == null || !l.isHeldByCurrentThread()) {
+                throw new IllegalMonitorStateException("Cannot unlock prior to locking");
+            }
+            l.unlock();
+            return --l.users == 0 ? null : l;
+        });
+    }
+
+    @Override
+    public Set<K> getKeys() {
+        return new HashSet<>(data.keySet());
+    }
+
+    @Override
+    public void remove(K key) {
+        Segment segment = segmentFor(spread(key));
+        segment.lock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node != null) {
+                segment.unlink(node);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /** Returns the statistics of this cache */
+    ObjectCacheStatistics getStatistics() {
+        long weight = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                weight += segment.windowWeight + segment.mainWeight;
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return new ObjectCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), data.size(), weight);
+    }
+
+    /** A part of the cache, with its own lock, queues and frequency sketch */
+    final class Segment {
+
+        final ReentrantLock lock = new ReentrantLock();
+
+        final long maximum;
+
+        final long windowMaximum;
+
+        final long protectedMaximum;
+
+        final Queue<K, V> window = new Queue<>();
+
+        final Queue<K, V> probation = new Queue<>();
+
+        final Queue<K, V> protect = new Queue<>();
+
+        final FrequencySketch sketch;
+
+        long windowWeight;
+
+        /** The weight of the probation and protected queues */
+        long mainWeight;
+
+        long protectedWeight;
+
+        Segment(long maximum, boolean counting) {
+            this.maximum = maximum;
+            this.windowMaximum = Math.max(1, maximum * WINDOW_PERCENT / 100);
+            this.protectedMaximum = (maximum - windowMaximum) * PROTECTED_PERCENT / 100;
+            // the number of entries of weighted caches is unknown, the sketch grows with it
+            this.sketch = new FrequencySketch(counting ? (int) Math.min(maximum, 1 << 24) : 0);
+        }
+
+        void add(Node<K, V> node) {
+            node.queue = WINDOW;
+            window.addLast(node);
+            windowWeight += node.weight;
+            if (weigher != null) {
+                sketch.ensureCapacity(data.size() / segments.length + 1);
+            }
+        }
+
+        void updateWeight(Node<K, V> node, long weight) {
+            long delta = weight - node.weight;
+            node.weight = weight;
+            if (node.queue == WINDOW) {
+                windowWeight += delta;
+            } else {
+                mainWeight += delta;
+                if (node.queue == PROTECTED) {
+                    protectedWeight += delta;
+                }
+            }
+        }
+
+        void onAccess(Node<K, V> node) {
+            if (node.queue == WINDOW) {
+                window.moveToLast(node);
+            } else if (node.queue == PROBATION) {
+                // requested again, protect it
+                probation.remove(node);
+                node.queue = PROTECTED;
+                protect.addLast(node);
+                protectedWeight += node.weight;
+                // demote the least recently used protected nodes
+                while (protectedWeight > protectedMaximum && protect.first != node) {
+                    Node<K, V> demoted = protect.first;
+                    protect.remove(demoted);
+                    protectedWeight -= demoted.weight;
+                    demoted.queue = PROBATION;
+                    probation.addLast(demoted);
+                }
+            } else {
+                protect.moveToLast(node);
+            }
+        }
+
+        /** Moves the window overflow to the main area, then evicts until the segment fits its maximum */
+        void evict() {
+            // the nodes leaving the window are candidates for admission, appended to the probation queue
+            Node<K, V> candidate = null;
+            while (windowWeight > windowMaximum && window.first != null) {
+                Node<K, V> node = window.first;
+                window.remove(node);
+                windowWeight -= node.weight;
+                node.queue = PROBATION;
+                probation.addLast(node);
+                mainWeight += node.weight;
+                if (candidate == null) {
+                    candidate = node;
+                }
+            }
+
+            while (windowWeight + mainWeight > maximum) {
+                if (candidate == null) {
+                    Node<K, V> victim = probation.first != null ? probation.first : protect.first;
+                    if (victim == null) {
+                        victim = window.first;
+                    }
+                    if (victim == null) {
+                        return;
+                    }
+                    evict(victim);
+                    continue;
+                }
+                // compare with the least recently used node older than the candidates
+                Node<K, V> victim = probation.first != candidate ? probation.first : protect.first;
+                if (victim == null || sketch.frequency(candidate.hash) <= sketch.frequency(victim.hash)) {
+                    Node<K, V> rejected = candidate;
+                    candidate = candidate.next;
+                    evict(rejected);
+                } else {
+                    evict(victim);
+                }
+            }
+        }
+
+        private void evict(Node<K, V> node) {
+            data.remove(node.key, node);
+            unlink(node);
+            evictions.increment();
+        }
+
+        void unlink(Node<K, V> node) {
+            if (node.queue == WINDOW) {
+                window.remove(node);
+                windowWeight -= node.weight;
+            } else if (node.queue == PROBATION) {
+                probation.remove(node);
+                mainWeight -= node.weight;
+            } else if (node.queue == PROTECTED) {
+                protect.remove(node);
+                mainWeight -= node.weight;
+                protectedWeight -= node.weight;
+            }
+            node.queue = -1;
+        }
+
+        void clear() {
+            for (Queue<K, V> queue : Arrays.asList(window, probation, protect)) {
+                while (queue.first != null) {
+                    Node<K, V> node = queue.first;
+                    data.remove(node.key, node);
+                    unlink(node);
+                }
+            }
+        }
+    }
+
+    /** A cache entry, linked in the queue it belongs to */
+    static final class Node<K, V> {
+        final K key;
+
+        final int hash;
+
+        volatile V value;
+
+        long weight;
+
+        /** The queue the node is in, or -1 once it has been removed, guarded by the segment lock */
+        byte queue;
+
+        Node<K, V> prev;
+
+        Node<K, V> next;
+
+        Node(K key, V value, long weight, int hash) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.hash = hash;
+        }
+    }
+
+    /** A doubly linked list of nodes, from the least to the most recently used */
+    static final class Queue<K, V> {
+        Node<K, V> first;
+
+        Node<K, V> last;
+
+        void addLast(Node<K, V> node) {
+            node.prev = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                first = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    /**
+     * A count-min sketch estimating the request frequency of the keys, with four 4 bits counters per key packed in
+     * longs. Once the number of increments reaches ten times the table size, all the counters are halved.
+     */
+    static final class FrequencySketch {
+
+        static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+        };
+
+        static final long RESET_MASK = 0x7777777777777777L;
+
+        long[] table;
+
+        int sampleSize;
+
+        int additions;
+
+        FrequencySketch(int expectedEntries) {
+            ensureCapacity(expectedEntries);
+        }
+
+        void ensureCapacity(int expectedEntries) {
+            int size = Integer.highestOneBit(Math.max(16, expectedEntries - 1) << 1);
+            if (table == null || table.length < size) {
+                table = new long[size];
+                sampleSize = 10 * size;
+                additions = 0;
+            }
+        }
+
+        int frequency(int hash) {
+            int frequency = 15;
+            for (int i = 0; i < 4; i++) {
+                long h = indexHash(hash, i);
+                frequency = Math.min(frequency, (int) ((table[slot(h)] >>> offset(h)) & 15));
+            }
+            return frequency;
+        }
+
+        void increment(int hash) {
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                long h = indexHash(hash, i);
+                int slot = slot(h);
+                int offset = offset(h);
+                if (((table[slot] >>> offset) & 15) < 15) {
+                    table[slot] += 1L << offset;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions /= 2;
+        }
+
+        private static long indexHash(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            return h + (h >>> 32);
+        }
+
+        private int slot(long h) {
+            return (int) (h >>> 6) & (table.length - 1);
+        }
+
+        /** The bit offset of one of the 16 counters of a slot */
+        private static int offset(long h) {
+            return (int) (h & 15) << 2;
+        }
+    }
+
+    /** A key lock, removed from the map once no thread is using it */
+    static final class KeyLock extends ReentrantLock {
+        private static final long serialVersionUID = 1L;
+
+        /** The number of lock calls not yet matched by an unlock, guarded by the map compute methods */
+        int users;
+    }
+}
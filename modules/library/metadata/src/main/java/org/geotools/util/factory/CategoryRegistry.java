@@ -21,11 +21,13 @@
 import static org.geotools.util.Utilities.ensureArgumentNonNull;
 import static org.geotools.util.Utilities.stream;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 import org.geotools.util.PartiallyOrderedSet;
@@ -36,8 +38,9 @@
  * also accessible by the class they implement. Note that instances have to implement/extend the category they are filed
  * under.
  *
- * <p>This class is not thread-safe and {@code null}-intolerant (throws an {@link IllegalArgumentException} if an
- * argument is {@code null}).
+ * <p>This class is {@code null}-intolerant (throws an {@link IllegalArgumentException} if an argument is
+ * {@code null}). Changes to the instances of a category are synchronized, while lookups read immutable snapshots of
+ * them without locking.
  */
 class CategoryRegistry {
 
@@ -239,17 +242,23 @@ public String toString() {
 
         private final Class<?> category;
 
-        private final Map<Class<?>, T> instancesByType = new HashMap<>();
+        private final Map<Class<?>, T> instancesByType = new ConcurrentHashMap<>();
 
         private final PartiallyOrderedSet<T> orderedInstances = new PartiallyOrderedSet<>(false);
 
+        /** The instances in topological order, rebuilt when first needed after a change */
+        private volatile List<T> orderedSnapshot;
+
+        /** The instances in no particular order, rebuilt when first needed after a change */
+        private volatile List<T> unorderedSnapshot;
+
         private InstanceRegistry(FactoryRegistry factoryRegistry, Class<?> category) {
             this.factoryRegistry = factoryRegistry;
             this.category = category;
         }
 
         /** @return {@code true} if this the first instance of its class. */
-        public boolean register(final T instance) {
+        public synchronized boolean register(final T instance) {
             ensureArgumentNonNull("instance", instance);
             boolean deregistered = deregisterByType(instance);
             registerInternal(instance);
@@ -269,10 +278,17 @@ private void notifyRegistered(final T instance) {
         private void registerInternal(final T instance) {
             instancesByType.put(instance.getClass(), instance);
             orderedInstances.add(instance);
+            changed();
+        }
+
+        /** Discards the snapshots, to be called with the lock held after any change */
+        private void changed() {
+            orderedSnapshot = null;
+            unorderedSnapshot = null;
         }
 
         /** @return {true} if an instance of the same type was previously registered */
-        public boolean deregister(final T instance) {
+        public synchronized boolean deregister(final T instance) {
             ensureArgumentNonNull("instance", instance);
             if (instancesByType.containsKey(instance.getClass())) {
                 deregisterByType(instance);
@@ -289,6 +305,7 @@ private boolean deregisterByType(final T instance) {
 
             if (instanceWasRemoved) {
                 orderedInstances.remove(removed);
+                changed();
                 notifyDeregistered(removed);
             }
 
@@ -301,21 +318,36 @@ private void notifyDeregistered(final T instance) {
             }
         }
 
-        public void clear() {
+        public synchronized void clear() {
             Iterator<T> values = instancesByType.values().iterator();
             while (values.hasNext()) {
                 T instance = values.next();
                 values.remove();
                 orderedInstances.remove(instance);
+                changed();
                 notifyDeregistered(instance);
             }
         }
 
         public Stream<T> stream(final boolean useOrder) {
+            List<T> snapshot = useOrder ? orderedSnapshot : unorderedSnapshot;
+            if (snapshot == null) {
+                snapshot = snapshot(useOrder);
+            }
+            return snapshot.stream();
+        }
+
+        private synchronized List<T> snapshot(final boolean useOrder) {
             if (useOrder) {
-                return orderedInstances.stream();
+                if (orderedSnapshot == null) {
+                    orderedSnapshot = Collections.unmodifiableList(new ArrayList<>(orderedInstances));
+                }
+                return orderedSnapshot;
             } else {
-                return instancesByType.values().stream();
+                if (unorderedSnapshot == null) {
+                    unorderedSnapshot = Collections.unmodifiableList(new ArrayList<>(instancesByType.values()));
+                }
+                return unorderedSnapshot;
             }
         }
 
@@ -327,21 +359,29 @@ public <S> Optional<S> getInstanceOfType(Class<S> type) {
         }
 
         /** @see CategoryRegistry#setOrder(Class, Object, Object) */
-        public boolean setOrder(T firstInstance, T secondInstance) {
-            return instancesByType.containsKey(firstInstance.getClass())
+        public synchronized boolean setOrder(T firstInstance, T secondInstance) {
+            boolean set = instancesByType.containsKey(firstInstance.getClass())
                     && instancesByType.containsKey(secondInstance.getClass())
                     // if both are contained, set the order
                     && orderedInstances.setOrder(firstInstance, secondInstance);
+            if (set) {
+                changed();
+            }
+            return set;
         }
 
         /** @see CategoryRegistry#clearOrder(Class, Object, Object) */
-        public boolean clearOrder(T firstInstance, T secondInstance) {
+        public synchronized boolean clearOrder(T firstInstance, T secondInstance) {
             ensureArgumentNonNull("firstInstance", firstInstance);
             ensureArgumentNonNull("secondInstance", secondInstance);
-            return instancesByType.containsKey(firstInstance.getClass())
+            boolean cleared = instancesByType.containsKey(firstInstance.getClass())
                     && instancesByType.containsKey(secondInstance.getClass())
                     // if both are contained, set the order
                     && orderedInstances.clearOrder(firstInstance, secondInstance);
+            if (cleared) {
+                changed();
+            }
+            return cleared;
         }
 
         @Override
@@ -18,6 +18,7 @@
 
 import java.util.LinkedHashSet;
 import java.util.Set;
+import org.geotools.util.SuppressFBWarnings;
 import org.geotools.util.XArray;
 
 /**
@@ -34,8 +35,8 @@ final class FactoryIteratorProviders {
      */
     private static final FactoryIteratorProviders GLOBAL = new FactoryIteratorProviders();
 
-    /** Incremented every time a modification is performed. */
-    private int modifications = 0;
+    /** Incremented every time a modification is performed. Volatile so that it can be checked without locking. */
+    private volatile int modifications = 0;
 
     /**
      * Alternative scanning methods used by {@link FactoryRegistry#scanForPlugins(Collection,Class)} in addition of the
@@ -46,6 +47,11 @@ final class FactoryIteratorProviders {
     /** Creates an initially empty set of factories. */
     FactoryIteratorProviders() {}
 
+    /** Returns {@code true} if the providers did not change since the last synchronization. Does not lock. */
+    final boolean isSynchronized() {
+        return modifications == GLOBAL.modifications;
+    }
+
     /**
      * Synchronizes the content of the {@link #iteratorProviders} map with the {@linkplain #GLOBAL global} one. New
      * providers are returned for later {@linkplain FactoryRegistry#register registration}. Note that this method is
@@ -55,6 +61,10 @@ final class FactoryIteratorProviders {
      *     method was invoked, or {@code null} if none.
      */
     final FactoryIteratorProvider[] synchronizeIteratorProviders() {
+        // the common case, nothing changed since the last call
+        if (isSynchronized()) {
+            return null;
+        }
         FactoryIteratorProvider[] newProviders = null;
         int count = 0;
         synchronized (GLOBAL) {
@@ -107,6 +117,7 @@ final FactoryIteratorProvider[] synchronizeIteratorProviders() {
      * the context of some frameworks that use the <cite>constructor injection</cite> pattern, like the <a
      * href="http://www.springframework.org/">Spring framework</a>.
      */
+    @SuppressFBWarnings("VO_VOLATILE_INCREMENT") // incremented under the GLOBAL lock
     public static void addFactoryIteratorProvider(FactoryIteratorProvider provider) {
         synchronized (GLOBAL) {
             if (GLOBAL.iteratorProviders == null) {
@@ -123,6 +134,7 @@ public static void addFactoryIteratorProvider(FactoryIteratorProvider provider)
      * already obtained from the specified provider will not be {@linkplain FactoryRegistry#deregisterFactory
      * deregistered} by this method.
      */
+    @SuppressFBWarnings("VO_VOLATILE_INCREMENT") // incremented under the GLOBAL lock
     public static void removeFactoryIteratorProvider(FactoryIteratorProvider provider) {
         synchronized (GLOBAL) {
             if (GLOBAL.iteratorProviders != null) {
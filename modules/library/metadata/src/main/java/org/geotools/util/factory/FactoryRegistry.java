@@ -31,6 +31,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
@@ -127,6 +128,22 @@ public class FactoryRegistry {
      */
     private final Set<Class<?>> needScanForPlugins = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
+    /**
+     * The categories whose first scan for plugins is complete. Checked before {@link #needScanForPlugins}, so that
+     * lookups do not need to lock once the categories have been scanned.
+     */
+    private final Set<Class<?>> scannedCategories = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /** The maximum number of entries in {@link #resolved}, it is cleared when reached */
+    private static final int MAX_RESOLVED = 256;
+
+    /**
+     * The factories returned by {@link #getFactory(Class, Predicate, Hints, Hints.Key)} without filter, by category,
+     * hints and key. The map is replaced by an empty one when the registered factories or their ordering change, so
+     * that lookups can read it without locking and never see a stale entry.
+     */
+    private volatile Map<ResolvedKey, Object> resolved = new ConcurrentHashMap<>();
+
     /**
      * Categories under scanning. This is used by {@link #scanForPlugins(Collection,Class)} as a guard against infinite
      * recursivity (i.e. when a factory to be scanned request an other dependency of the same category).
@@ -314,6 +331,61 @@ public <T> T getFactory(
             final Class<T> category, final Predicate<? super T> filter, Hints hints, final Hints.Key key)
             throws FactoryRegistryException {
         synchronizeIteratorProviders();
+        if (filter != null) {
+            return findFactory(category, filter, hints, key);
+        }
+        // filters cannot be compared, only the lookups without one are memoized
+        final Map<ResolvedKey, Object> resolved = this.resolved;
+        T factory = getResolvedFactory(resolved, category, hints, key);
+        if (factory == null) {
+            factory = findFactory(category, null, hints, key);
+            if (resolved.size() >= MAX_RESOLVED) {
+                resolved.clear();
+            }
+            resolved.put(new ResolvedKey(category, hints == null ? null : new Hints(hints), key), factory);
+        }
+        return factory;
+    }
+
+    /**
+     * Returns the factory found by a previous {@link #getFactory(Class, Predicate, Hints, Hints.Key)} call without
+     * filter and with equal category, hints and key, if the registered factories did not change since. This method
+     * does not lock, and does not scan for plugins: callers synchronizing their calls to {@code getFactory} can try it
+     * first.
+     *
+     * @param category The category to look for.
+     * @param hints A {@linkplain Hints map of hints}, or {@code null} if none.
+     * @param key The key to use for looking for a user-provided instance in the hints, or {@code null} if none.
+     * @return The factory, or {@code null} if it has not been resolved yet.
+     * @since 33
+     */
+    public <T> T getResolvedFactory(final Class<T> category, final Hints hints, final Hints.Key key) {
+        if (!globalConfiguration.isSynchronized()) {
+            // new iterator providers may bring better factories
+            return null;
+        }
+        return getResolvedFactory(resolved, category, hints, key);
+    }
+
+    private <T> T getResolvedFactory(
+            final Map<ResolvedKey, Object> resolved, final Class<T> category, final Hints hints, final Hints.Key key) {
+        final Object factory = resolved.get(new ResolvedKey(category, hints, key));
+        // availability can change at runtime, e.g., when a database goes down
+        if (factory != null && isAvailable(factory)) {
+            return category.cast(factory);
+        }
+        return null;
+    }
+
+    /** Discards the memoized lookups, to be called after any change to the registered factories */
+    private void clearResolved() {
+        resolved = new ConcurrentHashMap<>();
+    }
+
+    /** Implementation of {@link #getFactory(Class, Predicate, Hints, Hints.Key)}, without memoization */
+    private <T> T findFactory(
+            final Class<T> category, final Predicate<? super T> filter, Hints hints, final Hints.Key key)
+            throws FactoryRegistryException {
         final boolean debug = LOGGER.isLoggable(DEBUG_LEVEL);
         if (debug) {
             debug("ENTRY", category, key, null, null);
@@ -799,6 +871,7 @@ public final Set<ClassLoader> getClassLoaders() {
     public void scanForPlugins() {
         final Set<ClassLoader> loaders = getClassLoaders();
         registry.streamCategories().forEach(category -> scanForPlugins(loaders, category));
+        clearResolved();
     }
 
     /**
@@ -849,9 +922,15 @@ private <T> void scanForPlugins(final Collection<ClassLoader> loaders, final Cla
      * Scans the given category for plugins only if needed. After this method has been invoked once for a given
      * category, it will no longer scan for that category.
      */
-    private synchronized void scanForPluginsIfNeeded(final Class<?> category) {
-        if (needScanForPlugins.remove(category)) {
-            scanForPlugins(getClassLoaders(), category);
+    private void scanForPluginsIfNeeded(final Class<?> category) {
+        if (scannedCategories.contains(category)) {
+            return;
+        }
+        synchronized (this) {
+            if (needScanForPlugins.remove(category)) {
+                scanForPlugins(getClassLoaders(), category);
+                scannedCategories.add(category);
+            }
         }
     }
 
@@ -885,6 +964,7 @@ public void registerFactories(final Iterable<?> factories) {
      */
     public void registerFactory(final Object factory) {
         registry.registerInstance(factory);
+        clearResolved();
     }
 
     /**
@@ -897,7 +977,9 @@ public <T> boolean registerFactory(final T factory, final Class<T> category) {
         if (!category.isAssignableFrom(factory.getClass())) {
             throw new ClassCastException();
         }
-        return registry.registerInstance(factory, category);
+        final boolean registered = registry.registerInstance(factory, category);
+        clearResolved();
+        return registered;
     }
 
     /**
@@ -1120,11 +1202,13 @@ private <T> void register(final FactoryIteratorProvider provider, final Class<T>
     /** Clear all registered factories. */
     public void deregisterAll() {
         registry.deregisterInstances();
+        clearResolved();
     }
 
     /** Clear registered factories for a provided category. */
     public void deregisterAll(Class<?> category) {
         registry.deregisterInstances(category);
+        clearResolved();
     }
 
     /**
@@ -1157,6 +1241,7 @@ public void deregisterFactories(final Iterable<?> factories) {
      */
     public void deregisterFactory(final Object factory) {
         registry.deregisterInstance(factory);
+        clearResolved();
     }
 
     /**
@@ -1171,7 +1256,9 @@ public <T> boolean deregisterFactory(final T factory, final Class<T> category) {
         if (!category.isAssignableFrom(factory.getClass())) {
             throw new ClassCastException();
         }
-        return registry.deregisterInstance(factory, category);
+        final boolean deregistered = registry.deregisterInstance(factory, category);
+        clearResolved();
+        return deregistered;
     }
 
     /**
@@ -1184,7 +1271,9 @@ public <T> boolean setOrdering(final Class<T> category, final T firstFactory, fi
         if (firstFactory == secondFactory) {
             throw new IllegalArgumentException("Factories must not be the same instance.");
         }
-        return registry.setOrder(category, firstFactory, secondFactory);
+        final boolean set = registry.setOrder(category, firstFactory, secondFactory);
+        clearResolved();
+        return set;
     }
 
     /**
@@ -1292,6 +1381,40 @@ public <T> boolean unsetOrdering(final Class<T> category, final T firstFactory,
         if (firstFactory == secondFactory) {
             throw new IllegalArgumentException("Factories must not be the same instance.");
         }
-        return registry.clearOrder(category, firstFactory, secondFactory);
+        final boolean cleared = registry.clearOrder(category, firstFactory, secondFactory);
+        clearResolved();
+        return cleared;
+    }
+
+    /** The key of a memoized {@link #getFactory(Class, Predicate, Hints, Hints.Key)} lookup */
+    private static final class ResolvedKey {
+        private final Class<?> category;
+
+        private final Hints hints;
+
+        private final Hints.Key key;
+
+        private final int hashCode;
+
+        ResolvedKey(final Class<?> category, final Hints hints, final Hints.Key key) {
+            this.category = category;
+            this.hints = hints;
+            this.key = key;
+            this.hashCode = 31 * (31 * category.hashCode() + Objects.hashCode(key)) + Objects.hashCode(hints);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof ResolvedKey)) {
+                return false;
+            }
+            final ResolvedKey that = (ResolvedKey) other;
+            return category == that.category && key == that.key && Objects.equals(hints, that.hints);
+        }
     }
 }
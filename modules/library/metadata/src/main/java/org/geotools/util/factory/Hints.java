@@ -532,14 +532,34 @@ public class Hints extends RenderingHints {
      */
     public static final Key FEATURE_2D = new Key(Boolean.class);
 
+    /**
+     * Asks the feature readers to return the same feature instance for every row, moved along the data, rather than a
+     * new feature per row. Useful when streaming large amounts of features that are not kept, the caller has to copy
+     * the features it holds on to before moving to the next one (see
+     * <code>org.geotools.feature.simple.FlyweightSimpleFeature</code>). Data stores supporting the hint list it in
+     * their supported hints.
+     *
+     * @since 33
+     */
+    public static final Key FEATURE_REUSE = new Key(Boolean.class);
+
     /**
      * Key to control the maximum number of features that will be kept in memory when performing a fallback merge-sort
-     * (used when the datastore does not have native means to handle feature sorting)
+     * (used when the datastore does not have native means to handle feature sorting). When not set, only
+     * {@link #MAX_MEMORY_SORT_BYTES} limits the features kept in memory.
      *
      * @since 2.7.3
      */
     public static final Key MAX_MEMORY_SORT = new Key(Integer.class);
 
+    /**
+     * Key to control the maximum amount of memory, in bytes, used by the features kept in memory when performing a
+     * fallback merge-sort. Defaults to 64MB, or an eighth of the max heap if smaller.
+     *
+     * @since 33
+     */
+    public static final Key MAX_MEMORY_SORT_BYTES = new Key(Long.class);
+
     /**
      * Asks a datastore having a vector pyramid (pre-generalized geometries) to return the geometry version whose points
      * have been generalized less than the specified distance (further generalization might be performed by the client
@@ -561,6 +581,16 @@ public class Hints extends RenderingHints {
      */
     public static final Key GEOMETRY_SIMPLIFICATION = new Key(Double.class);
 
+    /**
+     * Allows reprojection to replace the exact transform with an approximation over the area covered by the
+     * features, checked against the exact transform at sample points with the specified tolerance in target CRS units
+     * (see <code>org.geotools.referencing.operation.transform.ApproximateTransform2D</code>). Trades accuracy for speed
+     * when reprojecting many coordinates, typically for display.
+     *
+     * @since 33
+     */
+    public static final Key REPROJECTION_TOLERANCE = new Key(Double.class);
+
     /** The rendering aid used to avoid painting tiny features over and over in the same pixel */
     public static final Key SCREENMAP = new ClassKey("org.geotools.data.util.ScreenMap");
 
@@ -784,11 +814,14 @@ public class Hints extends RenderingHints {
      *   <li>{@code "fixed") for holding a fixed number of values specified by {@link #CACHE_LIMIT}. <li>{@code "all"}
      *       for holding values through strong references.</li> <li>{@code "none"} for disabling the cache.</li>
      *       <li>{@code "soft"} for holding the value throuhg(@linkplain java.lang.ref.SoftReference soft references}.
+     *       <li>{@code "lfu"} for holding at most {@link #CACHE_LIMIT} values through strong references, evicting the
+     *       least frequently used ones.
      * </ul>
      *
      * @since 2.5
      */
-    public static final OptionKey CACHE_POLICY = new OptionKey("weak", "all", "fixed", "none", "default", "soft");
+    public static final OptionKey CACHE_POLICY =
+            new OptionKey("weak", "all", "fixed", "none", "default", "soft", "lfu");
 
     /**
      * The recommended maximum number of referencing objects to hold in a
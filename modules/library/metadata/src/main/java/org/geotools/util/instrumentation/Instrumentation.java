@@ -0,0 +1,179 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util.instrumentation;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.util.logging.Logging;
+
+/**
+ * Entry point of the instrumentation of the GeoTools hot paths: data access, rendering and coverage reading report
+ * their spans, counters and timers here, and they are forwarded to the registered {@link Tracer}s.
+ *
+ * <p>When no tracer is registered, the default, each call costs a volatile read and returns immediately, and
+ * {@link #span(String)} returns {@link Span#NOOP}. Code measuring durations itself should check {@link #isEnabled()}
+ * first, to skip the calls to {@link System#nanoTime()} as well.
+ *
+ * <p>Tracers found via {@link ServiceLoader} are registered the first time this class is used.
+ *
+ * @since 33
+ */
+public final class Instrumentation {
+
+    static final Logger LOGGER = Logging.getLogger(Instrumentation.class);
+
+    private static final List<Tracer> TRACERS = new ArrayList<>();
+
+    /** The tracer the measurements are forwarded to, null when instrumentation is disabled */
+    private static volatile Tracer tracer;
+
+    static {
+        Iterator<Tracer> it = ServiceLoader.load(Tracer.class, Instrumentation.class.getClassLoader())
+                .iterator();
+        while (true) {
+            try {
+                if (!it.hasNext()) {
+                    break;
+                }
+                addTracer(it.next());
+            } catch (ServiceConfigurationError e) {
+                LOGGER.log(Level.WARNING, "Could not load a tracer, skipping it", e);
+            }
+        }
+    }
+
+    private Instrumentation() {}
+
+    /** Returns true if at least a tracer is registered */
+    public static boolean isEnabled() {
+        return tracer != null;
+    }
+
+    /**
+     * Starts a span, to be closed when the operation completes
+     *
+     * @param name the operation name, dotted and lower case by convention, e.g., <code>renderer.paint</code>
+     * @return the span, or {@link Span#NOOP} if instrumentation is disabled
+     */
+    public static Span span(String name) {
+        Tracer t = tracer;
+        return t == null ? Span.NOOP : t.start(name);
+    }
+
+    /** Adds to a counter, see {@link Tracer#count(String, long)} */
+    public static void count(String name, long delta) {
+        Tracer t = tracer;
+        if (t != null) {
+            t.count(name, delta);
+        }
+    }
+
+    /** Records a duration in nanoseconds, see {@link Tracer#time(String, long)} */
+    public static void time(String name, long nanos) {
+        Tracer t = tracer;
+        if (t != null) {
+            t.time(name, nanos);
+        }
+    }
+
+    /** Registers a tracer, enabling instrumentation if it was disabled */
+    public static synchronized void addTracer(Tracer tracer) {
+        if (tracer == null) {
+            throw new IllegalArgumentException("The tracer cannot be null");
+        }
+        if (!TRACERS.contains(tracer)) {
+            TRACERS.add(tracer);
+            update();
+        }
+    }
+
+    /** Unregisters a tracer, disabling instrumentation if it was the last one */
+    public static synchronized void removeTracer(Tracer tracer) {
+        if (TRACERS.remove(tracer)) {
+            update();
+        }
+    }
+
+    /** Returns the registered tracers */
+    public static synchronized List<Tracer> getTracers() {
+        return new ArrayList<>(TRACERS);
+    }
+
+    private static void update() {
+        if (TRACERS.isEmpty()) {
+            tracer = null;
+        } else if (TRACERS.size() == 1) {
+            tracer = TRACERS.get(0);
+        } else {
+            tracer = new CompositeTracer(TRACERS.toArray(new Tracer[TRACERS.size()]));
+        }
+    }
+
+    /** Forwards the measurements to several tracers */
+    static final class CompositeTracer implements Tracer {
+
+        private final Tracer[] tracers;
+
+        CompositeTracer(Tracer[] tracers) {
+            this.tracers = tracers;
+        }
+
+        @Override
+        public Span start(String name) {
+            Span[] spans = new Span[tracers.length];
+            for (int i = 0; i < tracers.length; i++) {
+                spans[i] = tracers[i].start(name);
+            }
+            return new Span() {
+                @Override
+                public Span tag(String key, Object value) {
+                    for (Span span : spans) {
+                        span.tag(key, value);
+                    }
+                    return this;
+                }
+
+                @Override
+                public void close() {
+                    // close in reverse order, like nested try-with-resources blocks would
+                    for (int i = spans.length - 1; i >= 0; i--) {
+                        spans[i].close();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void count(String name, long delta) {
+            for (Tracer tracer : tracers) {
+                tracer.count(name, delta);
+            }
+        }
+
+        @Override
+        public void time(String name, long nanos) {
+            for (Tracer tracer : tracers) {
+                tracer.time(name, nanos);
+            }
+        }
+    }
+}
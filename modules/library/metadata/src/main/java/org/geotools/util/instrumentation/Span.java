@@ -0,0 +1,54 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util.instrumentation;
+
+/**
+ * A timed operation, started by {@link Instrumentation#span(String)} and ended by {@link #close()}, meant to be used
+ * in a try-with-resources block:
+ *
+ * <pre>
+ * try (Span span = Instrumentation.span("renderer.paint")) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @since 33
+ */
+public interface Span extends AutoCloseable {
+
+    /** The span returned when instrumentation is disabled, does nothing */
+    Span NOOP = new Span() {
+        @Override
+        public Span tag(String key, Object value) {
+            return this;
+        }
+
+        @Override
+        public void close() {}
+    };
+
+    /**
+     * Attaches a piece of information to the span, e.g., the name of the feature type read
+     *
+     * @return this span
+     */
+    Span tag(String key, Object value);
+
+    /** Ends the span */
+    @Override
+    void close();
+}
@@ -0,0 +1,149 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util.instrumentation;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A tracer keeping, for each span, timer and counter name, the number of measurements, their total and their maximum,
+ * enough to tell which stage of the requests takes the most time without attaching a profiler. Tags are ignored.
+ *
+ * <pre>
+ * StatisticsTracer statistics = new StatisticsTracer();
+ * Instrumentation.addTracer(statistics);
+ * ...
+ * for (Map.Entry&lt;String, StatisticsTracer.Statistic&gt; e : statistics.snapshot().entrySet()) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @since 33
+ */
+public class StatisticsTracer implements Tracer {
+
+    private final Map<String, Accumulator> accumulators = new ConcurrentHashMap<>();
+
+    @Override
+    public Span start(String name) {
+        Accumulator accumulator = getAccumulator(name);
+        long start = System.nanoTime();
+        return new Span() {
+            @Override
+            public Span tag(String key, Object value) {
+                return this;
+            }
+
+            @Override
+            public void close() {
+                accumulator.add(System.nanoTime() - start);
+            }
+        };
+    }
+
+    @Override
+    public void count(String name, long delta) {
+        getAccumulator(name).add(delta);
+    }
+
+    @Override
+    public void time(String name, long nanos) {
+        getAccumulator(name).add(nanos);
+    }
+
+    private Accumulator getAccumulator(String name) {
+        return accumulators.computeIfAbsent(name, n -> new Accumulator());
+    }
+
+    /** Returns the statistics collected so far, sorted by name */
+    public Map<String, Statistic> snapshot() {
+        Map<String, Statistic> result = new TreeMap<>();
+        for (Map.Entry<String, Accumulator> entry : accumulators.entrySet()) {
+            Accumulator a = entry.getValue();
+            result.put(entry.getKey(), new Statistic(a.count.sum(), a.total.sum(), a.max.get()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /** Discards the statistics collected so far */
+    public void reset() {
+        accumulators.clear();
+    }
+
+    private static final class Accumulator {
+        final LongAdder count = new LongAdder();
+
+        final LongAdder total = new LongAdder();
+
+        final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        void add(long value) {
+            count.increment();
+            total.add(value);
+            max.accumulate(value);
+        }
+    }
+
+    /**
+     * The statistics of a name: durations in nanoseconds for spans and timers, the added amounts for counters
+     *
+     * @since 33
+     */
+    public static final class Statistic {
+
+        private final long count;
+
+        private final long total;
+
+        private final long max;
+
+        Statistic(long count, long total, long max) {
+            this.count = count;
+            this.total = total;
+            this.max = max;
+        }
+
+        /** Returns the number of measurements */
+        public long getCount() {
+            return count;
+        }
+
+        /** Returns the sum of the measurements */
+        public long getTotal() {
+            return total;
+        }
+
+        /** Returns the largest measurement */
+        public long getMax() {
+            return max;
+        }
+
+        /** Returns the average measurement, or 0 if there is none */
+        public double getMean() {
+            return count == 0 ? 0 : (double) total / count;
+        }
+
+        @Override
+        public String toString() {
+            return "Statistic[count=" + count + ", total=" + total + ", max=" + max + "]";
+        }
+    }
+}
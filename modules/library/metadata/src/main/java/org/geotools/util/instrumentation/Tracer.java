@@ -0,0 +1,53 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util.instrumentation;
+
+/**
+ * Receives the measurements of the instrumented code paths, to compute statistics or forward them to a metrics or
+ * tracing system. Implementations are registered with {@link Instrumentation#addTracer(Tracer)}, or found on the
+ * classpath via <code>META-INF/services/org.geotools.util.instrumentation.Tracer</code>.
+ *
+ * <p>Tracers are called from many threads at the same time, and on hot paths, so they must be thread safe and fast.
+ *
+ * @since 33
+ */
+public interface Tracer {
+
+    /**
+     * Starts a span, timing the operation until it is closed
+     *
+     * @param name the operation name, e.g., <code>datastore.getReader</code>
+     */
+    Span start(String name);
+
+    /**
+     * Adds to a counter
+     *
+     * @param name the counter name, e.g., <code>jdbc.rows</code>
+     * @param delta the amount to add
+     */
+    void count(String name, long delta);
+
+    /**
+     * Records the duration of an operation not modelled as a span, e.g., the time spent in a loop summed over its
+     * iterations
+     *
+     * @param name the timer name, e.g., <code>jdbc.fetch</code>
+     * @param nanos the duration, in nanoseconds
+     */
+    void time(String name, long nanos);
+}
@@ -0,0 +1,27 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+
+/**
+ * A lightweight instrumentation SPI for the GeoTools hot paths. Data stores, the renderer and coverage readers report
+ * spans, timers and counters to {@link org.geotools.util.instrumentation.Instrumentation}, which forwards them to the
+ * registered {@link org.geotools.util.instrumentation.Tracer}s, and costs next to nothing when there is none.
+ *
+ * <p>The names reported are dotted and lower case, the first part being the component, e.g.,
+ * <code>datastore.getReader</code>, <code>jdbc.fetch</code>, <code>jdbc.decode</code>, <code>renderer.paint</code>,
+ * <code>renderer.labels</code> or <code>mosaic.read</code>.
+ */
+package org.geotools.util.instrumentation;
@@ -0,0 +1,198 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+public class TinyLFUObjectCacheTest {
+
+    @Test
+    public void testSimple() {
+        ObjectCache<Integer, String> cache = ObjectCaches.create("lfu", 50);
+        assertTrue(cache instanceof TinyLFUObjectCache);
+        assertNull(cache.get(1));
+
+        cache.writeLock(1);
+        try {
+            assertNull(cache.peek(1));
+            cache.put(1, "one");
+        } finally {
+            cache.writeUnLock(1);
+        }
+        assertEquals("one", cache.get(1));
+        cache.put(1, "uno");
+        assertEquals("uno", cache.peek(1));
+        assertEquals(1, cache.getKeys().size());
+
+        cache.remove(1);
+        assertNull(cache.get(1));
+        assertTrue(cache.getKeys().isEmpty());
+
+        cache.put(2, "two");
+        cache.clear();
+        assertTrue(cache.getKeys().isEmpty());
+    }
+
+    @Test
+    public void testPolicyCase() {
+        // like "soft", the policy name is case sensitive
+        assertFalse(ObjectCaches.create("LFU", 50) instanceof TinyLFUObjectCache);
+    }
+
+    @Test
+    public void testUnlockPriorToLocking() {
+        ObjectCache<Integer, String> cache = ObjectCaches.create("lfu", 50);
+        try {
+            cache.writeUnLock(1);
+            fail("Should have failed, the key was not locked");
+        } catch (IllegalMonitorStateException e) {
+            // fine
+        }
+    }
+
+    @Test
+    public void testBounded() {
+        ObjectCache<Integer, Integer> cache = ObjectCaches.create("lfu", 100);
+        for (int i = 0; i < 10000; i++) {
+            cache.put(i, i);
+        }
+        assertTrue(cache.getKeys().size() <= 100);
+        ObjectCacheStatistics statistics = ObjectCaches.getStatistics(cache);
+        assertEquals(cache.getKeys().size(), statistics.getSize());
+        assertEquals(10000 - statistics.getSize(), statistics.getEvictionCount());
+    }
+
+    @Test
+    public void testFrequentValuesSurviveScans() {
+        ObjectCache<Integer, Integer> cache = ObjectCaches.create("lfu", 100);
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 50; i++) {
+                if (cache.get(i) == null) {
+                    cache.put(i, i);
+                }
+            }
+        }
+        // a scan of values used only once, while the frequent values keep being used
+        for (int i = 1000; i < 11000; i++) {
+            cache.put(i, i);
+            if (i % 1000 == 0) {
+                for (int j = 0; j < 50; j++) {
+                    cache.get(j);
+                }
+            }
+        }
+        int survivors = 0;
+        for (int i = 0; i < 50; i++) {
+            if (cache.peek(i) != null) {
+                survivors++;
+            }
+        }
+        assertEquals(50, survivors);
+    }
+
+    @Test
+    public void testWeighted() {
+        ObjectCache<Integer, String> cache = ObjectCaches.create(1000, String::length);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            sb.append('x');
+            cache.put(i, sb.toString());
+        }
+        ObjectCacheStatistics statistics = ObjectCaches.getStatistics(cache);
+        assertTrue(statistics.getWeight() <= 1000);
+        long weight = 0;
+        for (Integer key : cache.getKeys()) {
+            weight += cache.peek(key).length();
+        }
+        assertEquals(weight, statistics.getWeight());
+    }
+
+    @Test
+    public void testHeavyValue() {
+        // far heavier than a sixteenth of the maximum weight
+        ObjectCache<Integer, String> cache = ObjectCaches.create(100_000, String::length);
+        String heavy = "x".repeat(50_000);
+        cache.put(1, heavy);
+        assertSame(heavy, cache.peek(1));
+        cache.put(2, "y");
+        assertSame(heavy, cache.peek(1));
+    }
+
+    @Test
+    public void testStatistics() {
+        ObjectCache<Integer, Integer> cache = ObjectCaches.create("lfu", 10);
+        cache.put(1, 1);
+        cache.get(1);
+        cache.get(1);
+        cache.get(2);
+        ObjectCacheStatistics statistics = ObjectCaches.getStatistics(cache);
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(2d / 3, statistics.getHitRate(), 1e-9);
+        assertEquals(1, statistics.getSize());
+        assertNull(ObjectCaches.getStatistics(ObjectCaches.create("weak", 10)));
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        ObjectCache<Integer, Integer> cache = ObjectCaches.create("lfu", 1000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20000; i++) {
+                        int key = (i * 31 + seed) % 3000;
+                        Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.writeLock(key);
+                            try {
+                                if (cache.peek(key) == null) {
+                                    cache.put(key, key);
+                                }
+                            } finally {
+                                cache.writeUnLock(key);
+                            }
+                        } else {
+                            assertEquals(key, value.intValue());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(cache.getKeys().size() <= 1000);
+        assertEquals(cache.getKeys().size(), ObjectCaches.getStatistics(cache).getSize());
+    }
+}
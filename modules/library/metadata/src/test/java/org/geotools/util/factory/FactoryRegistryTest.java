@@ -22,6 +22,7 @@
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -268,6 +269,36 @@ public void testCreateProvider() {
                 "An instance of Factory #4 should have been created.", DummyFactory.Example4.class, factory.getClass());
     }
 
+    /** Tests that lookups are memoized until the registered factories change. */
+    @Test
+    public void testResolvedFactory() {
+        final Hints.Key key = DummyFactory.DUMMY_FACTORY;
+        final DummyFactory factory1 = new DummyFactory.Example1();
+        final DummyFactory factory2 = new DummyFactory.Example2();
+        final DummyFactory factory3 = new DummyFactory.Example3();
+        final FactoryRegistry registry = getRegistry(false, factory1, factory2, factory3);
+        final Hints hints = new Hints(Hints.KEY_INTERPOLATION, Hints.VALUE_INTERPOLATION_BILINEAR);
+        assertNull(registry.getResolvedFactory(DummyFactory.class, hints, key));
+        assertSame(factory1, registry.getFactory(DummyFactory.class, null, hints, key));
+        // equal hints find the memoized factory
+        final Hints same = new Hints(Hints.KEY_INTERPOLATION, Hints.VALUE_INTERPOLATION_BILINEAR);
+        assertSame(factory1, registry.getResolvedFactory(DummyFactory.class, same, key));
+        assertNull(registry.getResolvedFactory(DummyFactory.class, null, key));
+        // changing the hints used for the lookup does not change the memoized one
+        hints.put(Hints.KEY_INTERPOLATION, Hints.VALUE_INTERPOLATION_BICUBIC);
+        assertSame(factory1, registry.getResolvedFactory(DummyFactory.class, same, key));
+
+        // changes to the registered factories invalidate the lookups
+        assertTrue(registry.unsetOrdering(DummyFactory.class, factory1, factory2));
+        assertNull(registry.getResolvedFactory(DummyFactory.class, same, key));
+        assertSame(factory1, registry.getFactory(DummyFactory.class, null, same, key));
+        registry.deregisterFactory(factory1);
+        assertNull(registry.getResolvedFactory(DummyFactory.class, same, key));
+        assertNotSame(factory1, registry.getFactory(DummyFactory.class, null, same, key));
+        registry.registerFactory(factory1);
+        assertNull(registry.getResolvedFactory(DummyFactory.class, same, key));
+    }
+
     @Ignore
     @Test
     public void testLookupWithExtendedClasspath() throws IOException {
@@ -0,0 +1,113 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.util.instrumentation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import org.junit.After;
+import org.junit.Test;
+
+public class InstrumentationTest {
+
+    @After
+    public void removeTracers() {
+        for (Tracer tracer : Instrumentation.getTracers()) {
+            Instrumentation.removeTracer(tracer);
+        }
+    }
+
+    @Test
+    public void testDisabled() {
+        assertFalse(Instrumentation.isEnabled());
+        assertSame(Span.NOOP, Instrumentation.span("test"));
+        // no tracer, nothing happens
+        Instrumentation.count("test", 1);
+        Instrumentation.time("test", 1);
+    }
+
+    @Test
+    public void testStatistics() {
+        StatisticsTracer statistics = new StatisticsTracer();
+        Instrumentation.addTracer(statistics);
+        assertTrue(Instrumentation.isEnabled());
+
+        try (Span span = Instrumentation.span("span")) {
+            span.tag("key", "value");
+        }
+        try (Span span = Instrumentation.span("span")) {
+            // nothing to do
+        }
+        Instrumentation.count("counter", 3);
+        Instrumentation.count("counter", 5);
+        Instrumentation.time("timer", 10);
+        Instrumentation.time("timer", 30);
+
+        Map<String, StatisticsTracer.Statistic> snapshot = statistics.snapshot();
+        assertEquals(3, snapshot.size());
+        assertEquals(2, snapshot.get("span").getCount());
+        assertTrue(snapshot.get("span").getTotal() >= snapshot.get("span").getMax());
+        StatisticsTracer.Statistic counter = snapshot.get("counter");
+        assertEquals(2, counter.getCount());
+        assertEquals(8, counter.getTotal());
+        assertEquals(5, counter.getMax());
+        StatisticsTracer.Statistic timer = snapshot.get("timer");
+        assertEquals(40, timer.getTotal());
+        assertEquals(30, timer.getMax());
+        assertEquals(20, timer.getMean(), 0d);
+
+        statistics.reset();
+        assertTrue(statistics.snapshot().isEmpty());
+
+        Instrumentation.removeTracer(statistics);
+        assertFalse(Instrumentation.isEnabled());
+        Instrumentation.count("counter", 1);
+        assertTrue(statistics.snapshot().isEmpty());
+    }
+
+    @Test
+    public void testMultipleTracers() {
+        StatisticsTracer first = new StatisticsTracer();
+        StatisticsTracer second = new StatisticsTracer();
+        Instrumentation.addTracer(first);
+        Instrumentation.addTracer(second);
+        // registering twice has no effect
+        Instrumentation.addTracer(first);
+        assertEquals(2, Instrumentation.getTracers().size());
+
+        try (Span span = Instrumentation.span("span")) {
+            span.tag("key", "value");
+        }
+        Instrumentation.count("counter", 2);
+        Instrumentation.time("timer", 7);
+
+        for (StatisticsTracer tracer : new StatisticsTracer[] {first, second}) {
+            Map<String, StatisticsTracer.Statistic> snapshot = tracer.snapshot();
+            assertEquals(1, snapshot.get("span").getCount());
+            assertEquals(2, snapshot.get("counter").getTotal());
+            assertEquals(7, snapshot.get("timer").getTotal());
+        }
+
+        Instrumentation.removeTracer(first);
+        Instrumentation.count("counter", 2);
+        assertEquals(2, first.snapshot().get("counter").getTotal());
+        assertEquals(4, second.snapshot().get("counter").getTotal());
+    }
+}
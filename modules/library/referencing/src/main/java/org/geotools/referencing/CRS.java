@@ -27,6 +27,7 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -91,6 +92,8 @@
 import org.geotools.referencing.util.CRSUtilities;
 import org.geotools.referencing.wkt.Formattable;
 import org.geotools.util.GenericName;
+import org.geotools.util.ObjectCache;
+import org.geotools.util.ObjectCaches;
 import org.geotools.util.SoftValueHashMap;
 import org.geotools.util.UnsupportedImplementationException;
 import org.geotools.util.Version;
@@ -175,6 +178,16 @@ public static enum AxisOrder {
 
     private static SoftValueHashMap<String, CoordinateReferenceSystem> wktCache = new SoftValueHashMap<>();
 
+    /**
+     * The recent answers of {@link #lookupIdentifier(Citation, CoordinateReferenceSystem, boolean)}, including the
+     * lack of them as {@link #NOT_FOUND}, since the same unidentified CRS is often looked up over and over (think about
+     * the .prj file of every shapefile read)
+     */
+    private static final ObjectCache<LookupKey, String> lookupCache = ObjectCaches.create("lfu", 1000);
+
+    /** Marks the objects for which no identifier was found in the {@link #lookupCache}, never a valid code */
+    private static final String NOT_FOUND = "";
+
     /** Registers a listener automatically invoked when the system-wide configuration changed. */
     static {
         GeoTools.addChangeListener(new ChangeListener() {
@@ -188,6 +201,7 @@ public void stateChanged(ChangeEvent e) {
                     xyCache.clear();
                     wktCache.clear();
                     defaultCache.clear();
+                    lookupCache.clear();
                 }
             }
         });
@@ -196,6 +210,14 @@ public void stateChanged(ChangeEvent e) {
     /** Do not allow instantiation of this class. */
     private CRS() {}
 
+    /**
+     * Forgets the answers of {@link #lookupIdentifier(Citation, CoordinateReferenceSystem, boolean)}, invoked by
+     * {@link ReferencingFactoryFinder} when an authority factory is added or removed.
+     */
+    static void clearLookupCache() {
+        lookupCache.clear();
+    }
+
     /**
      * Returns the CRS authority factory used by the {@link #decode(String,boolean) decode} methods. This factory is
      * {@linkplain org.geotools.referencing.factory.BufferedAuthorityFactory buffered}, scans over
@@ -1086,6 +1108,19 @@ public static String lookupIdentifier(
         if (id != null) {
             return id.getCode();
         }
+        final LookupKey key = new LookupKey(authority, crs, fullScan);
+        String code = lookupCache.get(key);
+        if (code == null) {
+            code = searchIdentifier(authority, crs, fullScan);
+            lookupCache.put(key, code != null ? code : NOT_FOUND);
+        }
+        return code.isEmpty() ? null : code;
+    }
+
+    /** Searches the identifier of the CRS in the factories of the given authority. */
+    private static String searchIdentifier(
+            final Citation authority, final CoordinateReferenceSystem crs, final boolean fullScan)
+            throws FactoryException {
         for (final CRSAuthorityFactory factory :
                 ReferencingFactoryFinder.getCRSAuthorityFactories(FORCE_LONGITUDE_FIRST_AXIS_ORDER)) {
             if (!Citations.identifierMatches(factory.getAuthority(), authority)) {
@@ -1105,6 +1140,35 @@ public static String lookupIdentifier(
         return null;
     }
 
+    /** The key of the {@link #lookupCache}, the looked up CRS is compared including its metadata. */
+    private static final class LookupKey {
+        private final Citation authority;
+
+        private final CoordinateReferenceSystem crs;
+
+        private final boolean fullScan;
+
+        LookupKey(final Citation authority, final CoordinateReferenceSystem crs, final boolean fullScan) {
+            this.authority = authority;
+            this.crs = crs;
+            this.fullScan = fullScan;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (!(object instanceof LookupKey)) {
+                return false;
+            }
+            final LookupKey that = (LookupKey) object;
+            return fullScan == that.fullScan && Objects.equals(authority, that.authority) && crs.equals(that.crs);
+        }
+
+        @Override
+        public int hashCode() {
+            return crs.hashCode() * 31 + (fullScan ? 1 : 0);
+        }
+    }
+
     /**
      * Looks up an EPSG code for the given {@linkplain CoordinateReferenceSystem coordinate reference system}). This is
      * a convenience method for <code>{@linkplain
@@ -1663,6 +1727,7 @@ public static void reset(final String aspects) {
         }
         xyCache.clear();
         defaultCache.clear();
+        lookupCache.clear();
         FORCED_LON_LAT = null;
         defaultFactory = null;
         xyFactory = null;
@@ -184,10 +184,20 @@ private static synchronized <T extends Factory> Set<T> getFactories(final Class<
      * @return The first factory that matches the supplied hints.
      * @throws FactoryRegistryException if no implementation was found or can be created for the specified interface.
      */
-    private static synchronized <T extends Factory> T getFactory(
-            final Class<T> category, Hints hints, final Hints.Key key) throws FactoryRegistryException {
+    private static <T extends Factory> T getFactory(final Class<T> category, Hints hints, final Hints.Key key)
+            throws FactoryRegistryException {
         hints = mergeSystemHints(hints);
-        return getServiceRegistry().getFactory(category, null, hints, key);
+        // try first the factories already looked up, without locking
+        final FactoryRegistry registry = ReferencingFactoryFinder.registry;
+        if (registry != null) {
+            final T factory = registry.getResolvedFactory(category, hints, key);
+            if (factory != null) {
+                return factory;
+            }
+        }
+        synchronized (ReferencingFactoryFinder.class) {
+            return getServiceRegistry().getFactory(category, null, hints, key);
+        }
     }
 
     /**
@@ -613,6 +623,7 @@ public static synchronized void addAuthorityFactory(final AuthorityFactory autho
         }
         getServiceRegistry().registerFactory(authority);
         authorityNames = null;
+        CRS.clearLookupCache();
     }
 
     /**
@@ -624,6 +635,7 @@ public static synchronized void addAuthorityFactory(final AuthorityFactory autho
     public static synchronized void removeAuthorityFactory(final AuthorityFactory authority) {
         getServiceRegistry().deregisterFactory(authority);
         authorityNames = null;
+        CRS.clearLookupCache();
     }
 
     /**
@@ -675,6 +687,7 @@ public static void reset() {
         if (copy != null) {
             copy.deregisterAll();
         }
+        CRS.clearLookupCache();
     }
 
     /**
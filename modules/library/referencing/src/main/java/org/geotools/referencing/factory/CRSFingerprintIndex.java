@@ -0,0 +1,350 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.parameter.GeneralParameterValue;
+import org.geotools.api.parameter.ParameterDescriptor;
+import org.geotools.api.parameter.ParameterValue;
+import org.geotools.api.referencing.AuthorityFactory;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.IdentifiedObject;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.crs.CompoundCRS;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.crs.EngineeringCRS;
+import org.geotools.api.referencing.crs.GeneralDerivedCRS;
+import org.geotools.api.referencing.crs.GeocentricCRS;
+import org.geotools.api.referencing.crs.GeographicCRS;
+import org.geotools.api.referencing.crs.ImageCRS;
+import org.geotools.api.referencing.crs.ProjectedCRS;
+import org.geotools.api.referencing.crs.SingleCRS;
+import org.geotools.api.referencing.crs.TemporalCRS;
+import org.geotools.api.referencing.crs.VerticalCRS;
+import org.geotools.api.referencing.datum.Datum;
+import org.geotools.api.referencing.datum.Ellipsoid;
+import org.geotools.api.referencing.datum.GeodeticDatum;
+import org.geotools.api.referencing.datum.PrimeMeridian;
+import org.geotools.api.referencing.datum.VerticalDatum;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.operation.projection.MapProjection;
+import org.geotools.referencing.operation.projection.MapProjection.AbstractProvider;
+import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
+import si.uom.NonSI;
+import si.uom.SI;
+
+/**
+ * Index of the coordinate reference systems of an authority factory by fingerprint, used by the default
+ * {@link IdentifiedObjectFinder#getCodeCandidates} implementation instead of returning all the authority codes. The
+ * fingerprint of a CRS is made of the things {@link CRS#equalsIgnoreMetadata equalsIgnoreMetadata} cannot ignore: its
+ * kind, dimension, map projection class, and the numbers defining its ellipsoid, prime meridian and map projection.
+ * Names, axis order and units are left out, so that the candidates found are valid for every axis order flavor of the
+ * factory.
+ *
+ * <p>The numbers are compared with a relative tolerance larger than the {@link Hints#COMPARISON_TOLERANCE comparison
+ * tolerance}: the index returns a small superset of the matching codes, the candidates still being checked one by one
+ * by the finder. The index is built the first time it is needed, by creating every coordinate reference system of the
+ * factory once without caching them. Buffered and axis order wrappers delegate the code candidates to the finder of
+ * their backing store, so they all share the index of that backing store. Finders overriding
+ * {@link IdentifiedObjectFinder#getCodeCandidates getCodeCandidates}, like the EPSG database ones, only use the index
+ * when falling back on the default implementation. It can be disabled by setting the
+ * {@code org.geotools.referencing.crsIndex} system property to {@code false}.
+ */
+final class CRSFingerprintIndex {
+
+    static final Logger LOGGER = Logging.getLogger(CRSFingerprintIndex.class);
+
+    /** Whether the finders use the index */
+    static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("org.geotools.referencing.crsIndex", "true"));
+
+    /** The minimum relative difference under which two numbers may be considered equal */
+    static final double SLACK = 1e-7;
+
+    /** The map projection parameters compared by {@link MapProjection#equals}, in fingerprint order */
+    private static final List<ParameterDescriptor<Double>> PARAMETERS = Arrays.asList(
+            AbstractProvider.SEMI_MAJOR,
+            AbstractProvider.SEMI_MINOR,
+            AbstractProvider.CENTRAL_MERIDIAN,
+            AbstractProvider.LATITUDE_OF_ORIGIN,
+            AbstractProvider.SCALE_FACTOR,
+            AbstractProvider.FALSE_EASTING,
+            AbstractProvider.FALSE_NORTHING);
+
+    /** The indexes of each backing store factory, which is not referenced by its index */
+    private static final Map<AuthorityFactory, CRSFingerprintIndex> INDEXES = new WeakHashMap<>();
+
+    /** The indexed codes by fingerprint key, or {@code null} if not built yet */
+    private volatile Map<String, List<Entry>> buckets;
+
+    /** The codes of the objects which could not be fingerprinted, always candidates */
+    private List<String> unclassified;
+
+    /** Set if the codes of the factory could not be listed */
+    private boolean failed;
+
+    private CRSFingerprintIndex() {}
+
+    /**
+     * Returns the index of the given factory, or {@code null} if the index is disabled or the factory does not create
+     * coordinate reference systems.
+     */
+    static CRSFingerprintIndex getInstance(final AuthorityFactory factory) {
+        if (!ENABLED || !(factory instanceof CRSAuthorityFactory)) {
+            return null;
+        }
+        synchronized (INDEXES) {
+            return INDEXES.computeIfAbsent(factory, f -> new CRSFingerprintIndex());
+        }
+    }
+
+    /**
+     * Returns the codes of the factory which may identify an object equal, ignoring metadata, to the given one, in the
+     * order the factory lists them.
+     *
+     * @param object The object looked up.
+     * @param factory The factory this index is for, used to build the index on the first call.
+     * @return The code candidates, or {@code null} if the index cannot tell, in which case all the codes should be
+     *     scanned.
+     */
+    Set<String> getCandidates(final IdentifiedObject object, final AuthorityFactory factory) {
+        if (!(object instanceof CoordinateReferenceSystem)) {
+            return null;
+        }
+        final Fingerprint fingerprint = Fingerprint.of((CoordinateReferenceSystem) object);
+        if (fingerprint == null || !build(factory)) {
+            return null;
+        }
+        final double tolerance = getTolerance();
+        final Set<String> candidates = new LinkedHashSet<>();
+        final List<Entry> bucket = buckets.get(fingerprint.key);
+        if (bucket != null) {
+            for (final Entry entry : bucket) {
+                if (fingerprint.matches(entry.values, tolerance)) {
+                    candidates.add(entry.code);
+                }
+            }
+        }
+        candidates.addAll(unclassified);
+        return candidates;
+    }
+
+    /** Builds the index if it has not been done yet, returns {@code false} if it cannot be built */
+    private boolean build(final AuthorityFactory factory) {
+        if (buckets != null) {
+            return true;
+        }
+        synchronized (this) {
+            if (buckets != null || failed) {
+                return !failed;
+            }
+            final AuthorityFactoryProxy proxy =
+                    AuthorityFactoryProxy.getInstance(factory, CoordinateReferenceSystem.class);
+            final Set<String> codes;
+            try {
+                codes = proxy.getAuthorityCodes();
+            } catch (FactoryException e) {
+                LOGGER.log(Level.FINE, "Could not list the codes to index of " + factory, e);
+                failed = true;
+                return false;
+            }
+            final Map<String, List<Entry>> index = new HashMap<>();
+            final List<String> others = new ArrayList<>();
+            for (final String code : codes) {
+                final CoordinateReferenceSystem crs;
+                try {
+                    crs = (CoordinateReferenceSystem) proxy.create(code);
+                } catch (Exception e) {
+                    // some objects cannot be created, the finders would skip them as well
+                    LOGGER.log(Level.FINEST, "Could not create '" + code + "':" + e);
+                    continue;
+                }
+                final Fingerprint fingerprint = Fingerprint.of(crs);
+                if (fingerprint == null) {
+                    others.add(code);
+                } else {
+                    index.computeIfAbsent(fingerprint.key, k -> new ArrayList<>())
+                            .add(new Entry(code, fingerprint.getValues()));
+                }
+            }
+            unclassified = others;
+            buckets = index;
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.fine("Indexed " + codes.size() + " codes of " + factory + " in " + index.size() + " buckets");
+            }
+            return true;
+        }
+    }
+
+    /** Gathers the tolerance for floating point comparisons, with some slack */
+    private static double getTolerance() {
+        Double tol = (Double) Hints.getSystemDefault(Hints.COMPARISON_TOLERANCE);
+        if (tol == null) tol = Hints.COMPARISON_TOLERANCE.getDefault();
+        return Math.max(SLACK, 4 * tol);
+    }
+
+    /** Returns {@code true} if the two numbers are equal within the given relative tolerance */
+    static boolean isClose(final double a, final double b, final double tolerance) {
+        if (Double.isNaN(a) || Double.isNaN(b)) {
+            return Double.isNaN(a) && Double.isNaN(b);
+        }
+        return Math.abs(a - b) <= Math.max(Math.abs(a), Math.abs(b)) * tolerance;
+    }
+
+    /** An indexed code, with the numbers of its fingerprint */
+    private static final class Entry {
+        final String code;
+
+        final double[] values;
+
+        Entry(final String code, final double[] values) {
+            this.code = code;
+            this.values = values;
+        }
+    }
+
+    /**
+     * The fingerprint of a CRS: a key describing its structure, equal for all the CRS that may be equal ignoring
+     * metadata, and the numbers to compare within that key.
+     */
+    static final class Fingerprint {
+        final String key;
+
+        private double[] values = new double[8];
+
+        private int count;
+
+        private Fingerprint(final CoordinateReferenceSystem crs) {
+            final StringBuilder builder = new StringBuilder();
+            describe(crs, builder);
+            this.key = builder.toString();
+        }
+
+        /** Returns the fingerprint of the given CRS, or {@code null} if it cannot be computed */
+        static Fingerprint of(final CoordinateReferenceSystem crs) {
+            try {
+                return new Fingerprint(crs);
+            } catch (RuntimeException e) {
+                // e.g. unconvertible units, let the finder compare the whole object
+                LOGGER.log(Level.FINEST, "Could not fingerprint " + crs.getName() + ": " + e);
+                return null;
+            }
+        }
+
+        double[] getValues() {
+            return Arrays.copyOf(values, count);
+        }
+
+        boolean matches(final double[] other, final double tolerance) {
+            if (other.length != count) {
+                return false;
+            }
+            for (int i = 0; i < count; i++) {
+                if (!isClose(values[i], other[i], tolerance)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void add(final double value) {
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = value;
+        }
+
+        private void describe(final CoordinateReferenceSystem crs, final StringBuilder key) {
+            if (crs instanceof CompoundCRS) {
+                key.append("Compound[");
+                for (final CoordinateReferenceSystem component : ((CompoundCRS) crs).getCoordinateReferenceSystems()) {
+                    describe(component, key);
+                    key.append(',');
+                }
+                key.append(']');
+                return;
+            }
+            key.append(getKind(crs)).append(crs.getCoordinateSystem().getDimension());
+            if (crs instanceof GeneralDerivedCRS) {
+                key.append('(');
+                describe(((GeneralDerivedCRS) crs).getBaseCRS(), key);
+                key.append(')');
+            }
+            if (crs instanceof ProjectedCRS) {
+                describe(CRS.getMapProjection(crs), key);
+            } else if (crs instanceof SingleCRS) {
+                describe(((SingleCRS) crs).getDatum(), key);
+            }
+        }
+
+        private void describe(final Datum datum, final StringBuilder key) {
+            if (datum instanceof GeodeticDatum) {
+                final Ellipsoid ellipsoid = ((GeodeticDatum) datum).getEllipsoid();
+                final double semiMajor = ellipsoid.getSemiMajorAxis();
+                final double semiMinor = ellipsoid.getSemiMinorAxis();
+                add(ellipsoid.getAxisUnit().getConverterTo(SI.METRE).convert(semiMajor));
+                add(ellipsoid.getAxisUnit().getConverterTo(SI.METRE).convert(semiMinor));
+                final PrimeMeridian meridian = ((GeodeticDatum) datum).getPrimeMeridian();
+                final double longitude = meridian.getGreenwichLongitude();
+                add(meridian.getAngularUnit().getConverterTo(NonSI.DEGREE_ANGLE).convert(longitude));
+            } else if (datum instanceof VerticalDatum) {
+                key.append('[').append(((VerticalDatum) datum).getVerticalDatumType().name()).append(']');
+            }
+        }
+
+        private void describe(final MapProjection projection, final StringBuilder key) {
+            if (projection == null) {
+                key.append("[?]");
+                return;
+            }
+            key.append('[').append(projection.getClass().getName()).append(']');
+            final double[] parameters = new double[PARAMETERS.size()];
+            Arrays.fill(parameters, Double.NaN);
+            for (final GeneralParameterValue value : projection.getParameterValues().values()) {
+                final int index = PARAMETERS.indexOf(value.getDescriptor());
+                if (index >= 0) {
+                    parameters[index] = ((ParameterValue<?>) value).doubleValue();
+                }
+            }
+            for (final double parameter : parameters) {
+                add(parameter);
+            }
+        }
+
+        private static String getKind(final CoordinateReferenceSystem crs) {
+            if (crs instanceof ProjectedCRS) return "Projected";
+            if (crs instanceof GeographicCRS) return "Geographic";
+            if (crs instanceof GeocentricCRS) return "Geocentric";
+            if (crs instanceof VerticalCRS) return "Vertical";
+            if (crs instanceof TemporalCRS) return "Temporal";
+            if (crs instanceof EngineeringCRS) return "Engineering";
+            if (crs instanceof ImageCRS) return "Image";
+            if (crs instanceof GeneralDerivedCRS) return "Derived";
+            return "Other";
+        }
+    }
+}
@@ -345,14 +345,24 @@ protected Set getSpecificCodeCandidates(final IdentifiedObject object) throws Fa
      *
      * <p>The default implementation returns the same set than <code>
      * {@linkplain AuthorityFactory#getAuthorityCodes getAuthorityCodes}(type)</code> where {@code type} is the
-     * interface specified at construction type. Subclasses should override this method in order to return a smaller
-     * set, if they can.
+     * interface specified at construction type, except for coordinate reference systems: the {@link
+     * CRSFingerprintIndex} of the factory, when enabled, narrows the set to the codes having the same fingerprint
+     * (datum, ellipsoid, map projection and its parameters). Subclasses should override this method in order to return
+     * a smaller set, if they can.
      *
      * @param object The object looked up.
      * @return A set of code candidates.
      * @throws FactoryException if an error occured while fetching the set of code candidates.
      */
     protected Set<String> getCodeCandidates(final IdentifiedObject object) throws FactoryException {
+        final AuthorityFactory factory = getProxy().getAuthorityFactory();
+        final CRSFingerprintIndex index = CRSFingerprintIndex.getInstance(factory);
+        if (index != null) {
+            final Set<String> codes = index.getCandidates(object, factory);
+            if (codes != null) {
+                return codes;
+            }
+        }
         return getProxy().getAuthorityCodes();
     }
 
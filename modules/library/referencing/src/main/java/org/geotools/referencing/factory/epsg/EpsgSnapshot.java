@@ -0,0 +1,466 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.geotools.api.metadata.extent.GeographicBoundingBox;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.IdentifiedObject;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.datum.Datum;
+import org.geotools.api.referencing.datum.Ellipsoid;
+import org.geotools.api.referencing.datum.GeodeticDatum;
+import org.geotools.api.referencing.datum.PrimeMeridian;
+import org.geotools.api.util.InternationalString;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.ReferencingFactoryFinder;
+import org.geotools.referencing.factory.AbstractAuthorityFactory;
+import org.geotools.referencing.wkt.Formattable;
+import org.geotools.referencing.wkt.Parser;
+import org.geotools.referencing.wkt.UnformattableObjectException;
+import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
+
+/**
+ * A compact, read-only snapshot of the EPSG definitions, as <cite>Well Known Text</cite> indexed by code. The snapshot
+ * is generated at build time from a full EPSG factory with {@link #main}, and read by {@link FactoryUsingSnapshot}
+ * without any SQL engine: the file is memory mapped, the code index is binary searched in place, and only the WKT of
+ * the requested objects is decoded. It holds coordinate reference systems, datums, ellipsoids and prime meridians
+ * only, coordinate operations cannot be written in WKT 1 and are left to the SQL factories.
+ *
+ * <p>EPSG codes are unique within a table only, e.g. 6318 is both a geographic CRS and a datum. Entries are thus keyed
+ * by code and kind of object, and lookups without a kind return coordinate reference systems first, then datums,
+ * ellipsoids and prime meridians, as {@link DirectEpsgFactory#createObject} does.
+ *
+ * <p>The file layout is:
+ *
+ * <ul>
+ *   <li>the {@link #MAGIC} number and the number of entries;
+ *   <li>the EPSG dataset version, as a length prefixed UTF-8 string;
+ *   <li>the codes, sorted in increasing order, as 32 bits integers, entries sharing a code being sorted by kind;
+ *   <li>the WKT keyword of each entry, as an index in the list of keywords, one byte each;
+ *   <li>the geographic bounding box of each entry (west, east, south, north), NaN if unknown;
+ *   <li>the offsets of the WKT of each entry in the text section, plus the end offset;
+ *   <li>the text section, the concatenated WKT encoded in UTF-8.
+ * </ul>
+ *
+ * @since 33
+ */
+public final class EpsgSnapshot {
+
+    private static final Logger LOGGER = Logging.getLogger(EpsgSnapshot.class);
+
+    /** The first bytes of a snapshot file, "GTEPSG" followed by the format version */
+    public static final long MAGIC = 0x475445505347_0002L;
+
+    /**
+     * The WKT keywords of the objects in a snapshot, their index is stored for each entry. Coordinate reference
+     * systems come first, so that they are returned first among the entries sharing a code.
+     */
+    private static final List<String> KEYWORDS = Collections.unmodifiableList(Arrays.asList(
+            "GEOGCS",
+            "PROJCS",
+            "GEOCCS",
+            "VERT_CS",
+            "LOCAL_CS",
+            "COMPD_CS",
+            "FITTED_CS",
+            "DATUM",
+            "VERT_DATUM",
+            "LOCAL_DATUM",
+            "SPHEROID",
+            "PRIMEM"));
+
+    /** The number of {@link #KEYWORDS} for coordinate reference systems */
+    private static final int CRS_KINDS = 7;
+
+    /** The type of object for each of the {@link #KEYWORDS} */
+    private static final Class<?>[] TYPES = KEYWORDS.stream().map(Parser::getClassOf).toArray(Class<?>[]::new);
+
+    private final ByteBuffer buffer;
+
+    private final int count;
+
+    private final String version;
+
+    private final int codesStart;
+
+    private final int kindsStart;
+
+    private final int boundsStart;
+
+    private final int offsetsStart;
+
+    private final int textStart;
+
+    private EpsgSnapshot(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        try {
+            if (buffer.getLong(0) != MAGIC) {
+                throw new IOException("Not an EPSG snapshot, or unsupported version");
+            }
+            count = buffer.getInt(8);
+            int versionLength = buffer.getShort(12);
+            byte[] bytes = new byte[versionLength];
+            ByteBuffer b = buffer.duplicate();
+            b.position(14);
+            b.get(bytes);
+            version = new String(bytes, StandardCharsets.UTF_8);
+            codesStart = 14 + versionLength;
+            kindsStart = codesStart + 4 * count;
+            boundsStart = kindsStart + count;
+            offsetsStart = boundsStart + 32 * count;
+            textStart = offsetsStart + 4 * (count + 1);
+            if (count < 0 || textStart + buffer.getInt(textStart - 4) > buffer.limit()) {
+                throw new IOException("Truncated EPSG snapshot");
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Truncated EPSG snapshot", e);
+        }
+    }
+
+    /** Opens a snapshot, memory mapping the file */
+    public static EpsgSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            return new EpsgSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Opens a snapshot. Files are memory mapped, other resources (e.g., inside a jar) are first extracted to a
+     * temporary file deleted on exit, and read in memory only if that fails.
+     */
+    public static EpsgSnapshot open(URL url) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return open(Paths.get(url.toURI()));
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // fall back on reading the stream
+            }
+        }
+        try {
+            Path file = Files.createTempFile("epsg", ".snapshot");
+            file.toFile().deleteOnExit();
+            try (InputStream in = url.openStream()) {
+                Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return open(file);
+        } catch (IOException | SecurityException e) {
+            LOGGER.log(Level.FINE, "Could not extract the EPSG snapshot, reading it in memory", e);
+        }
+        try (InputStream in = url.openStream()) {
+            return new EpsgSnapshot(ByteBuffer.wrap(in.readAllBytes()));
+        }
+    }
+
+    /** Returns the version of the EPSG dataset the snapshot was generated from */
+    public String getVersion() {
+        return version;
+    }
+
+    /** Returns the number of definitions in the snapshot */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the index of the first entry with the given code and an object of the given type, or a negative value if
+     * not found
+     */
+    int indexOf(String code, Class<?> type) {
+        final int value;
+        try {
+            value = Integer.parseInt(code.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        int low = 0;
+        int high = count - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int c = buffer.getInt(codesStart + 4 * mid);
+            if (c < value) {
+                low = mid + 1;
+            } else if (c > value) {
+                high = mid - 1;
+            } else {
+                found = mid;
+                high = mid - 1;
+            }
+        }
+        for (int i = found; i >= 0 && i < count && buffer.getInt(codesStart + 4 * i) == value; i++) {
+            if (type.isAssignableFrom(TYPES[buffer.get(kindsStart + i)])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Returns the WKT of the entry at the given index */
+    String getWKT(int index) {
+        int start = buffer.getInt(offsetsStart + 4 * index);
+        int end = buffer.getInt(offsetsStart + 4 * (index + 1));
+        byte[] bytes = new byte[end - start];
+        ByteBuffer b = buffer.duplicate();
+        b.position(textStart + start);
+        b.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Returns the bounds of the entry at the given index, or null if unknown */
+    double[] getBounds(int index) {
+        double[] bounds = new double[4];
+        for (int i = 0; i < 4; i++) {
+            bounds[i] = buffer.getDouble(boundsStart + 32 * index + 8 * i);
+        }
+        return Double.isNaN(bounds[0]) ? null : bounds;
+    }
+
+    /**
+     * Returns the WKT of the object with the given code, without authority prefix, or null if not found. If several
+     * objects share the code, the coordinate reference system is returned first.
+     */
+    public String getWKT(String code) {
+        return getWKT(code, Object.class);
+    }
+
+    /** Returns the WKT of the object of the given type with the given code, or null if not found */
+    public String getWKT(String code, Class<?> type) {
+        int index = indexOf(code, type);
+        return index < 0 ? null : getWKT(index);
+    }
+
+    /**
+     * Returns the geographic bounding box of the coordinate reference system with the given code, as west, east, south
+     * and north bounds, or null if not found or unknown
+     */
+    public double[] getBounds(String code) {
+        int index = indexOf(code, CoordinateReferenceSystem.class);
+        return index < 0 ? null : getBounds(index);
+    }
+
+    /** Returns the codes of the objects of the given type, in increasing order */
+    public Set<String> getCodes(Class<?> type) {
+        Set<String> codes = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            if (type.isAssignableFrom(TYPES[buffer.get(kindsStart + i)])) {
+                codes.add(String.valueOf(buffer.getInt(codesStart + 4 * i)));
+            }
+        }
+        return Collections.unmodifiableSet(codes);
+    }
+
+    /**
+     * Writes a snapshot
+     *
+     * @param out The stream to write to, not closed by this method
+     * @param version The version of the EPSG dataset
+     * @param definitions The WKT of the objects with each numeric code, objects of different kinds (coordinate
+     *     reference system, datum, ellipsoid or prime meridian) may share a code
+     * @param bounds The west, east, south and north bounds of the coordinate reference systems, by numeric code, may
+     *     lack some codes
+     * @throws IllegalArgumentException if a WKT does not start with a supported keyword, or if a code is used twice for
+     *     the same kind of object
+     */
+    public static void write(
+            OutputStream out, String version, Map<Integer, List<String>> definitions, Map<Integer, double[]> bounds)
+            throws IOException {
+        List<int[]> keys = new ArrayList<>();
+        List<byte[]> texts = new ArrayList<>();
+        for (Map.Entry<Integer, List<String>> entry : new TreeMap<>(definitions).entrySet()) {
+            for (String definition : entry.getValue()) {
+                String wkt = definition.trim();
+                int k = 0;
+                while (k < wkt.length() && Character.isJavaIdentifierPart(wkt.charAt(k))) k++;
+                int kind = KEYWORDS.indexOf(wkt.substring(0, k));
+                if (kind < 0) {
+                    throw new IllegalArgumentException("Unsupported WKT for code " + entry.getKey() + ": " + wkt);
+                }
+                keys.add(new int[] {entry.getKey(), kind, texts.size()});
+                texts.add(wkt.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        keys.sort(Comparator.<int[]>comparingInt(key -> key[0]).thenComparingInt(key -> key[1]));
+        for (int i = 1; i < keys.size(); i++) {
+            int[] previous = keys.get(i - 1);
+            int[] key = keys.get(i);
+            if (previous[0] == key[0] && table(previous[1]) == table(key[1])) {
+                throw new IllegalArgumentException("Code " + key[0] + " is used twice for the same kind of object");
+            }
+        }
+        byte[] versionBytes = version.getBytes(StandardCharsets.UTF_8);
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeLong(MAGIC);
+        data.writeInt(keys.size());
+        data.writeShort(versionBytes.length);
+        data.write(versionBytes);
+        for (int[] key : keys) {
+            data.writeInt(key[0]);
+        }
+        for (int[] key : keys) {
+            data.writeByte(key[1]);
+        }
+        for (int[] key : keys) {
+            double[] b = bounds == null || key[1] >= CRS_KINDS ? null : bounds.get(key[0]);
+            for (int j = 0; j < 4; j++) {
+                data.writeDouble(b == null ? Double.NaN : b[j]);
+            }
+        }
+        int offset = 0;
+        for (int[] key : keys) {
+            data.writeInt(offset);
+            offset += texts.get(key[2]).length;
+        }
+        data.writeInt(offset);
+        for (int[] key : keys) {
+            data.write(texts.get(key[2]));
+        }
+        data.flush();
+    }
+
+    /** Returns the EPSG table holding the objects of the given kind, codes are unique within a table */
+    private static int table(int kind) {
+        if (kind < CRS_KINDS) {
+            return 0;
+        }
+        return KEYWORDS.get(kind).endsWith("DATUM") ? 1 : kind;
+    }
+
+    /**
+     * Generates a snapshot from the EPSG factory found on the classpath, usually the HSQL one. The only argument is the
+     * file to write. The coordinate reference systems, datums, ellipsoids and prime meridians that can be formatted as
+     * WKT are included, the other objects are left to the full EPSG factory. Each WKT is parsed back and compared with
+     * the original object ignoring metadata, the objects that do not round trip are left out too, and counted apart.
+     */
+    public static void main(String... args) throws IOException, FactoryException {
+        if (args.length != 1) {
+            System.err.println("Usage: EpsgSnapshot <output file>");
+            System.exit(1);
+        }
+        Hints hints = new Hints(Hints.CRS_AUTHORITY_FACTORY, ThreadedEpsgFactory.class);
+        hints.put(Hints.FORCE_LONGITUDE_FIRST_AXIS_ORDER, Boolean.FALSE);
+        hints.put(Hints.FORCE_STANDARD_AXIS_DIRECTIONS, Boolean.FALSE);
+        hints.put(Hints.FORCE_STANDARD_AXIS_UNITS, Boolean.FALSE);
+        AbstractAuthorityFactory factory =
+                (AbstractAuthorityFactory) ReferencingFactoryFinder.getCRSAuthorityFactory("EPSG", hints);
+
+        Map<Integer, List<String>> definitions = new TreeMap<>();
+        Map<Integer, double[]> bounds = new TreeMap<>();
+        Parser parser = new Parser();
+        int skipped = 0;
+        int mismatches = 0;
+        for (Class<? extends IdentifiedObject> type : Arrays.asList(
+                CoordinateReferenceSystem.class, Datum.class, Ellipsoid.class, PrimeMeridian.class)) {
+            for (String code : factory.getAuthorityCodes(type)) {
+                try {
+                    int key = Integer.parseInt(code.substring(code.indexOf(':') + 1).trim());
+                    // codes are unique within a table only, create objects of the expected type
+                    IdentifiedObject object;
+                    if (type == CoordinateReferenceSystem.class) {
+                        object = factory.createCoordinateReferenceSystem(code);
+                    } else if (type == Datum.class) {
+                        object = factory.createDatum(code);
+                    } else if (type == Ellipsoid.class) {
+                        object = factory.createEllipsoid(code);
+                    } else {
+                        object = factory.createPrimeMeridian(code);
+                    }
+                    // the WKT of a datum does not include its prime meridian
+                    if (object instanceof GeodeticDatum
+                            && ((GeodeticDatum) object).getPrimeMeridian().getGreenwichLongitude() != 0) {
+                        skipped++;
+                        continue;
+                    }
+                    String wkt = ((Formattable) object).toWKT(Formattable.SINGLE_LINE);
+                    if (!roundTrips(parser, object, wkt)) {
+                        LOGGER.fine("Skipping EPSG:" + code + ", its WKT does not parse back to the same object");
+                        mismatches++;
+                        continue;
+                    }
+                    definitions.computeIfAbsent(key, k -> new ArrayList<>()).add(wkt);
+                    if (object instanceof CoordinateReferenceSystem) {
+                        GeographicBoundingBox box = CRS.getGeographicBoundingBox((CoordinateReferenceSystem) object);
+                        if (box != null) {
+                            bounds.put(key, new double[] {
+                                box.getWestBoundLongitude(),
+                                box.getEastBoundLongitude(),
+                                box.getSouthBoundLatitude(),
+                                box.getNorthBoundLatitude()
+                            });
+                        }
+                    }
+                } catch (NumberFormatException
+                        | ClassCastException
+                        | UnformattableObjectException
+                        | FactoryException e) {
+                    LOGGER.log(Level.FINE, "Skipping EPSG:" + code, e);
+                    skipped++;
+                }
+            }
+        }
+        InternationalString edition = factory.getAuthority().getEdition();
+        String version = edition == null ? "" : edition.toString();
+        Path file = Paths.get(args[0]);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(out, version, definitions, bounds);
+        }
+        int written = definitions.values().stream().mapToInt(List::size).sum();
+        LOGGER.info("Wrote " + written + " EPSG " + version + " definitions to " + file + ", skipped " + skipped
+                + " that cannot be formatted as WKT and " + mismatches + " that do not round trip");
+    }
+
+    /** Returns true if the WKT parses back to an object equal to the given one, ignoring metadata */
+    private static boolean roundTrips(Parser parser, IdentifiedObject object, String wkt) {
+        try {
+            return CRS.equalsIgnoreMetadata(object, parser.parseObject(wkt));
+        } catch (ParseException e) {
+            LOGGER.log(Level.FINE, "Could not parse back " + wkt, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.text.MessageFormat;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.datum.DatumAuthorityFactory;
+import org.geotools.metadata.i18n.ErrorKeys;
+import org.geotools.metadata.i18n.LoggingKeys;
+import org.geotools.metadata.i18n.Loggings;
+import org.geotools.referencing.factory.AbstractAuthorityFactory;
+import org.geotools.referencing.factory.DeferredAuthorityFactory;
+import org.geotools.referencing.factory.FactoryNotFoundException;
+import org.geotools.referencing.factory.ReferencingFactoryContainer;
+import org.geotools.util.factory.Hints;
+import org.geotools.util.logging.Logging;
+
+/**
+ * EPSG authority factory backed by an {@link EpsgSnapshot}, a binary file of WKT definitions generated at build time
+ * from the EPSG database. Opening the snapshot is nearly instant, as it is memory mapped and parsed on demand, while
+ * the SQL based factories have to unpack and open the database first.
+ *
+ * <p>The snapshot is the file given by the {@value #SNAPSHOT_KEY} system property, or else the first {@value #FILENAME}
+ * resource found in any {@code org/geotools/referencing/factory/epsg} directory on the classpath. If there is none,
+ * the factory won't be activated. When active, it has precedence over the {@link ThreadedEpsgFactory} implementations,
+ * which remain used as a fallback for the codes not in the snapshot.
+ *
+ * <p>Only the creation of coordinate reference systems, datums, ellipsoids and prime meridians, e.g.,
+ * {@link org.geotools.referencing.CRS#decode}, gets faster. This factory is not a
+ * {@link org.geotools.api.referencing.operation.CoordinateOperationAuthorityFactory}: the snapshot has no coordinate
+ * operations, as they cannot be written in WKT 1. Looking up the EPSG operations between two systems, as
+ * {@link org.geotools.referencing.CRS#findMathTransform} does, still opens the SQL database on first use.
+ *
+ * @since 33
+ */
+public class FactoryUsingSnapshot extends DeferredAuthorityFactory
+        implements CRSAuthorityFactory, DatumAuthorityFactory {
+
+    /** The default name of the snapshot resource. */
+    public static final String FILENAME = "epsg.snapshot";
+
+    /** The system property giving the path of the snapshot file to use. */
+    public static final String SNAPSHOT_KEY = "org.geotools.referencing.epsg.snapshot";
+
+    /** Default priority for this factory, higher than the SQL based ones. */
+    protected static final int DEFAULT_PRIORITY = ThreadedEpsgFactory.PRIORITY + 5;
+
+    /** The factories to be given to the backing store. */
+    private final ReferencingFactoryContainer factories;
+
+    /** Constructs an authority factory using the default set of factories. */
+    public FactoryUsingSnapshot() {
+        this(null);
+    }
+
+    /** Constructs an authority factory using a set of factories created from the specified hints. */
+    public FactoryUsingSnapshot(final Hints userHints) {
+        this(userHints, DEFAULT_PRIORITY);
+    }
+
+    /** Constructs an authority factory using the specified hints and priority. */
+    public FactoryUsingSnapshot(final Hints userHints, final int priority) {
+        super(userHints, priority);
+        factories = ReferencingFactoryContainer.instance(userHints);
+        // same axis order as the database the snapshot was generated from
+        hints.put(Hints.FORCE_LONGITUDE_FIRST_AXIS_ORDER, Boolean.FALSE);
+        hints.put(Hints.FORCE_STANDARD_AXIS_DIRECTIONS, Boolean.FALSE);
+        hints.put(Hints.FORCE_STANDARD_AXIS_UNITS, Boolean.FALSE);
+    }
+
+    /**
+     * Returns the URL of the snapshot, looked up as described in the class javadoc.
+     *
+     * @return The URL, or {@code null} if none.
+     */
+    protected URL getSnapshotURL() {
+        try {
+            final String path = System.getProperty(SNAPSHOT_KEY);
+            if (path != null) {
+                final File file = new File(path);
+                if (file.isFile()) {
+                    return file.toURI().toURL();
+                }
+            }
+        } catch (SecurityException | MalformedURLException exception) {
+            Logging.unexpectedException(LOGGER, exception);
+        }
+        return FactoryUsingSnapshot.class.getResource(FILENAME);
+    }
+
+    /**
+     * Creates the backing store authority factory.
+     *
+     * @throws FactoryNotFoundException if no snapshot has been found.
+     * @throws FactoryException if the snapshot could not be read.
+     */
+    @Override
+    protected AbstractAuthorityFactory createBackingStore() throws FactoryException {
+        final URL url = getSnapshotURL();
+        if (url == null) {
+            throw new FactoryNotFoundException(MessageFormat.format(ErrorKeys.FILE_DOES_NOT_EXIST_$1, FILENAME));
+        }
+        try {
+            final EpsgSnapshot snapshot = EpsgSnapshot.open(url);
+            final LogRecord record =
+                    Loggings.format(Level.CONFIG, LoggingKeys.USING_FILE_AS_FACTORY_$2, url.getPath(), "EPSG");
+            record.setLoggerName(LOGGER.getName());
+            LOGGER.log(record);
+            return new SnapshotAuthorityFactory(factories, snapshot);
+        } catch (IOException exception) {
+            throw new FactoryException(MessageFormat.format(ErrorKeys.CANT_READ_$1, url), exception);
+        }
+    }
+}
@@ -136,7 +136,8 @@ protected AbstractAuthorityFactory createBackingStore() throws FactoryException
          * Set the hints for the backing store to fetch. I'm not sure that we should request a
          * org.geotools.referencing.factory.epsg.ThreadedEpsgFactory implementation; for now we are
          * making this requirement mostly as a safety in order to get an implementation that is
-         * known to work, but we could relax that in a future version. AbstractAuthorityFactory
+         * known to work, but we could relax that in a future version. The snapshot factory is
+         * accepted too, as it is generated from that implementation. AbstractAuthorityFactory
          * is the minimal class required with current OrderedAxisAuthorityFactory API.
          *
          * The really important hints are the FORCE_*_AXIS_* handled by this class, which MUST
@@ -146,7 +147,8 @@ protected AbstractAuthorityFactory createBackingStore() throws FactoryException
          * false since forcing axis directions / units is handled by OrderedAxisAuthorityFactory
          * and we don't want the backing store to interfer with that.
          */
-        final Hints backingStoreHints = new Hints(Hints.CRS_AUTHORITY_FACTORY, ThreadedEpsgFactory.class);
+        final Hints backingStoreHints = new Hints(
+                Hints.CRS_AUTHORITY_FACTORY, new Class<?>[] {FactoryUsingSnapshot.class, ThreadedEpsgFactory.class});
         backingStoreHints.put(Hints.FORCE_LONGITUDE_FIRST_AXIS_ORDER, Boolean.FALSE);
         backingStoreHints.put(Hints.FORCE_STANDARD_AXIS_DIRECTIONS, Boolean.FALSE);
         backingStoreHints.put(Hints.FORCE_STANDARD_AXIS_UNITS, Boolean.FALSE);
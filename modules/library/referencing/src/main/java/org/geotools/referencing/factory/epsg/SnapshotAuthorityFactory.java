@@ -0,0 +1,204 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg;
+
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.geotools.api.metadata.citation.Citation;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.IdentifiedObject;
+import org.geotools.api.referencing.NoSuchAuthorityCodeException;
+import org.geotools.api.referencing.ReferenceSystem;
+import org.geotools.api.referencing.crs.CRSAuthorityFactory;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.datum.Datum;
+import org.geotools.api.referencing.datum.DatumAuthorityFactory;
+import org.geotools.api.referencing.datum.Ellipsoid;
+import org.geotools.api.referencing.datum.PrimeMeridian;
+import org.geotools.api.util.InternationalString;
+import org.geotools.metadata.iso.citation.CitationImpl;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.metadata.iso.extent.ExtentImpl;
+import org.geotools.metadata.iso.extent.GeographicBoundingBoxImpl;
+import org.geotools.referencing.NamedIdentifier;
+import org.geotools.referencing.factory.DirectAuthorityFactory;
+import org.geotools.referencing.factory.ReferencingFactoryContainer;
+import org.geotools.referencing.wkt.Symbols;
+import org.geotools.util.SimpleInternationalString;
+import org.geotools.util.factory.Hints;
+
+/**
+ * Authority factory parsing the WKT definitions of an {@link EpsgSnapshot} on demand. Like
+ * {@link org.geotools.referencing.factory.PropertyAuthorityFactory} it doesn't cache any result, and is meant to be
+ * wrapped in a buffered factory, {@link FactoryUsingSnapshot}.
+ */
+final class SnapshotAuthorityFactory extends DirectAuthorityFactory
+        implements CRSAuthorityFactory, DatumAuthorityFactory {
+
+    private final EpsgSnapshot snapshot;
+
+    private final Citation authority;
+
+    /** A WKT parser, used under its own lock. */
+    private Parser parser;
+
+    SnapshotAuthorityFactory(final ReferencingFactoryContainer factories, final EpsgSnapshot snapshot) {
+        super(factories, MINIMUM_PRIORITY + 10);
+        // same axis order as the database the snapshot was generated from
+        hints.put(Hints.FORCE_LONGITUDE_FIRST_AXIS_ORDER, Boolean.FALSE);
+        hints.put(Hints.FORCE_STANDARD_AXIS_DIRECTIONS, Boolean.FALSE);
+        hints.put(Hints.FORCE_STANDARD_AXIS_UNITS, Boolean.FALSE);
+        this.snapshot = snapshot;
+        final CitationImpl citation = new CitationImpl(Citations.EPSG);
+        citation.setEdition(new SimpleInternationalString(snapshot.getVersion()));
+        citation.freeze();
+        this.authority = citation;
+    }
+
+    /** Returns the EPSG authority, with the version of the dataset the snapshot was generated from as edition. */
+    @Override
+    public Citation getAuthority() {
+        return authority;
+    }
+
+    @Override
+    public Set<String> getAuthorityCodes(final Class<? extends IdentifiedObject> type) throws FactoryException {
+        return snapshot.getCodes(type == null ? IdentifiedObject.class : type);
+    }
+
+    @Override
+    public InternationalString getDescriptionText(final String code) throws FactoryException {
+        final String wkt = getWKT(IdentifiedObject.class, code);
+        int start = wkt.indexOf('"');
+        if (start >= 0) {
+            final int end = wkt.indexOf('"', ++start);
+            if (end >= 0) {
+                return new SimpleInternationalString(wkt.substring(start, end).trim());
+            }
+        }
+        return null;
+    }
+
+    /** Returns the WKT of the object of the given type, for a code which may have an authority prefix. */
+    private String getWKT(final Class<?> type, final String code) throws NoSuchAuthorityCodeException {
+        ensureNonNull("code", code);
+        final String wkt = snapshot.getWKT(trimAuthority(code), type);
+        if (wkt == null) {
+            throw noSuchAuthorityCode(type, code);
+        }
+        return wkt;
+    }
+
+    private Parser getParser() {
+        synchronized (this) {
+            if (parser == null) {
+                parser = new Parser();
+            }
+            return parser;
+        }
+    }
+
+    /**
+     * Creates the object of the given type. EPSG codes are unique within a table only, so the type selects among the
+     * objects sharing the code.
+     */
+    private <T> T create(final Class<T> type, final String code) throws FactoryException {
+        ensureNonNull("code", code);
+        final String key = trimAuthority(code);
+        final int index = snapshot.indexOf(key, type);
+        if (index < 0) {
+            throw noSuchAuthorityCode(type, code);
+        }
+        final String wkt = snapshot.getWKT(index);
+        final Parser parser = getParser();
+        try {
+            synchronized (parser) {
+                parser.code = key;
+                parser.index = index;
+                return type.cast(parser.parseObject(wkt));
+            }
+        } catch (ParseException exception) {
+            throw new FactoryException(exception);
+        } catch (ClassCastException exception) {
+            final NoSuchAuthorityCodeException e = noSuchAuthorityCode(type, code);
+            e.initCause(exception);
+            throw e;
+        }
+    }
+
+    /** Creates the object with the given code, coordinate reference systems first as in {@link DirectEpsgFactory}. */
+    @Override
+    public IdentifiedObject createObject(final String code) throws FactoryException {
+        return create(IdentifiedObject.class, code);
+    }
+
+    @Override
+    public CoordinateReferenceSystem createCoordinateReferenceSystem(final String code) throws FactoryException {
+        return create(CoordinateReferenceSystem.class, code);
+    }
+
+    @Override
+    public Datum createDatum(final String code) throws FactoryException {
+        return create(Datum.class, code);
+    }
+
+    @Override
+    public Ellipsoid createEllipsoid(final String code) throws FactoryException {
+        return create(Ellipsoid.class, code);
+    }
+
+    @Override
+    public PrimeMeridian createPrimeMeridian(final String code) throws FactoryException {
+        return create(PrimeMeridian.class, code);
+    }
+
+    /**
+     * The WKT parser for this factory, adding the authority code if it is not in the WKT, and the domain of validity
+     * stored along with it in the snapshot.
+     */
+    private final class Parser extends org.geotools.referencing.wkt.Parser {
+        private static final long serialVersionUID = 1L;
+
+        /** The code of the object being parsed */
+        String code;
+
+        /** The index of the object being parsed in the snapshot */
+        int index;
+
+        Parser() {
+            super(Symbols.DEFAULT, factories);
+        }
+
+        @Override
+        protected Map<String, Object> alterProperties(Map<String, Object> properties) {
+            properties = new HashMap<>(properties);
+            if (properties.get(IdentifiedObject.IDENTIFIERS_KEY) == null) {
+                properties.put(IdentifiedObject.IDENTIFIERS_KEY, new NamedIdentifier(Citations.EPSG, code));
+            }
+            final double[] bounds = snapshot.getBounds(index);
+            if (bounds != null) {
+                final ExtentImpl extent = new ExtentImpl();
+                extent.getGeographicElements()
+                        .add(new GeographicBoundingBoxImpl(bounds[0], bounds[1], bounds[2], bounds[3]));
+                properties.put(ReferenceSystem.DOMAIN_OF_VALIDITY_KEY, extent.unmodifiable());
+            }
+            return super.alterProperties(properties);
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.gridshift;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A NTv2 grid shift file mapped in memory. Only the headers are read when the file is opened, the shifts are read from
+ * the mapping when a point falls in their sub-grid. The operating system loads the pages of the file on demand and
+ * shares them between all the transforms, and processes, using the same file, instead of each JVM holding a copy of
+ * the whole grid on the heap.
+ *
+ * <p>The grid is thread safe, the shifts are computed by {@link Cursor} instances which must not be shared between
+ * threads. The interpolation follows the NTv2 specification, in the same way than the {@code jgridshift} library used
+ * for grids which can't be mapped.
+ *
+ * @since 33
+ */
+public final class MappedNTv2Grid {
+
+    /** The length of a header record, and of a grid node, in bytes. */
+    private static final int RECORD_LENGTH = 16;
+
+    /** The number of records in the overview header and in each sub-grid header. */
+    private static final int HEADER_RECORDS = 11;
+
+    /** Number of arc seconds in a degree. */
+    private static final double SECONDS_PER_DEGREE = 3600;
+
+    /** The number of iterations of the reverse shift. */
+    private static final int REVERSE_ITERATIONS = 4;
+
+    /** The file name, for error messages. */
+    private final String name;
+
+    /** The mapped file, with the byte order of the file. */
+    private final ByteBuffer buffer;
+
+    /** The sub-grids without parent, searched in order. */
+    private final SubGrid[] grids;
+
+    /**
+     * Maps the given NTv2 file in memory and reads its headers.
+     *
+     * @param file the NTv2 grid shift file
+     * @return the mapped grid
+     * @throws IOException if the file can't be read, or is not a valid NTv2 file
+     */
+    public static MappedNTv2Grid open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("NTv2 grid " + file + " is too large to be mapped in memory");
+            }
+            // the mapping stays valid after the channel is closed
+            return new MappedNTv2Grid(file.getPath(), channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /** Reads the headers of the NTv2 grid in the given buffer. */
+    MappedNTv2Grid(String name, ByteBuffer buffer) throws IOException {
+        this.name = name;
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_RECORDS * RECORD_LENGTH || !"NUM_OREC".equals(getString(0))) {
+            throw new IOException("Not a NTv2 grid file: " + name);
+        }
+        // The file may be big or little endian, the number of header records tells
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.getInt(8) != HEADER_RECORDS) {
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(8) != HEADER_RECORDS) {
+                throw new IOException("Unexpected number of header records in NTv2 grid " + name);
+            }
+        }
+        final String type = getString(3 * RECORD_LENGTH + 8);
+        if (!"SECONDS".equals(type)) {
+            throw new IOException("Unsupported units " + type + " in NTv2 grid " + name);
+        }
+        final int count = buffer.getInt(2 * RECORD_LENGTH + 8);
+        final Map<String, SubGrid> byName = new HashMap<>();
+        final List<SubGrid> roots = new ArrayList<>();
+        final List<String> parents = new ArrayList<>();
+        final List<SubGrid> all = new ArrayList<>();
+        int offset = HEADER_RECORDS * RECORD_LENGTH;
+        for (int i = 0; i < count; i++) {
+            if (offset + HEADER_RECORDS * RECORD_LENGTH > buffer.limit()) {
+                throw new IOException("Truncated NTv2 grid " + name);
+            }
+            final SubGrid grid = new SubGrid(offset);
+            if (grid.end > buffer.limit()) {
+                throw new IOException("Truncated NTv2 grid " + name);
+            }
+            byName.put(grid.name, grid);
+            all.add(grid);
+            parents.add(getString(offset + RECORD_LENGTH + 8));
+            offset = grid.end;
+        }
+        for (int i = 0; i < all.size(); i++) {
+            final String parent = parents.get(i);
+            if ("NONE".equalsIgnoreCase(parent)) {
+                roots.add(all.get(i));
+            } else {
+                final SubGrid grid = byName.get(parent);
+                if (grid == null) {
+                    throw new IOException("Unknown parent sub-grid " + parent + " in NTv2 grid " + name);
+                }
+                grid.children.add(all.get(i));
+            }
+        }
+        this.grids = roots.toArray(new SubGrid[roots.size()]);
+    }
+
+    /** Returns the trimmed 8 characters string at the given offset. */
+    private String getString(int offset) {
+        final byte[] bytes = new byte[8];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, StandardCharsets.US_ASCII).trim();
+    }
+
+    /** Returns a new cursor for shifting points with this grid, to be used by a single thread. */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedNTv2Grid[" + name + "]";
+    }
+
+    /** A sub-grid of the file. The coordinates are in arc seconds, with longitudes positive west. */
+    private final class SubGrid {
+        final String name;
+
+        final double minLat;
+
+        final double maxLat;
+
+        final double minLon;
+
+        final double maxLon;
+
+        final double latInterval;
+
+        final double lonInterval;
+
+        final int columns;
+
+        final int rows;
+
+        /** The offset of the first node in the buffer. */
+        final int start;
+
+        /** The offset just after the last node in the buffer. */
+        final int end;
+
+        final List<SubGrid> children = new ArrayList<>();
+
+        SubGrid(int offset) throws IOException {
+            name = getString(offset + 8);
+            minLat = buffer.getDouble(offset + 4 * RECORD_LENGTH + 8);
+            maxLat = buffer.getDouble(offset + 5 * RECORD_LENGTH + 8);
+            minLon = buffer.getDouble(offset + 6 * RECORD_LENGTH + 8);
+            maxLon = buffer.getDouble(offset + 7 * RECORD_LENGTH + 8);
+            latInterval = buffer.getDouble(offset + 8 * RECORD_LENGTH + 8);
+            lonInterval = buffer.getDouble(offset + 9 * RECORD_LENGTH + 8);
+            final int count = buffer.getInt(offset + 10 * RECORD_LENGTH + 8);
+            columns = (int) Math.round((maxLon - minLon) / lonInterval) + 1;
+            rows = (int) Math.round((maxLat - minLat) / latInterval) + 1;
+            if (columns < 2 || rows < 2 || (long) columns * rows != count) {
+                throw new IOException("Inconsistent size of sub-grid " + name + " in " + MappedNTv2Grid.this);
+            }
+            start = offset + HEADER_RECORDS * RECORD_LENGTH;
+            end = start + count * RECORD_LENGTH;
+        }
+
+        boolean contains(double lon, double lat) {
+            return lon >= minLon && lon < maxLon && lat >= minLat && lat < maxLat;
+        }
+
+        /** Returns the most detailed sub-grid containing the given point, or null if this grid doesn't. */
+        SubGrid find(double lon, double lat) {
+            if (!contains(lon, lat)) {
+                return null;
+            }
+            for (SubGrid child : children) {
+                if (child.contains(lon, lat)) {
+                    return child.find(lon, lat);
+                }
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Shifts points with the enclosing grid. The cursor remembers the last sub-grid and grid cell used, consecutive
+     * points are usually close to each other and can reuse them without reading the mapping again.
+     */
+    public final class Cursor {
+
+        private final ByteBuffer nodes = buffer.duplicate().order(buffer.order());
+
+        /** The sub-grid of the last point. */
+        private SubGrid grid;
+
+        /** The index of the lower left node of the cell of the last point, or -1 if none. */
+        private int cell = -1;
+
+        /** The latitude shifts at the four corners of the cell. */
+        private final float[] latShifts = new float[4];
+
+        /** The longitude shifts at the four corners of the cell. */
+        private final float[] lonShifts = new float[4];
+
+        /** The latitude shift computed by the last call to {@link #interpolate}, in arc seconds. */
+        private double latShift;
+
+        /** The longitude shift computed by the last call to {@link #interpolate}, in arc seconds. */
+        private double lonShift;
+
+        private Cursor() {}
+
+        /**
+         * Shifts the given point forward, in place.
+         *
+         * @param point the longitude (positive east) and latitude of the point, in decimal degrees
+         * @return {@code false} if the point is outside of the grid, in which case it is left unchanged
+         */
+        public boolean forward(double[] point) {
+            final double lon = -point[0] * SECONDS_PER_DEGREE;
+            final double lat = point[1] * SECONDS_PER_DEGREE;
+            if (!interpolate(lon, lat)) {
+                return false;
+            }
+            point[0] = -(lon + lonShift) / SECONDS_PER_DEGREE;
+            point[1] = (lat + latShift) / SECONDS_PER_DEGREE;
+            return true;
+        }
+
+        /**
+         * Shifts the given point in reverse, in place. The shift is found iteratively, starting from the shift at the
+         * given point.
+         *
+         * @param point the longitude (positive east) and latitude of the point, in decimal degrees
+         * @return {@code false} if the point is outside of the grid, in which case it is left unchanged
+         */
+        public boolean reverse(double[] point) {
+            final double lon = -point[0] * SECONDS_PER_DEGREE;
+            final double lat = point[1] * SECONDS_PER_DEGREE;
+            double x = lon;
+            double y = lat;
+            for (int i = 0; i < REVERSE_ITERATIONS; i++) {
+                if (!interpolate(x, y)) {
+                    return false;
+                }
+                x = lon - lonShift;
+                y = lat - latShift;
+            }
+            point[0] = -(lon - lonShift) / SECONDS_PER_DEGREE;
+            point[1] = (lat - latShift) / SECONDS_PER_DEGREE;
+            return true;
+        }
+
+        /** Computes the shifts at the given point, in arc seconds with longitudes positive west. */
+        private boolean interpolate(double lon, double lat) {
+            SubGrid found = grid != null ? grid.find(lon, lat) : null;
+            for (int i = 0; found == null && i < grids.length; i++) {
+                found = grids[i].find(lon, lat);
+            }
+            if (found == null) {
+                return false;
+            }
+            // rounding errors may give the index of the last node right below the maximum
+            final int column = Math.min((int) ((lon - found.minLon) / found.lonInterval), found.columns - 2);
+            final int row = Math.min((int) ((lat - found.minLat) / found.latInterval), found.rows - 2);
+            final double x = (lon - (found.minLon + found.lonInterval * column)) / found.lonInterval;
+            final double y = (lat - (found.minLat + found.latInterval * row)) / found.latInterval;
+            final int index = column + row * found.columns;
+            if (found != grid || index != cell) {
+                final int a = found.start + index * RECORD_LENGTH;
+                final int c = a + found.columns * RECORD_LENGTH;
+                // each node holds the latitude and longitude shifts, followed by their accuracies
+                final int[] corners = {a, a + RECORD_LENGTH, c, c + RECORD_LENGTH};
+                for (int i = 0; i < corners.length; i++) {
+                    latShifts[i] = nodes.getFloat(corners[i]);
+                    lonShifts[i] = nodes.getFloat(corners[i] + 4);
+                }
+                grid = found;
+                cell = index;
+            }
+            latShift = bilinear(latShifts, x, y);
+            lonShift = bilinear(lonShifts, x, y);
+            return true;
+        }
+    }
+
+    /** Bilinear interpolation between the four corners of a cell, lower left, lower right, upper left, upper right. */
+    private static double bilinear(float[] corners, double x, double y) {
+        final double a = corners[0];
+        final double b = corners[1];
+        final double c = corners[2];
+        final double d = corners[3];
+        return a + (b - a) * x + (c - a) * y + (a + d - b - c) * x * y;
+    }
+}
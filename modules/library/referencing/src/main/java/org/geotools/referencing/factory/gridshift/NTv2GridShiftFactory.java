@@ -37,7 +37,8 @@
 
 /**
  * Loads and caches NTv2 grid files. Thisthat incorporates a soft cache mechanism to keep grids in memory when first
- * loaded. It also checks NTv2 grid file format in {@link #isNTv2Grid(String)} method.
+ * loaded. It also checks NTv2 grid file format in {@link #isNTv2Grid(String)} method. Local grid files can instead be
+ * mapped in memory with {@link #createMappedNTv2Grid(URL)}.
  *
  * @author Oscar Fonts
  */
@@ -49,9 +50,20 @@ public class NTv2GridShiftFactory extends ReferencingFactory implements Buffered
     /** Logger. */
     protected static final Logger LOGGER = Logging.getLogger(NTv2GridShiftFactory.class);
 
+    /**
+     * Whether the grid files are memory mapped when possible, can be disabled with the
+     * <code>org.geotools.referencing.ntv2.mmap</code> system property.
+     */
+    static final boolean MAP_GRIDS =
+            Boolean.parseBoolean(System.getProperty("org.geotools.referencing.ntv2.mmap", "true"));
+
     /** The soft cache that holds loaded grids. */
     private SoftValueHashMap<String, GridShiftFile> ntv2GridCache;
 
+    /** The soft cache that holds the mapped grids, so that a single mapping is shared. */
+    private final SoftValueHashMap<String, MappedNTv2Grid> mappedGridCache =
+            new SoftValueHashMap<>(GRID_CACHE_HARD_REFERENCES);
+
     /** Constructs a factory with the default priority. */
     public NTv2GridShiftFactory() {
         super();
@@ -112,6 +124,35 @@ public GridShiftFile createNTv2Grid(URL gridLocation) throws FactoryException {
         }
     }
 
+    /**
+     * Creates a NTv2 grid mapped in memory, its shifts are read from the file on demand rather than loaded on the heap.
+     * The grid is shared by all the callers asking for the same location.
+     *
+     * @param gridLocation The NTv2 grid file location
+     * @return the grid, or {@code null} if the location is not a local file or mapping has been disabled, in which
+     *     case {@link #createNTv2Grid(URL)} should be used instead
+     * @throws FactoryException if the grid file cannot be mapped
+     * @since 33
+     */
+    public MappedNTv2Grid createMappedNTv2Grid(URL gridLocation) throws FactoryException {
+        if (!MAP_GRIDS || gridLocation == null || !"file".equals(gridLocation.getProtocol())) {
+            return null;
+        }
+        final String key = gridLocation.toExternalForm();
+        synchronized (mappedGridCache) {
+            MappedNTv2Grid grid = mappedGridCache.get(key);
+            if (grid == null) {
+                try {
+                    grid = MappedNTv2Grid.open(URLs.urlToFile(gridLocation));
+                } catch (IOException e) {
+                    throw new FactoryException("NTv2 Grid " + gridLocation + " could not be mapped.", e);
+                }
+                mappedGridCache.put(key, grid);
+            }
+            return grid;
+        }
+    }
+
     /**
      * Checks if a given resource is a valid NTv2 file without fully loading it.
      *
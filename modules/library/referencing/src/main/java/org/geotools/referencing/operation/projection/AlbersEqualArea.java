@@ -184,29 +184,7 @@ public ParameterValueGroup getParameterValues() {
      */
     @Override
     protected Point2D transformNormalized(double x, double y, Point2D ptDst) throws ProjectionException {
-        x *= n;
-        double rho;
-        if (isSpherical) {
-            rho = c - n * 2 * sin(y);
-        } else {
-            rho = c - n * qsfn(sin(y));
-        }
-        if (rho < 0.0) {
-            if (rho > -EPSILON) {
-                rho = 0.0;
-            } else {
-                throw new ProjectionException(ErrorKeys.TOLERANCE_ERROR);
-            }
-        }
-        rho = sqrt(rho) / n;
-        y = rho0 - rho * cos(x);
-        x = rho * sin(x);
-
-        if (ptDst != null) {
-            ptDst.setLocation(x, y);
-            return ptDst;
-        }
-        return new Point2D.Double(x, y);
+        return project(x, y, ptDst);
     }
 
     /** Transforms the specified (<var>x</var>,<var>y</var>) coordinates and stores the result in {@code ptDst}. */
@@ -248,6 +226,60 @@ protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst)
         return new Point2D.Double(x, y);
     }
 
+    /**
+     * Transforms many (<var>&lambda;</var>,<var>&phi;</var>) coordinates in place, with the same formulas than the
+     * single point method above.
+     */
+    @Override
+    ProjectionException transformNormalized(final double[] xs, final double[] ys, final int length) {
+        if (getClass() != AlbersEqualArea.class) {
+            // Subclasses may use other formulas.
+            return super.transformNormalized(xs, ys, length);
+        }
+        final Point2D.Double point = new Point2D.Double();
+        ProjectionException firstException = null;
+        for (int i = 0; i < length; i++) {
+            try {
+                project(xs[i], ys[i], point);
+                xs[i] = point.x;
+                ys[i] = point.y;
+            } catch (ProjectionException exception) {
+                xs[i] = ys[i] = Double.NaN;
+                if (firstException == null) {
+                    firstException = exception;
+                }
+            }
+        }
+        return firstException;
+    }
+
+    /** The formulas of {@link #transformNormalized(double, double, Point2D)}, shared with the array kernel. */
+    private Point2D project(double x, double y, final Point2D ptDst) throws ProjectionException {
+        x *= n;
+        double rho;
+        if (isSpherical) {
+            rho = c - n * 2 * sin(y);
+        } else {
+            rho = c - n * qsfn(sin(y));
+        }
+        if (rho < 0.0) {
+            if (rho > -EPSILON) {
+                rho = 0.0;
+            } else {
+                throw new ProjectionException(ErrorKeys.TOLERANCE_ERROR);
+            }
+        }
+        rho = sqrt(rho) / n;
+        y = rho0 - rho * cos(x);
+        x = rho * sin(x);
+
+        if (ptDst != null) {
+            ptDst.setLocation(x, y);
+            return ptDst;
+        }
+        return new Point2D.Double(x, y);
+    }
+
     /**
      * Iteratively solves equation (3-16) from Snyder.
      *
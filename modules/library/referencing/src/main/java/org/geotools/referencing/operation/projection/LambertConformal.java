@@ -204,6 +204,69 @@ public ParameterValueGroup getParameterValues() {
      */
     @Override
     protected Point2D transformNormalized(double x, double y, Point2D ptDst) throws ProjectionException {
+        return project(x, y, ptDst);
+    }
+
+    /** Transforms the specified (<var>x</var>,<var>y</var>) coordinates and stores the result in {@code ptDst}. */
+    @Override
+    protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst) throws ProjectionException {
+        return unproject(x, y, ptDst);
+    }
+
+    /**
+     * Transforms many (<var>&lambda;</var>,<var>&phi;</var>) coordinates in place, with the same formulas than the
+     * single point method above.
+     */
+    @Override
+    ProjectionException transformNormalized(final double[] xs, final double[] ys, final int length) {
+        if (!isStandardClass()) {
+            return super.transformNormalized(xs, ys, length);
+        }
+        final Point2D.Double point = new Point2D.Double();
+        ProjectionException firstException = null;
+        for (int i = 0; i < length; i++) {
+            try {
+                project(xs[i], ys[i], point);
+                xs[i] = point.x;
+                ys[i] = point.y;
+            } catch (ProjectionException exception) {
+                xs[i] = ys[i] = Double.NaN;
+                if (firstException == null) {
+                    firstException = exception;
+                }
+            }
+        }
+        return firstException;
+    }
+
+    /**
+     * Transforms many (<var>x</var>,<var>y</var>) coordinates in place, with the same formulas than the single point
+     * method above.
+     */
+    @Override
+    ProjectionException inverseTransformNormalized(final double[] xs, final double[] ys, final int length) {
+        if (!isStandardClass()) {
+            return super.inverseTransformNormalized(xs, ys, length);
+        }
+        final Point2D.Double point = new Point2D.Double();
+        ProjectionException firstException = null;
+        for (int i = 0; i < length; i++) {
+            try {
+                unproject(xs[i], ys[i], point);
+                xs[i] = point.x;
+                ys[i] = point.y;
+            } catch (ProjectionException exception) {
+                xs[i] = ys[i] = Double.NaN;
+                if (firstException == null) {
+                    firstException = exception;
+                }
+            }
+        }
+        return firstException;
+    }
+
+    /** The formulas of {@link #transformNormalized(double, double, Point2D)}, shared with the array kernel. */
+    private Point2D project(double x, double y, final Point2D ptDst) throws ProjectionException {
         double rho;
         // Snyder p. 108
         if (abs(abs(y) - PI / 2) < EPSILON) {
@@ -230,9 +293,8 @@ protected Point2D transformNormalized(double x, double y, Point2D ptDst) throws
         return new Point2D.Double(x, y);
     }
 
-    /** Transforms the specified (<var>x</var>,<var>y</var>) coordinates and stores the result in {@code ptDst}. */
-    @Override
-    protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst) throws ProjectionException {
+    /** The formulas of {@link #inverseTransformNormalized(double, double, Point2D)}, shared with the array kernel. */
+    private Point2D unproject(double x, double y, final Point2D ptDst) throws ProjectionException {
         double theta;
         y = rho0 - y;
         double rho = hypot(x, y); // Zero when the latitude is 90 degrees.
@@ -263,6 +325,14 @@ protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst)
         return new Point2D.Double(x, y);
     }
 
+    /** Returns {@code true} if this projection is one of the classes of this package, using the formulas above. */
+    private boolean isStandardClass() {
+        final Class<?> type = getClass();
+        return type == LambertConformal1SP.class
+                || type == LambertConformal2SP.class
+                || type == LambertConformalBelgium.class;
+    }
+
     /** Returns a hash value for this projection. */
     @Override
     public int hashCode() {
@@ -96,6 +96,21 @@ public abstract class MapProjection extends AbstractMathTransform implements Mat
      */
     public static boolean SKIP_SANITY_CHECKS = false;
 
+    /**
+     * The number of points transformed together by the methods working on arrays. The points are copied in temporary
+     * arrays of that length, small enough to stay in the processor cache.
+     */
+    static final int BLOCK_SIZE = 256;
+
+    /** Whether assertions are enabled, in which case the points transformed by blocks are checked too. */
+    private static final boolean ASSERTIONS;
+
+    static {
+        boolean enabled = false;
+        assert (enabled = true) == true; // Set to true if assertions are enabled.
+        ASSERTIONS = enabled;
+    }
+
     /** For cross-version compatibility. */
     private static final long serialVersionUID = -406751619777246914L;
 
@@ -856,50 +871,138 @@ public final Point2D transform(final Point2D ptSrc, Point2D ptDst) throws Projec
     }
 
     /**
-     * Transforms a list of coordinate point ordinal values. Ordinates must be
-     * (<var>longitude</var>,<var>latitude</var>) pairs in decimal degrees.
+     * Transforms in place many coordinates, in the same way than {@link #transformNormalized(double, double, Point2D)}
+     * does for a single point. The longitudes and latitudes are stored in two separated arrays, which are overwritten
+     * by the projected values. The default implementation invokes the above method for each point, projections
+     * override it to call the private helper holding their formulas directly, without a virtual call per point.
      *
-     * @throws ProjectionException if a point can't be transformed. This method tries to transform every points even if
-     *     some of them can't be transformed. Non-transformable points will have value {@link Double#NaN}. If more than
-     *     one point can't be transformed, then this exception may be about an arbitrary point.
+     * @param x The longitudes in <strong>radians</strong>, replaced by the eastings on a unit sphere or ellipse.
+     * @param y The latitudes in <strong>radians</strong>, replaced by the northings on a unit sphere or ellipse.
+     * @param length The number of points to transform, starting at index 0.
+     * @return the exception for the first point which could not be transformed, or {@code null} if none. The points
+     *     which could not be transformed are set to {@link Double#NaN}.
      */
-    @Override
-    public final void transform(final double[] srcPts, int srcOff, final double[] dstPts, int dstOff, int numPts)
-            throws ProjectionException {
-        /*
-         * Vérifie s'il faudra parcourir le tableau en sens inverse.
-         * Ce sera le cas si les tableaux source et destination se
-         * chevauchent et que la destination est après la source.
-         */
-        final boolean reverse = (srcPts == dstPts && srcOff < dstOff && srcOff + (2 * numPts) > dstOff);
-        if (reverse) {
-            srcOff += 2 * numPts;
-            dstOff += 2 * numPts;
+    ProjectionException transformNormalized(final double[] x, final double[] y, final int length) {
+        final Point2D.Double point = new Point2D.Double();
+        ProjectionException firstException = null;
+        for (int i = 0; i < length; i++) {
+            try {
+                final Point2D p = transformNormalized(x[i], y[i], point);
+                x[i] = p.getX();
+                y[i] = p.getY();
+            } catch (ProjectionException exception) {
+                x[i] = y[i] = Double.NaN;
+                if (firstException == null) {
+                    firstException = exception;
+                }
+            }
         }
+        return firstException;
+    }
+
+    /**
+     * Inverse transforms in place many coordinates, in the same way than
+     * {@link #inverseTransformNormalized(double, double, Point2D)} does for a single point. This is the inverse of
+     * {@link #transformNormalized(double[], double[], int)}.
+     *
+     * @param x The eastings on a unit sphere or ellipse, replaced by the longitudes in <strong>radians</strong>.
+     * @param y The northings on a unit sphere or ellipse, replaced by the latitudes in <strong>radians</strong>.
+     * @param length The number of points to transform, starting at index 0.
+     * @return the exception for the first point which could not be transformed, or {@code null} if none. The points
+     *     which could not be transformed are set to {@link Double#NaN}.
+     */
+    ProjectionException inverseTransformNormalized(final double[] x, final double[] y, final int length) {
         final Point2D.Double point = new Point2D.Double();
         ProjectionException firstException = null;
-        while (--numPts >= 0) {
+        for (int i = 0; i < length; i++) {
             try {
-                point.x = srcPts[srcOff++];
-                point.y = srcPts[srcOff++];
-                transform(point, point);
-                dstPts[dstOff++] = point.x;
-                dstPts[dstOff++] = point.y;
+                final Point2D p = inverseTransformNormalized(x[i], y[i], point);
+                x[i] = p.getX();
+                y[i] = p.getY();
             } catch (ProjectionException exception) {
-                dstPts[dstOff++] = Double.NaN;
-                dstPts[dstOff++] = Double.NaN;
+                x[i] = y[i] = Double.NaN;
                 if (firstException == null) {
                     firstException = exception;
                 }
             }
-            if (reverse) {
-                srcOff -= 4;
-                dstOff -= 4;
+        }
+        return firstException;
+    }
+
+    /**
+     * Transforms a block of (<var>longitude</var>,<var>latitude</var>) pairs in decimal degrees, in place. This is the
+     * array counterpart of {@link #transform(Point2D, Point2D)}, with the same normalization steps.
+     */
+    private ProjectionException transform(final double[] x, final double[] y, final int length) {
+        if (verifyCoordinateRanges()) {
+            for (int i = 0; i < length; i++) {
+                if (verifyGeographicRanges(this, x[i], y[i])) {
+                    warningLogged();
+                    break;
+                }
             }
         }
-        if (firstException != null) {
-            throw firstException;
+        final double[] sourceX = ASSERTIONS ? x.clone() : null;
+        final double[] sourceY = ASSERTIONS ? y.clone() : null;
+        for (int i = 0; i < length; i++) {
+            x[i] = centralMeridian != 0 ? rollLongitude(toRadians(x[i]) - centralMeridian) : toRadians(x[i]);
+            y[i] = toRadians(y[i]);
+        }
+        ProjectionException firstException = transformNormalized(x, y, length);
+        for (int i = 0; i < length; i++) {
+            x[i] = globalScale * x[i] + falseEasting;
+            y[i] = globalScale * y[i] + falseNorthing;
+        }
+        if (ASSERTIONS && invertible) {
+            firstException = checkReciprocal(x, y, sourceX, sourceY, length, true, firstException);
+        }
+        return firstException;
+    }
+
+    /**
+     * Checks the reciprocal of every transformed point, as the single point methods do in their assertions. The points
+     * failing the check are set to {@link Double#NaN}.
+     *
+     * @return {@code firstException} if not null, otherwise the exception for the first point failing the check.
+     */
+    private ProjectionException checkReciprocal(
+            final double[] x,
+            final double[] y,
+            final double[] sourceX,
+            final double[] sourceY,
+            final int length,
+            final boolean inverse,
+            ProjectionException firstException) {
+        for (int i = 0; i < length; i++) {
+            if (!Double.isNaN(x[i]) || !Double.isNaN(y[i])) {
+                try {
+                    checkReciprocal(
+                            new Point2D.Double(x[i], y[i]), new Point2D.Double(sourceX[i], sourceY[i]), inverse);
+                } catch (ProjectionException exception) {
+                    x[i] = y[i] = Double.NaN;
+                    if (firstException == null) {
+                        firstException = exception;
+                    }
+                }
+            }
         }
+        return firstException;
+    }
+
+    /**
+     * Transforms a list of coordinate point ordinal values. Ordinates must be
+     * (<var>longitude</var>,<var>latitude</var>) pairs in decimal degrees. The points are copied by blocks of
+     * {@value #BLOCK_SIZE} in separated arrays of longitudes and latitudes, which are transformed together by
+     * {@link #transformNormalized(double[], double[], int)}.
+     *
+     * @throws ProjectionException if a point can't be transformed. This method tries to transform every points even if
+     *     some of them can't be transformed. Non-transformable points will have value {@link Double#NaN}. If more than
+     *     one point can't be transformed, then this exception may be about an arbitrary point.
+     */
+    @Override
+    public final void transform(final double[] srcPts, int srcOff, final double[] dstPts, int dstOff, int numPts)
+            throws ProjectionException {
+        transform(srcPts, srcOff, dstPts, dstOff, numPts, this::transform);
     }
 
     /**
@@ -913,31 +1016,92 @@ public final void transform(final double[] srcPts, int srcOff, final double[] ds
     @Override
     public final void transform(final float[] srcPts, int srcOff, final float[] dstPts, int dstOff, int numPts)
             throws ProjectionException {
+        transform(srcPts, srcOff, dstPts, dstOff, numPts, this::transform);
+    }
+
+    /** A transformation applied in place on a block of points, see {@link MapProjection#BLOCK_SIZE}. */
+    @FunctionalInterface
+    private interface BlockTransform {
+        /** Transforms the first {@code length} points and returns the exception for the first failure, if any. */
+        ProjectionException transform(double[] x, double[] y, int length);
+    }
+
+    /**
+     * Copies the points by blocks in separated arrays of <var>x</var> and <var>y</var> values, applies the given
+     * transformation on them and copies the results back in the destination array.
+     */
+    private static void transform(
+            final double[] srcPts,
+            final int srcOff,
+            final double[] dstPts,
+            final int dstOff,
+            final int numPts,
+            final BlockTransform transform)
+            throws ProjectionException {
+        /*
+         * If the source and destination arrays overlap with the destination after the source,
+         * the blocks are processed from the last one. Each block is copied entirely before its
+         * results are written, so the overlap within a block does not matter.
+         */
         final boolean reverse = (srcPts == dstPts && srcOff < dstOff && srcOff + (2 * numPts) > dstOff);
-        if (reverse) {
-            srcOff += 2 * numPts;
-            dstOff += 2 * numPts;
+        final double[] x = new double[Math.min(numPts, BLOCK_SIZE)];
+        final double[] y = new double[x.length];
+        ProjectionException firstException = null;
+        for (int done = 0; done < numPts; ) {
+            final int length = Math.min(BLOCK_SIZE, numPts - done);
+            final int first = reverse ? numPts - done - length : done;
+            int offset = srcOff + 2 * first;
+            for (int i = 0; i < length; i++) {
+                x[i] = srcPts[offset++];
+                y[i] = srcPts[offset++];
+            }
+            final ProjectionException exception = transform.transform(x, y, length);
+            if (firstException == null) {
+                firstException = exception;
+            }
+            offset = dstOff + 2 * first;
+            for (int i = 0; i < length; i++) {
+                dstPts[offset++] = x[i];
+                dstPts[offset++] = y[i];
+            }
+            done += length;
         }
-        final Point2D.Double point = new Point2D.Double();
+        if (firstException != null) {
+            throw firstException;
+        }
+    }
+
+    /** Same as above, for {@code float} arrays. The computations are still performed in double precision. */
+    private static void transform(
+            final float[] srcPts,
+            final int srcOff,
+            final float[] dstPts,
+            final int dstOff,
+            final int numPts,
+            final BlockTransform transform)
+            throws ProjectionException {
+        final boolean reverse = (srcPts == dstPts && srcOff < dstOff && srcOff + (2 * numPts) > dstOff);
+        final double[] x = new double[Math.min(numPts, BLOCK_SIZE)];
+        final double[] y = new double[x.length];
         ProjectionException firstException = null;
-        while (--numPts >= 0) {
-            try {
-                point.x = srcPts[srcOff++];
-                point.y = srcPts[srcOff++];
-                transform(point, point);
-                dstPts[dstOff++] = (float) point.x;
-                dstPts[dstOff++] = (float) point.y;
-            } catch (ProjectionException exception) {
-                dstPts[dstOff++] = Float.NaN;
-                dstPts[dstOff++] = Float.NaN;
-                if (firstException == null) {
-                    firstException = exception;
-                }
+        for (int done = 0; done < numPts; ) {
+            final int length = Math.min(BLOCK_SIZE, numPts - done);
+            final int first = reverse ? numPts - done - length : done;
+            int offset = srcOff + 2 * first;
+            for (int i = 0; i < length; i++) {
+                x[i] = srcPts[offset++];
+                y[i] = srcPts[offset++];
+            }
+            final ProjectionException exception = transform.transform(x, y, length);
+            if (firstException == null) {
+                firstException = exception;
             }
-            if (reverse) {
-                srcOff -= 4;
-                dstOff -= 4;
+            offset = dstOff + 2 * first;
+            for (int i = 0; i < length; i++) {
+                dstPts[offset++] = (float) x[i];
+                dstPts[offset++] = (float) y[i];
             }
+            done += length;
         }
         if (firstException != null) {
             throw firstException;
@@ -1005,9 +1169,40 @@ public final Point2D transform(final Point2D ptSrc, Point2D ptDst) throws Projec
             return ptDst;
         }
 
+        /**
+         * Inverse transforms a block of (<var>x</var>,<var>y</var>) pairs in metres, in place. This is the array
+         * counterpart of {@link #transform(Point2D, Point2D)}, with the same normalization steps.
+         */
+        private ProjectionException transform(final double[] x, final double[] y, final int length) {
+            final double[] sourceX = ASSERTIONS ? x.clone() : null;
+            final double[] sourceY = ASSERTIONS ? y.clone() : null;
+            for (int i = 0; i < length; i++) {
+                x[i] = (x[i] - falseEasting) / globalScale;
+                y[i] = (y[i] - falseNorthing) / globalScale;
+            }
+            ProjectionException firstException = inverseTransformNormalized(x, y, length);
+            for (int i = 0; i < length; i++) {
+                x[i] = toDegrees(centralMeridian != 0 ? rollLongitude(x[i] + centralMeridian) : x[i]);
+                y[i] = toDegrees(y[i]);
+            }
+            if (verifyCoordinateRanges()) {
+                for (int i = 0; i < length; i++) {
+                    if (verifyGeographicRanges(this, x[i], y[i])) {
+                        warningLogged();
+                        break;
+                    }
+                }
+            }
+            if (ASSERTIONS) {
+                firstException = checkReciprocal(x, y, sourceX, sourceY, length, false, firstException);
+            }
+            return firstException;
+        }
+
         /**
          * Inverse transforms a list of coordinate point ordinal values. Ordinates must be (<var>x</var>,<var>y</var>)
-         * pairs in metres.
+         * pairs in metres. The points are transformed by blocks, in the same way than
+         * {@link MapProjection#transform(double[], int, double[], int, int)}.
          *
          * @throws ProjectionException if a point can't be transformed. This method tries to transform every points even
          *     if some of them can't be transformed. Non-transformable points will have value {@link Double#NaN}. If
@@ -1016,40 +1211,7 @@ public final Point2D transform(final Point2D ptSrc, Point2D ptDst) throws Projec
         @Override
         public final void transform(final double[] src, int srcOffset, final double[] dest, int dstOffset, int numPts)
                 throws TransformException {
-            /*
-             * Vérifie s'il faudra parcourir le tableau en sens inverse.
-             * Ce sera le cas si les tableaux source et destination se
-             * chevauchent et que la destination est après la source.
-             */
-            final boolean reverse = (src == dest && srcOffset < dstOffset && srcOffset + (2 * numPts) > dstOffset);
-            if (reverse) {
-                srcOffset += 2 * numPts;
-                dstOffset += 2 * numPts;
-            }
-            final Point2D.Double point = new Point2D.Double();
-            ProjectionException firstException = null;
-            while (--numPts >= 0) {
-                try {
-                    point.x = src[srcOffset++];
-                    point.y = src[srcOffset++];
-                    transform(point, point);
-                    dest[dstOffset++] = point.x;
-                    dest[dstOffset++] = point.y;
-                } catch (ProjectionException exception) {
-                    dest[dstOffset++] = Double.NaN;
-                    dest[dstOffset++] = Double.NaN;
-                    if (firstException == null) {
-                        firstException = exception;
-                    }
-                }
-                if (reverse) {
-                    srcOffset -= 4;
-                    dstOffset -= 4;
-                }
-            }
-            if (firstException != null) {
-                throw firstException;
-            }
+            MapProjection.transform(src, srcOffset, dest, dstOffset, numPts, this::transform);
         }
 
         /**
@@ -1063,35 +1225,7 @@ public final void transform(final double[] src, int srcOffset, final double[] de
         @Override
         public final void transform(final float[] src, int srcOffset, final float[] dest, int dstOffset, int numPts)
                 throws ProjectionException {
-            final boolean reverse = (src == dest && srcOffset < dstOffset && srcOffset + (2 * numPts) > dstOffset);
-            if (reverse) {
-                srcOffset += 2 * numPts;
-                dstOffset += 2 * numPts;
-            }
-            final Point2D.Double point = new Point2D.Double();
-            ProjectionException firstException = null;
-            while (--numPts >= 0) {
-                try {
-                    point.x = src[srcOffset++];
-                    point.y = src[srcOffset++];
-                    transform(point, point);
-                    dest[dstOffset++] = (float) point.x;
-                    dest[dstOffset++] = (float) point.y;
-                } catch (ProjectionException exception) {
-                    dest[dstOffset++] = Float.NaN;
-                    dest[dstOffset++] = Float.NaN;
-                    if (firstException == null) {
-                        firstException = exception;
-                    }
-                }
-                if (reverse) {
-                    srcOffset -= 4;
-                    dstOffset -= 4;
-                }
-            }
-            if (firstException != null) {
-                throw firstException;
-            }
+            MapProjection.transform(src, srcOffset, dest, dstOffset, numPts, this::transform);
         }
 
         /** Returns the original map projection. */
@@ -139,10 +139,7 @@ public ParameterValueGroup getParameterValues() {
      */
     @Override
     protected Point2D transformNormalized(double x, double y, final Point2D ptDst) throws ProjectionException {
-        if (abs(y) > (PI / 2 - EPSILON)) {
-            throw new ProjectionException(y);
-        }
-        y = -log(tsfn(y, sin(y)));
+        y = northing(y);
 
         if (ptDst != null) {
             ptDst.setLocation(x, y);
@@ -154,8 +151,7 @@ protected Point2D transformNormalized(double x, double y, final Point2D ptDst) t
     /** Transforms the specified (<var>x</var>,<var>y</var>) coordinates and stores the result in {@code ptDst}. */
     @Override
     protected Point2D inverseTransformNormalized(double x, double y, final Point2D ptDst) throws ProjectionException {
-        y = exp(-y);
-        y = cphi2(y);
+        y = latitude(y);
 
         if (ptDst != null) {
             ptDst.setLocation(x, y);
@@ -164,6 +160,66 @@ protected Point2D inverseTransformNormalized(double x, double y, final Point2D p
         return new Point2D.Double(x, y);
     }
 
+    /**
+     * Transforms many (<var>&lambda;</var>,<var>&phi;</var>) coordinates in place, with the same formulas than the
+     * single point method above.
+     */
+    @Override
+    ProjectionException transformNormalized(final double[] xs, final double[] ys, final int length) {
+        if (getClass() != Mercator1SP.class && getClass() != Mercator2SP.class) {
+            // The spherical subclasses use other formulas.
+            return super.transformNormalized(xs, ys, length);
+        }
+        ProjectionException firstException = null;
+        for (int i = 0; i < length; i++) {
+            try {
+                ys[i] = northing(ys[i]);
+            } catch (ProjectionException exception) {
+                xs[i] = ys[i] = Double.NaN;
+                if (firstException == null) {
+                    firstException = exception;
+                }
+            }
+        }
+        return firstException;
+    }
+
+    /**
+     * Transforms many (<var>x</var>,<var>y</var>) coordinates in place, with the same formulas than the single point
+     * method above.
+     */
+    @Override
+    ProjectionException inverseTransformNormalized(final double[] xs, final double[] ys, final int length) {
+        if (getClass() != Mercator1SP.class && getClass() != Mercator2SP.class) {
+            return super.inverseTransformNormalized(xs, ys, length);
+        }
+        ProjectionException firstException = null;
+        for (int i = 0; i < length; i++) {
+            try {
+                ys[i] = latitude(ys[i]);
+            } catch (ProjectionException exception) {
+                xs[i] = ys[i] = Double.NaN;
+                if (firstException == null) {
+                    firstException = exception;
+                }
+            }
+        }
+        return firstException;
+    }
+
+    /** Returns the northing of the given latitude, on the ellipsoid. */
+    private double northing(final double y) throws ProjectionException {
+        if (abs(y) > (PI / 2 - EPSILON)) {
+            throw new ProjectionException(y);
+        }
+        return -log(tsfn(y, sin(y)));
+    }
+
+    /** Returns the latitude of the given northing, on the ellipsoid. */
+    private double latitude(final double y) throws ProjectionException {
+        return cphi2(exp(-y));
+    }
+
     /**
      * Provides the transform equations for the spherical case of the Mercator projection.
      *
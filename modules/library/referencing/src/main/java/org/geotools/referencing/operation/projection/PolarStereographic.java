@@ -163,6 +163,30 @@ public class PolarStereographic extends Stereographic {
      */
     @Override
     protected Point2D transformNormalized(double x, double y, Point2D ptDst) throws ProjectionException {
+        return project(x, y, ptDst);
+    }
+
+    /**
+     * Transforms many (<var>&lambda;</var>,<var>&phi;</var>) coordinates in place, with the same formulas than the
+     * single point method above.
+     */
+    @Override
+    ProjectionException transformNormalized(final double[] xs, final double[] ys, final int length) {
+        if (getClass() != PolarStereographic.class) {
+            // The spherical and series subclasses use other formulas.
+            return super.transformNormalized(xs, ys, length);
+        }
+        final Point2D.Double point = new Point2D.Double();
+        for (int i = 0; i < length; i++) {
+            project(xs[i], ys[i], point);
+            xs[i] = point.x;
+            ys[i] = point.y;
+        }
+        return null;
+    }
+
+    /** The formulas of {@link #transformNormalized(double, double, Point2D)}, shared with the array kernel. */
+    private Point2D project(double x, double y, final Point2D ptDst) {
         final double sinlat = sin(y);
         final double coslon = cos(x);
         final double sinlon = sin(x);
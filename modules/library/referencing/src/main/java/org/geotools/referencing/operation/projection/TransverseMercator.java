@@ -143,6 +143,62 @@ public ParameterDescriptorGroup getParameterDescriptors() {
      */
     @Override
     protected Point2D transformNormalized(double x, double y, Point2D ptDst) throws ProjectionException {
+        return project(x, y, ptDst);
+    }
+
+    /** Transforms the specified (<var>x</var>,<var>y</var>) coordinates and stores the result in {@code ptDst}. */
+    @Override
+    protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst) throws ProjectionException {
+        return unproject(x, y, ptDst);
+    }
+
+    /**
+     * Transforms many (<var>&lambda;</var>,<var>&phi;</var>) coordinates in place, with the same formulas than the
+     * single point method above.
+     */
+    @Override
+    ProjectionException transformNormalized(final double[] xs, final double[] ys, final int length) {
+        if (getClass() != TransverseMercator.class) {
+            // Subclasses may use other formulas.
+            return super.transformNormalized(xs, ys, length);
+        }
+        final Point2D.Double point = new Point2D.Double();
+        for (int i = 0; i < length; i++) {
+            project(xs[i], ys[i], point);
+            xs[i] = point.x;
+            ys[i] = point.y;
+        }
+        return null;
+    }
+
+    /**
+     * Transforms many (<var>x</var>,<var>y</var>) coordinates in place, with the same formulas than the single point
+     * method above.
+     */
+    @Override
+    ProjectionException inverseTransformNormalized(final double[] xs, final double[] ys, final int length) {
+        if (getClass() != TransverseMercator.class) {
+            return super.inverseTransformNormalized(xs, ys, length);
+        }
+        final Point2D.Double point = new Point2D.Double();
+        ProjectionException firstException = null;
+        for (int i = 0; i < length; i++) {
+            try {
+                unproject(xs[i], ys[i], point);
+                xs[i] = point.x;
+                ys[i] = point.y;
+            } catch (ProjectionException exception) {
+                xs[i] = ys[i] = Double.NaN;
+                if (firstException == null) {
+                    firstException = exception;
+                }
+            }
+        }
+        return firstException;
+    }
+
+    /** The formulas of {@link #transformNormalized(double, double, Point2D)}, shared with the array kernel. */
+    private Point2D project(double x, double y, final Point2D ptDst) {
         double sinphi = sin(y);
         double cosphi = cos(y);
 
@@ -170,9 +226,8 @@ protected Point2D transformNormalized(double x, double y, Point2D ptDst) throws
         return new Point2D.Double(x, y);
     }
 
-    /** Transforms the specified (<var>x</var>,<var>y</var>) coordinates and stores the result in {@code ptDst}. */
-    @Override
-    protected Point2D inverseTransformNormalized(double x, double y, Point2D ptDst) throws ProjectionException {
+    /** The formulas of {@link #inverseTransformNormalized(double, double, Point2D)}, shared with the array kernel. */
+    private Point2D unproject(double x, double y, final Point2D ptDst) throws ProjectionException {
         double phi = inv_mlfn(ml0 + y);
 
         if (abs(phi) >= PI / 2) {
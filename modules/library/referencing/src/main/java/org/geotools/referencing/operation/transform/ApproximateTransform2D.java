@@ -0,0 +1,393 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.transform;
+
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import org.geotools.api.referencing.operation.MathTransform2D;
+import org.geotools.api.referencing.operation.Matrix;
+import org.geotools.api.referencing.operation.NoninvertibleTransformException;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.referencing.operation.LinearTransform;
+import org.geotools.util.Utilities;
+
+/**
+ * Approximates a two dimensional transform with bilinear interpolation over an adaptive grid. The domain given at
+ * creation time is split in a quadtree, whose cells are subdivided until the interpolation of the exact values at the
+ * cell corners matches the exact transform, within the maximum error, at five sample points: the cell center and the
+ * midpoints of its edges. The grid is built once, so the transform is immutable and can be shared among threads.
+ *
+ * <p>The maximum error is the tolerance of this sampled check, expressed in target units, e.g. pixels for a transform
+ * to the screen, not a bound on the error everywhere: a transform that bends sharply between the sample points of a
+ * cell can be approximated less accurately there. Adjacent cells of different sizes are interpolated on their own, so
+ * the approximation may also be discontinuous along their common edge.
+ *
+ * <p>Points outside of the domain, and points in cells still failing the check at the maximum depth (close to a
+ * projection singularity for example), are transformed with the exact transform.
+ *
+ * <p>While {@link WarpBuilder} approximates transforms with JAI warps for raster reprojection, this transform works on
+ * arbitrary coordinates, and pays off in vector pipelines applying the same transform to many points in a known area.
+ *
+ * @since 33
+ */
+public final class ApproximateTransform2D extends AbstractMathTransform implements MathTransform2D {
+
+    /** Maximum depth of the quadtree, the smallest cells span 1/256 of the domain on each axis */
+    static final int MAX_DEPTH = 8;
+
+    /** Maximum number of cells in the quadtree, cells that cannot be split past it use the exact transform */
+    static final int MAX_CELLS = 1 << 14;
+
+    /** Marks the cells interpolated from their corners */
+    private static final int LEAF = -1;
+
+    /** Marks the cells using the exact transform */
+    private static final int EXACT = -2;
+
+    private final MathTransform2D exact;
+
+    private final Rectangle2D domain;
+
+    private final double maxError;
+
+    private final double minX;
+
+    private final double minY;
+
+    private final double width;
+
+    private final double height;
+
+    /** For each cell, the index of the first of its four children, or {@link #LEAF} or {@link #EXACT} */
+    private final int[] children;
+
+    /** For each cell, the target coordinates of its lower left, lower right, upper left and upper right corners */
+    private final double[] corners;
+
+    private ApproximateTransform2D(MathTransform2D exact, Rectangle2D domain, double maxError) {
+        this.exact = exact;
+        this.domain = new Rectangle2D.Double(domain.getX(), domain.getY(), domain.getWidth(), domain.getHeight());
+        this.maxError = maxError;
+        this.minX = domain.getMinX();
+        this.minY = domain.getMinY();
+        this.width = domain.getWidth();
+        this.height = domain.getHeight();
+        Builder builder = new Builder();
+        builder.build();
+        this.children = Arrays.copyOf(builder.children, builder.count);
+        this.corners = Arrays.copyOf(builder.corners, builder.count * 8);
+    }
+
+    /**
+     * Returns a transform approximating the given one within the domain, or the given transform itself when an
+     * approximation would not help: the transform is linear, the domain is empty or no cell passes the sampled check
+     * described in the class javadoc.
+     *
+     * @param transform the exact transform
+     * @param domain the area where the transform is approximated, in source units
+     * @param maxError the maximum distance between the approximated and exact points at the sample points of each
+     *     cell, in target units
+     */
+    public static MathTransform2D create(MathTransform2D transform, Rectangle2D domain, double maxError) {
+        ensureNonNull("transform", transform);
+        ensureNonNull("domain", domain);
+        if (!(maxError > 0)) {
+            throw new IllegalArgumentException("The maximum error must be positive, but was " + maxError);
+        }
+        if (transform instanceof LinearTransform
+                || transform instanceof ApproximateTransform2D
+                || !(domain.getWidth() > 0 && domain.getHeight() > 0)
+                || !Double.isFinite(domain.getMaxX() - domain.getMinX())
+                || !Double.isFinite(domain.getMaxY() - domain.getMinY())) {
+            return transform;
+        }
+        ApproximateTransform2D approximate = new ApproximateTransform2D(transform, domain, maxError);
+        for (int child : approximate.children) {
+            if (child == LEAF) {
+                return approximate;
+            }
+        }
+        return transform;
+    }
+
+    /** Returns the exact transform being approximated. */
+    public MathTransform2D getExactTransform() {
+        return exact;
+    }
+
+    /** Returns the area where the transform is approximated, in source units. */
+    public Rectangle2D getDomain() {
+        return (Rectangle2D) domain.clone();
+    }
+
+    /** Returns the maximum error allowed at the sample points of each cell, in target units. */
+    public double getMaxError() {
+        return maxError;
+    }
+
+    /** Returns the number of cells in the quadtree */
+    int getCellCount() {
+        return children.length;
+    }
+
+    @Override
+    public int getSourceDimensions() {
+        return 2;
+    }
+
+    @Override
+    public int getTargetDimensions() {
+        return 2;
+    }
+
+    @Override
+    public void transform(double[] srcPts, int srcOff, double[] dstPts, int dstOff, int numPts)
+            throws TransformException {
+        // the points missed by the grid are gathered and transformed exactly in one go
+        double[] missed = null;
+        int[] targets = null;
+        int misses = 0;
+        int step = 2;
+        if (srcPts == dstPts && srcOff < dstOff && srcOff + numPts * 2 > dstOff) {
+            // overlapping arrays, walk backwards so that sources are read before being overwritten
+            srcOff += (numPts - 1) * 2;
+            dstOff += (numPts - 1) * 2;
+            step = -2;
+        }
+        for (int i = 0; i < numPts; i++, srcOff += step, dstOff += step) {
+            final double x = srcPts[srcOff];
+            final double y = srcPts[srcOff + 1];
+            if (!interpolate(x, y, dstPts, dstOff)) {
+                if (missed == null) {
+                    missed = new double[(numPts - i) * 2];
+                    targets = new int[numPts - i];
+                }
+                missed[misses * 2] = x;
+                missed[misses * 2 + 1] = y;
+                targets[misses++] = dstOff;
+            }
+        }
+        if (misses > 0) {
+            exact.transform(missed, 0, missed, 0, misses);
+            for (int i = 0; i < misses; i++) {
+                dstPts[targets[i]] = missed[i * 2];
+                dstPts[targets[i] + 1] = missed[i * 2 + 1];
+            }
+        }
+    }
+
+    /** Interpolates the point in the grid, returns false if it has to be transformed exactly */
+    private boolean interpolate(double x, double y, double[] dstPts, int dstOff) {
+        final double u = (x - minX) / width;
+        final double v = (y - minY) / height;
+        if (!(u >= 0 && u <= 1 && v >= 0 && v <= 1)) {
+            return false;
+        }
+        int cell = 0;
+        int child;
+        double u0 = 0;
+        double v0 = 0;
+        double size = 1;
+        while ((child = children[cell]) >= 0) {
+            size *= 0.5;
+            int quadrant = 0;
+            if (u >= u0 + size) {
+                u0 += size;
+                quadrant = 1;
+            }
+            if (v >= v0 + size) {
+                v0 += size;
+                quadrant += 2;
+            }
+            cell = child + quadrant;
+        }
+        if (child == EXACT) {
+            return false;
+        }
+        final double fx = (u - u0) / size;
+        final double fy = (v - v0) / size;
+        final double[] c = corners;
+        final int i = cell * 8;
+        final double lowerX = c[i] + fx * (c[i + 2] - c[i]);
+        final double lowerY = c[i + 1] + fx * (c[i + 3] - c[i + 1]);
+        final double upperX = c[i + 4] + fx * (c[i + 6] - c[i + 4]);
+        final double upperY = c[i + 5] + fx * (c[i + 7] - c[i + 5]);
+        dstPts[dstOff] = lowerX + fy * (upperX - lowerX);
+        dstPts[dstOff + 1] = lowerY + fy * (upperY - lowerY);
+        return true;
+    }
+
+    /** Returns the derivative of the exact transform. */
+    @Override
+    public Matrix derivative(Point2D point) throws TransformException {
+        return exact.derivative(point);
+    }
+
+    /** Returns the inverse of the exact transform, the inverse is not approximated. */
+    @Override
+    public MathTransform2D inverse() throws NoninvertibleTransformException {
+        return exact.inverse();
+    }
+
+    @Override
+    public boolean isIdentity() {
+        return false;
+    }
+
+    /** Returns the WKT of the exact transform, the approximation has no WKT representation. */
+    @Override
+    public String toWKT() throws UnsupportedOperationException {
+        return exact.toWKT();
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ exact.hashCode() ^ domain.hashCode() ^ Double.hashCode(maxError);
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (object == this) {
+            return true;
+        }
+        if (super.equals(object)) {
+            final ApproximateTransform2D that = (ApproximateTransform2D) object;
+            return Utilities.equals(this.exact, that.exact)
+                    && this.domain.equals(that.domain)
+                    && Double.doubleToLongBits(this.maxError) == Double.doubleToLongBits(that.maxError);
+        }
+        return false;
+    }
+
+    /** Builds the quadtree breadth first, so that the cell budget is spread evenly over the domain */
+    private final class Builder {
+
+        int[] children = new int[64];
+
+        double[] corners = new double[64 * 8];
+
+        /** The position of each cell in the domain, as fractions of its width and height */
+        double[] origins = new double[64 * 2];
+
+        int[] depths = new int[64];
+
+        int count;
+
+        void build() {
+            double[] source = {minX, minY, minX + width, minY, minX, minY + height, minX + width, minY + height};
+            add(0, 0, 0);
+            evaluate(source, corners, 0, 4);
+            for (int cell = 0; cell < count; cell++) {
+                check(cell);
+            }
+        }
+
+        private int add(double u, double v, int depth) {
+            if (count == children.length) {
+                int capacity = count * 2;
+                children = Arrays.copyOf(children, capacity);
+                corners = Arrays.copyOf(corners, capacity * 8);
+                origins = Arrays.copyOf(origins, capacity * 2);
+                depths = Arrays.copyOf(depths, capacity);
+            }
+            children[count] = LEAF;
+            origins[count * 2] = u;
+            origins[count * 2 + 1] = v;
+            depths[count] = depth;
+            return count++;
+        }
+
+        /** Compares the exact and interpolated values at the cell center and edge midpoints, splits if needed */
+        private void check(int cell) {
+            final double u = origins[cell * 2];
+            final double v = origins[cell * 2 + 1];
+            final int depth = depths[cell];
+            final double h = Math.scalb(1.0, -depth - 1);
+            // bottom, left, center, right and top points
+            double[] midpoints = {u + h, v, u, v + h, u + h, v + h, u + 2 * h, v + h, u + h, v + 2 * h};
+            for (int i = 0; i < midpoints.length; i += 2) {
+                midpoints[i] = minX + midpoints[i] * width;
+                midpoints[i + 1] = minY + midpoints[i + 1] * height;
+            }
+            evaluate(midpoints, midpoints, 0, 5);
+            double[] c = Arrays.copyOfRange(corners, cell * 8, cell * 8 + 8);
+            if (isAccurate(c, midpoints)) {
+                return;
+            }
+            if (depth == MAX_DEPTH || count + 4 > MAX_CELLS) {
+                children[cell] = EXACT;
+                return;
+            }
+            // the 3x3 grid of exact values, rows from bottom to top
+            double[] grid = new double[18];
+            System.arraycopy(c, 0, grid, 0, 2);
+            System.arraycopy(midpoints, 0, grid, 2, 2);
+            System.arraycopy(c, 2, grid, 4, 2);
+            System.arraycopy(midpoints, 2, grid, 6, 6);
+            System.arraycopy(c, 4, grid, 12, 2);
+            System.arraycopy(midpoints, 8, grid, 14, 2);
+            System.arraycopy(c, 6, grid, 16, 2);
+            int first = count;
+            for (int quadrant = 0; quadrant < 4; quadrant++) {
+                int qx = quadrant & 1;
+                int qy = quadrant >> 1;
+                int child = add(u + qx * h, v + qy * h, depth + 1);
+                int lower = (qy * 3 + qx) * 2;
+                int upper = lower + 6;
+                System.arraycopy(grid, lower, corners, child * 8, 4);
+                System.arraycopy(grid, upper, corners, child * 8 + 4, 4);
+            }
+            children[cell] = first;
+        }
+
+        private boolean isAccurate(double[] c, double[] m) {
+            for (double value : c) {
+                if (!Double.isFinite(value)) {
+                    return false;
+                }
+            }
+            return isClose(m, 0, (c[0] + c[2]) / 2, (c[1] + c[3]) / 2)
+                    && isClose(m, 2, (c[0] + c[4]) / 2, (c[1] + c[5]) / 2)
+                    && isClose(m, 4, (c[0] + c[2] + c[4] + c[6]) / 4, (c[1] + c[3] + c[5] + c[7]) / 4)
+                    && isClose(m, 6, (c[2] + c[6]) / 2, (c[3] + c[7]) / 2)
+                    && isClose(m, 8, (c[4] + c[6]) / 2, (c[5] + c[7]) / 2);
+        }
+
+        private boolean isClose(double[] values, int offset, double x, double y) {
+            // NaN fails the comparison too
+            return Math.hypot(values[offset] - x, values[offset + 1] - y) <= maxError;
+        }
+
+        /** Transforms the points, the ones the exact transform fails on become NaN */
+        private void evaluate(double[] source, double[] target, int targetOff, int numPts) {
+            double[] copy = source.clone();
+            try {
+                exact.transform(copy, 0, target, targetOff, numPts);
+            } catch (TransformException e) {
+                for (int i = 0; i < numPts; i++) {
+                    try {
+                        exact.transform(copy, i * 2, target, targetOff + i * 2, 1);
+                    } catch (TransformException failed) {
+                        target[targetOff + i * 2] = Double.NaN;
+                        target[targetOff + i * 2 + 1] = Double.NaN;
+                    }
+                }
+            }
+        }
+    }
+}
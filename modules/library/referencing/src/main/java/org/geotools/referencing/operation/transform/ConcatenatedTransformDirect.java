@@ -33,6 +33,9 @@ class ConcatenatedTransformDirect extends ConcatenatedTransform {
     /** Serial number for interoperability with different versions. */
     private static final long serialVersionUID = -3568975979013908920L;
 
+    /** The number of ordinates transformed together by both transforms, for long lists of points. */
+    private static final int BLOCK_LENGTH = 2048;
+
     /** Constructs a concatenated transform. */
     public ConcatenatedTransformDirect(final MathTransform transform1, final MathTransform transform2) {
         super(transform1, transform2);
@@ -54,14 +57,56 @@ public Position transform(final Position ptSrc, Position ptDst) throws Transform
         return transform2.transform(ptDst, ptDst);
     }
 
-    /** Transforms a list of coordinate point ordinal values. */
+    /**
+     * Transforms a list of coordinate point ordinal values. Long lists are transformed by blocks of
+     * {@value #BLOCK_LENGTH} ordinates, each block going through both transforms while it is still in the processor
+     * cache. If {@code transform1} fails on a block, {@code transform2} is not applied to that block, as it would not
+     * be without blocks. The remaining blocks are still transformed before the first exception is thrown.
+     */
     @Override
     public void transform(
             final double[] srcPts, final int srcOff, final double[] dstPts, final int dstOff, final int numPts)
             throws TransformException {
         assert isValid();
-        transform1.transform(srcPts, srcOff, dstPts, dstOff, numPts);
-        transform2.transform(dstPts, dstOff, dstPts, dstOff, numPts);
+        final int dimension = getSourceDimensions();
+        final int blockSize = Math.max(1, BLOCK_LENGTH / dimension);
+        if (numPts <= blockSize) {
+            transform1.transform(srcPts, srcOff, dstPts, dstOff, numPts);
+            transform2.transform(dstPts, dstOff, dstPts, dstOff, numPts);
+            return;
+        }
+        /*
+         * If the source and destination arrays overlap with the destination after the source,
+         * the blocks are processed from the last one so that no source point is overwritten
+         * before being transformed. The overlap within a block is handled by transform1.
+         */
+        final boolean reverse = (srcPts == dstPts && srcOff < dstOff && srcOff + (dimension * numPts) > dstOff);
+        TransformException failure = null;
+        for (int done = 0; done < numPts; ) {
+            final int length = Math.min(blockSize, numPts - done);
+            final int first = reverse ? numPts - done - length : done;
+            final int dstBlock = dstOff + dimension * first;
+            done += length;
+            try {
+                transform1.transform(srcPts, srcOff + dimension * first, dstPts, dstBlock, length);
+            } catch (TransformException exception) {
+                if (failure == null) {
+                    failure = exception;
+                }
+                // as in the unblocked case, transform2 is not applied after transform1 failed
+                continue;
+            }
+            try {
+                transform2.transform(dstPts, dstBlock, dstPts, dstBlock, length);
+            } catch (TransformException exception) {
+                if (failure == null) {
+                    failure = exception;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
     }
 
     // Do NOT override the transform(float[]...) version because we really need to use an
@@ -44,6 +44,7 @@
 import org.geotools.referencing.NamedIdentifier;
 import org.geotools.referencing.ReferencingFactoryFinder;
 import org.geotools.referencing.factory.gridshift.GridShiftLocator;
+import org.geotools.referencing.factory.gridshift.MappedNTv2Grid;
 import org.geotools.referencing.factory.gridshift.NTv2GridShiftFactory;
 import org.geotools.referencing.operation.MathTransformProvider;
 import org.geotools.util.Utilities;
@@ -76,6 +77,9 @@ public class NTv2Transform extends AbstractMathTransform implements MathTransfor
     /** The grid shift to be used */
     private GridShiftFile gridShift;
 
+    /** The grid shift mapped in memory, used instead of {@link #gridShift} for local files. */
+    private transient MappedNTv2Grid mappedGrid;
+
     /** The factory that loads the grid shift files */
     private static NTv2GridShiftFactory FACTORY = new NTv2GridShiftFactory();
 
@@ -215,14 +219,33 @@ private void bidirectionalTransform(
 
         boolean shifted;
 
-        if (gridShift == null) { // Create grid when first needed.
+        if (gridShift == null && mappedGrid == null) { // Create grid when first needed.
             try {
-                gridShift = FACTORY.createNTv2Grid(gridLocation);
+                mappedGrid = FACTORY.createMappedNTv2Grid(gridLocation);
+                if (mappedGrid == null) {
+                    gridShift = FACTORY.createNTv2Grid(gridLocation);
+                }
             } catch (FactoryException e) {
                 throw new TransformException("NTv2 Grid " + gridLocation + " Could not be created", e);
             }
         }
 
+        if (gridShift == null) {
+            MappedNTv2Grid.Cursor cursor = mappedGrid.cursor();
+            double[] point = new double[2];
+            while (--numPts >= 0) {
+                point[0] = srcPts[srcOff++];
+                point[1] = srcPts[srcOff++];
+                shifted = forward ? cursor.forward(point) : cursor.reverse(point);
+                if (!shifted) {
+                    logNotShifted(point[0], point[1]);
+                }
+                dstPts[dstOff++] = point[0];
+                dstPts[dstOff++] = point[1];
+            }
+            return;
+        }
+
         try {
             GridShift shift = new GridShift();
             while (--numPts >= 0) {
@@ -237,18 +260,7 @@ private void bidirectionalTransform(
                     dstPts[dstOff++] = shift.getShiftedLonPositiveEastDegrees();
                     dstPts[dstOff++] = shift.getShiftedLatDegrees();
                 } else {
-                    if (LOGGER.isLoggable(Level.FINE)) {
-                        LOGGER.log(
-                                Level.FINE,
-                                "Point ("
-                                        + srcPts[srcOff - 2]
-                                        + ", "
-                                        + srcPts[srcOff - 1]
-                                        + ") is not covered by '"
-                                        + this.grid
-                                        + "' NTv2 grid,"
-                                        + " it will not be shifted.");
-                    }
+                    logNotShifted(srcPts[srcOff - 2], srcPts[srcOff - 1]);
                     dstPts[dstOff++] = srcPts[srcOff - 2];
                     dstPts[dstOff++] = srcPts[srcOff - 1];
                 }
@@ -258,6 +270,15 @@ private void bidirectionalTransform(
         }
     }
 
+    private void logNotShifted(double x, double y) {
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.log(
+                    Level.FINE,
+                    "Point (" + x + ", " + y + ") is not covered by '" + this.grid + "' NTv2 grid,"
+                            + " it will not be shifted.");
+        }
+    }
+
     @Override
     public int getSourceDimensions() {
         return 2;
@@ -0,0 +1,156 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.Set;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.IdentifiedObject;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.crs.GeographicCRS;
+import org.geotools.api.referencing.crs.ProjectedCRS;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.referencing.CRS;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/** Tests the {@link CRSFingerprintIndex} and its use by {@link IdentifiedObjectFinder}. */
+public final class CRSFingerprintIndexTest {
+
+    private static final String WGS84 = "GEOGCS[\"%s\", DATUM[\"World Geodetic System 1984\","
+            + " SPHEROID[\"WGS 84\", 6378137.0, 298.257223563]], PRIMEM[\"Greenwich\", 0.0],"
+            + " UNIT[\"degree\", 0.017453292519943295]]";
+
+    private static final String ED50 = "GEOGCS[\"ED50\", DATUM[\"European Datum 1950\","
+            + " SPHEROID[\"International 1924\", 6378388.0, 297.0]], PRIMEM[\"Greenwich\", 0.0],"
+            + " UNIT[\"degree\", 0.017453292519943295]]";
+
+    private static final String UTM = "PROJCS[\"%s\", %s, PROJECTION[\"Transverse_Mercator\"],"
+            + " PARAMETER[\"central_meridian\", %s], PARAMETER[\"latitude_of_origin\", 0.0],"
+            + " PARAMETER[\"scale_factor\", 0.9996], PARAMETER[\"false_easting\", %s],"
+            + " PARAMETER[\"false_northing\", 0.0], UNIT[\"m\", 1.0]]";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private PropertyAuthorityFactory factory;
+
+    @Before
+    public void createFactory() throws IOException {
+        Properties definitions = new Properties();
+        definitions.put("4326", String.format(WGS84, "WGS 84"));
+        definitions.put("4230", ED50);
+        definitions.put("32631", utm("WGS 84 / UTM zone 31N", String.format(WGS84, "WGS 84"), 3, "500000"));
+        definitions.put("32632", utm("WGS 84 / UTM zone 32N", String.format(WGS84, "WGS 84"), 9, "500000"));
+        definitions.put("23031", utm("ED50 / UTM zone 31N", ED50, 3, "500000"));
+        File file = folder.newFile("crs.properties");
+        try (OutputStream out = new FileOutputStream(file)) {
+            definitions.store(out, null);
+        }
+        factory = new PropertyAuthorityFactory(
+                ReferencingFactoryContainer.instance(null),
+                Citations.fromName("TEST"),
+                file.toURI().toURL());
+    }
+
+    private static String utm(String name, String base, double centralMeridian, String falseEasting) {
+        return String.format(UTM, name, base, centralMeridian, falseEasting);
+    }
+
+    @Test
+    public void testCandidates() throws FactoryException {
+        CRSFingerprintIndex index = CRSFingerprintIndex.getInstance(factory);
+        assertSame(index, CRSFingerprintIndex.getInstance(factory));
+
+        CoordinateReferenceSystem crs =
+                CRS.parseWKT(utm("Some UTM", String.format(WGS84, "Some datum"), 3, "500000"));
+        assertEquals(Collections.singleton("32631"), index.getCandidates(crs, factory));
+
+        crs = CRS.parseWKT(String.format(WGS84, "Some geographic CRS"));
+        assertEquals(Collections.singleton("4326"), index.getCandidates(crs, factory));
+
+        crs = CRS.parseWKT(utm("Some UTM", String.format(WGS84, "Some datum"), 3, "500001"));
+        assertTrue(index.getCandidates(crs, factory).isEmpty());
+
+        // not a CRS, the index cannot tell
+        assertNull(index.getCandidates(crs.getCoordinateSystem(), factory));
+    }
+
+    @Test
+    public void testTolerance() throws FactoryException {
+        CRSFingerprintIndex index = CRSFingerprintIndex.getInstance(factory);
+        CoordinateReferenceSystem crs =
+                CRS.parseWKT(utm("Some UTM", String.format(WGS84, "Some datum"), 3, "500000.00000001"));
+        assertEquals(Collections.singleton("32631"), index.getCandidates(crs, factory));
+
+        assertTrue(CRSFingerprintIndex.isClose(0, -0.0, 0));
+        assertTrue(CRSFingerprintIndex.isClose(Double.NaN, Double.NaN, 0));
+        assertFalse(CRSFingerprintIndex.isClose(Double.NaN, 0, 0.1));
+        assertTrue(CRSFingerprintIndex.isClose(1e6, 1e6 + 0.01, 1e-7));
+        assertFalse(CRSFingerprintIndex.isClose(1e6, 1e6 + 1, 1e-7));
+    }
+
+    @Test
+    public void testFind() throws FactoryException {
+        IdentifiedObjectFinder finder = factory.getIdentifiedObjectFinder(ProjectedCRS.class);
+        CoordinateReferenceSystem crs = CRS.parseWKT(utm("Some UTM", ED50.replace("ED50", "Some CRS"), 3, "500000"));
+        IdentifiedObject found = finder.find(crs);
+        assertEquals("ED50 / UTM zone 31N", found.getName().getCode());
+        assertTrue(CRS.equalsIgnoreMetadata(crs, found));
+
+        crs = CRS.parseWKT(utm("Some UTM", String.format(WGS84, "Some datum"), 15, "500000"));
+        assertNull(finder.find(crs));
+
+        finder = factory.getIdentifiedObjectFinder(GeographicCRS.class);
+        found = finder.find(CRS.parseWKT(String.format(WGS84, "Some geographic CRS")));
+        assertEquals("WGS 84", found.getName().getCode());
+    }
+
+    @Test
+    public void testCodeCandidates() throws FactoryException {
+        CoordinateReferenceSystem crs =
+                CRS.parseWKT(utm("Some UTM", String.format(WGS84, "Some datum"), 3, "500000"));
+        IdentifiedObjectFinder finder = factory.getIdentifiedObjectFinder(ProjectedCRS.class);
+        assertEquals(Collections.singleton("32631"), finder.getCodeCandidates(crs));
+
+        // wrappers delegate to the finder of their backing store
+        finder = new BufferedAuthorityFactory(factory).getIdentifiedObjectFinder(ProjectedCRS.class);
+        assertEquals(Collections.singleton("32631"), finder.getCodeCandidates(crs));
+
+        // the candidates of subclasses are not bypassed by the index
+        finder = new IdentifiedObjectFinder(factory, ProjectedCRS.class) {
+            @Override
+            protected Set<String> getCodeCandidates(IdentifiedObject object) {
+                return Collections.singleton("23031");
+            }
+        };
+        assertNull(finder.find(crs));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import org.geotools.api.metadata.extent.GeographicBoundingBox;
+import org.geotools.api.referencing.NoSuchAuthorityCodeException;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.crs.GeographicCRS;
+import org.geotools.api.referencing.crs.ProjectedCRS;
+import org.geotools.api.referencing.cs.AxisDirection;
+import org.geotools.api.referencing.datum.Datum;
+import org.geotools.api.referencing.datum.Ellipsoid;
+import org.geotools.metadata.iso.citation.Citations;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.NamedIdentifier;
+import org.geotools.referencing.factory.ReferencingFactoryContainer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/** Tests {@link EpsgSnapshot} and the factory reading it. */
+public final class EpsgSnapshotTest {
+
+    private static final String WGS84 = "GEOGCS[\"WGS 84\", DATUM[\"World Geodetic System 1984\","
+            + " SPHEROID[\"WGS 84\", 6378137.0, 298.257223563, AUTHORITY[\"EPSG\",\"7030\"]],"
+            + " AUTHORITY[\"EPSG\",\"6326\"]], PRIMEM[\"Greenwich\", 0.0, AUTHORITY[\"EPSG\",\"8901\"]],"
+            + " UNIT[\"degree\", 0.017453292519943295], AXIS[\"Geodetic latitude\", NORTH],"
+            + " AXIS[\"Geodetic longitude\", EAST], AUTHORITY[\"EPSG\",\"4326\"]]";
+
+    private static final String UTM31 = "PROJCS[\"WGS 84 / UTM zone 31N\", GEOGCS[\"WGS 84\","
+            + " DATUM[\"World Geodetic System 1984\", SPHEROID[\"WGS 84\", 6378137.0, 298.257223563]],"
+            + " PRIMEM[\"Greenwich\", 0.0], UNIT[\"degree\", 0.017453292519943295]],"
+            + " PROJECTION[\"Transverse_Mercator\"], PARAMETER[\"central_meridian\", 3.0],"
+            + " PARAMETER[\"latitude_of_origin\", 0.0], PARAMETER[\"scale_factor\", 0.9996],"
+            + " PARAMETER[\"false_easting\", 500000.0], PARAMETER[\"false_northing\", 0.0],"
+            + " UNIT[\"m\", 1.0], AXIS[\"Easting\", EAST], AXIS[\"Northing\", NORTH]]";
+
+    private static final String SPHEROID =
+            "SPHEROID[\"WGS 84\", 6378137.0, 298.257223563, AUTHORITY[\"EPSG\",\"7030\"]]";
+
+    /** A datum sharing its code with a CRS, as EPSG codes are unique within a table only */
+    private static final String DATUM = "DATUM[\"Some datum\", SPHEROID[\"WGS 84\", 6378137.0, 298.257223563]]";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void writeSnapshot() throws IOException {
+        Map<Integer, List<String>> definitions = new HashMap<>();
+        definitions.put(32631, Arrays.asList(UTM31));
+        definitions.put(4326, Arrays.asList(DATUM, WGS84));
+        definitions.put(7030, Arrays.asList(SPHEROID));
+        Map<Integer, double[]> bounds = new HashMap<>();
+        bounds.put(4326, new double[] {-180, 180, -90, 90});
+        bounds.put(32631, new double[] {0, 6, 0, 84});
+        file = folder.newFile("epsg.snapshot");
+        try (OutputStream out = new FileOutputStream(file)) {
+            EpsgSnapshot.write(out, "12.0", definitions, bounds);
+        }
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        EpsgSnapshot snapshot = EpsgSnapshot.open(file.toPath());
+        assertEquals(4, snapshot.size());
+        assertEquals("12.0", snapshot.getVersion());
+        assertEquals(WGS84, snapshot.getWKT("4326"));
+        assertEquals(DATUM, snapshot.getWKT("4326", Datum.class));
+        assertNull(snapshot.getWKT("4326", Ellipsoid.class));
+        assertEquals(UTM31, snapshot.getWKT(" 32631 "));
+        assertNull(snapshot.getWKT("4327"));
+        assertNull(snapshot.getWKT("foo"));
+        assertTrue(Arrays.equals(new double[] {0, 6, 0, 84}, snapshot.getBounds("32631")));
+        assertNull(snapshot.getBounds("7030"));
+
+        assertEquals(
+                Arrays.asList("4326", "7030", "32631"),
+                Arrays.asList(snapshot.getCodes(Object.class).toArray()));
+        assertEquals(
+                new HashSet<>(Arrays.asList("4326", "32631")), snapshot.getCodes(CoordinateReferenceSystem.class));
+        assertEquals(new HashSet<>(Arrays.asList("32631")), snapshot.getCodes(ProjectedCRS.class));
+        assertEquals(new HashSet<>(Arrays.asList("7030")), snapshot.getCodes(Ellipsoid.class));
+        assertEquals(new HashSet<>(Arrays.asList("4326")), snapshot.getCodes(Datum.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateCode() throws IOException {
+        Map<Integer, List<String>> definitions = new HashMap<>();
+        definitions.put(4326, Arrays.asList(WGS84, UTM31));
+        EpsgSnapshot.write(new ByteArrayOutputStream(), "12.0", definitions, null);
+    }
+
+    @Test
+    public void testReadURL() throws IOException {
+        EpsgSnapshot snapshot = EpsgSnapshot.open(file.toURI().toURL());
+        assertEquals(WGS84, snapshot.getWKT("4326"));
+    }
+
+    @Test
+    public void testInvalid() throws IOException {
+        File invalid = folder.newFile("invalid.snapshot");
+        Files.write(invalid.toPath(), new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16});
+        try {
+            EpsgSnapshot.open(invalid.toPath());
+            fail("Should have failed to open the snapshot");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testFactory() throws Exception {
+        EpsgSnapshot snapshot = EpsgSnapshot.open(file.toPath());
+        SnapshotAuthorityFactory factory =
+                new SnapshotAuthorityFactory(ReferencingFactoryContainer.instance(null), snapshot);
+        assertEquals("12.0", factory.getAuthority().getEdition().toString());
+        assertTrue(Citations.identifierMatches(factory.getAuthority(), "EPSG"));
+
+        CoordinateReferenceSystem crs = factory.createCoordinateReferenceSystem("EPSG:4326");
+        assertTrue(crs instanceof GeographicCRS);
+        assertEquals(AxisDirection.NORTH, crs.getCoordinateSystem().getAxis(0).getDirection());
+        assertTrue(crs.getIdentifiers().contains(new NamedIdentifier(Citations.EPSG, "4326")));
+        GeographicBoundingBox box = CRS.getGeographicBoundingBox(crs);
+        assertNotNull(box);
+        assertEquals(-180, box.getWestBoundLongitude(), 0d);
+
+        // the code is added when missing from the WKT
+        ProjectedCRS utm = factory.createProjectedCRS("32631");
+        assertTrue(utm.getIdentifiers().contains(new NamedIdentifier(Citations.EPSG, "32631")));
+        assertEquals(84, CRS.getGeographicBoundingBox(utm).getNorthBoundLatitude(), 0d);
+        assertEquals("WGS 84 / UTM zone 31N", factory.getDescriptionText("EPSG:32631").toString());
+
+        assertEquals(6378137.0, factory.createEllipsoid("7030").getSemiMajorAxis(), 0d);
+
+        // codes shared by a CRS and a datum
+        assertTrue(factory.createObject("EPSG:4326") instanceof GeographicCRS);
+        Datum datum = factory.createDatum("EPSG:4326");
+        assertEquals("Some datum", datum.getName().getCode());
+        assertEquals("WGS 84", factory.getDescriptionText("4326").toString());
+        try {
+            factory.createCoordinateReferenceSystem("EPSG:4327");
+            fail("Should have thrown a NoSuchAuthorityCodeException");
+        } catch (NoSuchAuthorityCodeException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDeferredFactory() throws Exception {
+        FactoryUsingSnapshot factory = new FactoryUsingSnapshot() {
+            @Override
+            protected URL getSnapshotURL() {
+                try {
+                    return file.toURI().toURL();
+                } catch (MalformedURLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        assertTrue(factory.isAvailable());
+        CoordinateReferenceSystem crs = factory.createCoordinateReferenceSystem("EPSG:4326");
+        // buffered
+        assertSame(crs, factory.createCoordinateReferenceSystem("4326"));
+        assertEquals(new HashSet<>(Arrays.asList("32631")), factory.getAuthorityCodes(ProjectedCRS.class));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.gridshift;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import au.com.objectix.jgridshift.GridShift;
+import au.com.objectix.jgridshift.GridShiftFile;
+import java.io.IOException;
+import java.net.URL;
+import org.geotools.util.URLs;
+import org.junit.Test;
+
+/** Tests the {@link MappedNTv2Grid}, against the values of the heap based grids. */
+public class MappedNTv2GridTest {
+
+    private static final URL TEST_GRID = MappedNTv2GridTest.class.getResource("BALR2009.gsb");
+
+    private static final URL MALFORMED_GRID = MappedNTv2GridTest.class.getResource("malformedNTv2grid.gsb");
+
+    private static final double[] TEST_POINT_SRC = {3.084896111, 39.592654167};
+
+    private static final double[] TEST_POINT_DST = {3.083801819, 39.5914804};
+
+    private static final double TOLERANCE = 18E-7;
+
+    @Test
+    public void testShift() throws IOException {
+        MappedNTv2Grid.Cursor cursor = MappedNTv2Grid.open(URLs.urlToFile(TEST_GRID)).cursor();
+        double[] point = TEST_POINT_SRC.clone();
+        assertTrue(cursor.forward(point));
+        assertArrayEquals(TEST_POINT_DST, point, TOLERANCE);
+        assertTrue(cursor.reverse(point));
+        assertArrayEquals(TEST_POINT_SRC, point, TOLERANCE);
+
+        // outside of the grid
+        point = new double[] {20, 20};
+        assertFalse(cursor.forward(point));
+        assertFalse(cursor.reverse(point));
+        assertArrayEquals(new double[] {20, 20}, point, 0);
+    }
+
+    @Test
+    public void testSameAsHeapGrid() throws Exception {
+        GridShiftFile heap = new NTv2GridShiftFactory().createNTv2Grid(TEST_GRID);
+        MappedNTv2Grid.Cursor cursor = MappedNTv2Grid.open(URLs.urlToFile(TEST_GRID)).cursor();
+        GridShift shift = new GridShift();
+        for (double lon = 0.5; lon < 5; lon += 0.0137) {
+            for (double lat = 37.8; lat < 41; lat += 0.0219) {
+                shift.setLonPositiveEastDegrees(lon);
+                shift.setLatDegrees(lat);
+                double[] point = {lon, lat};
+                boolean covered = heap.gridShiftForward(shift);
+                assertEquals(covered, cursor.forward(point));
+                if (covered) {
+                    assertEquals(shift.getShiftedLonPositiveEastDegrees(), point[0], 1e-8);
+                    assertEquals(shift.getShiftedLatDegrees(), point[1], 1e-8);
+                }
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testMalformed() throws IOException {
+        MappedNTv2Grid.open(URLs.urlToFile(MALFORMED_GRID));
+    }
+
+    @Test
+    public void testFactory() throws Exception {
+        NTv2GridShiftFactory factory = new NTv2GridShiftFactory();
+        MappedNTv2Grid grid = factory.createMappedNTv2Grid(TEST_GRID);
+        assertSame(grid, factory.createMappedNTv2Grid(TEST_GRID));
+        assertNull(factory.createMappedNTv2Grid(null));
+        // only local files can be mapped
+        assertNull(factory.createMappedNTv2Grid(new URL("jar:" + TEST_GRID + "!/BALR2009.gsb")));
+    }
+}
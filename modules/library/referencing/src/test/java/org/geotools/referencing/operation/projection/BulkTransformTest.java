@@ -0,0 +1,297 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.projection;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.util.Arrays;
+import org.geotools.api.parameter.ParameterValueGroup;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.MathTransform2D;
+import org.geotools.api.referencing.operation.MathTransformFactory;
+import org.geotools.api.referencing.operation.NoninvertibleTransformException;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.referencing.ReferencingFactoryFinder;
+import org.geotools.referencing.operation.transform.AbstractMathTransform;
+import org.geotools.referencing.operation.transform.ConcatenatedTransform;
+import org.geotools.referencing.operation.transform.ProjectiveTransform;
+import org.junit.Test;
+
+/**
+ * Tests that the projections transforming arrays of points by blocks give the same results than transforming each
+ * point on its own.
+ */
+public final class BulkTransformTest {
+
+    /** Tolerance on projected coordinates in metres, or geographic coordinates in degrees. */
+    private static final double EPS = 1e-9;
+
+    private static final MathTransformFactory FACTORY = ReferencingFactoryFinder.getMathTransformFactory(null);
+
+    /** Returns the default parameters of the given method, on the WGS84 ellipsoid. */
+    private static ParameterValueGroup parameters(String method) {
+        ParameterValueGroup values = FACTORY.getDefaultParameters(method);
+        values.parameter("semi_major").setValue(6378137.0);
+        values.parameter("semi_minor").setValue(6356752.314245179);
+        return values;
+    }
+
+    private static MapProjection create(ParameterValueGroup values) throws FactoryException {
+        return (MapProjection) FACTORY.createParameterizedTransform(values);
+    }
+
+    /** Returns a grid of (longitude, latitude) points, with more points than a block. */
+    private static double[] grid(double lonMin, double lonMax, double latMin, double latMax) {
+        final int n = 40;
+        double[] points = new double[2 * n * n];
+        int k = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                points[k++] = lonMin + (lonMax - lonMin) * i / (n - 1);
+                points[k++] = latMin + (latMax - latMin) * j / (n - 1);
+            }
+        }
+        return points;
+    }
+
+    /** Transforms each point on its own, returns whether any of them failed. */
+    private static boolean transformEach(MathTransform2D mt, double[] source, double[] target) {
+        boolean failed = false;
+        Point2D.Double point = new Point2D.Double();
+        for (int i = 0; i < source.length; i += 2) {
+            try {
+                point.setLocation(source[i], source[i + 1]);
+                mt.transform(point, point);
+                target[i] = point.x;
+                target[i + 1] = point.y;
+            } catch (TransformException e) {
+                target[i] = target[i + 1] = Double.NaN;
+                failed = true;
+            }
+        }
+        return failed;
+    }
+
+    /** Transforms the points with the array method, returns whether it failed. */
+    private static boolean transformAll(
+            MathTransform mt, double[] source, int srcOff, double[] target, int dstOff, int numPts) {
+        try {
+            mt.transform(source, srcOff, target, dstOff, numPts);
+            return false;
+        } catch (TransformException e) {
+            return true;
+        }
+    }
+
+    private static void check(MapProjection mt, double[] geographic) throws TransformException {
+        final int numPts = geographic.length / 2;
+        double[] expected = new double[geographic.length];
+        boolean failed = transformEach(mt, geographic, expected);
+
+        double[] actual = new double[geographic.length];
+        assertEquals(failed, transformAll(mt, geographic, 0, actual, 0, numPts));
+        assertArrayEquals(expected, actual, EPS);
+
+        // overlapping arrays, with the destination after then before the source
+        double[] shifted = Arrays.copyOf(geographic, geographic.length + 2);
+        assertEquals(failed, transformAll(mt, shifted, 0, shifted, 2, numPts));
+        assertArrayEquals(expected, Arrays.copyOfRange(shifted, 2, shifted.length), EPS);
+        shifted = new double[geographic.length + 2];
+        System.arraycopy(geographic, 0, shifted, 2, geographic.length);
+        assertEquals(failed, transformAll(mt, shifted, 2, shifted, 0, numPts));
+        assertArrayEquals(expected, Arrays.copyOf(shifted, geographic.length), EPS);
+
+        // float arrays
+        float[] floats = new float[geographic.length];
+        for (int i = 0; i < floats.length; i++) {
+            floats[i] = (float) geographic[i];
+        }
+        double[] rounded = new double[floats.length];
+        for (int i = 0; i < floats.length; i++) {
+            rounded[i] = floats[i];
+        }
+        transformEach(mt, rounded, expected);
+        try {
+            mt.transform(floats, 0, floats, 0, numPts);
+        } catch (TransformException e) {
+            // the failed points are checked below
+        }
+        for (int i = 0; i < floats.length; i++) {
+            assertEquals((float) expected[i], floats[i], 0);
+        }
+
+        // inverse, starting from the projected points
+        transformEach(mt, geographic, expected);
+        double[] inverse = new double[expected.length];
+        failed = transformEach(mt.inverse(), expected, inverse);
+        assertEquals(failed, transformAll(mt.inverse(), expected, 0, actual, 0, numPts));
+        assertArrayEquals(inverse, actual, EPS);
+
+        // concatenated with an axis swap, the grid is long enough to be transformed by blocks
+        MathTransform swap = ProjectiveTransform.create(new AffineTransform(0, 1, 1, 0, 0, 0));
+        MathTransform concatenated = ConcatenatedTransform.create(swap, mt);
+        double[] swapped = new double[geographic.length];
+        for (int i = 0; i < swapped.length; i += 2) {
+            swapped[i] = geographic[i + 1];
+            swapped[i + 1] = geographic[i];
+        }
+        failed = transformEach(mt, geographic, expected);
+        assertEquals(failed, transformAll(concatenated, swapped, 0, actual, 0, numPts));
+        assertArrayEquals(expected, actual, EPS);
+    }
+
+    @Test
+    public void testTransverseMercator() throws Exception {
+        ParameterValueGroup values = parameters("Transverse_Mercator");
+        values.parameter("central_meridian").setValue(9.0);
+        values.parameter("scale_factor").setValue(0.9996);
+        values.parameter("false_easting").setValue(500000.0);
+        MapProjection mt = create(values);
+        assertEquals(TransverseMercator.class, mt.getClass());
+        check(mt, grid(0, 18, -80, 84));
+    }
+
+    @Test
+    public void testMercator() throws Exception {
+        ParameterValueGroup values = parameters("Mercator_1SP");
+        values.parameter("central_meridian").setValue(10.0);
+        MapProjection mt = create(values);
+        assertEquals(Mercator1SP.class, mt.getClass());
+        double[] points = grid(-170, 170, -85, 90);
+        check(mt, points);
+        // the points at the pole can't be projected
+        assertTrue(transformAll(mt, points, 0, new double[points.length], 0, points.length / 2));
+    }
+
+    @Test
+    public void testLambertConformal() throws Exception {
+        ParameterValueGroup values = parameters("Lambert_Conformal_Conic_2SP");
+        values.parameter("central_meridian").setValue(3.0);
+        values.parameter("latitude_of_origin").setValue(46.5);
+        values.parameter("standard_parallel_1").setValue(49.0);
+        values.parameter("standard_parallel_2").setValue(44.0);
+        values.parameter("false_easting").setValue(700000.0);
+        values.parameter("false_northing").setValue(6600000.0);
+        MapProjection mt = create(values);
+        assertEquals(LambertConformal2SP.class, mt.getClass());
+        check(mt, grid(-10, 15, 30, 70));
+    }
+
+    @Test
+    public void testAlbersEqualArea() throws Exception {
+        ParameterValueGroup values = parameters("Albers_Conic_Equal_Area");
+        values.parameter("central_meridian").setValue(-96.0);
+        values.parameter("latitude_of_origin").setValue(23.0);
+        values.parameter("standard_parallel_1").setValue(29.5);
+        values.parameter("standard_parallel_2").setValue(45.5);
+        MapProjection mt = create(values);
+        assertEquals(AlbersEqualArea.class, mt.getClass());
+        check(mt, grid(-125, -65, 20, 60));
+    }
+
+    @Test
+    public void testPolarStereographic() throws Exception {
+        ParameterValueGroup values = parameters("Polar_Stereographic");
+        values.parameter("latitude_of_origin").setValue(90.0);
+        values.parameter("scale_factor").setValue(0.994);
+        values.parameter("false_easting").setValue(2000000.0);
+        values.parameter("false_northing").setValue(2000000.0);
+        MapProjection mt = create(values);
+        assertTrue(mt instanceof PolarStereographic);
+        check(mt, grid(-180, 180, 60, 89));
+    }
+
+    @Test
+    public void testConcatenatedFailure() throws Exception {
+        // three blocks of 1024 points, a point of the second one fails in the first transform
+        final int numPts = 3 * 1024;
+        double[] source = new double[2 * numPts];
+        for (int i = 0; i < numPts; i++) {
+            source[2 * i] = i == 1500 ? -1 : i;
+            source[2 * i + 1] = i;
+        }
+        MathTransform concatenated =
+                ConcatenatedTransform.create(new FailingTransform(), ProjectiveTransform.createTranslation(2, 100));
+        double[] actual = new double[source.length];
+        assertTrue(transformAll(concatenated, source, 0, actual, 0, numPts));
+        // each block ends up as if it had been transformed alone
+        for (int block = 0; block < 3; block++) {
+            double[] expected = new double[2 * 1024];
+            boolean failed = transformAll(concatenated, source, 2 * 1024 * block, expected, 0, 1024);
+            assertEquals(block == 1, failed);
+            assertArrayEquals(expected, Arrays.copyOfRange(actual, 2 * 1024 * block, 2 * 1024 * (block + 1)), 0);
+        }
+        assertEquals(2 * 100 + 100, actual[200], 0);
+        assertEquals(2 * 1100, actual[2200], 0);
+    }
+
+    @Test
+    public void testSingleBlock() throws Exception {
+        MapProjection mt = create(parameters("Mercator_1SP"));
+        double[] points = {10, 20};
+        double[] expected = new double[2];
+        assertFalse(transformEach(mt, points, expected));
+        mt.transform(points, 0, points, 0, 1);
+        assertArrayEquals(expected, points, EPS);
+        // nothing to transform
+        mt.transform(points, 0, points, 0, 0);
+        assertArrayEquals(expected, points, EPS);
+    }
+
+    /** Doubles the coordinates, the points with a negative x fail after all the others are transformed */
+    private static class FailingTransform extends AbstractMathTransform implements MathTransform2D {
+
+        @Override
+        public int getSourceDimensions() {
+            return 2;
+        }
+
+        @Override
+        public int getTargetDimensions() {
+            return 2;
+        }
+
+        @Override
+        public void transform(double[] srcPts, int srcOff, double[] dstPts, int dstOff, int numPts)
+                throws TransformException {
+            boolean failed = false;
+            for (int i = 0; i < numPts * 2; i += 2) {
+                if (srcPts[srcOff + i] < 0) {
+                    dstPts[dstOff + i] = dstPts[dstOff + i + 1] = Double.NaN;
+                    failed = true;
+                } else {
+                    dstPts[dstOff + i] = srcPts[srcOff + i] * 2;
+                    dstPts[dstOff + i + 1] = srcPts[srcOff + i + 1] * 2;
+                }
+            }
+            if (failed) {
+                throw new TransformException("Negative x");
+            }
+        }
+
+        @Override
+        public MathTransform2D inverse() throws NoninvertibleTransformException {
+            throw new NoninvertibleTransformException("Not needed");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.operation.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+import org.geotools.api.referencing.FactoryException;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.MathTransform2D;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.junit.Before;
+import org.junit.Test;
+
+/** Tests the {@link ApproximateTransform2D}. */
+public final class ApproximateTransform2DTest {
+
+    private static final String UTM32N = "PROJCS[\"WGS 84 / UTM zone 32N\", GEOGCS[\"WGS 84\","
+            + " DATUM[\"World Geodetic System 1984\", SPHEROID[\"WGS 84\", 6378137.0, 298.257223563]],"
+            + " PRIMEM[\"Greenwich\", 0.0], UNIT[\"degree\", 0.017453292519943295]],"
+            + " PROJECTION[\"Transverse_Mercator\"], PARAMETER[\"central_meridian\", 9.0],"
+            + " PARAMETER[\"latitude_of_origin\", 0.0], PARAMETER[\"scale_factor\", 0.9996],"
+            + " PARAMETER[\"false_easting\", 500000.0], PARAMETER[\"false_northing\", 0.0], UNIT[\"m\", 1.0]]";
+
+    private static final Rectangle2D DOMAIN = new Rectangle2D.Double(0, 30, 18, 30);
+
+    private MathTransform2D exact;
+
+    @Before
+    public void setup() throws FactoryException {
+        CoordinateReferenceSystem utm = CRS.parseWKT(UTM32N);
+        exact = (MathTransform2D) CRS.findMathTransform(DefaultGeographicCRS.WGS84, utm, true);
+    }
+
+    @Test
+    public void testWithinTolerance() throws TransformException {
+        for (double tolerance : new double[] {100, 10}) {
+            MathTransform2D approximate = ApproximateTransform2D.create(exact, DOMAIN, tolerance);
+            assertTrue(approximate instanceof ApproximateTransform2D);
+
+            double[] points = randomPoints(DOMAIN, 10000);
+            double[] expected = new double[points.length];
+            double[] actual = new double[points.length];
+            exact.transform(points, 0, expected, 0, points.length / 2);
+            approximate.transform(points, 0, actual, 0, points.length / 2);
+            for (int i = 0; i < points.length; i += 2) {
+                double error = Math.hypot(expected[i] - actual[i], expected[i + 1] - actual[i + 1]);
+                assertTrue("Error " + error + " above " + tolerance, error <= tolerance);
+            }
+        }
+    }
+
+    @Test
+    public void testOutsideDomain() throws TransformException {
+        MathTransform2D approximate = ApproximateTransform2D.create(exact, DOMAIN, 10);
+        double[] points = {-1, 45, 9, 61, Double.NaN, 45, 9, 45};
+        double[] expected = new double[points.length];
+        double[] actual = new double[points.length];
+        exact.transform(points, 0, expected, 0, 4);
+        approximate.transform(points, 0, actual, 0, 4);
+        // the first three points are outside, the exact transform is used
+        for (int i = 0; i < 6; i++) {
+            assertEquals(expected[i], actual[i], 0);
+        }
+        assertEquals(expected[6], actual[6], 10);
+        assertEquals(expected[7], actual[7], 10);
+    }
+
+    @Test
+    public void testAdaptive() {
+        ApproximateTransform2D coarse = (ApproximateTransform2D) ApproximateTransform2D.create(exact, DOMAIN, 100);
+        ApproximateTransform2D fine = (ApproximateTransform2D) ApproximateTransform2D.create(exact, DOMAIN, 10);
+        assertTrue(coarse.getCellCount() < fine.getCellCount());
+        assertTrue(fine.getCellCount() <= ApproximateTransform2D.MAX_CELLS);
+    }
+
+    @Test
+    public void testOverlappingArrays() throws TransformException {
+        MathTransform2D approximate = ApproximateTransform2D.create(exact, DOMAIN, 10);
+        double[] points = randomPoints(DOMAIN, 100);
+        double[] expected = new double[points.length];
+        approximate.transform(points, 0, expected, 0, 50);
+
+        double[] shifted = new double[points.length + 2];
+        System.arraycopy(points, 0, shifted, 0, points.length);
+        approximate.transform(shifted, 0, shifted, 2, 50);
+        for (int i = 0; i < points.length; i++) {
+            assertEquals(expected[i], shifted[i + 2], 0);
+        }
+    }
+
+    @Test
+    public void testNotApproximated() throws TransformException {
+        MathTransform2D affine = new AffineTransform2D(AffineTransform.getScaleInstance(2, 3));
+        assertSame(affine, ApproximateTransform2D.create(affine, DOMAIN, 1));
+        assertSame(exact, ApproximateTransform2D.create(exact, new Rectangle2D.Double(0, 30, 0, 10), 1));
+
+        // no cell can be approximated within the cell budget
+        assertSame(exact, ApproximateTransform2D.create(exact, DOMAIN, 1e-6));
+
+        MathTransform2D approximate = ApproximateTransform2D.create(exact, DOMAIN, 10);
+        assertSame(approximate, ApproximateTransform2D.create(approximate, DOMAIN, 1));
+        assertEquals(exact.inverse(), approximate.inverse());
+        assertEquals(exact, ((ApproximateTransform2D) approximate).getExactTransform());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidError() {
+        ApproximateTransform2D.create(exact, DOMAIN, 0);
+    }
+
+    private static double[] randomPoints(Rectangle2D domain, int count) {
+        Random random = new Random(42);
+        double[] points = new double[count * 2];
+        for (int i = 0; i < points.length; i += 2) {
+            points[i] = domain.getMinX() + random.nextDouble() * domain.getWidth();
+            points[i + 1] = domain.getMinY() + random.nextDouble() * domain.getHeight();
+        }
+        return points;
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.label;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.TextLayout;
+import java.awt.geom.Point2D;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A bounded, thread safe cache of shaped text, {@link GlyphVector} and {@link TextLayout} objects, keyed by text, font,
+ * font render context (transformation and rendering hints) and layout flags. Shaping text is expensive, while maps
+ * tend to repeat the same labels, with the same fonts, over and over, request after request.
+ *
+ * <p>The text layouts are immutable and shared. Glyph vectors are mutable instead, so the cache keeps their glyph
+ * codes and positions, and builds a new glyph vector from them on each call, which is much cheaper than shaping the
+ * text again. Texts whose glyphs do not map one to one to their characters, in order (right to left or complex
+ * scripts), cannot be rebuilt that way and are shaped on each call.
+ *
+ * <p>The {@link #getDefaultInstance() default instance} is shared by all the label caches in the JVM, its size can be
+ * set with the {@link #MAX_SIZE_KEY} system property, a size of zero disables caching.
+ */
+public class GlyphVectorCache {
+
+    /** System property controlling the max number of entries of the default instance */
+    public static final String MAX_SIZE_KEY = "org.geotools.labelcache.glyphCacheSize";
+
+    /** Default max number of entries of the default instance */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private static final GlyphVectorCache DEFAULT =
+            new GlyphVectorCache(Integer.getInteger(MAX_SIZE_KEY, DEFAULT_MAX_SIZE));
+
+    /** Returns the cache shared by default among all the label caches */
+    public static GlyphVectorCache getDefaultInstance() {
+        return DEFAULT;
+    }
+
+    private final int maxSize;
+
+    private final Cache<Key, Object> cache;
+
+    /**
+     * Builds a new cache
+     *
+     * @param maxSize The max number of entries, zero or negative to disable caching
+     */
+    public GlyphVectorCache(int maxSize) {
+        this.maxSize = Math.max(0, maxSize);
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(this.maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns a new glyph vector for the given text, same as calling {@link Font#layoutGlyphVector(FontRenderContext,
+     * char[], int, int, int)} on the whole text
+     */
+    public GlyphVector getGlyphVector(String text, Font font, FontRenderContext frc, int flags) {
+        if (maxSize == 0) {
+            return layoutGlyphVector(text, font, frc, flags);
+        }
+        Shaping shaping = (Shaping) get(
+                new Key(Key.GLYPH_VECTOR, text, font, frc, flags),
+                () -> Shaping.of(layoutGlyphVector(text, font, frc, flags)));
+        if (shaping == Shaping.NONE) {
+            return layoutGlyphVector(text, font, frc, flags);
+        }
+        return shaping.createGlyphVector(font, frc);
+    }
+
+    private static GlyphVector layoutGlyphVector(String text, Font font, FontRenderContext frc, int flags) {
+        char[] chars = text.toCharArray();
+        return font.layoutGlyphVector(frc, chars, 0, chars.length, flags);
+    }
+
+    /**
+     * Returns the text layout for the given text, same as calling {@link TextLayout#TextLayout(String, Font,
+     * FontRenderContext)}
+     */
+    public TextLayout getTextLayout(String text, Font font, FontRenderContext frc) {
+        if (maxSize == 0) {
+            return new TextLayout(text, font, frc);
+        }
+        return (TextLayout) get(new Key(Key.TEXT_LAYOUT, text, font, frc, 0), () -> new TextLayout(text, font, frc));
+    }
+
+    private Object get(Key key, Callable<Object> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /** The max number of entries in the cache */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /** The current number of entries in the cache */
+    public long size() {
+        return cache.size();
+    }
+
+    /** Number of lookups that found the shaped text in the cache */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /** Number of lookups that had to shape the text */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    /** Ratio of lookups that found the shaped text in the cache, 1 if there were no lookups */
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+
+    /** Removes all the entries from the cache */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public String toString() {
+        CacheStats stats = cache.stats();
+        return "GlyphVectorCache[size="
+                + cache.size()
+                + ", maxSize="
+                + maxSize
+                + ", hits="
+                + stats.hitCount()
+                + ", misses="
+                + stats.missCount()
+                + ", evictions="
+                + stats.evictionCount()
+                + "]";
+    }
+
+    /** The immutable outcome of shaping a text, the glyph codes and their positions */
+    static final class Shaping {
+
+        /** Marks the texts that cannot be rebuilt from their glyph codes and positions */
+        static final Shaping NONE = new Shaping(null, null);
+
+        final int[] glyphCodes;
+
+        /** The x and y of each glyph, followed by the end position */
+        final float[] positions;
+
+        Shaping(int[] glyphCodes, float[] positions) {
+            this.glyphCodes = glyphCodes;
+            this.positions = positions;
+        }
+
+        /**
+         * Extracts the shaping of the given glyph vector, or returns {@link #NONE} if its glyphs are not in the same
+         * order as the characters, or have their own transforms, which a vector built from glyph codes cannot restore
+         */
+        static Shaping of(GlyphVector gv) {
+            int count = gv.getNumGlyphs();
+            int[] charIndices = gv.getGlyphCharIndices(0, count, null);
+            for (int i = 0; i < count; i++) {
+                if (charIndices[i] != i || gv.getGlyphTransform(i) != null) {
+                    return NONE;
+                }
+            }
+            return new Shaping(gv.getGlyphCodes(0, count, null), gv.getGlyphPositions(0, count + 1, null));
+        }
+
+        /** Builds a new glyph vector, equivalent to the one this shaping was extracted from */
+        GlyphVector createGlyphVector(Font font, FontRenderContext frc) {
+            GlyphVector gv = font.createGlyphVector(frc, glyphCodes);
+            Point2D.Float position = new Point2D.Float();
+            for (int i = 0; i <= glyphCodes.length; i++) {
+                position.setLocation(positions[2 * i], positions[2 * i + 1]);
+                gv.setGlyphPosition(i, position);
+            }
+            return gv;
+        }
+    }
+
+    /** The cache key, the font render context includes the transform and the antialiasing/metrics hints */
+    static final class Key {
+
+        static final int GLYPH_VECTOR = 0;
+
+        static final int TEXT_LAYOUT = 1;
+
+        final int kind;
+
+        final String text;
+
+        final Font font;
+
+        final FontRenderContext frc;
+
+        final int flags;
+
+        final int hash;
+
+        Key(int kind, String text, Font font, FontRenderContext frc, int flags) {
+            this.kind = kind;
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            this.flags = flags;
+            this.hash = Objects.hash(kind, text, font, frc, flags);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash
+                    && kind == other.kind
+                    && flags == other.flags
+                    && text.equals(other.text)
+                    && font.equals(other.font)
+                    && frc.equals(other.frc);
+        }
+    }
+}
@@ -34,11 +34,16 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -57,11 +62,14 @@
 import org.geotools.renderer.RenderListener;
 import org.geotools.renderer.VendorOptionParser;
 import org.geotools.renderer.label.LabelCacheItem.GraphicResize;
+import org.geotools.renderer.label.LabelPainter.PrecomputedLayout;
 import org.geotools.renderer.lite.LabelCache;
 import org.geotools.renderer.lite.RendererUtilities;
 import org.geotools.renderer.style.SLDStyleFactory;
 import org.geotools.renderer.style.TextStyle2D;
 import org.geotools.util.NumberRange;
+import org.geotools.util.instrumentation.Instrumentation;
+import org.geotools.util.instrumentation.Span;
 import org.geotools.util.logging.Logging;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
@@ -226,6 +234,17 @@ private static TextSymbolizer labelless(TextSymbolizer orig) {
 
     private BiFunction<Graphics2D, LabelRenderingMode, LabelPainter> constructPainter = LabelPainter::new;
 
+    /** Number of labels laid out in parallel ahead of their placement */
+    static final int LAYOUT_BATCH_SIZE = 1024;
+
+    /** Number of labels laid out by a single task */
+    static final int LAYOUT_TASK_SIZE = 64;
+
+    /** Used to lay out labels in parallel, if set */
+    private ExecutorService layoutThreadPool;
+
+    private LabelSplitter splitter = new LabelSplitter();
+
     @Override
     public void enableLayer(String layerId) {
         needsOrdering = true;
@@ -241,6 +260,15 @@ public void setLabelRenderingMode(LabelRenderingMode mode) {
         this.labelRenderingMode = mode;
     }
 
+    /**
+     * Sets the thread pool used to lay out the labels (split them in lines and build their glyph vectors) in parallel,
+     * in batches, ahead of their sequential placement. When not set, the default, each label is laid out right before
+     * being placed. The pool is not shut down by the label cache.
+     */
+    public void setLayoutThreadPool(ExecutorService layoutThreadPool) {
+        this.layoutThreadPool = layoutThreadPool;
+    }
+
     /** Change the method used to construct LabelPainters. Defaults to {@link LabelPainter#LabelPainter}. */
     public void setConstructPainter(BiFunction<Graphics2D, LabelRenderingMode, LabelPainter> constructPainter) {
         this.constructPainter = constructPainter;
@@ -530,7 +558,9 @@ public void end(Graphics2D graphics, Rectangle displayArea) {
                     && textAntialiasing == RenderingHints.VALUE_TEXT_ANTIALIAS_ON) {
                 graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
             }
-            paintLabels(graphics, displayArea);
+            try (Span span = Instrumentation.span("renderer.labels")) {
+                paintLabels(graphics, displayArea);
+            }
         } finally {
             if (antialiasing != null) {
                 graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing);
@@ -572,17 +602,73 @@ void paintLabels(Graphics2D graphics, Rectangle displayArea) {
             items = getActiveLabels();
         }
         LabelPainter painter = constructPainter.apply(graphics, labelRenderingMode);
-        for (LabelCacheItem labelItem : items) {
+        for (int i = 0; i < items.size(); i++) {
             if (stop) return;
 
+            if (layoutThreadPool != null && i % LAYOUT_BATCH_SIZE == 0) {
+                List<LabelCacheItem> batch = items.subList(i, Math.min(i + LAYOUT_BATCH_SIZE, items.size()));
+                painter.layouts = layoutLabels(graphics, batch);
+            }
+            LabelCacheItem labelItem = items.get(i);
             paintedLineLabels = paintLabel(graphics, displayArea, glyphs, paintedLineLabels, painter, labelItem);
         }
+        painter.layouts = null;
         // Output for line labels
         LOGGER.log(Level.FINE, "TOTAL LINE LABELS : {0}", items.size());
         LOGGER.log(Level.FINE, "PAINTED LINE LABELS : {0}", paintedLineLabels);
         LOGGER.log(Level.FINE, "REMAINING LINE LABELS : {0}", items.size() - paintedLineLabels);
     }
 
+    /**
+     * Lays out the given labels in parallel, each task working against its own copy of the graphics. Labels whose
+     * layout fails are left out, they will be laid out (and the error reported) while painting them.
+     */
+    Map<LabelCacheItem, PrecomputedLayout> layoutLabels(Graphics2D graphics, List<LabelCacheItem> items) {
+        List<Callable<Void>> tasks = new ArrayList<>();
+        List<Graphics2D> copies = new ArrayList<>();
+        PrecomputedLayout[] layouts = new PrecomputedLayout[items.size()];
+        try {
+            for (int start = 0; start < items.size(); start += LAYOUT_TASK_SIZE) {
+                // graphics are not thread safe, the copies are made here and used by a single task each
+                Graphics2D copy = (Graphics2D) graphics.create();
+                if (copy == null) {
+                    continue;
+                }
+                copies.add(copy);
+                int first = start;
+                int last = Math.min(start + LAYOUT_TASK_SIZE, items.size());
+                tasks.add(() -> {
+                    for (int i = first; i < last; i++) {
+                        LabelCacheItem item = items.get(i);
+                        try {
+                            layouts[i] = new PrecomputedLayout(item, splitter.layout(item, copy));
+                        } catch (RuntimeException e) {
+                            LOGGER.log(Level.FINE, "Failed to lay out label " + item.getLabel(), e);
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> future : layoutThreadPool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.FINE, "Failed to lay out labels in parallel", e);
+        } finally {
+            copies.forEach(Graphics2D::dispose);
+        }
+
+        Map<LabelCacheItem, PrecomputedLayout> result = new IdentityHashMap<>();
+        for (int i = 0; i < layouts.length; i++) {
+            if (layouts[i] != null) {
+                result.put(items.get(i), layouts[i]);
+            }
+        }
+        return result;
+    }
+
     int paintLabel(
             Graphics2D graphics,
             Rectangle displayArea,
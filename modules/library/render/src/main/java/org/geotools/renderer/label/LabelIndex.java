@@ -17,20 +17,55 @@
 package org.geotools.renderer.label;
 
 import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Map;
 import org.locationtech.jts.geom.Envelope;
-import org.locationtech.jts.index.quadtree.Quadtree;
 
 /**
  * Stores label items and helps in finding the interferering ones, either by pure overlap or within a certain distance
  * from the specified bounds
  *
+ * <p>The labels are indexed in a uniform grid of square cells: label bounds are small compared to the map and rather
+ * evenly spread, so a grid has constant insertion and lookup costs regardless of how many labels have been added,
+ * while a tree gets deeper (and more expensive to update) as the map gets denser. Items spanning many cells (e.g. big
+ * reserved areas) are kept aside in a separate list, which is always checked.
+ *
  * @author Andrea Aime
  */
 public class LabelIndex {
 
-    Quadtree index = new Quadtree();
+    /** Default size of the grid cells, in pixels */
+    public static final double DEFAULT_CELL_SIZE = 64;
+
+    /** Items spanning more cells than this are not added to the grid */
+    static final int MAX_ITEM_CELLS = 256;
+
+    final double cellSize;
+
+    /** The grid cells, keyed by column and row, see {@link #key(int, int)} */
+    final Map<Long, List<InterferenceItem>> cells = new HashMap<>();
+
+    /** The items that span too many cells to be added to the grid */
+    final List<InterferenceItem> largeItems = new ArrayList<>();
+
+    /** Builds an index with the default cell size */
+    public LabelIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Builds an index with the specified cell size, ideally a bit larger than the typical label
+     *
+     * @param cellSize The grid cell size, in pixels
+     */
+    public LabelIndex(double cellSize) {
+        if (!(cellSize > 0)) {
+            throw new IllegalArgumentException("The cell size must be positive, but was " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
 
     /**
      * Returns true if there is any label in the index within the specified distance from the bounds. For speed reasons
@@ -39,23 +74,84 @@ public class LabelIndex {
     public boolean labelsWithinDistance(Rectangle2D bounds, double distance) {
         if (distance < 0) return false;
 
-        Envelope e = toEnvelope(bounds);
-        e.expandBy(distance);
-        AtomicBoolean intersectionFound = new AtomicBoolean(false);
-        index.query(e, o -> {
-            if (intersectionFound.get()) return;
-            InterferenceItem item = (InterferenceItem) o;
-            if (item.env.intersects(e)) {
-                intersectionFound.set(true);
+        double minX = bounds.getMinX() - distance;
+        double minY = bounds.getMinY() - distance;
+        double maxX = bounds.getMaxX() + distance;
+        double maxY = bounds.getMaxY() + distance;
+        for (InterferenceItem item : largeItems) {
+            if (item.intersects(minX, minY, maxX, maxY)) {
+                return true;
             }
-        });
-        return intersectionFound.get();
+        }
+        if (cells.isEmpty()) {
+            return false;
+        }
+
+        int minCol = cell(minX);
+        int maxCol = cell(maxX);
+        int minRow = cell(minY);
+        int maxRow = cell(maxY);
+        if (((double) maxCol - minCol + 1) * ((double) maxRow - minRow + 1) > cells.size()) {
+            // the query covers more cells than there are filled ones, scan them all instead
+            for (List<InterferenceItem> items : cells.values()) {
+                if (anyIntersects(items, minX, minY, maxX, maxY)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                List<InterferenceItem> items = cells.get(key(col, row));
+                if (items != null && anyIntersects(items, minX, minY, maxX, maxY)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyIntersects(
+            List<InterferenceItem> items, double minX, double minY, double maxX, double maxY) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).intersects(minX, minY, maxX, maxY)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /** Adds a label into the index */
     public void addLabel(LabelCacheItem item, Rectangle2D bounds) {
         Envelope e = toEnvelope(bounds);
-        index.insert(e, new InterferenceItem(e, item));
+        insert(new InterferenceItem(e, item));
+    }
+
+    private void insert(InterferenceItem item) {
+        Envelope e = item.env;
+        int minCol = cell(e.getMinX());
+        int maxCol = cell(e.getMaxX());
+        int minRow = cell(e.getMinY());
+        int maxRow = cell(e.getMaxY());
+        if (((double) maxCol - minCol + 1) * ((double) maxRow - minRow + 1) > MAX_ITEM_CELLS) {
+            largeItems.add(item);
+            return;
+        }
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                cells.computeIfAbsent(key(col, row), k -> new ArrayList<>(4)).add(item);
+            }
+        }
+    }
+
+    /** Returns the grid column (or row) containing the given ordinate */
+    int cell(double ordinate) {
+        // the cast saturates at the integer range boundaries, and turns NaN into 0
+        return (int) Math.floor(ordinate / cellSize);
+    }
+
+    static long key(int col, int row) {
+        return ((long) col << 32) | (row & 0xFFFFFFFFL);
     }
 
     /** Turns the specified Java2D rectangle into a JTS envelope */
@@ -64,7 +160,7 @@ private Envelope toEnvelope(Rectangle2D bounds) {
     }
 
     /**
-     * Simple structure stored into the quadtree (keeping the item around helps in debugging)
+     * Simple structure stored into the grid (keeping the item around helps in debugging)
      *
      * @author Andrea Aime
      */
@@ -78,15 +174,16 @@ public InterferenceItem(Envelope env, LabelCacheItem item) {
             this.env = env;
             this.item = item;
         }
+
+        boolean intersects(double minX, double minY, double maxX, double maxY) {
+            return !(env.getMinX() > maxX || env.getMaxX() < minX || env.getMinY() > maxY || env.getMaxY() < minY);
+        }
     }
 
     /** Reserve the area indicated by these Geometry. */
     public void reserveArea(List<Rectangle2D> reserved) {
         for (Rectangle2D area : reserved) {
-            Envelope env = toEnvelope(area);
-
-            InterferenceItem item = new InterferenceItem(env, null);
-            index.insert(env, item);
+            insert(new InterferenceItem(toEnvelope(area), null));
         }
     }
 }
@@ -38,6 +38,7 @@
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import javax.swing.Icon;
 import org.geotools.geometry.jts.LiteShape;
 import org.geotools.geometry.jts.LiteShape2;
@@ -93,6 +94,9 @@ public class LabelPainter {
     /** The class in charge of splitting the labels in multiple lines/scripts/fonts */
     LabelSplitter splitter = new LabelSplitter();
 
+    /** Label layouts computed ahead of time, if any, see {@link LabelCacheImpl#setLayoutThreadPool} */
+    Map<LabelCacheItem, PrecomputedLayout> layouts;
+
     /** Builds a new painter */
     public LabelPainter(Graphics2D graphics, LabelRenderingMode labelRenderingMode) {
         this.graphics = graphics;
@@ -112,8 +116,13 @@ public void setLabel(LabelCacheItem labelItem) {
         labelBounds = null;
         lines = null;
 
-        // layout the label elements
-        lines = splitter.layout(labelItem, graphics);
+        // layout the label elements, unless it has been done already
+        PrecomputedLayout precomputed = layouts != null ? layouts.get(labelItem) : null;
+        if (precomputed != null && precomputed.isValidFor(labelItem)) {
+            lines = precomputed.lines;
+        } else {
+            lines = splitter.layout(labelItem, graphics);
+        }
 
         // compute the max line length
         double maxWidth = 0;
@@ -824,4 +833,31 @@ boolean isLabelUpwards(LineStringCursor cursor) {
         labelAngle = labelAngle % (Math.PI * 2);
         return labelAngle >= 0 && labelAngle < Math.PI;
     }
+
+    /**
+     * A label layout computed ahead of time, usable as long as the label text and fonts are the same (e.g., the font
+     * shrinking of polygon labels replaces the text style of the label while placing it)
+     */
+    static class PrecomputedLayout {
+
+        final String label;
+
+        final TextStyle2D textStyle;
+
+        final Font[] fonts;
+
+        final List<LineInfo> lines;
+
+        PrecomputedLayout(LabelCacheItem labelItem, List<LineInfo> lines) {
+            this.label = labelItem.getLabel();
+            this.textStyle = labelItem.getTextStyle();
+            this.fonts = textStyle.getFonts();
+            this.lines = lines;
+        }
+
+        boolean isValidFor(LabelCacheItem labelItem) {
+            TextStyle2D ts = labelItem.getTextStyle();
+            return ts == textStyle && ts.getFonts() == fonts && label.equals(labelItem.getLabel());
+        }
+    }
 }
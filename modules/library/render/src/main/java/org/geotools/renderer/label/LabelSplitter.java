@@ -52,6 +52,9 @@ class LabelSplitter {
 
     private static final Pattern NEWLINE_SPLITTER = Pattern.compile("\\n");
 
+    /** Caches the shaped text, so that repeated labels are laid out only once */
+    GlyphVectorCache glyphCache = GlyphVectorCache.getDefaultInstance();
+
     public List<LineInfo> layout(LabelCacheItem labelItem, Graphics2D graphics) {
         String text = labelItem.getLabel();
         Font[] fonts = labelItem.getTextStyle().getFonts();
@@ -62,7 +65,7 @@ public List<LineInfo> layout(LabelCacheItem labelItem, Graphics2D graphics) {
                 fonts.length == 1 || textLength == fonts[0].canDisplayUpTo(text.toCharArray(), 0, textLength);
         if (!(text.contains("\n") || labelItem.getAutoWrap() > 0) && singleFont) {
             FontRenderContext frc = graphics.getFontRenderContext();
-            TextLayout layout = new TextLayout(text, fonts[0], frc);
+            TextLayout layout = glyphCache.getTextLayout(text, fonts[0], frc);
             LineInfo lineInfo = new LineInfo();
             List<LineComponent> components = buildLineComponents(text, fonts[0], labelItem, graphics, layout);
             components.forEach(c -> lineInfo.add(c));
@@ -83,7 +86,7 @@ public List<LineInfo> layout(LabelCacheItem labelItem, Graphics2D graphics) {
                 for (FontRange range : ranges) {
                     graphics.setFont(range.font);
                     FontRenderContext frc = graphics.getFontRenderContext();
-                    TextLayout layout = new TextLayout(range.text, range.font, frc);
+                    TextLayout layout = glyphCache.getTextLayout(range.text, range.font, frc);
                     List<LineComponent> components =
                             buildLineComponents(range.text, range.font, labelItem, graphics, layout);
                     components.forEach(c -> lineInfo.add(c));
@@ -198,8 +201,8 @@ private List<LineComponent> buildLineComponents(
                     // desired extra word spacing
                     double tracking = wordSpacing / font.getSize();
                     Font spacerFont = font.deriveFont(Collections.singletonMap(TextAttribute.TRACKING, tracking));
-                    TextLayout spacerLayout =
-                            new TextLayout(SINGLE_CHAR_STRING, spacerFont, graphics.getFontRenderContext());
+                    TextLayout spacerLayout = glyphCache.getTextLayout(
+                            SINGLE_CHAR_STRING, spacerFont, graphics.getFontRenderContext());
                     LineComponent spacer = new LineComponent(
                             SINGLE_CHAR_STRING,
                             layoutSentence(SINGLE_CHAR_STRING, labelItem, graphics, spacerFont),
@@ -262,11 +265,11 @@ private String checkForEmptyLine(String line) {
     GlyphVector layoutSentence(String label, LabelCacheItem item, Graphics2D graphics, Font font) {
         final char[] chars = label.toCharArray();
         final int length = label.length();
+        final FontRenderContext frc = graphics.getFontRenderContext();
         if (Bidi.requiresBidi(chars, 0, length)) {
             Bidi bidi = new Bidi(label, Bidi.DIRECTION_DEFAULT_LEFT_TO_RIGHT);
             if (bidi.isRightToLeft()) {
-                return font.layoutGlyphVector(
-                        graphics.getFontRenderContext(), chars, 0, length, Font.LAYOUT_RIGHT_TO_LEFT);
+                return glyphCache.getGlyphVector(label, font, frc, Font.LAYOUT_RIGHT_TO_LEFT);
             } else if (bidi.isMixed()) {
                 String r = "";
                 for (int i = 0; i < bidi.getRunCount(); i++) {
@@ -276,12 +279,10 @@ GlyphVector layoutSentence(String label, LabelCacheItem item, Graphics2D graphic
                     }
                     r = r + s1;
                 }
-                char[] chars2 = r.toCharArray();
-                return font.layoutGlyphVector(
-                        graphics.getFontRenderContext(), chars2, 0, length, Font.LAYOUT_RIGHT_TO_LEFT);
+                return glyphCache.getGlyphVector(r, font, frc, Font.LAYOUT_RIGHT_TO_LEFT);
             }
         }
-        return font.layoutGlyphVector(graphics.getFontRenderContext(), chars, 0, chars.length, 0);
+        return glyphCache.getGlyphVector(label, font, frc, 0);
     }
 
     List<FontRange> buildFontRanges(String text, Font[] fonts) {
@@ -0,0 +1,241 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Arrays;
+import java.util.List;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.api.filter.expression.Function;
+import org.geotools.api.style.FeatureTypeStyle;
+import org.geotools.api.style.Rule;
+import org.geotools.api.style.Style;
+import org.geotools.filter.function.EnvFunction;
+import org.geotools.renderer.style.StyleAttributeExtractor;
+
+/**
+ * Caches the results of the style preparation steps {@link StreamingRenderer} performs before rendering a layer, so
+ * that they can be reused across paint calls, renderers and threads:
+ *
+ * <ul>
+ *   <li>the feature type styles applying to a feature type, with the rendering selectors applied and the filters
+ *       simplified
+ *   <li>the rules active at a given scale, with their spatial filters reprojected and the symbolizers rescaled to
+ *       pixels for a given DPI and scale
+ *   <li>the attributes the rules need to read from the data
+ * </ul>
+ *
+ * <p>Styles are looked up by identity, so they must not be modified once used with a cache (create a new style, or
+ * {@link #clear()} the cache, instead). Styles using the <code>env</code> function are never cached, as their
+ * preparation depends on the environment variables of each request.
+ *
+ * <p>The in memory filter optimizations and the {@link org.geotools.renderer.style.Style2D} objects are still built
+ * for each paint call, as they hold per feature state that cannot be shared among threads.
+ */
+public class CompiledStyleCache {
+
+    /** Default max number of entries */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final Cache<Key, Object> cache;
+
+    /** Builds a cache with {@link #DEFAULT_MAX_SIZE} max entries */
+    public CompiledStyleCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Builds a cache with the given max number of entries
+     *
+     * @param maxSize The max number of entries
+     */
+    public CompiledStyleCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("The max cache size must be positive, but was " + maxSize);
+        }
+        this.cache = CacheBuilder.newBuilder().maximumSize(maxSize).recordStats().build();
+    }
+
+    /** Returns the cached value for the key, or null */
+    Object get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    void put(Key key, Object value) {
+        cache.put(key, value);
+    }
+
+    /** The current number of entries in the cache */
+    public long size() {
+        return cache.size();
+    }
+
+    /** Number of lookups that found the prepared style in the cache */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /** Number of lookups that had to prepare the style */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    /** Ratio of lookups that found the prepared style in the cache, 1 if there were no lookups */
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+
+    /** Removes all the entries from the cache */
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /** Returns true if the style preparation does not depend on the request environment */
+    static boolean isCacheable(Style style) {
+        EnvFunctionFinder finder = new EnvFunctionFinder();
+        for (FeatureTypeStyle fts : style.featureTypeStyles()) {
+            fts.accept(finder);
+            Expression transformation = fts.getTransformation();
+            if (transformation != null) {
+                transformation.accept(finder, null);
+            }
+        }
+        return !finder.found;
+    }
+
+    /** Looks for env functions in a style */
+    static class EnvFunctionFinder extends StyleAttributeExtractor {
+
+        boolean found;
+
+        @Override
+        public Object visit(Function expression, Object data) {
+            found |= expression instanceof EnvFunction;
+            return super.visit(expression, data);
+        }
+    }
+
+    /**
+     * A key made of objects compared by identity (styles, rules, the prepared objects they come from) and of objects
+     * compared by value (schemas, scales, CRSs)
+     */
+    static final class Key {
+
+        final Object[] identities;
+
+        final Object[] values;
+
+        final int hash;
+
+        Key(Object[] identities, Object... values) {
+            this.identities = identities;
+            this.values = values;
+            int h = Arrays.hashCode(values);
+            for (Object o : identities) {
+                h = 31 * h + System.identityHashCode(o);
+            }
+            this.hash = h;
+        }
+
+        /** Builds a key out of the rules of the given styles, plus the given values */
+        static Key rules(String kind, List<LiteFeatureTypeStyle> styles, Object... values) {
+            int count = 0;
+            for (LiteFeatureTypeStyle lfts : styles) {
+                count += lfts.ruleList.length + lfts.elseRules.length + 1;
+            }
+            Object[] identities = new Object[count];
+            int i = 0;
+            for (LiteFeatureTypeStyle lfts : styles) {
+                for (Rule r : lfts.ruleList) {
+                    identities[i++] = r;
+                }
+                // separate the lists, a rule could move from one to the other
+                identities[i++] = null;
+                for (Rule r : lfts.elseRules) {
+                    identities[i++] = r;
+                }
+            }
+            Object[] allValues = new Object[values.length + 1];
+            allValues[0] = kind;
+            System.arraycopy(values, 0, allValues, 1, values.length);
+            return new Key(identities, allValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            if (hash != other.hash || identities.length != other.identities.length) {
+                return false;
+            }
+            for (int i = 0; i < identities.length; i++) {
+                if (identities[i] != other.identities[i]) {
+                    return false;
+                }
+            }
+            return Arrays.equals(values, other.values);
+        }
+    }
+
+    /** The feature type styles of a style applying to a given feature type, ready to be split in rules */
+    static final class PreparedStyle {
+
+        final List<FeatureTypeStyle> featureTypeStyles;
+
+        PreparedStyle(List<FeatureTypeStyle> featureTypeStyles) {
+            this.featureTypeStyles = featureTypeStyles;
+        }
+    }
+
+    /** The rules of a list of {@link LiteFeatureTypeStyle}, reprojected and rescaled */
+    static final class CompiledRules {
+
+        final Rule[][] ruleLists;
+
+        final Rule[][] elseRules;
+
+        CompiledRules(List<LiteFeatureTypeStyle> styles) {
+            ruleLists = new Rule[styles.size()][];
+            elseRules = new Rule[styles.size()][];
+            for (int i = 0; i < ruleLists.length; i++) {
+                LiteFeatureTypeStyle lfts = styles.get(i);
+                ruleLists[i] = lfts.ruleList.clone();
+                elseRules[i] = lfts.elseRules.clone();
+            }
+        }
+
+        /** Copies the rules in the styles, which must be the same the rules have been compiled from */
+        void apply(List<LiteFeatureTypeStyle> styles) {
+            for (int i = 0; i < ruleLists.length; i++) {
+                LiteFeatureTypeStyle lfts = styles.get(i);
+                lfts.ruleList = ruleLists[i].clone();
+                lfts.elseRules = elseRules[i].clone();
+            }
+        }
+    }
+}
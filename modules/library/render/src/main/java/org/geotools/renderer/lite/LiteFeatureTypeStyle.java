@@ -91,6 +91,9 @@ final class LiteFeatureTypeStyle {
     /** The meta buffer for the current layer */
     int metaBuffer;
 
+    /** Whether the rules come from a {@link CompiledStyleCache}, and can be used to look up the cache */
+    boolean compiled;
+
     /**
      * use this for only the 1st FTS. We don't actually create an image for it -- we just use the graphics. WATCH OUT
      * FOR THIS. NOTE: image=null in this case
@@ -0,0 +1,349 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.geotools.renderer.lite.StreamingRenderer.PaintShapeRequest;
+import org.geotools.renderer.style.LineStyle2D;
+import org.geotools.renderer.style.MarkStyle2D;
+import org.geotools.renderer.style.PolygonStyle2D;
+import org.geotools.renderer.style.Style2D;
+
+/**
+ * Paints shapes in parallel, splitting the paint area in tiles, each one painted by its own task on a back buffer.
+ *
+ * <p>The paint requests are dispatched to all the tiles their (symbolized) bounds touch, and each tile paints its
+ * requests in the order they were added, so that the z-order of the shapes is preserved. Each task then composites its
+ * back buffer on the target graphics, and hands it over to the next task. Tiles never overlap, so the composition order
+ * does not matter, and there are only as many back buffers, as big as a tile, as tiles painted at the same time.
+ *
+ * <p>Only the requests that are known to be safe to paint concurrently and whose result does not depend on the
+ * destination pixels are handled here, see {@link #accepts(PaintShapeRequest)}, the others must be painted directly
+ * after a {@link #flush()}.
+ */
+class ParallelTilePainter {
+
+    /** Default size of the tiles, in pixels */
+    static final int DEFAULT_TILE_SIZE = 256;
+
+    /** Extra margin added around the shape bounds, to account for antialiasing */
+    static final int MARGIN = 2;
+
+    Rectangle area;
+
+    int tileSize;
+
+    int cols;
+
+    int rows;
+
+    Tile[] tiles;
+
+    /** The back buffers not in use by a tile painting task */
+    Queue<TileBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+    ExecutorService executor;
+
+    StyledShapePainter painter;
+
+    Consumer<Throwable> errorHandler;
+
+    /** The graphics the tiles will be composited on */
+    Graphics2D target;
+
+    /** Whether there are pending requests that have not been painted yet */
+    boolean pending;
+
+    /**
+     * Builds a new tile painter
+     *
+     * @param area The paint area, in screen coordinates
+     * @param tileSize The tile size
+     * @param executor The executor running the tile painting tasks
+     * @param painter The painter used to draw the shapes
+     * @param errorHandler Receives the errors occurred while painting a shape
+     */
+    ParallelTilePainter(
+            Rectangle area,
+            int tileSize,
+            ExecutorService executor,
+            StyledShapePainter painter,
+            Consumer<Throwable> errorHandler) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("The tile size must be positive, but was " + tileSize);
+        }
+        this.area = new Rectangle(area);
+        this.tileSize = tileSize;
+        this.executor = executor;
+        this.painter = painter;
+        this.errorHandler = errorHandler;
+        this.cols = Math.max(1, (area.width + tileSize - 1) / tileSize);
+        this.rows = Math.max(1, (area.height + tileSize - 1) / tileSize);
+        this.tiles = new Tile[cols * rows];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int x = area.x + c * tileSize;
+                int y = area.y + r * tileSize;
+                int w = Math.min(tileSize, area.x + area.width - x);
+                int h = Math.min(tileSize, area.y + area.height - y);
+                tiles[r * cols + c] = new Tile(new Rectangle(x, y, Math.max(1, w), Math.max(1, h)));
+            }
+        }
+    }
+
+    /** Returns true if the request can be painted in tiles */
+    boolean accepts(PaintShapeRequest request) {
+        if (request.labelObstacle || !isTileable(request.style)) {
+            return false;
+        }
+        if (request.graphic == target) {
+            return true;
+        }
+        if (request.graphic instanceof DelayedBackbufferGraphic) {
+            ((DelayedBackbufferGraphic) request.graphic).init();
+        }
+        // the tiles are laid out in screen coordinates
+        return request.graphic.getTransform().isIdentity();
+    }
+
+    /**
+     * Returns true if the style can be painted in a tile: solid strokes, fills and marks are fine, while graphic fills
+     * and strokes, as well as custom strokes, may use objects that are not safe for concurrent use. Composites other
+     * than "source over" depend on the pixels already painted on the destination, which the tiles do not have.
+     */
+    static boolean isTileable(Style2D style) {
+        if (!(style instanceof LineStyle2D)) {
+            return false;
+        }
+        LineStyle2D ls = (LineStyle2D) style;
+        if (ls.getGraphicStroke() != null
+                || (ls.getStroke() != null && !(ls.getStroke() instanceof BasicStroke))
+                || !isSourceOver(ls.getContourComposite())) {
+            return false;
+        }
+        if (style instanceof PolygonStyle2D) {
+            PolygonStyle2D ps = (PolygonStyle2D) style;
+            if (ps.getGraphicFill() != null || !isSourceOver(ps.getFillComposite())) {
+                return false;
+            }
+        }
+        return !(style instanceof MarkStyle2D) || isSourceOver(((MarkStyle2D) style).getComposite());
+    }
+
+    private static boolean isSourceOver(Composite composite) {
+        return composite == null
+                || (composite instanceof AlphaComposite
+                        && ((AlphaComposite) composite).getRule() == AlphaComposite.SRC_OVER);
+    }
+
+    /** Queues a request, which must have been accepted by {@link #accepts(PaintShapeRequest)} */
+    void add(PaintShapeRequest request) {
+        if (request.graphic != target) {
+            flush();
+            target = request.graphic;
+        }
+
+        Rectangle2D bounds = request.shape.getBounds2D();
+        double margin = RendererUtilities.getStyle2DSize(request.style) + MARGIN;
+        if (request.style instanceof MarkStyle2D) {
+            MarkStyle2D mark = (MarkStyle2D) request.style;
+            margin += Math.abs(mark.getDisplacementX()) + Math.abs(mark.getDisplacementY());
+        }
+        if (bounds.getMaxX() + margin < area.getMinX()
+                || bounds.getMinX() - margin > area.getMaxX()
+                || bounds.getMaxY() + margin < area.getMinY()
+                || bounds.getMinY() - margin > area.getMaxY()) {
+            // not visible
+            return;
+        }
+        int minCol = clamp((int) Math.floor((bounds.getMinX() - margin - area.x) / tileSize), cols);
+        int maxCol = clamp((int) Math.floor((bounds.getMaxX() + margin - area.x) / tileSize), cols);
+        int minRow = clamp((int) Math.floor((bounds.getMinY() - margin - area.y) / tileSize), rows);
+        int maxRow = clamp((int) Math.floor((bounds.getMaxY() + margin - area.y) / tileSize), rows);
+        for (int r = minRow; r <= maxRow; r++) {
+            for (int c = minCol; c <= maxCol; c++) {
+                tiles[r * cols + c].requests.add(request);
+            }
+        }
+        pending = true;
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+
+    /** Paints the queued requests, in parallel, and composites the tiles on the target graphics */
+    void paintPending() {
+        if (!pending) {
+            return;
+        }
+        pending = false;
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Tile tile : tiles) {
+            if (!tile.requests.isEmpty()) {
+                tasks.add(tile);
+            }
+        }
+        Composite composite = target.getComposite();
+        target.setComposite(AlphaComposite.SrcOver);
+        try {
+            if (tasks.size() == 1) {
+                tasks.get(0).call();
+            } else {
+                for (Future<Void> future : executor.invokeAll(tasks)) {
+                    future.get();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errorHandler.accept(e);
+        } catch (ExecutionException e) {
+            errorHandler.accept(e.getCause());
+        } catch (Exception e) {
+            errorHandler.accept(e);
+        } finally {
+            target.setComposite(composite);
+            for (Tile tile : tiles) {
+                tile.requests.clear();
+            }
+        }
+    }
+
+    /** Paints the queued requests, so that the painted shapes are visible on the target graphics */
+    void flush() {
+        paintPending();
+    }
+
+    /** Releases the tile back buffers */
+    void dispose() {
+        TileBuffer buffer;
+        while ((buffer = buffers.poll()) != null) {
+            buffer.dispose();
+        }
+        target = null;
+    }
+
+    /** A tile of the paint area, with its list of requests to paint */
+    class Tile implements Callable<Void> {
+
+        Rectangle bounds;
+
+        List<PaintShapeRequest> requests = new ArrayList<>();
+
+        Tile(Rectangle bounds) {
+            this.bounds = bounds;
+        }
+
+        @Override
+        public Void call() {
+            TileBuffer buffer = buffers.poll();
+            if (buffer == null) {
+                buffer = new TileBuffer();
+            }
+            try {
+                Graphics2D g = buffer.getGraphics(bounds);
+                for (PaintShapeRequest request : requests) {
+                    try {
+                        if (request.clipShape != null) {
+                            Shape oldClip = g.getClip();
+                            g.clip(request.clipShape);
+                            painter.paint(g, request.shape, request.style, request.scale, false);
+                            g.setClip(oldClip);
+                        } else {
+                            painter.paint(g, request.shape, request.style, request.scale, false);
+                        }
+                    } catch (Throwable t) {
+                        errorHandler.accept(t);
+                    }
+                }
+                // the target graphics is not thread safe
+                synchronized (ParallelTilePainter.this) {
+                    target.drawImage(
+                            buffer.image,
+                            bounds.x,
+                            bounds.y,
+                            bounds.x + bounds.width,
+                            bounds.y + bounds.height,
+                            0,
+                            0,
+                            bounds.width,
+                            bounds.height,
+                            null);
+                }
+                buffer.clear(bounds);
+            } finally {
+                buffers.add(buffer);
+            }
+            return null;
+        }
+    }
+
+    /** A back buffer as big as a tile, used by one tile painting task at a time */
+    class TileBuffer {
+
+        BufferedImage image = new BufferedImage(tileSize, tileSize, BufferedImage.TYPE_INT_ARGB_PRE);
+
+        Graphics2D graphics = image.createGraphics();
+
+        /** The target the graphics has been configured for */
+        Graphics2D configuredFor;
+
+        /** Returns the graphics of the buffer, working in screen coordinates and limited to the given tile */
+        Graphics2D getGraphics(Rectangle bounds) {
+            if (configuredFor != target) {
+                synchronized (ParallelTilePainter.this) {
+                    graphics.setRenderingHints(target.getRenderingHints());
+                }
+                configuredFor = target;
+            }
+            graphics.setTransform(AffineTransform.getTranslateInstance(-bounds.x, -bounds.y));
+            graphics.setClip(bounds);
+            return graphics;
+        }
+
+        /** Clears the part of the buffer used by the given tile */
+        void clear(Rectangle bounds) {
+            Composite composite = graphics.getComposite();
+            graphics.setTransform(new AffineTransform());
+            graphics.setClip(null);
+            graphics.setComposite(AlphaComposite.Clear);
+            graphics.fillRect(0, 0, bounds.width, bounds.height);
+            graphics.setComposite(composite);
+        }
+
+        void dispose() {
+            graphics.dispose();
+        }
+    }
+}
@@ -47,9 +47,11 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -139,6 +141,7 @@
 import org.geotools.referencing.operation.LinearTransform;
 import org.geotools.referencing.operation.matrix.XAffineTransform;
 import org.geotools.referencing.operation.transform.AffineTransform2D;
+import org.geotools.referencing.operation.transform.ApproximateTransform2D;
 import org.geotools.referencing.operation.transform.ConcatenatedTransform;
 import org.geotools.referencing.operation.transform.ProjectiveTransform;
 import org.geotools.referencing.operation.transform.WarpBuilder;
@@ -162,6 +165,8 @@
 import org.geotools.styling.visitor.RenderingSelectorStyleVisitor;
 import org.geotools.styling.visitor.UomRescaleStyleVisitor;
 import org.geotools.util.factory.Hints;
+import org.geotools.util.instrumentation.Instrumentation;
+import org.geotools.util.instrumentation.Span;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
@@ -260,6 +265,9 @@ public class StreamingRenderer implements GTRenderer {
     /** Geographic map extent, as provided by the caller */
     private ReferencedEnvelope originalMapExtent;
 
+    /** The approximated source to screen transforms, by exact transform, valid for the current paint */
+    private Map<MathTransform, MathTransform> approximatedTransforms = new ConcurrentHashMap<>();
+
     /** The size of the output area in output units. */
     private Rectangle screenSize;
 
@@ -329,6 +337,18 @@ public class StreamingRenderer implements GTRenderer {
      */
     public static final String LINE_WIDTH_OPTIMIZATION_KEY = "lineWidthOptimization";
 
+    /**
+     * Integer number of threads used to paint the vector symbols in parallel, splitting the paint area in tiles. Each
+     * tile is painted on a back buffer and then composited on the target graphics, so it should be used only when
+     * rendering to a raster, and costs an extra 256x256 image per thread. Only solid strokes, fills and marks are
+     * painted in parallel, the other symbols are painted sequentially as usual. The default, 1, disables parallel
+     * painting.
+     *
+     * <p>The painting tasks are run on the executor set with {@link #setTilePaintingThreadPool(ExecutorService)}, or
+     * on a thread pool created for the duration of the paint call if none was set.
+     */
+    public static final String TILE_PAINTING_THREADS_KEY = "tilePaintingThreads";
+
     /**
      * Boolean flag controlling a memory/speed trade off related to how multiple feature type styles are rendered.
      *
@@ -372,6 +392,13 @@ public class StreamingRenderer implements GTRenderer {
 
     private static double ADVANCED_PROJECTION_DENSIFICATION_TOLERANCE_DEFAULT = 0.8;
 
+    /**
+     * Tolerance, in pixels, allowed when transforming geometries to the screen with an approximation of the exact
+     * transform over the map extent, see {@link ApproximateTransform2D}. Not set by default, geometries are then transformed exactly. Only used when the
+     * advanced projection handling is disabled.
+     */
+    public static final String REPROJECTION_TOLERANCE_KEY = "reprojectionTolerance";
+
     /** Boolean flag indicating whether advanced projection wrapping heuristic should be used or nto. */
     public static final String DATELINE_WRAPPING_HEURISTIC_KEY = "datelineWrappingCheckEnabled";
 
@@ -411,6 +438,12 @@ public class StreamingRenderer implements GTRenderer {
     /** The thread pool used to submit the painter workers. */
     private ExecutorService threadPool;
 
+    /** The thread pool used to paint tiles in parallel, see {@link #TILE_PAINTING_THREADS_KEY} */
+    private ExecutorService tilePaintingThreadPool;
+
+    /** The cache of prepared styles, if any, see {@link #setCompiledStyleCache(CompiledStyleCache)} */
+    private CompiledStyleCache compiledStyleCache;
+
     private PainterThread painterThread;
 
     private static int MAX_PIXELS_DENSIFY =
@@ -427,6 +460,29 @@ public void setThreadPool(ExecutorService threadPool) {
         this.threadPool = threadPool;
     }
 
+    /**
+     * Sets the thread pool used to paint tiles in parallel, when enabled by the {@link #TILE_PAINTING_THREADS_KEY}
+     * hint. It should not be the same pool set with {@link #setThreadPool(ExecutorService)}, as the painting tasks are
+     * submitted from the painter thread, and waited for.
+     */
+    public void setTilePaintingThreadPool(ExecutorService tilePaintingThreadPool) {
+        this.tilePaintingThreadPool = tilePaintingThreadPool;
+    }
+
+    /**
+     * Sets a cache for the styles prepared for rendering, which can be shared among renderers to avoid preparing the
+     * same styles over and over. The styles must not be modified after being rendered with a cache, see
+     * {@link CompiledStyleCache} for details. By default no cache is used.
+     */
+    public void setCompiledStyleCache(CompiledStyleCache compiledStyleCache) {
+        this.compiledStyleCache = compiledStyleCache;
+    }
+
+    /** Returns the cache of prepared styles, or null if not set */
+    public CompiledStyleCache getCompiledStyleCache() {
+        return compiledStyleCache;
+    }
+
     /**
      * Sets the flag which controls behaviour for applying affine transformation to the graphics object.
      *
@@ -668,6 +724,13 @@ private double computeScale(
     @Override
     public void paint(
             Graphics2D graphics, Rectangle paintArea, ReferencedEnvelope mapArea, AffineTransform worldToScreen) {
+        try (Span span = Instrumentation.span("renderer.paint")) {
+            paintInternal(graphics, paintArea, mapArea, worldToScreen);
+        }
+    }
+
+    private void paintInternal(
+            Graphics2D graphics, Rectangle paintArea, ReferencedEnvelope mapArea, AffineTransform worldToScreen) {
         // ////////////////////////////////////////////////////////////////////
         //
         // Check for null arguments, recompute missing ones if possible
@@ -729,6 +792,7 @@ public void paint(
         mapExtent = new ReferencedEnvelope(mapArea);
         this.screenSize = paintArea;
         this.worldToScreenTransform = worldToScreen;
+        approximatedTransforms.clear();
         error = 0;
         if (java2dHints != null) graphics.setRenderingHints(java2dHints);
         // add the anchor for graphic fills
@@ -782,6 +846,17 @@ public void paint(
             localThreadPool = Executors.newSingleThreadExecutor();
             localPool = true;
         }
+        int tilePaintingThreads = getTilePaintingThreads();
+        ExecutorService localTilePool = null;
+        if (tilePaintingThreads > 1) {
+            ExecutorService tilePool = tilePaintingThreadPool;
+            if (tilePool == null) {
+                localTilePool = Executors.newFixedThreadPool(tilePaintingThreads);
+                tilePool = localTilePool;
+            }
+            painterThread.tilePainter = new ParallelTilePainter(
+                    paintArea, ParallelTilePainter.DEFAULT_TILE_SIZE, tilePool, painter, this::fireErrorEvent);
+        }
         Future painterFuture = localThreadPool.submit(painterThread);
         List<CompositingGroup> compositingGroups = null;
         try {
@@ -906,6 +981,9 @@ public void paint(
                     if (localPool) {
                         localThreadPool.shutdown();
                     }
+                    if (localTilePool != null) {
+                        localTilePool.shutdown();
+                    }
                 }
             }
         }
@@ -1045,7 +1123,7 @@ Query getStyleQuery(
         if (styleList == null) {
             attributes = null;
         } else {
-            attributes = findStyleAttributes(styleList, schema);
+            attributes = getStyleAttributes(styleList, schema);
         }
 
         ReferencedEnvelope envelope = new ReferencedEnvelope(mapArea, mapCRS);
@@ -1650,6 +1728,36 @@ private double getAdvancedProjectionDensificationTolerance() {
         return ((Double) result).doubleValue();
     }
 
+    /** Returns the maximum error of the approximated transforms to the screen, zero if they are disabled */
+    private double getReprojectionTolerance() {
+        if (rendererHints == null) return 0;
+        Object result = rendererHints.get(REPROJECTION_TOLERANCE_KEY);
+        if (result == null) return 0;
+        return ((Number) result).doubleValue();
+    }
+
+    /**
+     * Approximates the transform from the source CRS to the screen over the map extent, if a reprojection tolerance
+     * has been set, the exact transform is returned otherwise or if the approximation cannot be built
+     */
+    private MathTransform approximate(MathTransform sourceToScreen, CoordinateReferenceSystem sourceCRS) {
+        double tolerance = getReprojectionTolerance();
+        if (tolerance <= 0 || sourceCRS == null || !(sourceToScreen instanceof MathTransform2D)) {
+            return sourceToScreen;
+        }
+        return approximatedTransforms.computeIfAbsent(sourceToScreen, exact -> {
+            try {
+                ReferencedEnvelope domain = transformEnvelope(mapExtent, sourceCRS);
+                Rectangle2D.Double area = new Rectangle2D.Double(
+                        domain.getMinX(), domain.getMinY(), domain.getWidth(), domain.getHeight());
+                return ApproximateTransform2D.create((MathTransform2D) exact, area, tolerance);
+            } catch (TransformException | FactoryException e) {
+                LOGGER.log(Level.FINE, "Could not approximate the transform to the screen", e);
+                return exact;
+            }
+        });
+    }
+
     /** Checks if advanced projection wrapping heuristic should be enabled. */
     private boolean isWrappingHeuristicEnabled() {
         if (rendererHints == null) return true;
@@ -1691,6 +1799,22 @@ private int findRenderingBuffer(List<LiteFeatureTypeStyle> styles) {
         return (int) Math.round(rbe.getBuffer() / 2.0 + 1);
     }
 
+    /** Returns the {@link #findStyleAttributes} result, from the compiled style cache when possible */
+    private List<PropertyName> getStyleAttributes(List<LiteFeatureTypeStyle> styles, FeatureType schema) {
+        CompiledStyleCache cache = compiledStyleCache;
+        if (cache == null || !styles.stream().allMatch(lfts -> lfts.compiled)) {
+            return findStyleAttributes(styles, schema);
+        }
+        CompiledStyleCache.Key key = CompiledStyleCache.Key.rules("attributes", styles, schema);
+        @SuppressWarnings("unchecked")
+        Optional<List<PropertyName>> attributes = (Optional<List<PropertyName>>) cache.get(key);
+        if (attributes == null) {
+            attributes = Optional.ofNullable(findStyleAttributes(styles, schema));
+            cache.put(key, attributes);
+        }
+        return attributes.map(ArrayList::new).orElse(null);
+    }
+
     /**
      * Inspects the <code>Layer</code>'s style and retrieves it's needed attribute names, returning at least the default
      * geometry attribute name.
@@ -1869,83 +1993,145 @@ ArrayList<LiteFeatureTypeStyle> createLiteFeatureTypeStyles(
         LiteFeatureTypeStyle lfts;
         boolean foundComposite = false;
 
-        // check if any <VendorOption name="renderingMap">false</VendorOption>
-        // is present in the style removing style's elements not meant to be applied
-        // to the data
-        RenderingSelectorStyleVisitor selectorStyleVisitor = new MapRenderingSelectorStyleVisitor();
-        layer.getStyle().accept(selectorStyleVisitor);
-        Style style = (Style) selectorStyleVisitor.getCopy();
-
         FeatureType schema = layer.getFeatureSource().getSchema();
-        for (FeatureTypeStyle fts : style.featureTypeStyles()) {
-            if (isFeatureTypeStyleActive(schema, fts)) {
-
-                SimplifyingStyleVisitor simplifier = new SimplifyingStyleVisitor(schema);
-                fts.accept(simplifier);
-                fts = (FeatureTypeStyle) simplifier.getCopy();
+        CompiledStyleCache cache = compiledStyleCache;
+        List<FeatureTypeStyle> featureTypeStyles = null;
+        if (cache != null) {
+            featureTypeStyles = getPreparedFeatureTypeStyles(cache, layer.getStyle(), schema);
+            if (featureTypeStyles == null) {
+                // depends on the request environment
+                cache = null;
+            }
+        }
+        if (featureTypeStyles == null) {
+            featureTypeStyles = prepareFeatureTypeStyles(layer.getStyle(), schema);
+        }
 
-                // DJB: this FTS is compatible with this FT.
+        for (FeatureTypeStyle fts : featureTypeStyles) {
+            // get applicable rules at the current scale
+            List<List<Rule>> splittedRules = splitRules(fts);
+            List<Rule> ruleList = splittedRules.get(0);
+            List<Rule> elseRuleList = splittedRules.get(1);
 
-                // get applicable rules at the current scale
-                List<List<Rule>> splittedRules = splitRules(fts);
-                List<Rule> ruleList = splittedRules.get(0);
-                List<Rule> elseRuleList = splittedRules.get(1);
-
-                // if none, skip it
-                if ((ruleList.isEmpty()) && (elseRuleList.isEmpty())) continue;
-
-                // get the fts level composition, if any
-                Composite composite = styleFactory.getComposite(fts.getOptions());
-                foundComposite |= composite != null;
-                // we can optimize this one and draw directly on the graphics, assuming
-                // there is no composition
-                if (!foundComposite && (result.isEmpty() || !optimizedFTSRendering)) {
-                    lfts = new LiteFeatureTypeStyle(layer, graphics, ruleList, elseRuleList, fts.getTransformation());
-                } else {
-                    lfts = new LiteFeatureTypeStyle(
-                            layer,
-                            new DelayedBackbufferGraphic(graphics, screenSize),
-                            ruleList,
-                            elseRuleList,
-                            fts.getTransformation());
-                }
-                lfts.composite = composite;
-                if (org.geotools.api.style.FeatureTypeStyle.VALUE_EVALUATION_MODE_FIRST.equals(
-                        fts.getOptions().get(org.geotools.api.style.FeatureTypeStyle.KEY_EVALUATION_MODE))) {
-                    lfts.matchFirst = true;
-                }
+            // if none, skip it
+            if ((ruleList.isEmpty()) && (elseRuleList.isEmpty())) continue;
 
-                // get the sort by, if any
-                SortBy[] sortBy = styleFactory.getSortBy(fts.getOptions());
-                lfts.sortBy = sortBy;
+            // get the fts level composition, if any
+            Composite composite = styleFactory.getComposite(fts.getOptions());
+            foundComposite |= composite != null;
+            // we can optimize this one and draw directly on the graphics, assuming
+            // there is no composition
+            if (!foundComposite && (result.isEmpty() || !optimizedFTSRendering)) {
+                lfts = new LiteFeatureTypeStyle(layer, graphics, ruleList, elseRuleList, fts.getTransformation());
+            } else {
+                lfts = new LiteFeatureTypeStyle(
+                        layer,
+                        new DelayedBackbufferGraphic(graphics, screenSize),
+                        ruleList,
+                        elseRuleList,
+                        fts.getTransformation());
+            }
+            lfts.composite = composite;
+            if (org.geotools.api.style.FeatureTypeStyle.VALUE_EVALUATION_MODE_FIRST.equals(
+                    fts.getOptions().get(org.geotools.api.style.FeatureTypeStyle.KEY_EVALUATION_MODE))) {
+                lfts.matchFirst = true;
+            }
 
-                // check if the rendering transformations should be oversampled
-                lfts.rtOversample = Boolean.valueOf(fts.getOptions().get(FeatureTypeStyle.RT_OVERASAMPLE));
+            // get the sort by, if any
+            SortBy[] sortBy = styleFactory.getSortBy(fts.getOptions());
+            lfts.sortBy = sortBy;
 
-                if (screenMapEnabled(lfts)) {
-                    int renderingBuffer = getRenderingBuffer();
-                    lfts.screenMap = new ScreenMap(
-                            screenSize.x - renderingBuffer,
-                            screenSize.y - renderingBuffer,
-                            screenSize.width + renderingBuffer * 2,
-                            screenSize.height + renderingBuffer * 2);
-                }
+            // check if the rendering transformations should be oversampled
+            lfts.rtOversample = Boolean.valueOf(fts.getOptions().get(FeatureTypeStyle.RT_OVERASAMPLE));
 
-                result.add(lfts);
+            if (screenMapEnabled(lfts)) {
+                int renderingBuffer = getRenderingBuffer();
+                lfts.screenMap = new ScreenMap(
+                        screenSize.x - renderingBuffer,
+                        screenSize.y - renderingBuffer,
+                        screenSize.width + renderingBuffer * 2,
+                        screenSize.height + renderingBuffer * 2);
             }
+
+            result.add(lfts);
         }
 
         if (!result.isEmpty()) {
-            // make sure all spatial filters in the feature source native SRS
-            reprojectSpatialFilters(result, schema);
+            CompiledStyleCache.Key key = null;
+            CompiledStyleCache.CompiledRules compiled = null;
+            if (cache != null) {
+                key = CompiledStyleCache.Key.rules(
+                        "rules",
+                        result,
+                        schema,
+                        getDeclaredSRS(schema),
+                        RendererUtilities.getDpi(getRendererHints()),
+                        // tiles at the same zoom level can have slightly different scales
+                        (float) RendererUtilities.calculatePixelsPerMeterRatio(scaleDenominator, rendererHints));
+                compiled = (CompiledStyleCache.CompiledRules) cache.get(key);
+            }
+            if (compiled != null) {
+                compiled.apply(result);
+            } else {
+                // make sure all spatial filters in the feature source native SRS
+                reprojectSpatialFilters(result, schema);
+
+                // apply the uom and dpi rescale
+                applyUnitRescale(result);
 
-            // apply the uom and dpi rescale
-            applyUnitRescale(result);
+                if (key != null) {
+                    cache.put(key, new CompiledStyleCache.CompiledRules(result));
+                }
+            }
+            if (cache != null) {
+                result.forEach(l -> l.compiled = true);
+            }
         }
 
         return result;
     }
 
+    /**
+     * Returns the feature type styles applying to the schema, with the rendering selectors applied and the filters
+     * simplified
+     */
+    private List<FeatureTypeStyle> prepareFeatureTypeStyles(Style layerStyle, FeatureType schema) {
+        // check if any <VendorOption name="renderingMap">false</VendorOption>
+        // is present in the style removing style's elements not meant to be applied
+        // to the data
+        RenderingSelectorStyleVisitor selectorStyleVisitor = new MapRenderingSelectorStyleVisitor();
+        layerStyle.accept(selectorStyleVisitor);
+        Style style = (Style) selectorStyleVisitor.getCopy();
+
+        List<FeatureTypeStyle> result = new ArrayList<>();
+        for (FeatureTypeStyle fts : style.featureTypeStyles()) {
+            if (isFeatureTypeStyleActive(schema, fts)) {
+                // DJB: this FTS is compatible with this FT.
+                SimplifyingStyleVisitor simplifier = new SimplifyingStyleVisitor(schema);
+                fts.accept(simplifier);
+                result.add((FeatureTypeStyle) simplifier.getCopy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the prepared feature type styles from the cache, preparing them if missing, or null if the style cannot
+     * be cached
+     */
+    private List<FeatureTypeStyle> getPreparedFeatureTypeStyles(
+            CompiledStyleCache cache, Style style, FeatureType schema) {
+        CompiledStyleCache.Key key = new CompiledStyleCache.Key(new Object[] {style}, "style", schema);
+        CompiledStyleCache.PreparedStyle prepared = (CompiledStyleCache.PreparedStyle) cache.get(key);
+        if (prepared == null) {
+            List<FeatureTypeStyle> featureTypeStyles =
+                    CompiledStyleCache.isCacheable(style) ? prepareFeatureTypeStyles(style, schema) : null;
+            prepared = new CompiledStyleCache.PreparedStyle(featureTypeStyles);
+            cache.put(key, prepared);
+        }
+        return prepared.featureTypeStyles;
+    }
+
     /**
      * Returns true if the ScreenMap optimization can be applied given the current renderer and configuration and the
      * style to be applied
@@ -2114,39 +2300,51 @@ private void processStylers(final Graphics2D graphics, final Layer layer, String
 
         // render groups by uniform transformation
         for (List<LiteFeatureTypeStyle> uniformLfts : txClassified) {
-            FeatureCollection features = getFeatures(layer, schema, uniformLfts);
+            // the collection is lazy, reading it is timed as renderer.read while drawing
+            FeatureCollection features;
+            try (Span span = Instrumentation.span("renderer.query.prepare")) {
+                span.tag("typeName", schema.getName().getLocalPart());
+                features = getFeatures(layer, schema, uniformLfts);
+            }
             if (features == null) {
                 continue;
             }
 
             // optimize filters for in memory sequential execution
-            // step one, collect duplicated filters and expressions
-            RepeatedFilterVisitor repeatedVisitor = new RepeatedFilterVisitor();
-            uniformLfts.stream()
-                    .flatMap(fts -> Arrays.stream(fts.ruleList))
-                    .filter(r -> !r.isElseFilter() && r.getFilter() != null)
-                    .forEach(r -> r.getFilter().accept(repeatedVisitor, null));
-            Set<Object> repeatedObjects = repeatedVisitor.getRepeatedObjects();
-            // step two, memoize the repeated ones and convert simple features access to indexed
-            if (schema instanceof SimpleFeatureType || !repeatedObjects.isEmpty()) {
-                MemoryFilterOptimizer filterOptimizer =
-                        new MemoryFilterOptimizer(features.getSchema(), repeatedObjects);
-                for (LiteFeatureTypeStyle fts : uniformLfts) {
-                    for (int i = 0; i < fts.ruleList.length; i++) {
-                        Rule rule = fts.ruleList[i];
-                        DuplicatingStyleVisitor optimizingStyleVisitor =
-                                new DuplicatingStyleVisitor(STYLE_FACTORY, filterFactory, filterOptimizer);
-                        rule.accept(optimizingStyleVisitor);
-                        fts.ruleList[i] = (Rule) optimizingStyleVisitor.getCopy();
+            try (Span span = Instrumentation.span("renderer.filter.optimize")) {
+                span.tag("typeName", schema.getName().getLocalPart());
+                // step one, collect duplicated filters and expressions
+                RepeatedFilterVisitor repeatedVisitor = new RepeatedFilterVisitor();
+                uniformLfts.stream()
+                        .flatMap(fts -> Arrays.stream(fts.ruleList))
+                        .filter(r -> !r.isElseFilter() && r.getFilter() != null)
+                        .forEach(r -> r.getFilter().accept(repeatedVisitor, null));
+                Set<Object> repeatedObjects = repeatedVisitor.getRepeatedObjects();
+                // step two, memoize the repeated ones and convert simple features access to indexed
+                if (schema instanceof SimpleFeatureType || !repeatedObjects.isEmpty()) {
+                    MemoryFilterOptimizer filterOptimizer =
+                            new MemoryFilterOptimizer(features.getSchema(), repeatedObjects);
+                    for (LiteFeatureTypeStyle fts : uniformLfts) {
+                        for (int i = 0; i < fts.ruleList.length; i++) {
+                            Rule rule = fts.ruleList[i];
+                            DuplicatingStyleVisitor optimizingStyleVisitor =
+                                    new DuplicatingStyleVisitor(STYLE_FACTORY, filterFactory, filterOptimizer);
+                            rule.accept(optimizingStyleVisitor);
+                            fts.ruleList[i] = (Rule) optimizingStyleVisitor.getCopy();
+                        }
                     }
                 }
             }
 
-            // finally, perform rendering
-            if (isOptimizedFTSRenderingEnabled() && lfts.size() > 1) {
-                drawOptimized(graphics, layerId, features, uniformLfts);
-            } else {
-                drawPlain(graphics, layerId, features, uniformLfts);
+            // finally, perform rendering, the time spent reading the features and evaluating the rule filters is
+            // also reported on its own, as renderer.read and renderer.filter
+            try (Span span = Instrumentation.span("renderer.draw")) {
+                span.tag("typeName", schema.getName().getLocalPart());
+                if (isOptimizedFTSRenderingEnabled() && lfts.size() > 1) {
+                    drawOptimized(graphics, layerId, features, uniformLfts);
+                } else {
+                    drawPlain(graphics, layerId, features, uniformLfts);
+                }
             }
         }
     }
@@ -2486,12 +2684,13 @@ private void drawPlain(
 
         // for each lite feature type style, scan the whole collection and draw
         for (LiteFeatureTypeStyle liteFeatureTypeStyle : lfts) {
-            try (FeatureIterator<?> featureIterator = features.features()) {
+            try (FeatureIterator<?> featureIterator = TimedFeatureIterator.wrap(features.features())) {
                 if (featureIterator == null) {
                     return; // nothing to do
                 }
                 boolean cloningRequired = isCloningRequired(lfts);
                 RenderableFeature rf = createRenderableFeature(layerId, cloningRequired);
+                rf.timed = Instrumentation.isEnabled();
                 ProjectionHandler handler = checkForReprojection(features, rf, lfts, liteFeatureTypeStyle);
                 // loop exit condition tested inside try catch
                 // make sure we test hasNext() outside of the try/cath that follows, as that
@@ -2502,6 +2701,7 @@ private void drawPlain(
                     rf.setFeature(featureIterator.next());
                     processFeature(rf, liteFeatureTypeStyle, handler);
                 }
+                Instrumentation.time("renderer.filter", rf.filterNanos);
             }
 
             if (liteFeatureTypeStyle.composite != null) {
@@ -2535,11 +2735,12 @@ private void drawOptimized(
             FeatureCollection features,
             final List<LiteFeatureTypeStyle> lfts) {
 
-        try (FeatureIterator<?> iterator = features.features()) {
+        try (FeatureIterator<?> iterator = TimedFeatureIterator.wrap((FeatureIterator<?>) features.features())) {
             if (iterator == null) return; // nothing to do
 
             boolean cloningRequired = isCloningRequired(lfts);
             RenderableFeature rf = createRenderableFeature(layerId, cloningRequired);
+            rf.timed = Instrumentation.isEnabled();
             // loop exit condition tested inside try catch
             // make sure we test hasNext() outside of the try/cath that follows, as that
             // one is there to make sure a single feature error does not ruin the rendering
@@ -2566,6 +2767,7 @@ private void drawOptimized(
                 }
                 firstFeature = false;
             }
+            Instrumentation.time("renderer.filter", rf.filterNanos);
             // submit the merge request
             requests.put(new MergeLayersRequest(graphics, lfts));
         } catch (InterruptedException e) {
@@ -2706,7 +2908,7 @@ void processFeature(RenderableFeature rf, LiteFeatureTypeStyle fts, ProjectionHa
                 r = value;
                 filter = r.getFilter();
 
-                if (filter == null || filter.evaluate(rf.feature)) {
+                if (filter == null || evaluate(filter, rf)) {
                     doElse = false;
                     paintCommands += processSymbolizers(graphics, rf, r.symbolizers());
 
@@ -2737,6 +2939,19 @@ void processFeature(RenderableFeature rf, LiteFeatureTypeStyle fts, ProjectionHa
         }
     }
 
+    /** Evaluates a rule filter against the feature, timing it if instrumentation is enabled */
+    private static boolean evaluate(Filter filter, RenderableFeature rf) {
+        if (!rf.timed) {
+            return filter.evaluate(rf.feature);
+        }
+        long start = System.nanoTime();
+        try {
+            return filter.evaluate(rf.feature);
+        } finally {
+            rf.filterNanos += System.nanoTime() - start;
+        }
+    }
+
     /**
      * Applies each of a set of symbolizers in turn to a given feature.
      *
@@ -3060,6 +3275,14 @@ private int getRenderingBuffer() {
         return result.intValue();
     }
 
+    /** Returns the number of threads used to paint in parallel tiles, see {@link #TILE_PAINTING_THREADS_KEY} */
+    private int getTilePaintingThreads() {
+        if (rendererHints == null) return 1;
+        Number result = (Number) rendererHints.get(TILE_PAINTING_THREADS_KEY);
+        if (result == null) return 1;
+        return result.intValue();
+    }
+
     /** Returns scale computation algorithm to be used. */
     private String getScaleComputationMethod() {
         if (rendererHints == null) return scaleComputationMethodDEFAULT;
@@ -3187,10 +3410,59 @@ Interpolation getRenderingInterpolation(Layer currLayer) {
     /** A decimator that will just transform coordinates */
     private static final Decimator NULL_DECIMATOR = new Decimator(-1, -1);
 
+    /**
+     * Measures the time spent reading features, hasNext and next calls, and reports it as <code>renderer.read</code>
+     * when closed
+     */
+    private static final class TimedFeatureIterator<F extends Feature> implements FeatureIterator<F> {
+
+        final FeatureIterator<F> delegate;
+
+        long nanos;
+
+        /** Wraps the iterator if instrumentation is enabled, returns it as is otherwise */
+        static <F extends Feature> FeatureIterator<F> wrap(FeatureIterator<F> iterator) {
+            return iterator == null || !Instrumentation.isEnabled() ? iterator : new TimedFeatureIterator<>(iterator);
+        }
+
+        TimedFeatureIterator(FeatureIterator<F> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            long start = System.nanoTime();
+            try {
+                return delegate.hasNext();
+            } finally {
+                nanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public F next() {
+            long start = System.nanoTime();
+            try {
+                return delegate.next();
+            } finally {
+                nanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+            Instrumentation.time("renderer.read", nanos);
+        }
+    }
+
     /** A class transforming (and caching) feature's geometries to shapes */
     class RenderableFeature {
         Feature feature;
         Layer layer;
+        /** Whether the time spent evaluating the rule filters is measured, in {@link #filterNanos} */
+        boolean timed;
+        long filterNanos;
         boolean inMemoryGeneralization;
         ProjectionHandler projectionHandler;
         int metaBuffer;
@@ -3264,6 +3536,9 @@ && getGeometryIndex(g) == -1) {
                         crsTransform = buildTransform(sa.crs, destinationCrs);
                         atTransform = ProjectiveTransform.create(worldToScreenTransform);
                         fullTransform = buildFullTransform(sa.crs, destinationCrs, at);
+                        if (projectionHandler == null) {
+                            fullTransform = approximate(fullTransform, sa.crs);
+                        }
                     } catch (Exception e) {
                         // fall through
                         LOGGER.log(Level.WARNING, e.getLocalizedMessage(), e);
@@ -3807,6 +4082,9 @@ class PainterThread implements Runnable {
         BlockingQueue<RenderingRequest> requests;
         Thread thread;
 
+        /** Paints the shapes in parallel tiles, when enabled */
+        ParallelTilePainter tilePainter;
+
         public PainterThread(BlockingQueue<RenderingRequest> requests) {
             this.requests = requests;
         }
@@ -3821,32 +4099,60 @@ public void interrupt() {
         public void run() {
             thread = Thread.currentThread();
             boolean done = false;
-            while (!done) {
-                try {
-                    List<RenderingRequest> localRequests = new ArrayList<>();
-                    RenderingRequest request = requests.take();
-
-                    requests.drainTo(localRequests);
-                    localRequests.add(0, request);
-
-                    for (RenderingRequest r : localRequests) {
-                        if (r instanceof EndRequest || renderingStopRequested) {
+            try {
+                while (!done) {
+                    try {
+                        List<RenderingRequest> localRequests = new ArrayList<>();
+                        RenderingRequest request = requests.take();
+
+                        requests.drainTo(localRequests);
+                        localRequests.add(0, request);
+
+                        for (RenderingRequest r : localRequests) {
+                            if (r instanceof EndRequest || renderingStopRequested) {
+                                done = true;
+                                break;
+                            } else {
+                                execute(r);
+                            }
+                        }
+                        if (tilePainter != null) {
+                            // paint the batch while the next one is being prepared
+                            tilePainter.paintPending();
+                        }
+                    } catch (InterruptedException e) {
+                        // ok, we might have been interrupted to stop processing
+                        if (renderingStopRequested) {
                             done = true;
-                            break;
-                        } else {
-                            r.execute();
                         }
+                    } catch (Throwable t) {
+                        fireErrorEvent(t);
                     }
-                } catch (InterruptedException e) {
-                    // ok, we might have been interrupted to stop processing
-                    if (renderingStopRequested) {
-                        done = true;
+                }
+            } finally {
+                if (tilePainter != null) {
+                    if (!renderingStopRequested) {
+                        tilePainter.flush();
                     }
-                } catch (Throwable t) {
-                    fireErrorEvent(t);
+                    tilePainter.dispose();
                 }
             }
         }
+
+        private void execute(RenderingRequest r) {
+            if (tilePainter == null) {
+                r.execute();
+            } else if (r instanceof PaintShapeRequest && tilePainter.accepts((PaintShapeRequest) r)) {
+                tilePainter.add((PaintShapeRequest) r);
+            } else if (r instanceof FeatureRenderedRequest) {
+                // does not depend on the painted pixels
+                r.execute();
+            } else {
+                // make sure the shapes painted so far are visible to the request
+                tilePainter.flush();
+                r.execute();
+            }
+        }
     }
 
     /**
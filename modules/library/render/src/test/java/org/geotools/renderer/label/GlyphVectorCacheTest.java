@@ -0,0 +1,122 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.label;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Font;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import org.junit.Test;
+
+public class GlyphVectorCacheTest {
+
+    static final Font FONT = new Font("Serif", Font.PLAIN, 12);
+
+    static final FontRenderContext FRC = new FontRenderContext(new AffineTransform(), true, true);
+
+    @Test
+    public void testGlyphVectorHitsAndMisses() {
+        GlyphVectorCache cache = new GlyphVectorCache(10);
+        GlyphVector gv1 = cache.getGlyphVector("Hello", FONT, FRC, 0);
+        GlyphVector gv2 = cache.getGlyphVector("Hello", FONT, FRC, 0);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate(), 0d);
+
+        // same as a direct layout, but not shared
+        GlyphVector direct = FONT.layoutGlyphVector(FRC, "Hello".toCharArray(), 0, 5, 0);
+        assertNotSame(gv1, gv2);
+        assertTrue(direct.equals(gv2));
+        assertEquals(direct.getLogicalBounds(), gv2.getLogicalBounds());
+    }
+
+    @Test
+    public void testMutationNotShared() {
+        GlyphVectorCache cache = new GlyphVectorCache(10);
+        GlyphVector gv1 = cache.getGlyphVector("Hello", FONT, FRC, 0);
+        Point2D original = gv1.getGlyphPosition(1);
+        gv1.setGlyphPosition(1, new Point2D.Double(100, 100));
+        GlyphVector gv2 = cache.getGlyphVector("Hello", FONT, FRC, 0);
+        assertEquals(original, gv2.getGlyphPosition(1));
+    }
+
+    @Test
+    public void testRightToLeft() {
+        GlyphVectorCache cache = new GlyphVectorCache(10);
+        char[] chars = "Hello".toCharArray();
+        GlyphVector direct = FONT.layoutGlyphVector(FRC, chars, 0, chars.length, Font.LAYOUT_RIGHT_TO_LEFT);
+        for (int i = 0; i < 2; i++) {
+            GlyphVector gv = cache.getGlyphVector("Hello", FONT, FRC, Font.LAYOUT_RIGHT_TO_LEFT);
+            assertTrue(direct.equals(gv));
+            for (int g = 0; g < gv.getNumGlyphs(); g++) {
+                assertEquals(direct.getGlyphCharIndex(g), gv.getGlyphCharIndex(g));
+            }
+        }
+    }
+
+    @Test
+    public void testKeyComponents() {
+        GlyphVectorCache cache = new GlyphVectorCache(10);
+        GlyphVector reference = cache.getGlyphVector("Hello", FONT, FRC, 0);
+        assertNotSame(reference, cache.getGlyphVector("World", FONT, FRC, 0));
+        assertNotSame(reference, cache.getGlyphVector("Hello", FONT.deriveFont(14f), FRC, 0));
+        assertNotSame(reference, cache.getGlyphVector("Hello", FONT, FRC, Font.LAYOUT_RIGHT_TO_LEFT));
+        FontRenderContext scaled = new FontRenderContext(AffineTransform.getScaleInstance(2, 2), true, true);
+        assertNotSame(reference, cache.getGlyphVector("Hello", FONT, scaled, 0));
+        FontRenderContext aliased = new FontRenderContext(new AffineTransform(), false, true);
+        assertNotSame(reference, cache.getGlyphVector("Hello", FONT, aliased, 0));
+        assertEquals(6, cache.getMissCount());
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void testTextLayout() {
+        GlyphVectorCache cache = new GlyphVectorCache(10);
+        TextLayout layout = cache.getTextLayout("Hello", FONT, FRC);
+        assertSame(layout, cache.getTextLayout("Hello", FONT, FRC));
+        // glyph vectors and text layouts do not collide
+        cache.getGlyphVector("Hello", FONT, FRC, 0);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testBounded() {
+        GlyphVectorCache cache = new GlyphVectorCache(5);
+        for (int i = 0; i < 100; i++) {
+            cache.getGlyphVector("Label " + i, FONT, FRC, 0);
+        }
+        assertTrue(cache.size() <= 5);
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testDisabled() {
+        GlyphVectorCache cache = new GlyphVectorCache(0);
+        GlyphVector gv1 = cache.getGlyphVector("Hello", FONT, FRC, 0);
+        GlyphVector gv2 = cache.getGlyphVector("Hello", FONT, FRC, 0);
+        assertNotSame(gv1, gv2);
+        assertEquals(0, cache.size());
+    }
+}
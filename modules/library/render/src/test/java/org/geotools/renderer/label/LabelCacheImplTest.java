@@ -16,6 +16,8 @@
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
@@ -295,6 +297,45 @@ public void testSymbolizerCaching() throws Exception {
         assertSame(items.get(0).getTextStyle(), items.get(1).getTextStyle());
     }
 
+    @Test
+    public void testParallelLayout() throws Exception {
+        Font font = sb.createFont("Bitstream Vera Sans", 10);
+        TextSymbolizer ts = sb.createTextSymbolizer(Color.BLACK, font, "name");
+        TextSymbolizer wrapped = sb.createTextSymbolizer(Color.BLUE, font, "name");
+        wrapped.getOptions().put(org.geotools.api.style.TextSymbolizer.AUTO_WRAP_KEY, "30");
+
+        BufferedImage sequential = renderLabels(ts, wrapped, null);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            BufferedImage parallel = renderLabels(ts, wrapped, pool);
+            for (int y = 0; y < sequential.getHeight(); y++) {
+                for (int x = 0; x < sequential.getWidth(); x++) {
+                    assertEquals(sequential.getRGB(x, y), parallel.getRGB(x, y));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Renders more labels than a single layout batch, many of them conflicting */
+    private BufferedImage renderLabels(TextSymbolizer ts, TextSymbolizer wrapped, ExecutorService pool)
+            throws Exception {
+        LabelCacheImpl labelCache = new LabelCacheImpl();
+        labelCache.setLayoutThreadPool(pool);
+        labelCache.startLayer(LAYER_ID);
+        for (int i = 0; i < LabelCacheImpl.LAYOUT_BATCH_SIZE + 500; i++) {
+            Geometry point = geometry("POINT(" + (i * 37 % 300) + " " + (i * 53 % 300) + ")");
+            addToCache(labelCache, i % 3 == 0 ? wrapped : ts, createFeature("label " + i, point));
+        }
+        labelCache.endLayer(LAYER_ID, null, null);
+        BufferedImage image = new BufferedImage(300, 300, BufferedImage.TYPE_4BYTE_ABGR);
+        Graphics2D graphics = image.createGraphics();
+        labelCache.end(graphics, new Rectangle(0, 0, 300, 300));
+        graphics.dispose();
+        return image;
+    }
+
     private void addToCache(LabelCacheImpl cache, TextSymbolizer ts, SimpleFeature f1)
             throws TransformException, FactoryException {
         cache.put(LAYER_ID, ts, f1, new LiteShape2((Geometry) f1.getDefaultGeometry(), null, null, false), ALL_SCALES);
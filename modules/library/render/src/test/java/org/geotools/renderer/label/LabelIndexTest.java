@@ -0,0 +1,117 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.label;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Test;
+
+public class LabelIndexTest {
+
+    @Test
+    public void testEmpty() {
+        LabelIndex index = new LabelIndex();
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(0, 0, 10, 10), 0));
+    }
+
+    @Test
+    public void testOverlapAndDistance() {
+        LabelIndex index = new LabelIndex(16);
+        index.addLabel(null, new Rectangle2D.Double(100, 100, 40, 10));
+
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(130, 105, 40, 10), 0));
+        // touching counts as overlapping
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(140, 100, 10, 10), 0));
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(145, 100, 10, 10), 0));
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(145, 100, 10, 10), 5));
+        // negative distances disable the check
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(100, 100, 10, 10), -1));
+    }
+
+    @Test
+    public void testNegativeCoordinates() {
+        LabelIndex index = new LabelIndex(16);
+        index.addLabel(null, new Rectangle2D.Double(-50, -30, 20, 10));
+
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(-35, -25, 10, 10), 0));
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(-25, -25, 10, 10), 0));
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(30, 20, 20, 10), 0));
+    }
+
+    @Test
+    public void testLargeItems() {
+        LabelIndex index = new LabelIndex(4);
+        index.reserveArea(Arrays.asList(new Rectangle2D.Double(0, 0, 1000, 1000)));
+        assertEquals(1, index.largeItems.size());
+        assertTrue(index.cells.isEmpty());
+
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(500, 500, 1, 1), 0));
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(1100, 500, 10, 10), 0));
+    }
+
+    @Test
+    public void testLargeQuery() {
+        LabelIndex index = new LabelIndex(4);
+        index.addLabel(null, new Rectangle2D.Double(10, 10, 2, 2));
+
+        assertTrue(index.labelsWithinDistance(new Rectangle2D.Double(-1e6, -1e6, 2e6, 2e6), 0));
+        assertFalse(index.labelsWithinDistance(new Rectangle2D.Double(20, -1e6, 2e6, 2e6), 0));
+    }
+
+    @Test
+    public void testAgainstBruteForce() {
+        Random random = new Random(0);
+        LabelIndex index = new LabelIndex();
+        Rectangle2D[] labels = new Rectangle2D[2000];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = randomRectangle(random);
+            index.addLabel(null, labels[i]);
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            Rectangle2D query = randomRectangle(random);
+            double distance = random.nextInt(5);
+            Rectangle2D expanded = new Rectangle2D.Double(
+                    query.getMinX() - distance,
+                    query.getMinY() - distance,
+                    query.getWidth() + distance * 2,
+                    query.getHeight() + distance * 2);
+            boolean expected = false;
+            for (Rectangle2D label : labels) {
+                expected |= intersectsInclusive(expanded, label);
+            }
+            assertEquals(expected, index.labelsWithinDistance(query, distance));
+        }
+    }
+
+    private static Rectangle2D randomRectangle(Random random) {
+        return new Rectangle2D.Double(
+                random.nextInt(4000) - 1000, random.nextInt(4000) - 1000, random.nextInt(120), random.nextInt(20));
+    }
+
+    private static boolean intersectsInclusive(Rectangle2D r1, Rectangle2D r2) {
+        return r1.getMinX() <= r2.getMaxX()
+                && r1.getMaxX() >= r2.getMinX()
+                && r1.getMinY() <= r2.getMaxY()
+                && r1.getMaxY() >= r2.getMinY();
+    }
+}
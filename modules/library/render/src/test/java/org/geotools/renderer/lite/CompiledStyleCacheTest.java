@@ -0,0 +1,126 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.style.Style;
+import org.geotools.data.DataUtilities;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.filter.function.EnvFunction;
+import org.geotools.filter.text.ecql.ECQL;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.image.test.ImageAssert;
+import org.geotools.map.FeatureLayer;
+import org.geotools.map.MapContent;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.styling.SLD;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+
+public class CompiledStyleCacheTest {
+
+    private static final ReferencedEnvelope BOUNDS = new ReferencedEnvelope(0, 100, 0, 100, DefaultGeographicCRS.WGS84);
+
+    private List<SimpleFeature> features;
+
+    @Before
+    public void setUp() throws Exception {
+        GeometryFactory gf = new GeometryFactory();
+        SimpleFeatureType type = DataUtilities.createType("squares", "geom:Polygon:srid=4326,v:int");
+        features = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            for (int j = 0; j < 10; j++) {
+                Envelope square = new Envelope(i * 10 + 1, i * 10 + 9, j * 10 + 1, j * 10 + 9);
+                features.add(SimpleFeatureBuilder.build(
+                        type, new Object[] {gf.toGeometry(square), i * 10 + j}, "s." + i + "." + j));
+            }
+        }
+    }
+
+    @After
+    public void tearDown() {
+        EnvFunction.clearLocalValues();
+    }
+
+    @Test
+    public void testCachedRendering() throws Exception {
+        Style style = SLD.createPolygonStyle(Color.BLUE, Color.ORANGE, 0.5f);
+        style.featureTypeStyles().get(0).rules().get(0).setFilter(ECQL.toFilter("v < 50"));
+        assertTrue(CompiledStyleCache.isCacheable(style));
+
+        MapContent mc = new MapContent();
+        mc.addLayer(new FeatureLayer(DataUtilities.source(features.toArray(new SimpleFeature[0])), style));
+        try {
+            BufferedImage expected = render(mc, null);
+
+            CompiledStyleCache cache = new CompiledStyleCache();
+            ImageAssert.assertEquals(expected, render(mc, cache), 0);
+            assertEquals(0, cache.getHitCount());
+            long misses = cache.getMissCount();
+
+            // a different renderer, same results, straight from the cache
+            ImageAssert.assertEquals(expected, render(mc, cache), 0);
+            assertEquals(misses, cache.getMissCount());
+            assertTrue(cache.getHitCount() > 0);
+        } finally {
+            mc.dispose();
+        }
+    }
+
+    @Test
+    public void testEnvironmentDependentStyle() throws Exception {
+        Style style = SLD.createPolygonStyle(Color.BLUE, Color.ORANGE, 0.5f);
+        style.featureTypeStyles().get(0).rules().get(0).setFilter(ECQL.toFilter("v < env('max', 100)"));
+        assertFalse(CompiledStyleCache.isCacheable(style));
+
+        MapContent mc = new MapContent();
+        mc.addLayer(new FeatureLayer(DataUtilities.source(features.toArray(new SimpleFeature[0])), style));
+        try {
+            CompiledStyleCache cache = new CompiledStyleCache();
+            EnvFunction.setLocalValue("max", 30);
+            BufferedImage expected30 = render(mc, null);
+            ImageAssert.assertEquals(expected30, render(mc, cache), 0);
+
+            // the env variable changes, the rendering must follow
+            EnvFunction.setLocalValue("max", 70);
+            BufferedImage expected70 = render(mc, null);
+            ImageAssert.assertEquals(expected70, render(mc, cache), 0);
+            assertEquals(1, cache.size());
+        } finally {
+            mc.dispose();
+        }
+    }
+
+    private BufferedImage render(MapContent mc, CompiledStyleCache cache) {
+        StreamingRenderer renderer = new StreamingRenderer();
+        renderer.setMapContent(mc);
+        renderer.setCompiledStyleCache(cache);
+        return RendererBaseTest.renderImage(renderer, BOUNDS, null, 200, 200);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.renderer.lite;
+
+import static java.awt.RenderingHints.KEY_ANTIALIASING;
+import static java.awt.RenderingHints.VALUE_ANTIALIAS_ON;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.swing.ImageIcon;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.style.Style;
+import org.geotools.data.DataUtilities;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.geometry.jts.LiteShape2;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.image.test.ImageAssert;
+import org.geotools.map.FeatureLayer;
+import org.geotools.map.MapContent;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.geotools.renderer.style.IconStyle2D;
+import org.geotools.renderer.style.LineStyle2D;
+import org.geotools.renderer.style.PolygonStyle2D;
+import org.geotools.styling.SLD;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+
+public class ParallelTilePainterTest {
+
+    private static final int SIZE = 600;
+
+    private static final ReferencedEnvelope BOUNDS = new ReferencedEnvelope(0, 100, 0, 100, DefaultGeographicCRS.WGS84);
+
+    private ExecutorService pool;
+
+    private List<SimpleFeature> polygons;
+
+    private List<SimpleFeature> points;
+
+    @Before
+    public void setUp() throws Exception {
+        pool = Executors.newFixedThreadPool(4);
+        GeometryFactory gf = new GeometryFactory();
+        Random random = new Random(0);
+
+        SimpleFeatureType polygonType = DataUtilities.createType("polygons", "geom:Polygon:srid=4326");
+        polygons = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            // some large polygons crossing several tiles, and some outside of the map
+            double x = random.nextDouble() * 110 - 5;
+            double y = random.nextDouble() * 110 - 5;
+            double size = random.nextDouble() * 30;
+            Polygon polygon = (Polygon) gf.toGeometry(new Envelope(x, x + size, y, y + size));
+            polygons.add(SimpleFeatureBuilder.build(polygonType, new Object[] {polygon}, "p." + i));
+        }
+
+        SimpleFeatureType pointType = DataUtilities.createType("points", "geom:Point:srid=4326");
+        points = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Coordinate c = new Coordinate(random.nextDouble() * 100, random.nextDouble() * 100);
+            points.add(SimpleFeatureBuilder.build(pointType, new Object[] {gf.createPoint(c)}, "pt." + i));
+        }
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testPolygons() throws Exception {
+        Style style = SLD.createPolygonStyle(Color.BLUE, Color.ORANGE, 0.5f);
+        assertSameRendering(new FeatureLayer(DataUtilities.source(polygons.toArray(new SimpleFeature[0])), style));
+    }
+
+    @Test
+    public void testPointsOverPolygons() throws Exception {
+        Style polygonStyle = SLD.createPolygonStyle(Color.BLUE, Color.ORANGE, 0.5f);
+        Style pointStyle = SLD.createPointStyle("Circle", Color.BLACK, Color.RED, 0.8f, 12f);
+        assertSameRendering(
+                new FeatureLayer(DataUtilities.source(polygons.toArray(new SimpleFeature[0])), polygonStyle),
+                new FeatureLayer(DataUtilities.source(points.toArray(new SimpleFeature[0])), pointStyle));
+    }
+
+    @Test
+    public void testOwnPool() throws Exception {
+        // no pool set, the renderer creates its own
+        Style style = SLD.createPolygonStyle(Color.BLUE, Color.ORANGE, 0.5f);
+        MapContent mc = new MapContent();
+        mc.addLayer(new FeatureLayer(DataUtilities.source(polygons.toArray(new SimpleFeature[0])), style));
+        try {
+            BufferedImage expected = render(mc, 1, null);
+            BufferedImage actual = render(mc, 4, null);
+            ImageAssert.assertEquals(expected, actual, 50);
+        } finally {
+            mc.dispose();
+        }
+    }
+
+    @Test
+    public void testBufferPerThread() throws Exception {
+        BufferedImage image = new BufferedImage(1024, 1024, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        ParallelTilePainter tilePainter = new ParallelTilePainter(
+                new Rectangle(0, 0, 1024, 1024), 256, pool, new StyledShapePainter(), errors::add);
+        try {
+            PolygonStyle2D style = new PolygonStyle2D();
+            style.setFill(Color.RED);
+            GeometryFactory gf = new GeometryFactory();
+            LiteShape2 shape = new LiteShape2(gf.toGeometry(new Envelope(100, 900, 100, 900)), null, null, false);
+            tilePainter.add(new StreamingRenderer().new PaintShapeRequest(graphics, shape, style, 1));
+            tilePainter.flush();
+            assertTrue(errors.isEmpty());
+
+            // 16 tiles painted by 4 threads, each using its own buffer
+            assertTrue(tilePainter.buffers.size() <= 4);
+            assertEquals(Color.RED.getRGB(), image.getRGB(500, 500));
+            assertEquals(0, image.getRGB(50, 50));
+        } finally {
+            tilePainter.dispose();
+            graphics.dispose();
+        }
+        assertTrue(tilePainter.buffers.isEmpty());
+    }
+
+    @Test
+    public void testTileableStyles() {
+        PolygonStyle2D polygon = new PolygonStyle2D();
+        polygon.setFill(Color.RED);
+        polygon.setStroke(new BasicStroke(2));
+        assertTrue(ParallelTilePainter.isTileable(polygon));
+
+        polygon.setFillComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
+        assertTrue(ParallelTilePainter.isTileable(polygon));
+
+        // depends on the destination pixels
+        polygon.setFillComposite(AlphaComposite.getInstance(AlphaComposite.XOR));
+        assertFalse(ParallelTilePainter.isTileable(polygon));
+
+        IconStyle2D icon = new IconStyle2D(new ImageIcon(new BufferedImage(4, 4, BufferedImage.TYPE_INT_ARGB)), null);
+        LineStyle2D graphicStroke = new LineStyle2D();
+        graphicStroke.setGraphicStroke(icon);
+        assertFalse(ParallelTilePainter.isTileable(graphicStroke));
+        assertFalse(ParallelTilePainter.isTileable(icon));
+    }
+
+    private void assertSameRendering(FeatureLayer... layers) throws Exception {
+        MapContent mc = new MapContent();
+        for (FeatureLayer layer : layers) {
+            mc.addLayer(layer);
+        }
+        try {
+            BufferedImage expected = render(mc, 1, pool);
+            BufferedImage actual = render(mc, 4, pool);
+            // allow for small differences in the antialiasing
+            ImageAssert.assertEquals(expected, actual, 50);
+        } finally {
+            mc.dispose();
+        }
+    }
+
+    private BufferedImage render(MapContent mc, int threads, ExecutorService tilePool) {
+        StreamingRenderer renderer = new StreamingRenderer();
+        renderer.setMapContent(mc);
+        renderer.setJava2DHints(new RenderingHints(KEY_ANTIALIASING, VALUE_ANTIALIAS_ON));
+        Map<Object, Object> hints = new HashMap<>();
+        hints.put(StreamingRenderer.TILE_PAINTING_THREADS_KEY, threads);
+        renderer.setRendererHints(hints);
+        renderer.setTilePaintingThreadPool(tilePool);
+        return RendererBaseTest.renderImage(renderer, BOUNDS, null, SIZE, SIZE);
+    }
+}
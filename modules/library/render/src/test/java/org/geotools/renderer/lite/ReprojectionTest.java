@@ -19,6 +19,8 @@
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
 import org.geotools.api.feature.IllegalAttributeException;
 import org.geotools.api.feature.simple.SimpleFeature;
 import org.geotools.api.feature.simple.SimpleFeatureType;
@@ -120,4 +122,86 @@ public void errorOccurred(Exception e) {
         // projected but the renderer itself should not throw exceptions
         Assert.assertEquals(1, errors);
     }
+
+    @Test
+    public void testApproximateReprojection() throws Exception {
+        // a graticule over Europe, densified so that its curvature shows in the target projection
+        DefaultFeatureCollection fc = new DefaultFeatureCollection();
+        for (int lon = -10; lon <= 30; lon += 5) {
+            fc.add(createDenseLine(lon, 35, lon, 70));
+        }
+        for (int lat = 35; lat <= 70; lat += 5) {
+            fc.add(createDenseLine(-10, lat, 30, lat));
+        }
+        ReferencedEnvelope reWgs = new ReferencedEnvelope(new Envelope(-10, 30, 35, 70), DefaultGeographicCRS.WGS84);
+        ReferencedEnvelope reLaea = reWgs.transform(CRS.decode("EPSG:3035"), true);
+
+        BufferedImage exact = render(fc, reLaea, null);
+        BufferedImage approximate = render(fc, reLaea, 0.5);
+        // the approximated render can only shift the lines by about the tolerance
+        assertPaintedNear(exact, approximate, 1);
+        assertPaintedNear(approximate, exact, 1);
+    }
+
+    private SimpleFeature createDenseLine(double x1, double y1, double x2, double y2) {
+        Coordinate[] coords = new Coordinate[101];
+        for (int i = 0; i < coords.length; i++) {
+            double f = i / 100d;
+            coords[i] = new Coordinate(x1 + (x2 - x1) * f, y1 + (y2 - y1) * f);
+        }
+        return SimpleFeatureBuilder.build(pointFeautureType, new Object[] {gf.createLineString(coords)}, null);
+    }
+
+    /** Renders the features, approximating the transform to the screen with the given tolerance, if any */
+    private BufferedImage render(SimpleFeatureCollection features, ReferencedEnvelope envelope, Double tolerance) {
+        MapContent content = new MapContent();
+        content.addLayer(new FeatureLayer(features, createLineStyle()));
+        StreamingRenderer sr = new StreamingRenderer();
+        sr.setMapContent(content);
+        Map<Object, Object> hints = new HashMap<>();
+        // the approximation is only used without advanced projection handling
+        hints.put(StreamingRenderer.ADVANCED_PROJECTION_HANDLING_KEY, false);
+        if (tolerance != null) {
+            hints.put(StreamingRenderer.REPROJECTION_TOLERANCE_KEY, tolerance);
+        }
+        sr.setRendererHints(hints);
+        BufferedImage image = new BufferedImage(400, 400, BufferedImage.TYPE_4BYTE_ABGR);
+        Graphics2D graphics = image.createGraphics();
+        sr.paint(graphics, new Rectangle(400, 400), envelope);
+        graphics.dispose();
+        content.dispose();
+        return image;
+    }
+
+    /**
+     * Checks that every pixel painted in the actual image has a painted pixel within the given distance in the
+     * expected one
+     */
+    private void assertPaintedNear(BufferedImage expected, BufferedImage actual, int distance) {
+        int painted = 0;
+        for (int y = 0; y < actual.getHeight(); y++) {
+            for (int x = 0; x < actual.getWidth(); x++) {
+                if (isPainted(actual, x, y)) {
+                    painted++;
+                    Assert.assertTrue("No painted pixel near " + x + "," + y, isPaintedNear(expected, x, y, distance));
+                }
+            }
+        }
+        Assert.assertTrue(painted > 1000);
+    }
+
+    private boolean isPaintedNear(BufferedImage image, int x, int y, int distance) {
+        for (int j = Math.max(0, y - distance); j <= Math.min(image.getHeight() - 1, y + distance); j++) {
+            for (int i = Math.max(0, x - distance); i <= Math.min(image.getWidth() - 1, x + distance); i++) {
+                if (isPainted(image, i, j)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isPainted(BufferedImage image, int x, int y) {
+        return (image.getRGB(x, y) >>> 24) != 0;
+    }
 }
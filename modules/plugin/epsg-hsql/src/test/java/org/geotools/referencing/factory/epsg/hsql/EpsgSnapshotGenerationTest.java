@@ -0,0 +1,87 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.referencing.factory.epsg.hsql;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.datum.Datum;
+import org.geotools.referencing.CRS;
+import org.geotools.referencing.ReferencingFactoryFinder;
+import org.geotools.referencing.factory.AbstractAuthorityFactory;
+import org.geotools.referencing.factory.epsg.EpsgSnapshot;
+import org.geotools.referencing.factory.epsg.FactoryUsingSnapshot;
+import org.geotools.referencing.factory.epsg.ThreadedEpsgFactory;
+import org.geotools.util.factory.Hints;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/** Generates an {@link EpsgSnapshot} from the HSQL database, and checks it against the database. */
+public class EpsgSnapshotGenerationTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testGeneratedSnapshot() throws Exception {
+        File file = new File(folder.getRoot(), "epsg.snapshot");
+        EpsgSnapshot.main(file.getPath());
+
+        Hints hints = new Hints(Hints.CRS_AUTHORITY_FACTORY, ThreadedEpsgFactory.class);
+        // the hints used by the generator
+        hints.put(Hints.FORCE_LONGITUDE_FIRST_AXIS_ORDER, Boolean.FALSE);
+        hints.put(Hints.FORCE_STANDARD_AXIS_DIRECTIONS, Boolean.FALSE);
+        hints.put(Hints.FORCE_STANDARD_AXIS_UNITS, Boolean.FALSE);
+        AbstractAuthorityFactory database =
+                (AbstractAuthorityFactory) ReferencingFactoryFinder.getCRSAuthorityFactory("EPSG", hints);
+        final URL url = file.toURI().toURL();
+        FactoryUsingSnapshot snapshot = new FactoryUsingSnapshot() {
+            @Override
+            protected URL getSnapshotURL() {
+                return url;
+            }
+        };
+        try {
+            Set<String> codes = snapshot.getAuthorityCodes(CoordinateReferenceSystem.class);
+            assertTrue(codes.size() > 4000);
+            // the common codes, and one in fifty of the others
+            List<String> sample = new ArrayList<>(List.of("4326", "4269", "3857", "32631", "27700", "2154"));
+            int i = 0;
+            for (String code : codes) {
+                if (i++ % 50 == 0) {
+                    sample.add(code);
+                }
+            }
+            for (String code : sample) {
+                CoordinateReferenceSystem expected = database.createCoordinateReferenceSystem("EPSG:" + code);
+                CoordinateReferenceSystem actual = snapshot.createCoordinateReferenceSystem("EPSG:" + code);
+                assertTrue("EPSG:" + code, CRS.equalsIgnoreMetadata(expected, actual));
+            }
+            // datums are in the snapshot too
+            Datum datum = snapshot.createDatum("EPSG:6326");
+            assertTrue(CRS.equalsIgnoreMetadata(database.createDatum("EPSG:6326"), datum));
+        } finally {
+            snapshot.dispose();
+        }
+    }
+}
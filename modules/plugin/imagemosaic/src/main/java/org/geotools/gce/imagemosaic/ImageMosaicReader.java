@@ -84,6 +84,8 @@
 import org.geotools.util.URLs;
 import org.geotools.util.Utilities;
 import org.geotools.util.factory.Hints;
+import org.geotools.util.instrumentation.Instrumentation;
+import org.geotools.util.instrumentation.Span;
 
 /**
  * Reader responsible for providing access to mosaic of georeferenced images. Citing JAI documentation:
@@ -571,7 +573,11 @@ public GridCoverage2D read(String coverageName, GeneralParameterValue[] params)
         //
         // Loading tiles trying to optimize as much as possible
         //
-        final Collection<GridCoverage2D> response = read(params, coverageName);
+        final Collection<GridCoverage2D> response;
+        try (Span span = Instrumentation.span("mosaic.read")) {
+            span.tag("coverageName", coverageName);
+            response = read(params, coverageName);
+        }
         if (response.isEmpty()) {
             if (LOGGER.isLoggable(Level.FINE)) {
                 LOGGER.fine("The response is empty. ==> returning a null GridCoverage");
@@ -41,6 +41,7 @@
 import java.util.regex.Pattern;
 import oracle.jdbc.OracleConnection;
 import oracle.jdbc.OracleStruct;
+import org.geotools.api.feature.FeatureVisitor;
 import org.geotools.api.feature.simple.SimpleFeatureType;
 import org.geotools.api.feature.type.AttributeDescriptor;
 import org.geotools.api.feature.type.GeometryDescriptor;
@@ -53,6 +54,7 @@
 import org.geotools.data.oracle.sdo.GeometryConverter;
 import org.geotools.data.oracle.sdo.SDOSqlDumper;
 import org.geotools.data.oracle.sdo.TT;
+import org.geotools.feature.visitor.ApproximateUniqueCountVisitor;
 import org.geotools.filter.visitor.JsonPointerFilterSplittingVisitor;
 import org.geotools.filter.visitor.PostPreProcessFilterSplittingVisitor;
 import org.geotools.geometry.jts.JTS;
@@ -97,6 +99,9 @@ public class OracleDialect extends PreparedStatementSQLDialect {
 
     private int nameLenghtLimit = 30;
 
+    /** Whether the database has the approximate aggregate functions, from 12.2 on */
+    private boolean approximateAggregates = false;
+
     /**
      * A map from JTS Geometry type to Oracle geometry type. See Oracle Spatial documentation, Table 2-1, Valid
      * SDO_GTYPE values.
@@ -104,12 +109,14 @@ public class OracleDialect extends PreparedStatementSQLDialect {
     public static final Map<Class, String> CLASSES_TO_GEOM = Collections.unmodifiableMap(new GeomClasses());
 
     public void initVersion(Connection cx) {
-        // try to figure out if longer names are supported by the database
+        // try to figure out if longer names and approximate aggregates are supported by the database
         try {
             final int databaseMajorVersion = cx.getMetaData().getDatabaseMajorVersion();
             if (databaseMajorVersion >= 12) {
                 nameLenghtLimit = 128;
             }
+            approximateAggregates = databaseMajorVersion > 12
+                    || (databaseMajorVersion == 12 && cx.getMetaData().getDatabaseMinorVersion() >= 2);
         } catch (SQLException e) {
             LOGGER.log(
                     Level.WARNING,
@@ -119,6 +126,14 @@ public void initVersion(Connection cx) {
         }
     }
 
+    @Override
+    public void registerApproximateAggregateFunctions(Map<Class<? extends FeatureVisitor>, String> aggregates) {
+        super.registerApproximateAggregateFunctions(aggregates);
+        if (approximateAggregates) {
+            aggregates.put(ApproximateUniqueCountVisitor.class, "APPROX_COUNT_DISTINCT");
+        }
+    }
+
     /**
      * Turns on return of column comments metadata.
      *
@@ -0,0 +1,367 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.And;
+import org.geotools.api.filter.BinaryComparisonOperator;
+import org.geotools.api.filter.Filter;
+import org.geotools.api.filter.PropertyIsBetween;
+import org.geotools.api.filter.PropertyIsEqualTo;
+import org.geotools.api.filter.PropertyIsGreaterThan;
+import org.geotools.api.filter.PropertyIsGreaterThanOrEqualTo;
+import org.geotools.api.filter.PropertyIsLessThan;
+import org.geotools.api.filter.PropertyIsLessThanOrEqualTo;
+import org.geotools.api.filter.PropertyIsLike;
+import org.geotools.api.filter.expression.Expression;
+import org.geotools.api.filter.expression.Literal;
+import org.geotools.api.filter.expression.PropertyName;
+import org.geotools.data.shapefile.dbf.DbaseFileHeader;
+import org.geotools.data.shapefile.dbf.DbaseFileReader;
+import org.geotools.data.shapefile.dbf.DbaseFileReader.Row;
+
+/**
+ * Checks the simple attribute comparisons found in a filter directly against the raw bytes of the dbf records, so that
+ * the records that cannot match are skipped without decoding their attributes and geometry.
+ *
+ * <p>The supported comparisons are string equality and LIKE with a prefix pattern (case sensitive, on character
+ * fields), and equality, ordering and between comparisons against numbers (on numeric fields). They can be found alone
+ * or as children of an And, the other filters are ignored. This makes the check conservative: it never rejects a
+ * record the filter would accept, but the filter still needs to be evaluated on the features built out of the records
+ * that pass.
+ */
+class DbaseRowFilter {
+
+    /** Larger numbers cannot be compared exactly as doubles, the check is left to the full filter */
+    static final double MAX_EXACT = 1L << 53;
+
+    /** A check against the raw bytes of a single dbf column */
+    interface RowPredicate {
+        boolean accepts(Row row);
+    }
+
+    RowPredicate[] predicates;
+
+    DbaseRowFilter(List<RowPredicate> predicates) {
+        this.predicates = predicates.toArray(new RowPredicate[predicates.size()]);
+    }
+
+    /** Returns true if the row might match the filter, false if it certainly does not */
+    public boolean accepts(Row row) {
+        for (RowPredicate predicate : predicates) {
+            if (!predicate.accepts(row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Builds a row filter out of the parts of the filter that can be checked against the raw dbf records
+     *
+     * @param filter The filter to be checked
+     * @param schema The schema of the features read
+     * @param dbfindexes The dbf column of each attribute of the schema, -1 for the geometry
+     * @param dbf The dbf reader
+     * @return The row filter, or null if no part of the filter can be checked on the raw records
+     */
+    static DbaseRowFilter build(Filter filter, SimpleFeatureType schema, int[] dbfindexes, DbaseFileReader dbf) {
+        if (filter == null || dbfindexes == null || dbf == null) {
+            return null;
+        }
+        List<RowPredicate> predicates = new ArrayList<>();
+        collect(filter, new Builder(schema, dbfindexes, dbf), predicates);
+        return predicates.isEmpty() ? null : new DbaseRowFilter(predicates);
+    }
+
+    private static void collect(Filter filter, Builder builder, List<RowPredicate> predicates) {
+        if (filter instanceof And) {
+            for (Filter child : ((And) filter).getChildren()) {
+                collect(child, builder, predicates);
+            }
+        } else {
+            RowPredicate predicate = builder.build(filter);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+    }
+
+    /** Turns a single filter in a predicate, if possible */
+    static class Builder {
+
+        SimpleFeatureType schema;
+
+        int[] dbfindexes;
+
+        DbaseFileReader dbf;
+
+        DbaseFileHeader header;
+
+        Builder(SimpleFeatureType schema, int[] dbfindexes, DbaseFileReader dbf) {
+            this.schema = schema;
+            this.dbfindexes = dbfindexes;
+            this.dbf = dbf;
+            this.header = dbf.getHeader();
+        }
+
+        RowPredicate build(Filter filter) {
+            if (filter instanceof PropertyIsEqualTo) {
+                PropertyIsEqualTo equal = (PropertyIsEqualTo) filter;
+                if (equal.getExpression1() instanceof PropertyName && equal.getExpression2() instanceof Literal) {
+                    return equalTo(equal.getExpression1(), equal.getExpression2(), equal.isMatchingCase());
+                } else if (equal.getExpression2() instanceof PropertyName
+                        && equal.getExpression1() instanceof Literal) {
+                    return equalTo(equal.getExpression2(), equal.getExpression1(), equal.isMatchingCase());
+                }
+            } else if (filter instanceof PropertyIsLike) {
+                return like((PropertyIsLike) filter);
+            } else if (filter instanceof PropertyIsBetween) {
+                PropertyIsBetween between = (PropertyIsBetween) filter;
+                if (between.getLowerBoundary() instanceof Literal && between.getUpperBoundary() instanceof Literal) {
+                    int column = getNumericColumn(between.getExpression());
+                    Double min = getNumber(between.getLowerBoundary(), column);
+                    Double max = getNumber(between.getUpperBoundary(), column);
+                    if (column >= 0 && min != null && max != null) {
+                        return new NumberRange(column, min, true, max, true);
+                    }
+                }
+            } else if (filter instanceof BinaryComparisonOperator) {
+                return compare((BinaryComparisonOperator) filter);
+            }
+            return null;
+        }
+
+        private RowPredicate equalTo(Expression property, Expression literal, boolean matchCase) {
+            int column = getColumn(property);
+            if (column < 0) {
+                return null;
+            }
+            char type = Character.toUpperCase(header.getFieldType(column));
+            Object value = ((Literal) literal).getValue();
+            if (type == 'C' && value instanceof String && matchCase) {
+                byte[] encoded = dbf.encode((String) value);
+                return encoded != null ? new StringEquals(column, encoded) : null;
+            } else if (type == 'N' || type == 'F') {
+                Double number = getNumber(literal, column);
+                return number != null ? new NumberRange(column, number, true, number, true) : null;
+            }
+            return null;
+        }
+
+        private RowPredicate like(PropertyIsLike like) {
+            int column = getColumn(like.getExpression());
+            if (column < 0 || !like.isMatchingCase() || Character.toUpperCase(header.getFieldType(column)) != 'C') {
+                return null;
+            }
+            // only patterns made of a plain prefix followed by wildcards are supported
+            String pattern = like.getLiteral();
+            String wildCard = like.getWildCard();
+            if (pattern == null || wildCard == null || wildCard.isEmpty()) {
+                return null;
+            }
+            int prefixEnd = pattern.length();
+            while (prefixEnd > 0 && pattern.startsWith(wildCard, prefixEnd - wildCard.length())) {
+                prefixEnd -= wildCard.length();
+            }
+            String prefix = pattern.substring(0, prefixEnd);
+            if (prefix.isEmpty()
+                    || prefixEnd == pattern.length()
+                    || prefix.contains(wildCard)
+                    || contains(prefix, like.getSingleChar())
+                    || contains(prefix, like.getEscape())) {
+                return null;
+            }
+            byte[] encoded = dbf.encode(prefix);
+            return encoded != null ? new StringPrefix(column, encoded) : null;
+        }
+
+        private static boolean contains(String prefix, String special) {
+            return special != null && !special.isEmpty() && prefix.contains(special);
+        }
+
+        private RowPredicate compare(BinaryComparisonOperator comparison) {
+            Expression property;
+            Expression literal;
+            boolean flipped;
+            if (comparison.getExpression1() instanceof PropertyName && comparison.getExpression2() instanceof Literal) {
+                property = comparison.getExpression1();
+                literal = comparison.getExpression2();
+                flipped = false;
+            } else if (comparison.getExpression2() instanceof PropertyName
+                    && comparison.getExpression1() instanceof Literal) {
+                property = comparison.getExpression2();
+                literal = comparison.getExpression1();
+                flipped = true;
+            } else {
+                return null;
+            }
+            int column = getNumericColumn(property);
+            Double value = getNumber(literal, column);
+            if (column < 0 || value == null) {
+                return null;
+            }
+
+            // normalize to "property op value"
+            boolean greater;
+            boolean inclusive;
+            if (comparison instanceof PropertyIsGreaterThan) {
+                greater = true;
+                inclusive = false;
+            } else if (comparison instanceof PropertyIsGreaterThanOrEqualTo) {
+                greater = true;
+                inclusive = true;
+            } else if (comparison instanceof PropertyIsLessThan) {
+                greater = false;
+                inclusive = false;
+            } else if (comparison instanceof PropertyIsLessThanOrEqualTo) {
+                greater = false;
+                inclusive = true;
+            } else {
+                return null;
+            }
+            if (flipped) {
+                greater = !greater;
+            }
+            if (greater) {
+                return new NumberRange(column, value, inclusive, Double.POSITIVE_INFINITY, true);
+            } else {
+                return new NumberRange(column, Double.NEGATIVE_INFINITY, true, value, inclusive);
+            }
+        }
+
+        /** Returns the dbf column of the property, or -1 if not found */
+        int getColumn(Expression expression) {
+            if (!(expression instanceof PropertyName)) {
+                return -1;
+            }
+            int index = schema.indexOf(((PropertyName) expression).getPropertyName());
+            return index >= 0 ? dbfindexes[index] : -1;
+        }
+
+        int getNumericColumn(Expression expression) {
+            int column = getColumn(expression);
+            if (column >= 0) {
+                char type = Character.toUpperCase(header.getFieldType(column));
+                if (type == 'N' || type == 'F') {
+                    return column;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the literal value as a double, or null if it cannot be compared with the column values as doubles
+         * giving the same results as the filter would
+         */
+        Double getNumber(Expression expression, int column) {
+            if (column < 0 || !(expression instanceof Literal)) {
+                return null;
+            }
+            Object value = ((Literal) expression).getValue();
+            double number;
+            if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                number = ((Number) value).intValue();
+            } else if (value instanceof Long && Math.abs((Long) value) < MAX_EXACT) {
+                number = (Long) value;
+            } else if (value instanceof Double && !((Double) value).isInfinite() && !((Double) value).isNaN()) {
+                number = (Double) value;
+                // equality and between convert a floating point literal to the integral type of the attribute,
+                // truncating it, stay on the safe side and only compare integral values with integral columns
+                Class<?> binding = header.getFieldClass(column);
+                if ((binding == Integer.class || binding == Long.class) && number != Math.rint(number)) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+            return number;
+        }
+    }
+
+    /** Equality of character fields */
+    static class StringEquals implements RowPredicate {
+        int column;
+
+        byte[] value;
+
+        StringEquals(int column, byte[] value) {
+            this.column = column;
+            this.value = value;
+        }
+
+        @Override
+        public boolean accepts(Row row) {
+            return row.rawEquals(column, value);
+        }
+    }
+
+    /** Prefix match on character fields */
+    static class StringPrefix implements RowPredicate {
+        int column;
+
+        byte[] prefix;
+
+        StringPrefix(int column, byte[] prefix) {
+            this.column = column;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean accepts(Row row) {
+            return row.rawStartsWith(column, prefix);
+        }
+    }
+
+    /** Range check on numeric fields, covering equality too */
+    static class NumberRange implements RowPredicate {
+        int column;
+
+        double min;
+
+        boolean minInclusive;
+
+        double max;
+
+        boolean maxInclusive;
+
+        NumberRange(int column, double min, boolean minInclusive, double max, boolean maxInclusive) {
+            this.column = column;
+            this.min = min;
+            this.minInclusive = minInclusive;
+            this.max = max;
+            this.maxInclusive = maxInclusive;
+        }
+
+        @Override
+        public boolean accepts(Row row) {
+            double value = row.readDouble(column);
+            if (Double.isNaN(value)) {
+                // null values never match a comparison
+                return false;
+            }
+            if (Math.abs(value) >= MAX_EXACT) {
+                return true;
+            }
+            boolean aboveMin = value > min || (minInclusive && value == min);
+            boolean belowMax = value < max || (maxInclusive && value == max);
+            return aboveMin && belowMax;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.geotools.data.shapefile;
 
 import static org.geotools.data.shapefile.files.ShpFileType.FIX;
+import static org.geotools.data.shapefile.files.ShpFileType.PRX;
 import static org.geotools.data.shapefile.files.ShpFileType.QIX;
 import static org.geotools.data.shapefile.files.ShpFileType.SHP;
 import static org.geotools.data.shapefile.files.ShpFileType.SHX;
@@ -43,6 +44,7 @@
 import org.geotools.data.shapefile.index.Data;
 import org.geotools.data.shapefile.index.DataDefinition;
 import org.geotools.data.shapefile.index.TreeException;
+import org.geotools.data.shapefile.index.packed.PackedRTree;
 import org.geotools.data.shapefile.index.quadtree.QuadTree;
 import org.geotools.data.shapefile.index.quadtree.StoreException;
 import org.geotools.data.shapefile.index.quadtree.fs.FileSystemIndexStore;
@@ -193,7 +195,15 @@ boolean isIndexUseable(ShpFileType indexType) {
 
     /** Returns true if the index file is available */
     boolean isSpatialIndexAvailable() {
-        return shpFiles.isLocal() && shpFiles.exists(QIX);
+        return shpFiles.isLocal() && (shpFiles.exists(QIX) || shpFiles.exists(PRX));
+    }
+
+    /**
+     * Returns true if a packed R-tree index is present and up to date. Unlike the quadtree, the packed R-tree is never
+     * created automatically, it has to be built in bulk with the {@link ShapeFileIndexer}
+     */
+    boolean isPackedSpatialIndexUseable() {
+        return shpFiles.isLocal() && !shpFiles.isGz() && isIndexUseable(PRX);
     }
 
     /** Returns true if the specified index file is outdated compared to the shapefile .shp and .shx files */
@@ -298,6 +308,15 @@ protected CloseableIterator<Data> querySpatialIndex(Envelope bbox)
             throws DataSourceException, IOException, TreeException {
         CloseableIterator<Data> tmp = null;
 
+        // the packed R-tree, when available, is preferred over the quadtree
+        if (isPackedSpatialIndexUseable()) {
+            try {
+                return queryPackedSpatialIndex(bbox);
+            } catch (StoreException e) {
+                LOGGER.log(Level.WARNING, "Could not use the packed R-tree index, falling back on the quadtree", e);
+            }
+        }
+
         // check if the spatial index needs recreating
         createSpatialIndex(false);
 
@@ -348,6 +367,17 @@ protected CloseableIterator<Data> querySpatialIndex(Envelope bbox)
         return tmp;
     }
 
+    /** Queries the packed R-tree index, returns null if the bbox contains all the indexed records */
+    CloseableIterator<Data> queryPackedSpatialIndex(Envelope bbox) throws IOException {
+        // the search collects the matching offsets eagerly, the tree can be closed right away
+        try (PackedRTree tree = new PackedRTree(shpFiles)) {
+            if (bbox.contains(tree.getBounds())) {
+                return null;
+            }
+            return tree.search(bbox);
+        }
+    }
+
     /**
      * Convenience method for opening a QuadTree index.
      *
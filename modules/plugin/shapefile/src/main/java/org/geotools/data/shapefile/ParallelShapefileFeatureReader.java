@@ -0,0 +1,209 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.feature.FeatureVisitor;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.ReTypeFeatureReader;
+import org.geotools.feature.FeatureTypes;
+import org.geotools.feature.visitor.ParallelAggregator;
+
+/**
+ * A feature reader that splits a full scan of the shapefile in ranges of records, using the .shx file to locate them,
+ * and decodes each range (geometry and dbf row) on a {@link ForkJoinPool}.
+ *
+ * <p>The features are returned in the same order as the sequential {@link ShapefileFeatureReader} would, the decoded
+ * ranges are kept in a bounded queue so that at most {@link #getMaxRangesInFlight()} ranges are held in memory at any
+ * time. Since the features are returned to the calling thread, a {@link org.geotools.api.feature.FeatureVisitor} fed
+ * by this reader does not need to be thread safe.
+ */
+class ParallelShapefileFeatureReader implements FeatureReader<SimpleFeatureType, SimpleFeature> {
+
+    /** Default number of records decoded by a single task */
+    public static final int DEFAULT_CHUNK_SIZE = 10000;
+
+    /** Opens a reader for a range of records, each call must return a new reader with its own file handles */
+    interface RangeReaderFactory {
+
+        /**
+         * Opens a reader for the records between start (inclusive) and end (exclusive), as positions in the .shx file
+         */
+        ShapefileFeatureReader open(int start, int end) throws IOException;
+    }
+
+    SimpleFeatureType schema;
+
+    RangeReaderFactory factory;
+
+    ForkJoinPool pool;
+
+    int recordCount;
+
+    int chunkSize;
+
+    int maxRangesInFlight;
+
+    int nextRangeStart;
+
+    ArrayDeque<ForkJoinTask<List<SimpleFeature>>> pending = new ArrayDeque<>();
+
+    Iterator<SimpleFeature> current = Collections.emptyIterator();
+
+    boolean closed;
+
+    /**
+     * Builds a new parallel reader
+     *
+     * @param schema The schema of the features returned by the range readers
+     * @param factory The factory opening the range readers
+     * @param recordCount The number of records in the .shx file
+     * @param chunkSize The number of records each range reader will decode
+     * @param pool The pool used to run the decoding tasks
+     */
+    public ParallelShapefileFeatureReader(
+            SimpleFeatureType schema, RangeReaderFactory factory, int recordCount, int chunkSize, ForkJoinPool pool) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive, but was " + chunkSize);
+        }
+        this.schema = schema;
+        this.factory = factory;
+        this.recordCount = recordCount;
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+        // enough to keep all threads busy while the consumer is working on the current range
+        this.maxRangesInFlight = pool.getParallelism() * 2;
+    }
+
+    @Override
+    public SimpleFeatureType getFeatureType() {
+        return schema;
+    }
+
+    @Override
+    public SimpleFeature next() throws IOException, IllegalArgumentException, NoSuchElementException {
+        if (hasNext()) {
+            return current.next();
+        } else {
+            throw new NoSuchElementException("hasNext() returned false");
+        }
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (closed) {
+            return false;
+        }
+        while (!current.hasNext()) {
+            scheduleRanges();
+            ForkJoinTask<List<SimpleFeature>> task = pending.poll();
+            if (task == null) {
+                return false;
+            }
+            current = getFeatures(task).iterator();
+        }
+        return true;
+    }
+
+    /** Keeps the queue of ranges being decoded full */
+    void scheduleRanges() {
+        while (pending.size() < maxRangesInFlight && nextRangeStart < recordCount) {
+            final int start = nextRangeStart;
+            final int end = (int) Math.min((long) start + chunkSize, recordCount);
+            nextRangeStart = end;
+            pending.add(pool.submit(() -> readRange(start, end)));
+        }
+    }
+
+    /** Decodes all the features in the specified range */
+    List<SimpleFeature> readRange(int start, int end) throws IOException {
+        try (ShapefileFeatureReader reader = factory.open(start, end)) {
+            List<SimpleFeature> features = new ArrayList<>(end - start);
+            while (reader.hasNext()) {
+                features.add(reader.next());
+            }
+            return features;
+        }
+    }
+
+    List<SimpleFeature> getFeatures(ForkJoinTask<List<SimpleFeature>> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for shapefile records to be decoded", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Failed to decode shapefile records", cause);
+        }
+    }
+
+    /**
+     * Runs a visitor over all the ranges in parallel, each range feeding its own partial calculation, instead of
+     * returning the features to the calling thread. See {@link ParallelAggregator}.
+     *
+     * @param visitor The visitor, usually a {@link org.geotools.feature.visitor.MergeableFeatureCalc}
+     * @param resultSchema The schema of the visited features, the range reader features get retyped to it if needed
+     * @return false if the visitor cannot be split, in which case nothing has been read
+     */
+    boolean accepts(FeatureVisitor visitor, SimpleFeatureType resultSchema) throws IOException {
+        int ranges = (int) ((recordCount + (long) chunkSize - 1) / chunkSize);
+        boolean retype = !FeatureTypes.equals(schema, resultSchema);
+        ParallelAggregator.PartVisitor partVisitor = (range, partial) -> {
+            int start = range * chunkSize;
+            int end = (int) Math.min((long) start + chunkSize, recordCount);
+            try (FeatureReader<SimpleFeatureType, SimpleFeature> reader = retype
+                    ? new ReTypeFeatureReader(factory.open(start, end), resultSchema)
+                    : factory.open(start, end)) {
+                while (reader.hasNext()) {
+                    partial.visit(reader.next());
+                }
+            }
+        };
+        return ParallelAggregator.accepts(visitor, ranges, partVisitor, pool);
+    }
+
+    /** The maximum number of ranges being decoded, or waiting to be consumed, at any given time */
+    int getMaxRangesInFlight() {
+        return maxRangesInFlight;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        current = Collections.emptyIterator();
+        // the running tasks will close their readers on completion, the queued ones won't start
+        for (ForkJoinTask<List<SimpleFeature>> task : pending) {
+            task.cancel(false);
+        }
+        pending.clear();
+    }
+}
@@ -36,12 +36,14 @@
 import org.geotools.data.shapefile.files.StorageFile;
 import org.geotools.data.shapefile.index.LockTimeoutException;
 import org.geotools.data.shapefile.index.TreeException;
+import org.geotools.data.shapefile.index.packed.PackedRTreeBuilder;
 import org.geotools.data.shapefile.index.quadtree.Node;
 import org.geotools.data.shapefile.index.quadtree.QuadTree;
 import org.geotools.data.shapefile.index.quadtree.StoreException;
 import org.geotools.data.shapefile.index.quadtree.fs.FileSystemIndexStore;
 import org.geotools.data.shapefile.index.quadtree.fs.IndexHeader;
 import org.geotools.data.shapefile.shp.IndexFile;
+import org.geotools.data.shapefile.shp.ShapeType;
 import org.geotools.data.shapefile.shp.ShapefileHeader;
 import org.geotools.data.shapefile.shp.ShapefileReader;
 import org.geotools.data.shapefile.shp.ShapefileReader.Record;
@@ -61,6 +63,7 @@ class ShapeFileIndexer implements FileWriter {
 
     private int maxDepth = -1;
     private int leafSize = 16;
+    private ShpFileType indexType = ShpFileType.QIX;
 
     private String byteOrder;
     private ShpFiles shpFiles;
@@ -76,9 +79,8 @@ public static void main(String[] args) throws IOException {
 
         for (int i = 0; i < args.length; i++) {
             if (args[i].equals("-t")) {
-                // idx.setIdxType(IndexType.valueOf(args[++i]));
-                // just skip it for backwards compatibility
-                i++;
+                // anything but PRX builds a quadtree, for backwards compatibility
+                idx.setIndexType("PRX".equalsIgnoreCase(args[++i]) ? ShpFileType.PRX : ShpFileType.QIX);
             } else if (args[i].equals("-M")) {
                 idx.setMax(Integer.parseInt(args[++i]));
             } else if (args[i].equals("-s")) {
@@ -112,7 +114,7 @@ public static void main(String[] args) throws IOException {
 
     private static void usage() {
         System.out.println("Usage: ShapeFileIndexer "
-                + "-t <QIX> "
+                + "[-t <QIX | PRX>] "
                 + "[-M <max tree depth>] "
                 + "[-b <byte order NL | NM>] "
                 + "<shape file>"
@@ -121,9 +123,10 @@ private static void usage() {
         System.out.println();
 
         System.out.println("Options:");
-        System.out.println("\t-t Index type: RTREE or QUADTREE");
+        System.out.println("\t-t Index type: QIX (quadtree, default) or PRX (packed Hilbert R-tree)");
+        System.out.println("\t-s Max number of items in a leaf, for PRX it's the number of children of each node");
         System.out.println();
-        System.out.println("Following options apllies only to QUADTREE:");
+        System.out.println("Following options apllies only to QIX:");
         System.out.println("\t-b byte order to use: NL = LSB; " + "NM = MSB (default)");
 
         System.exit(1);
@@ -145,15 +148,18 @@ public int index(boolean verbose, /*unused*/ ProgressListener listener)
         int cnt = 0;
 
         // Temporary file for building...
-        StorageFile storage = shpFiles.getStorageFile(ShpFileType.QIX);
+        StorageFile storage = shpFiles.getStorageFile(indexType);
         File treeFile = storage.getFile();
-        if (maxDepth == -1) {
+        if (indexType == ShpFileType.QIX && maxDepth == -1) {
             maxDepth = computeMaxDepth();
         }
 
         try (ShapefileReader reader = new ShapefileReader(shpFiles, true, false, new GeometryFactory())) {
-
-            cnt = this.buildQuadTree(reader, treeFile, verbose);
+            if (indexType == ShpFileType.PRX) {
+                cnt = this.buildPackedRTree(reader, treeFile, verbose);
+            } else {
+                cnt = this.buildQuadTree(reader, treeFile, verbose);
+            }
         }
 
         // Final index file
@@ -229,6 +235,33 @@ private int buildQuadTree(ShapefileReader reader, File file, boolean verbose) th
         return cnt;
     }
 
+    private int buildPackedRTree(ShapefileReader reader, File file, boolean verbose) throws IOException {
+        LOGGER.fine("Building packed R-tree spatial index for file " + file.getAbsolutePath());
+
+        int cnt = 0;
+        try (IndexFile shpIndex = new IndexFile(shpFiles, false)) {
+            // sorting and packing happen in bulk, only the record bounds are kept in memory
+            PackedRTreeBuilder builder = new PackedRTreeBuilder(Math.max(2, leafSize), shpIndex.getRecordCount());
+            while (reader.hasNext()) {
+                Record rec = reader.nextRecord();
+                int recno = cnt++;
+                // null shapes are skipped by the readers anyways, and their bounds are not meaningful
+                if (rec.type != ShapeType.NULL) {
+                    builder.add(recno, shpIndex.getOffsetInBytes(recno), rec.minX, rec.minY, rec.maxX, rec.maxY);
+                }
+
+                if (verbose) {
+                    if (cnt % 1_000 == 0) System.out.print('.');
+                    if (cnt % 100_000 == 0) System.out.print('\n');
+                }
+            }
+            if (verbose) System.out.println("Storing the tree...");
+            builder.write(file);
+            if (verbose) System.out.println("done");
+        }
+        return cnt;
+    }
+
     private Envelope getBounds(ShapefileReader reader) {
         ShapefileHeader header = reader.getHeader();
         Envelope bounds = new Envelope(header.minX(), header.maxX(), header.minY(), header.maxY());
@@ -370,7 +403,22 @@ void gatherStats(Node node, Map<Integer, Integer> stats) throws StoreException {
         }
     }
 
-    /** For quad tree this is the max depth. I don't know what it is for RTree */
+    /**
+     * Sets the type of spatial index to be built, either {@link ShpFileType#QIX} (the default) or
+     * {@link ShpFileType#PRX}
+     */
+    public void setIndexType(ShpFileType indexType) {
+        if (indexType != ShpFileType.QIX && indexType != ShpFileType.PRX) {
+            throw new IllegalArgumentException("Unsupported spatial index type " + indexType);
+        }
+        this.indexType = indexType;
+    }
+
+    public ShpFileType getIndexType() {
+        return indexType;
+    }
+
+    /** For quad tree this is the max depth, it's ignored by the packed R-tree */
     public void setMax(int i) {
         maxDepth = i;
     }
@@ -33,6 +33,7 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Level;
 import org.geotools.api.data.DataSourceException;
 import org.geotools.api.data.FeatureReader;
@@ -117,6 +118,12 @@ public class ShapefileDataStore extends ContentDataStore implements FileDataStor
 
     private boolean tryCPGFile = false;
 
+    boolean parallelScan = false;
+
+    int parallelScanChunkSize = ParallelShapefileFeatureReader.DEFAULT_CHUNK_SIZE;
+
+    ForkJoinPool parallelScanPool;
+
     public ShapefileDataStore(URL url) {
         this(url, ShpFiles.DEFAULT_SKIP_SCAN);
     }
@@ -236,6 +243,46 @@ public void setTryCPGFile(boolean tryCPGFile) {
         this.tryCPGFile = tryCPGFile;
     }
 
+    /** Returns true if full scans are decoded in parallel, see {@link #setParallelScan(boolean)} */
+    public boolean isParallelScan() {
+        return parallelScan;
+    }
+
+    /**
+     * When set to true, reads that cannot use the spatial or fid indexes will split the shapefile in ranges of records
+     * (using the .shx file) and decode them in parallel. Features are still returned in the file order. The parallel
+     * scan is not used when the .shx file is missing, when the file is not local, or when a screenmap is in use.
+     */
+    public void setParallelScan(boolean parallelScan) {
+        this.parallelScan = parallelScan;
+    }
+
+    /** The number of records decoded by each parallel scan task */
+    public int getParallelScanChunkSize() {
+        return parallelScanChunkSize;
+    }
+
+    /**
+     * Sets the number of records decoded by each parallel scan task. Shapefiles with fewer records than this are
+     * always read sequentially.
+     */
+    public void setParallelScanChunkSize(int parallelScanChunkSize) {
+        if (parallelScanChunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive, but was " + parallelScanChunkSize);
+        }
+        this.parallelScanChunkSize = parallelScanChunkSize;
+    }
+
+    /** The pool used for parallel scans, the common fork-join pool is used if none was set */
+    public ForkJoinPool getParallelScanPool() {
+        return parallelScanPool != null ? parallelScanPool : ForkJoinPool.commonPool();
+    }
+
+    /** Sets the pool used for parallel scans, or null to use the common fork-join pool */
+    public void setParallelScanPool(ForkJoinPool parallelScanPool) {
+        this.parallelScanPool = parallelScanPool;
+    }
+
     @Override
     public SimpleFeatureType getSchema() throws IOException {
         return getSchema(getTypeName());
@@ -465,6 +512,8 @@ public String toString() {
                 + indexed
                 + ", fidIndexed="
                 + fidIndexed
+                + ", parallelScan="
+                + parallelScan
                 + "]";
     }
 
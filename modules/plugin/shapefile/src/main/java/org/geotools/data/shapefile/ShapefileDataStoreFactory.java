@@ -177,6 +177,15 @@ public String text(Object value) {
             true,
             new KVP(Param.LEVEL, "advanced"));
 
+    /** Optional - decode full scans in parallel, using the .shx file to split the shapefile in ranges of records */
+    public static final Param PARALLEL_SCAN = new Param(
+            "parallel scan",
+            Boolean.class,
+            "enable/disable decoding full scans of large shapefiles in parallel",
+            false,
+            false,
+            new KVP(Param.LEVEL, "advanced"));
+
     @Override
     public String getDisplayName() {
         return "Shapefile";
@@ -200,7 +209,8 @@ public Param[] getParametersInfo() {
             CACHE_MEMORY_MAPS,
             FILE_TYPE,
             FSTYPE,
-            SKIP_SCAN
+            SKIP_SCAN,
+            PARALLEL_SCAN
         };
     }
 
@@ -224,6 +234,7 @@ public DataStore createDataStore(Map<String, ?> params) throws IOException {
         TimeZone dbfTimeZone = lookup(DBFTIMEZONE, params, TimeZone.class);
         Boolean isCreateSpatialIndex = lookup(CREATE_SPATIAL_INDEX, params, Boolean.class);
         Boolean skipScan = lookup(SKIP_SCAN, params, Boolean.class);
+        Boolean parallelScan = lookup(PARALLEL_SCAN, params, Boolean.class);
         Boolean isEnableSpatialIndex = (Boolean) ENABLE_SPATIAL_INDEX.lookUp(params);
         if (isEnableSpatialIndex == null) {
             // should not be needed as default is TRUE
@@ -258,6 +269,7 @@ public DataStore createDataStore(Map<String, ?> params) throws IOException {
             store.setTimeZone(dbfTimeZone);
             store.setIndexed(enableIndex);
             store.setIndexCreationEnabled(createIndex);
+            store.setParallelScan(parallelScan && isLocal);
             return store;
         }
     }
@@ -37,6 +37,7 @@
 import org.geotools.data.shapefile.shp.ShapefileReader;
 import org.geotools.data.shapefile.shp.ShapefileReader.Record;
 import org.geotools.data.util.ScreenMap;
+import org.geotools.feature.simple.FlyweightSimpleFeature;
 import org.geotools.feature.simple.SimpleFeatureBuilder;
 import org.geotools.geometry.jts.LiteCoordinateSequence;
 import org.geotools.util.logging.Logging;
@@ -86,6 +87,13 @@ public String toString() {
 
     Filter filter;
 
+    DbaseRowFilter rowFilter;
+
+    /** The feature moved to each row when features are reused, null otherwise */
+    FlyweightSimpleFeature flyweight;
+
+    Object[] rowValues;
+
     public ShapefileFeatureReader(
             SimpleFeatureType schema, ShapefileReader shp, DbaseFileReader dbf, IndexedFidReader fidReader)
             throws IOException {
@@ -172,25 +180,31 @@ public boolean hasNext() throws IOException {
         while (nextFeature == null && filesHaveMore()) {
             Record record = shp != null ? shp.nextRecord() : null;
 
+            // checking the raw dbf record is cheaper than decoding the geometry, do it first
+            Row row = null;
+            if (rowFilter != null) {
+                row = dbf.readRow();
+                if (row.isDeleted() || !rowFilter.accepts(row)) {
+                    continue;
+                }
+            }
+
             final Geometry geometry =
                     record != null ? getGeometry(record) : SKIP.getFactory().createEmpty(0);
             if (geometry != SKIP) {
                 // also grab the dbf row
-                Row row;
-                if (dbf != null) {
+                if (dbf != null && row == null) {
                     row = dbf.readRow();
                     if (row.isDeleted()) {
                         continue;
                     }
-                } else {
-                    row = null;
                 }
 
                 final int number = record != null ? record.number : 0;
                 final Envelope envelope = record != null ? record.envelope() : geometry.getEnvelopeInternal();
                 nextFeature = buildFeature(number, geometry, row, envelope);
             } else {
-                if (dbf != null) {
+                if (dbf != null && row == null) {
                     dbf.skip();
                 }
             }
@@ -239,20 +253,34 @@ protected Geometry getGeometry(Record record) {
     }
 
     SimpleFeature buildFeature(int number, Geometry geometry, Row row, Envelope envelope) throws IOException {
-        if (dbfindexes != null) {
-            for (int dbfindex : dbfindexes) {
-                if (dbfindex == -1) {
-                    builder.add(geometry);
-                } else {
-                    builder.add(row.read(dbfindex));
+        SimpleFeature feature;
+        if (flyweight != null) {
+            if (dbfindexes != null) {
+                for (int i = 0; i < dbfindexes.length; i++) {
+                    Object value = dbfindexes[i] == -1 ? geometry : row.read(dbfindexes[i]);
+                    rowValues[i] = SimpleFeatureBuilder.convertValue(value, schema.getDescriptor(i));
                 }
+            } else if (rowValues.length > 0) {
+                rowValues[0] = geometry;
             }
-        } else if (geometry != null) {
-            builder.add(geometry);
+            flyweight.moveTo(buildFeatureId(number), rowValues, 0);
+            feature = flyweight;
+        } else {
+            if (dbfindexes != null) {
+                for (int dbfindex : dbfindexes) {
+                    if (dbfindex == -1) {
+                        builder.add(geometry);
+                    } else {
+                        builder.add(row.read(dbfindex));
+                    }
+                }
+            } else if (geometry != null) {
+                builder.add(geometry);
+            }
+            // build the feature id
+            String featureId = buildFeatureId(number);
+            feature = builder.buildFeature(featureId);
         }
-        // build the feature id
-        String featureId = buildFeatureId(number);
-        SimpleFeature feature = builder.buildFeature(featureId);
         if (filter != null) {
             // if we should not return the feature, just drop it and continue reading
             if (!filter.evaluate(feature)) {
@@ -353,7 +381,22 @@ public Filter getFilter() {
         return filter;
     }
 
+    /**
+     * Makes the reader return the same {@link FlyweightSimpleFeature} for every record, instead of building a new
+     * feature each time
+     */
+    public void setReuseFeatures(boolean reuse) {
+        this.flyweight = reuse ? new FlyweightSimpleFeature(schema) : null;
+        this.rowValues = reuse ? new Object[schema.getAttributeCount()] : null;
+    }
+
     public void setFilter(Filter filter) {
         this.filter = filter;
+        this.rowFilter = DbaseRowFilter.build(filter, schema, dbfindexes, dbf);
+    }
+
+    /** Returns false if the dbf row certainly does not match the filter, checking its raw bytes */
+    boolean acceptsRow(Row row) {
+        return rowFilter == null || rowFilter.accepts(row);
     }
 }
@@ -61,6 +61,7 @@
 import org.geotools.data.ReTypeFeatureReader;
 import org.geotools.data.shapefile.dbf.DbaseFileHeader;
 import org.geotools.data.shapefile.dbf.DbaseFileReader;
+import org.geotools.data.shapefile.dbf.IndexedDbaseFileReader;
 import org.geotools.data.shapefile.fid.IndexedFidReader;
 import org.geotools.data.shapefile.files.FileReader;
 import org.geotools.data.shapefile.files.ShpFileType;
@@ -78,6 +79,7 @@
 import org.geotools.feature.FeatureTypes;
 import org.geotools.feature.simple.SimpleFeatureTypeBuilder;
 import org.geotools.feature.type.BasicFeatureTypes;
+import org.geotools.feature.visitor.MergeableFeatureCalc;
 import org.geotools.filter.FilterAttributeExtractor;
 import org.geotools.filter.visitor.ExtractBoundsFilterVisitor;
 import org.geotools.geometry.jts.ReferencedEnvelope;
@@ -197,6 +199,7 @@ public ShapefileFeatureSource(ContentEntry entry, ShpFiles shpFiles) {
         hints.add(Hints.JTS_COORDINATE_SEQUENCE_FACTORY);
         hints.add(Hints.GEOMETRY_DISTANCE);
         hints.add(Hints.SCREENMAP);
+        hints.add(Hints.FEATURE_REUSE);
         this.hints = Collections.unmodifiableSet(hints);
     }
 
@@ -282,13 +285,7 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
         GeometryFactory geometryFactory = getGeometryFactory(q);
 
         // grab the target bbox, if any
-        Envelope bbox = new ReferencedEnvelope();
-        if (q != null && q.getFilter() != null) {
-            bbox = (Envelope) q.getFilter().accept(ExtractBoundsFilterVisitor.BOUNDS_VISITOR, bbox);
-            if (bbox == null) {
-                bbox = new ReferencedEnvelope();
-            }
-        }
+        Envelope bbox = getTargetBBox(q);
 
         // see if we can use indexing to speedup the data access
         Filter filter = q != null ? q.getFilter() : null;
@@ -323,6 +320,19 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
             return new EmptyFeatureReader<>(resultSchema);
         }
 
+        // a full scan might be split in ranges decoded in parallel
+        if (goodRecs == null) {
+            ParallelShapefileFeatureReader parallel =
+                    getParallelReader(readSchema, geometryFactory, filter, bbox, q != null ? q.getHints() : null);
+            if (parallel != null) {
+                if (!FeatureTypes.equals(readSchema, resultSchema)) {
+                    return new ReTypeFeatureReader(parallel, resultSchema);
+                } else {
+                    return parallel;
+                }
+            }
+        }
+
         // get the .fix file reader, if we have a .fix file
         @SuppressWarnings("PMD.CloseResource") // wrapped and returned
         IndexedFidReader fidReader = null;
@@ -378,6 +388,8 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
                     reader.setSimplificationDistance(simplificationDistance.doubleValue());
                 }
                 reader.setScreenMap((ScreenMap) hints.get(Hints.SCREENMAP));
+                // the parallel scan above keeps building a feature per record, they are handed over between threads
+                reader.setReuseFeatures(Boolean.TRUE.equals(hints.get(Hints.FEATURE_REUSE)));
 
                 if (Boolean.TRUE.equals(hints.get(Hints.FEATURE_2D))) {
                     shapeReader.setFlatGeometry(true);
@@ -393,6 +405,141 @@ protected FeatureReader<SimpleFeatureType, SimpleFeature> getReaderInternal(Quer
         }
     }
 
+    /** Returns the bounding box of the query filter, an empty envelope if there is none */
+    Envelope getTargetBBox(Query q) {
+        Envelope bbox = new ReferencedEnvelope();
+        if (q != null && q.getFilter() != null) {
+            bbox = (Envelope) q.getFilter().accept(ExtractBoundsFilterVisitor.BOUNDS_VISITOR, bbox);
+            if (bbox == null) {
+                bbox = new ReferencedEnvelope();
+            }
+        }
+        return bbox;
+    }
+
+    /** Returns true if {@link #getReaderInternal(Query)} would use the fid or spatial index, rather than a full scan */
+    boolean isIndexedRead(Filter filter, Envelope bbox) {
+        ShapefileDataStore store = getDataStore();
+        IndexManager indexManager = store.indexManager;
+        if (store.isFidIndexed() && filter instanceof Id && indexManager.hasFidIndex(false)) {
+            return true;
+        }
+        return store.isIndexed()
+                && !bbox.isNull()
+                && !Double.isInfinite(bbox.getWidth())
+                && !Double.isInfinite(bbox.getHeight())
+                && (indexManager.isSpatialIndexAvailable() || store.isIndexCreationEnabled());
+    }
+
+    /**
+     * Returns a reader decoding ranges of records in parallel, or null if the parallel scan is disabled, or cannot be
+     * used for this shapefile and query
+     */
+    ParallelShapefileFeatureReader getParallelReader(
+            SimpleFeatureType readSchema, GeometryFactory geometryFactory, Filter filter, Envelope bbox, Hints hints)
+            throws IOException {
+        ShapefileDataStore store = getDataStore();
+        // the screenmap is stateful and the order of updates matters, can only be used sequentially
+        if (!store.isParallelScan() || (hints != null && hints.get(Hints.SCREENMAP) != null)) {
+            return null;
+        }
+        ShapefileSetManager shpManager = store.shpManager;
+        if (!shpFiles.isLocal() || shpFiles.isGz() || !shpFiles.exists(ShpFileType.SHP)) {
+            return null;
+        }
+        int recordCount;
+        try (IndexFile shx = shpManager.openIndexFile()) {
+            if (shx == null) {
+                return null;
+            }
+            recordCount = shx.getRecordCount();
+        }
+        int chunkSize = store.getParallelScanChunkSize();
+        if (recordCount <= chunkSize) {
+            LOGGER.fine("Too few records for a parallel scan, using a sequential one");
+            return null;
+        }
+
+        List<AttributeDescriptor> attributes = readSchema.getAttributeDescriptors();
+        boolean readDbf =
+                !attributes.isEmpty() && (attributes.size() > 1 || readSchema.getGeometryDescriptor() == null);
+        boolean fidIndexed = store.isFidIndexed() && store.indexManager.hasFidIndex(false);
+        Number simplificationDistance = hints != null ? (Number) hints.get(Hints.GEOMETRY_DISTANCE) : null;
+        boolean flatGeometry = hints != null && Boolean.TRUE.equals(hints.get(Hints.FEATURE_2D));
+        ParallelShapefileFeatureReader.RangeReaderFactory factory = (start, end) -> {
+            ShapefileRangeFeatureReader reader =
+                    openRangeReader(readSchema, geometryFactory, fidIndexed, readDbf, start, end);
+            if (filter != null && !Filter.INCLUDE.equals(filter)) {
+                reader.setFilter(filter);
+            }
+            if (bbox != null && !bbox.isNull()) {
+                reader.setTargetBBox(bbox);
+            }
+            if (simplificationDistance != null) {
+                reader.setSimplificationDistance(simplificationDistance.doubleValue());
+            }
+            if (flatGeometry) {
+                reader.shp.setFlatGeometry(true);
+            }
+            return reader;
+        };
+        LOGGER.fine(() -> "Reading " + recordCount + " records in parallel, in chunks of " + chunkSize);
+        return new ParallelShapefileFeatureReader(
+                readSchema, factory, recordCount, chunkSize, store.getParallelScanPool());
+    }
+
+    /** Opens the files needed to read a range of records, making sure they get closed if anything goes wrong */
+    @SuppressWarnings("PMD.CloseResource") // managed as fields of the return value
+    ShapefileRangeFeatureReader openRangeReader(
+            SimpleFeatureType readSchema,
+            GeometryFactory geometryFactory,
+            boolean fidIndexed,
+            boolean readDbf,
+            int start,
+            int end)
+            throws IOException {
+        ShapefileSetManager shpManager = getDataStore().shpManager;
+        IndexFile shx = null;
+        ShapefileReader shp = null;
+        DbaseFileReader dbf = null;
+        IndexedFidReader fidReader = null;
+        boolean success = false;
+        try {
+            shx = shpManager.openIndexFile();
+            if (shx == null) {
+                throw new IOException("The .shx file is required to read a range of records");
+            }
+            shp = shpManager.openShapeReader(geometryFactory, true);
+            if (readDbf) {
+                dbf = shpManager.openDbfReader(true);
+            }
+            if (fidIndexed) {
+                fidReader = new IndexedFidReader(shpFiles);
+            }
+            ShapefileRangeFeatureReader reader = new ShapefileRangeFeatureReader(
+                    readSchema, shp, (IndexedDbaseFileReader) dbf, fidReader, shx, start, end);
+            success = true;
+            return reader;
+        } finally {
+            if (!success) {
+                closeQuietly(shx);
+                closeQuietly(shp);
+                closeQuietly(dbf);
+                closeQuietly(fidReader);
+            }
+        }
+    }
+
+    private void closeQuietly(AutoCloseable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                LOGGER.log(Level.FINE, "Failed to close resource", e);
+            }
+        }
+    }
+
     SimpleFeatureType getResultSchema(Query q) {
         if (q.getPropertyNames() == null) {
             return getSchema();
@@ -588,6 +735,20 @@ protected List<AttributeDescriptor> readAttributes() throws IOException {
 
     @Override
     protected boolean handleVisitor(Query query, FeatureVisitor visitor) throws IOException {
+        // aggregations over a full scan can be computed on the parallel scan ranges, one partial result per range
+        Query joined = joinQuery(query);
+        if (visitor instanceof MergeableFeatureCalc && isNativeScan(joined)) {
+            Filter filter = joined.getFilter();
+            Envelope bbox = getTargetBBox(joined);
+            if (!isIndexedRead(filter, bbox)) {
+                try (ParallelShapefileFeatureReader parallel = getParallelReader(
+                        getReadSchema(joined), getGeometryFactory(joined), filter, bbox, joined.getHints())) {
+                    if (parallel != null && parallel.accepts(visitor, getResultSchema(joined))) {
+                        return true;
+                    }
+                }
+            }
+        }
         return super.handleVisitor(query, visitor);
     }
 }
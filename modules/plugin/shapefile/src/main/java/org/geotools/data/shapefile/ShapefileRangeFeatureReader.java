@@ -0,0 +1,111 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import java.io.IOException;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.shapefile.dbf.DbaseFileReader.Row;
+import org.geotools.data.shapefile.dbf.IndexedDbaseFileReader;
+import org.geotools.data.shapefile.fid.IndexedFidReader;
+import org.geotools.data.shapefile.shp.IndexFile;
+import org.geotools.data.shapefile.shp.ShapefileReader;
+import org.geotools.data.shapefile.shp.ShapefileReader.Record;
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A shapefile feature reader that only reads the records in a given range of positions of the .shx file. Used to split
+ * a full scan in independent units of work, see {@link ParallelShapefileFeatureReader}.
+ *
+ * <p>The shp reader is expected to be opened for random access only, while the dbf reader must be an
+ * {@link IndexedDbaseFileReader}.
+ */
+class ShapefileRangeFeatureReader extends ShapefileFeatureReader {
+
+    IndexFile shx;
+
+    int current;
+
+    int end;
+
+    /**
+     * Create the range reader
+     *
+     * @param schema - the schema that we are going to read.
+     * @param shp - the shape reader, required
+     * @param dbf - the dbf file reader. May be null, in this case no attributes will be read from the dbf file
+     * @param shx - the index file providing the record offsets, required
+     * @param start - the first record position to be read (zero based, inclusive)
+     * @param end - the last record position to be read (zero based, exclusive)
+     */
+    public ShapefileRangeFeatureReader(
+            SimpleFeatureType schema,
+            ShapefileReader shp,
+            IndexedDbaseFileReader dbf,
+            IndexedFidReader fidReader,
+            IndexFile shx,
+            int start,
+            int end)
+            throws IOException {
+        super(schema, shp, dbf, fidReader);
+        this.shx = shx;
+        this.current = start;
+        this.end = Math.min(end, shx.getRecordCount());
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        while (nextFeature == null && current < end) {
+            int position = current++;
+            Record record = shp.recordAt(shx.getOffsetInBytes(position));
+
+            // read the geometry, so that we can decide if this row is to be skipped or not
+            Geometry geometry = getGeometry(record);
+            if (geometry == SKIP) {
+                continue;
+            }
+
+            // dbf rows are aligned with the shx positions, same as in the sequential reader
+            Row row;
+            if (dbf != null) {
+                ((IndexedDbaseFileReader) dbf).goTo(position + 1);
+                row = dbf.readRow();
+                if (row.isDeleted() || !acceptsRow(row)) {
+                    continue;
+                }
+            } else {
+                row = null;
+            }
+
+            nextFeature = buildFeature(record.number, geometry, row, record.envelope());
+        }
+
+        return nextFeature != null;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.UseTryWithResources") // not declared here
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            if (shx != null) {
+                shx.close();
+            }
+            shx = null;
+        }
+    }
+}
@@ -65,6 +65,11 @@
  *
  * </PRE></CODE>
  *
+ * <p>The current record is copied out of the file buffer only when one of its fields is decoded. The raw accessors of
+ * {@link Row}, such as {@link Row#rawEquals(int, byte[])}, {@link Row#rawStartsWith(int, byte[])} and
+ * {@link Row#readDouble(int)}, work straight on the file buffer instead, allowing to check a record without creating
+ * any object.
+ *
  * @author Ian Schneider, Andrea Aaime
  */
 @SuppressWarnings("PMD.CloseResource") // closeables managed as fields
@@ -97,8 +102,74 @@ public String toString() {
         public boolean isDeleted() {
             return deleted;
         }
+
+        /**
+         * Returns true if the column holds a non null value whose bytes, trimmed of leading and trailing spaces, are
+         * the same as the given ones. Meant for character fields, with values encoded by
+         * {@link DbaseFileReader#encode(String)}, the field is not decoded.
+         */
+        public boolean rawEquals(final int column, final byte[] value) {
+            final int offset = fieldOffsets[column];
+            final int length = fieldLengths[column];
+            if (length == 0 || byteAt(offset) == '\0') {
+                return false;
+            }
+            final int end = trimEnd(offset, offset + length);
+            final int start = trimStart(offset, end);
+            if (end - start != value.length) {
+                return false;
+            }
+            for (int i = 0; i < value.length; i++) {
+                if (byteAt(start + i) != value[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns true if the column holds a non null value whose bytes, trimmed of leading and trailing spaces, start
+         * with the given ones. Meant for character fields, with prefixes encoded by
+         * {@link DbaseFileReader#encode(String)}, the field is not decoded.
+         */
+        public boolean rawStartsWith(final int column, final byte[] prefix) {
+            final int offset = fieldOffsets[column];
+            final int length = fieldLengths[column];
+            if (length == 0 || byteAt(offset) == '\0') {
+                return false;
+            }
+            final int end = trimEnd(offset, offset + length);
+            final int start = trimStart(offset, end);
+            if (end - start < prefix.length) {
+                return false;
+            }
+            for (int i = 0; i < prefix.length; i++) {
+                if (byteAt(start + i) != prefix[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Reads a numeric field as a double, parsing its bytes directly instead of going through a String. Returns
+         * {@link Double#NaN} if the field is null or not a number, that is, when {@link #read(int)} would return null.
+         */
+        public double readDouble(final int column) {
+            final char type = fieldTypes[column];
+            if (type != 'n' && type != 'N' && type != 'f' && type != 'F') {
+                throw new IllegalArgumentException("Field " + column + " is not numeric, its type is " + type);
+            }
+            return parseDouble(fieldOffsets[column], fieldLengths[column]);
+        }
     }
 
+    /** Powers of ten that can be represented exactly as doubles */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+        1e20, 1e21, 1e22
+    };
+
     DbaseFileHeader header;
 
     ByteBuffer buffer;
@@ -117,6 +188,12 @@ public boolean isDeleted() {
 
     Row row;
 
+    /**
+     * Position in the buffer of the current record fields, or -1 if the record has already been copied in
+     * {@link #bytes} (or there is no current record)
+     */
+    int recordStart = -1;
+
     protected boolean useMemoryMappedBuffer;
 
     protected boolean randomAccessEnabled;
@@ -128,6 +205,8 @@ public boolean isDeleted() {
 
     private boolean oneBytePerChar;
 
+    private boolean rawComparable;
+
     private Calendar calendar;
 
     private final long MILLISECS_PER_DAY = 24 * 60 * 60 * 1000;
@@ -247,6 +326,7 @@ private void doInit(boolean useMemoryMappedBuffer, Charset charset, TimeZone tim
         // check if we working with a latin-1 char Charset
         final String cname = stringCharset.name();
         oneBytePerChar = "ISO-8859-1".equals(cname) || "US-ASCII".equals(cname);
+        rawComparable = isRawComparable(stringCharset);
 
         row = new Row();
     }
@@ -269,6 +349,7 @@ private void bufferCheck() throws IOException {
         // compact the remaining data and read again
         if (useMemoryMappedBuffer) {
             if (buffer.remaining() < header.getRecordLength()) {
+                loadRow();
                 // ops, we're dealing with a DBF whose size is > 2GB (and < 4 normally?)
                 FileChannel fc = (FileChannel) channel;
                 int position = buffer.position();
@@ -283,6 +364,7 @@ private void bufferCheck() throws IOException {
                 buffer = ((FileChannel) channel).map(MapMode.READ_ONLY, buffer.position(), Integer.MAX_VALUE);
             }
         } else if (buffer.remaining() < header.getRecordLength()) {
+            loadRow();
             this.currentOffset += buffer.position();
             buffer.compact();
             fill(buffer, channel);
@@ -432,23 +514,154 @@ public void transferTo(final DbaseFileWriter writer) throws IOException {
      * {@link #readField(int)}.
      */
     public void read() throws IOException {
-        boolean foundRecord = false;
-        while (!foundRecord) {
+        // the current record is going to be replaced, no need to copy it out
+        recordStart = -1;
 
-            bufferCheck();
+        bufferCheck();
 
-            // read the deleted flag
-            final char deleted = (char) buffer.get();
-            row.deleted = deleted == '*';
+        // read the deleted flag
+        final char deleted = (char) buffer.get();
+        row.deleted = deleted == '*';
 
-            ((Buffer) buffer).limit(buffer.position() + header.getRecordLength() - 1);
-            buffer.get(bytes); // SK: There is a side-effect here!!!
-            ((Buffer) buffer).limit(buffer.capacity());
+        // the record is copied in the bytes array only if its fields get decoded
+        recordStart = buffer.position();
+        ((Buffer) buffer).limit(buffer.capacity());
+        ((Buffer) buffer).position(recordStart + header.getRecordLength() - 1);
 
-            foundRecord = true;
+        cnt++;
+    }
+
+    /** Copies the current record out of the buffer, if not done already */
+    void loadRow() {
+        if (recordStart >= 0) {
+            final int position = buffer.position();
+            ((Buffer) buffer).position(recordStart);
+            buffer.get(bytes);
+            ((Buffer) buffer).position(position);
+            recordStart = -1;
         }
+    }
 
-        cnt++;
+    /** Returns a byte of the current record, reading it from the buffer if the record has not been copied out */
+    private byte byteAt(final int offset) {
+        return recordStart >= 0 ? buffer.get(recordStart + offset) : bytes[offset];
+    }
+
+    private int trimStart(int start, final int end) {
+        while (start < end && (byteAt(start) & 0xFF) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimEnd(final int start, int end) {
+        while (end > start && (byteAt(end - 1) & 0xFF) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Parses a number out of the record bytes. The common case, a plain decimal number with up to 15 significant
+     * digits, is handled without creating a String, and gives the same result as {@link Double#parseDouble(String)}
+     * since both the mantissa and the power of ten are exact doubles.
+     */
+    private double parseDouble(final int offset, final int length) {
+        if (length == 0 || byteAt(offset) == '*') {
+            return Double.NaN;
+        }
+        final int end = offset + length;
+        int i = trimStart(offset, end);
+        boolean negative = false;
+        if (i < end && (byteAt(i) == '-' || byteAt(i) == '+')) {
+            negative = byteAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int decimals = 0;
+        boolean dot = false;
+        for (; i < end; i++) {
+            final byte b = byteAt(i);
+            if (b >= '0' && b <= '9') {
+                if (++digits > 18) {
+                    return parseDoubleSlow(offset, length);
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (dot) {
+                    decimals++;
+                }
+            } else if (b == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (trimStart(i, end) < end) {
+            // exponents, special values and the like
+            return parseDoubleSlow(offset, length);
+        }
+        if (digits == 0) {
+            return Double.NaN;
+        }
+        if (mantissa > (1L << 53) || decimals >= POWERS_OF_TEN.length) {
+            return parseDoubleSlow(offset, length);
+        }
+        final double value = decimals == 0 ? mantissa : mantissa / POWERS_OF_TEN[decimals];
+        return negative ? -value : value;
+    }
+
+    private double parseDoubleSlow(final int offset, final int length) {
+        loadRow();
+        try {
+            return Double.parseDouble(fastParse(bytes, offset, length));
+        } catch (final NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Encodes a string for comparison with the raw character fields, see {@link Row#rawEquals(int, byte[])}. Returns
+     * null if comparing the raw bytes would not be the same as comparing the decoded strings, because of the charset
+     * or the contents of the value.
+     */
+    public byte[] encode(final String value) {
+        // the replacement char can be the result of decoding any malformed input
+        if (!rawComparable || value.indexOf('\uFFFD') >= 0) {
+            return null;
+        }
+        final byte[] encoded = value.getBytes(stringCharset);
+        if (!value.equals(new String(encoded, stringCharset))) {
+            return null;
+        }
+        return encoded;
+    }
+
+    /**
+     * Raw comparisons require encoding to be deterministic and the whitespace trimmed away by {@link String#trim()} to
+     * map to single bytes, which is the case for UTF-8 and the ASCII based single byte charsets
+     */
+    static boolean isRawComparable(final Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return true;
+        }
+        if (!charset.canEncode() || charset.newEncoder().maxBytesPerChar() != 1) {
+            return false;
+        }
+        final byte[] all = new byte[256];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = (byte) i;
+        }
+        final String decoded = new String(all, charset);
+        if (decoded.length() != all.length) {
+            return false;
+        }
+        for (int i = 0; i < all.length; i++) {
+            if ((decoded.charAt(i) <= ' ') != (i <= ' ')) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -463,6 +676,7 @@ public Object[] readEntry(final Object[] entry) throws IOException {
     }
 
     private Object readObject(final int fieldOffset, final int fieldNum) throws IOException {
+        loadRow();
         final char type = fieldTypes[fieldNum];
         final int fieldLen = fieldLengths[fieldNum];
         Object object = null;
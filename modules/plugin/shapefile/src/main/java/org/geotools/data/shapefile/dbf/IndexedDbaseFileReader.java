@@ -103,6 +103,7 @@ public void goTo(int recno) throws IOException, UnsupportedOperationException {
             if (this.useMemoryMappedBuffer) {
                 if (newPosition < this.currentOffset
                         || (this.currentOffset + buffer.limit()) < (newPosition + header.getRecordLength())) {
+                    loadRow();
                     NIOUtilities.clean(buffer);
                     FileChannel fc = (FileChannel) channel;
                     if (fc.size() > newPosition + Integer.MAX_VALUE) {
@@ -121,6 +122,7 @@ public void goTo(int recno) throws IOException, UnsupportedOperationException {
                     // System.out.println("Hit");
                 } else {
                     // System.out.println("Jump");
+                    loadRow();
                     FileChannel fc = (FileChannel) this.channel;
                     fc.position(newPosition);
                     this.currentOffset = newPosition;
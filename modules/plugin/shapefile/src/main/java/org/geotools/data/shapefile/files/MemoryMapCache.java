@@ -23,12 +23,15 @@
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileChannel.MapMode;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.geotools.util.NIOUtilities;
-import org.geotools.util.SoftValueHashMap;
-import org.geotools.util.SoftValueHashMap.ValueCleaner;
 import org.geotools.util.URLs;
 import org.geotools.util.logging.Logging;
 
@@ -36,13 +39,52 @@
  * A cache for memory mapped buffers, used to avoid generating over and over read only memory mapped buffers. Mapping a
  * file is a synchronized operation, plus by generating light copies the same buffer can be shared by various threads
  *
+ * <p>The mapped regions of all the caches in the JVM share a single size budget, see {@link #setMaxSize(long)}. When
+ * the budget is exceeded the least recently used regions are evicted and unmapped right away, or, if the owning
+ * {@link ShpFiles} still has active readers that might be using a copy of the buffer, as soon as the last reader
+ * releases its lock.
+ *
  * @author Andrea Aime - OpenGeo
  */
 class MemoryMapCache {
 
     static final Logger LOGGER = Logging.getLogger(MemoryMapCache.class);
 
-    SoftValueHashMap<MappingKey, MappedByteBuffer> buffers = new SoftValueHashMap<>(0, new BufferCleaner());
+    /** System property used to configure the maximum size in bytes of the mapped regions kept in the caches */
+    static final String MAX_SIZE_KEY = "org.geotools.shapefile.memoryMapCacheMaxSize";
+
+    /** Default maximum size of the mapped regions kept in the caches, 1GB */
+    static final long DEFAULT_MAX_SIZE = 1024L * 1024 * 1024;
+
+    /** The regions of all caches, in least recently used order, guarded by its own monitor */
+    static final LinkedHashMap<MappingKey, MappedByteBuffer> BUFFERS = new LinkedHashMap<>(16, 0.75f, true);
+
+    static long maxSize = Long.getLong(MAX_SIZE_KEY, DEFAULT_MAX_SIZE);
+
+    static long cachedSize;
+
+    static long pendingSize;
+
+    static long hits;
+
+    static long misses;
+
+    static long evictions;
+
+    static long uncacheable;
+
+    /** Tells whether the owner has active readers, that could be using copies of the cached buffers */
+    BooleanSupplier inUse;
+
+    /** Buffers evicted while in use, waiting to be unmapped, guarded by the {@link #BUFFERS} monitor */
+    List<MappedByteBuffer> pending = new ArrayList<>();
+
+    /** Allows to skip the lock in {@link #cleanPending()} when there is nothing to clean, the common case */
+    volatile boolean hasPending;
+
+    MemoryMapCache(BooleanSupplier inUse) {
+        this.inUse = inUse;
+    }
 
     MappedByteBuffer map(FileChannel wrapped, URL url, MapMode mode, long position, long size) throws IOException {
         if (mode != MapMode.READ_ONLY) {
@@ -50,14 +92,17 @@ MappedByteBuffer map(FileChannel wrapped, URL url, MapMode mode, long position,
         }
 
         File file = URLs.urlToFile(url).getCanonicalFile();
-        MappingKey mk = new MappingKey(file, position, size);
-        MappedByteBuffer buffer = buffers.get(mk);
+        MappingKey mk = new MappingKey(this, file, position, size);
+        MappedByteBuffer buffer = lookup(mk);
         if (buffer == null) {
             synchronized (this) {
-                buffer = buffers.get(mk);
+                buffer = lookup(mk);
                 if (buffer == null) {
                     buffer = wrapped.map(mode, position, size);
-                    buffers.put(mk, buffer);
+                    if (!store(mk, buffer)) {
+                        // too large to be cached, the caller owns the mapping and will unmap it
+                        return buffer;
+                    }
                     if (LOGGER.isLoggable(Level.FINE)) {
                         LOGGER.log(Level.FINE, "Mapping and caching " + file.getAbsolutePath());
                     }
@@ -72,6 +117,73 @@ MappedByteBuffer map(FileChannel wrapped, URL url, MapMode mode, long position,
         return (MappedByteBuffer) buffer.duplicate();
     }
 
+    private static MappedByteBuffer lookup(MappingKey mk) {
+        synchronized (BUFFERS) {
+            MappedByteBuffer buffer = BUFFERS.get(mk);
+            if (buffer != null) {
+                hits++;
+            }
+            return buffer;
+        }
+    }
+
+    /** Adds the buffer to the cache and evicts the eldest regions if needed, returns false if it cannot be cached */
+    private static boolean store(MappingKey mk, MappedByteBuffer buffer) {
+        synchronized (BUFFERS) {
+            misses++;
+            if (mk.size > maxSize) {
+                uncacheable++;
+                return false;
+            }
+            BUFFERS.put(mk, buffer);
+            cachedSize += mk.size;
+            evict(maxSize);
+            return true;
+        }
+    }
+
+    /** Evicts the least recently used regions until the cached size fits the given size, must hold the lock */
+    private static void evict(long targetSize) {
+        Iterator<Map.Entry<MappingKey, MappedByteBuffer>> it = BUFFERS.entrySet().iterator();
+        while (cachedSize > targetSize && it.hasNext()) {
+            Map.Entry<MappingKey, MappedByteBuffer> entry = it.next();
+            MappingKey key = entry.getKey();
+            it.remove();
+            cachedSize -= key.size;
+            evictions++;
+            key.owner.release(entry.getValue(), key.size);
+            if (LOGGER.isLoggable(Level.FINE)) {
+                LOGGER.log(Level.FINE, "Evicted mapping for " + key.file.getAbsolutePath());
+            }
+        }
+    }
+
+    /** Unmaps an evicted buffer, or defers it if the owner has active readers, must hold the lock */
+    private void release(MappedByteBuffer buffer, long size) {
+        if (inUse.getAsBoolean()) {
+            pending.add(buffer);
+            pendingSize += size;
+            hasPending = true;
+        } else {
+            NIOUtilities.clean(buffer, true);
+        }
+    }
+
+    /** Unmaps the buffers evicted while in use. To be called once the owner has no more active readers */
+    void cleanPending() {
+        if (!hasPending) {
+            return;
+        }
+        synchronized (BUFFERS) {
+            for (MappedByteBuffer buffer : pending) {
+                NIOUtilities.clean(buffer, true);
+                pendingSize -= buffer.capacity();
+            }
+            pending.clear();
+            hasPending = false;
+        }
+    }
+
     /**
      * Cleans up all memory mapped regions for a specified file. It is necessary to call this method before any attempt
      * to open a file for writing on Windows
@@ -84,40 +196,82 @@ void cleanFileCache(URL url) {
                 return;
             }
             File file = rawFile.getCanonicalFile();
-            List<MappingKey> keys = new ArrayList<>(buffers.keySet());
-            for (MappingKey key : keys) {
-                if (key.file.equals(file)) {
-                    MappedByteBuffer buffer = buffers.remove(key);
-                    NIOUtilities.clean(buffer, true);
-                    if (LOGGER.isLoggable(Level.FINE)) {
-                        LOGGER.log(Level.FINE, "Removed mapping for " + file.getAbsolutePath());
-                    }
-                }
-            }
+            removeAll(key -> key.file.equals(file));
+            // the caller holds the write lock, nobody can be reading
+            cleanPending();
         } catch (Throwable t) {
             LOGGER.log(Level.WARNING, "An error occurred while trying to clean the memory map cache", t);
         }
     }
 
     void clean() {
-        List<MappingKey> keys = new ArrayList<>(buffers.keySet());
-        for (MappingKey key : keys) {
-            MappedByteBuffer buffer = buffers.remove(key);
-            NIOUtilities.clean(buffer, true);
-            if (LOGGER.isLoggable(Level.FINE)) {
-                LOGGER.log(Level.FINE, "Removed mapping for " + key.file.getAbsolutePath());
+        removeAll(key -> true);
+        cleanPending();
+    }
+
+    private void removeAll(Predicate<MappingKey> filter) {
+        synchronized (BUFFERS) {
+            Iterator<Map.Entry<MappingKey, MappedByteBuffer>> it = BUFFERS.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<MappingKey, MappedByteBuffer> entry = it.next();
+                MappingKey key = entry.getKey();
+                if (key.owner == this && filter.test(key)) {
+                    it.remove();
+                    cachedSize -= key.size;
+                    NIOUtilities.clean(entry.getValue(), true);
+                    if (LOGGER.isLoggable(Level.FINE)) {
+                        LOGGER.log(Level.FINE, "Removed mapping for " + key.file.getAbsolutePath());
+                    }
+                }
             }
         }
     }
 
+    /** Sets the maximum size in bytes of the mapped regions cached across all shapefiles, evicting as needed */
+    static void setMaxSize(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maximum size cannot be negative, but was " + maxSize);
+        }
+        synchronized (BUFFERS) {
+            MemoryMapCache.maxSize = maxSize;
+            evict(maxSize);
+        }
+    }
+
+    static long getMaxSize() {
+        synchronized (BUFFERS) {
+            return maxSize;
+        }
+    }
+
+    /** Returns a snapshot of the cache counters */
+    static MemoryMapCacheStatistics getStatistics() {
+        synchronized (BUFFERS) {
+            return new MemoryMapCacheStatistics(
+                    hits, misses, evictions, uncacheable, BUFFERS.size(), cachedSize, pendingSize, maxSize);
+        }
+    }
+
+    /** Resets the hit, miss and eviction counters */
+    static void resetStatistics() {
+        synchronized (BUFFERS) {
+            hits = 0;
+            misses = 0;
+            evictions = 0;
+            uncacheable = 0;
+        }
+    }
+
     /** Tracks a memory mapped region of a certain file */
     static class MappingKey {
+        MemoryMapCache owner;
         File file;
         long position;
         long size;
 
-        public MappingKey(File file, long position, long size) {
+        public MappingKey(MemoryMapCache owner, File file, long position, long size) {
             super();
+            this.owner = owner;
             this.file = file;
             this.position = position;
             this.size = size;
@@ -126,7 +280,7 @@ public MappingKey(File file, long position, long size) {
         @Override
         public int hashCode() {
             final int prime = 31;
-            int result = 1;
+            int result = System.identityHashCode(owner);
             result = prime * result + ((file == null) ? 0 : file.hashCode());
             result = prime * result + (int) (position ^ (position >>> 32));
             result = prime * result + (int) (size ^ (size >>> 32));
@@ -139,6 +293,7 @@ public boolean equals(Object obj) {
             if (obj == null) return false;
             if (getClass() != obj.getClass()) return false;
             MappingKey other = (MappingKey) obj;
+            if (owner != other.owner) return false;
             if (file == null) {
                 if (other.file != null) return false;
             } else if (!file.equals(other.file)) return false;
@@ -147,17 +302,4 @@ public boolean equals(Object obj) {
             return true;
         }
     }
-
-    /**
-     * Cleans up the buffers before the soft reference gets deallocated
-     *
-     * @author Andrea Aime
-     */
-    public class BufferCleaner implements ValueCleaner<MappingKey, MappedByteBuffer> {
-
-        @Override
-        public void clean(MappingKey key, MappedByteBuffer buffer) {
-            NIOUtilities.clean(buffer, true);
-        }
-    }
 }
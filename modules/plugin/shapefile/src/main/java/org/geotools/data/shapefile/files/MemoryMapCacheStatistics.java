@@ -0,0 +1,126 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.files;
+
+/**
+ * A snapshot of the counters of the memory map cache shared by all {@link ShpFiles}, as returned by
+ * {@link ShpFiles#getMemoryMapCacheStatistics()}.
+ */
+public final class MemoryMapCacheStatistics {
+
+    private final long hitCount;
+
+    private final long missCount;
+
+    private final long evictionCount;
+
+    private final long uncacheableCount;
+
+    private final int regionCount;
+
+    private final long cachedSize;
+
+    private final long pendingSize;
+
+    private final long maxSize;
+
+    MemoryMapCacheStatistics(
+            long hitCount,
+            long missCount,
+            long evictionCount,
+            long uncacheableCount,
+            int regionCount,
+            long cachedSize,
+            long pendingSize,
+            long maxSize) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.uncacheableCount = uncacheableCount;
+        this.regionCount = regionCount;
+        this.cachedSize = cachedSize;
+        this.pendingSize = pendingSize;
+        this.maxSize = maxSize;
+    }
+
+    /** Number of read only mappings served from the cache */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /** Number of read only mappings that required mapping the file */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /** Number of regions evicted to stay within the maximum size */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /** Number of regions that were mapped but not cached, being larger than the maximum size */
+    public long getUncacheableCount() {
+        return uncacheableCount;
+    }
+
+    /** Number of regions currently cached */
+    public int getRegionCount() {
+        return regionCount;
+    }
+
+    /** Total size in bytes of the regions currently cached */
+    public long getCachedSize() {
+        return cachedSize;
+    }
+
+    /** Total size in bytes of the evicted regions still in use by readers, that will be unmapped once they are done */
+    public long getPendingSize() {
+        return pendingSize;
+    }
+
+    /** The maximum size in bytes of the cached regions */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /** The ratio of hits over the total number of lookups, or zero if there were none */
+    public double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoryMapCacheStatistics[hits="
+                + hitCount
+                + ", misses="
+                + missCount
+                + ", evictions="
+                + evictionCount
+                + ", uncacheable="
+                + uncacheableCount
+                + ", regions="
+                + regionCount
+                + ", cachedSize="
+                + cachedSize
+                + ", pendingSize="
+                + pendingSize
+                + ", maxSize="
+                + maxSize
+                + "]";
+    }
+}
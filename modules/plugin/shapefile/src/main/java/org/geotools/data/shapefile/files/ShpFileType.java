@@ -39,6 +39,8 @@ public enum ShpFileType {
      * generates
      */
     QIX("qix"),
+    /** the .prx file, a packed Hilbert R-tree spatial index of the shapefile, built in bulk and memory mapped */
+    PRX("prx"),
     /**
      * the .fix file, it contains all the Feature IDs for constant time lookup by fid also so that the fids stay
      * consistent across deletes and adds
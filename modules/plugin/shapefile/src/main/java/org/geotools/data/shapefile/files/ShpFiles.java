@@ -83,7 +83,7 @@ public class ShpFiles {
     private final Map<Thread, Collection<ShpFilesLocker>> lockers = new ConcurrentHashMap<>();
 
     /** A cache for read only memory mapped buffers */
-    private final MemoryMapCache mapCache = new MemoryMapCache();
+    private final MemoryMapCache mapCache = new MemoryMapCache(() -> readWriteLock.getReadLockCount() > 0);
 
     private boolean memoryMapCacheEnabled;
 
@@ -419,6 +419,10 @@ public void unlockRead(URL url, FileReader requestor) {
         threadLockers.remove(requestedLocker);
         if (threadLockers.isEmpty()) lockers.remove(Thread.currentThread());
         readWriteLock.readLock().unlock();
+        if (readWriteLock.getReadLockCount() == 0) {
+            // nobody can be using the buffers evicted from the memory map cache anymore
+            mapCache.cleanPending();
+        }
     }
 
     /**
@@ -894,6 +898,34 @@ public void setMemoryMapCacheEnabled(boolean memoryMapCacheEnabled) {
         }
     }
 
+    /**
+     * Returns the maximum size in bytes of the memory mapped regions cached across all the shapefiles opened in the
+     * JVM. Defaults to 1GB, and can be configured with the {@code org.geotools.shapefile.memoryMapCacheMaxSize} system
+     * property
+     */
+    public static long getMemoryMapCacheMaxSize() {
+        return MemoryMapCache.getMaxSize();
+    }
+
+    /**
+     * Sets the maximum size in bytes of the memory mapped regions cached across all the shapefiles opened in the JVM.
+     * The least recently used regions are evicted and unmapped as soon as no reader is using them anymore. Regions
+     * larger than the maximum size are not cached at all.
+     */
+    public static void setMemoryMapCacheMaxSize(long maxSize) {
+        MemoryMapCache.setMaxSize(maxSize);
+    }
+
+    /** Returns a snapshot of the statistics of the memory map cache shared by all the shapefiles opened in the JVM */
+    public static MemoryMapCacheStatistics getMemoryMapCacheStatistics() {
+        return MemoryMapCache.getStatistics();
+    }
+
+    /** Resets the hit, miss and eviction counters of the memory map cache */
+    public static void resetMemoryMapCacheStatistics() {
+        MemoryMapCache.resetStatistics();
+    }
+
     /**
      * Returns true if the file exists. Throws an exception if the file is not local.
      *
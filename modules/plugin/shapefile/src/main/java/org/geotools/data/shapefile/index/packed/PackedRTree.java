@@ -0,0 +1,312 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.index.packed;
+
+import static org.geotools.data.shapefile.files.ShpFileType.PRX;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import org.geotools.api.data.CloseableIterator;
+import org.geotools.data.shapefile.files.FileReader;
+import org.geotools.data.shapefile.files.ShpFiles;
+import org.geotools.data.shapefile.index.Data;
+import org.geotools.data.shapefile.index.DataDefinition;
+import org.geotools.data.shapefile.index.quadtree.StoreException;
+import org.geotools.util.NIOUtilities;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * A packed Hilbert R-tree spatial index, stored in the .prx file and read via memory mapping.
+ *
+ * <p>The tree is built in bulk by {@link PackedRTreeBuilder}: the records are sorted along a Hilbert curve, packed in
+ * leaves of {@link #getNodeSize()} items, and the upper levels are built bottom up packing the nodes in the same way.
+ * The result is a perfectly balanced tree laid out as a flat array of nodes, root first and leaves last, so that
+ * children can be located by position and searched with no per node object allocation.
+ *
+ * <p>File layout, all values little endian:
+ *
+ * <ul>
+ *   <li>header: magic ("PRX"), version (byte), node size (int), number of items (int), bounds (4 doubles)
+ *   <li>nodes: minX, minY, maxX, maxY (doubles), followed by two ints. For internal nodes the first int is the position
+ *       of the first child node. For leaf items the first int is the record position in the .shx, the second the byte
+ *       offset of the record in the .shp file
+ * </ul>
+ *
+ * <p>Instances are thread safe, all reads from the mapped buffer are absolute.
+ */
+public class PackedRTree implements FileReader, AutoCloseable {
+
+    static final DataDefinition DATA_DEFINITION = new DataDefinition("US-ASCII");
+
+    static {
+        DATA_DEFINITION.addField(Integer.class);
+        DATA_DEFINITION.addField(Long.class);
+    }
+
+    static final byte[] MAGIC = {'P', 'R', 'X'};
+
+    static final byte VERSION = 1;
+
+    /** Size of the file header in bytes */
+    static final int HEADER_SIZE = 48;
+
+    /** Size of a single node in bytes */
+    static final int NODE_SIZE = 40;
+
+    /** Default number of children per node */
+    public static final int DEFAULT_NODE_SIZE = 16;
+
+    ByteBuffer buffer;
+
+    /** Kept open until the tree is closed, so that the read lock on the file covers the mapped buffer lifetime */
+    ReadableByteChannel channel;
+
+    int nodeSize;
+
+    int numItems;
+
+    int numNodes;
+
+    int[] levelBounds;
+
+    Envelope bounds;
+
+    /**
+     * Opens and memory maps the .prx file of the given shapefile
+     *
+     * @throws StoreException if the file is not a valid packed R-tree file
+     */
+    @SuppressWarnings("PMD.CloseResource") // channel is closed along with the tree
+    public PackedRTree(ShpFiles shpFiles) throws IOException {
+        channel = shpFiles.getReadChannel(PRX, this);
+        boolean initialized = false;
+        try {
+            if (!(channel instanceof FileChannel)) {
+                throw new StoreException("The packed R-tree index can only be memory mapped from a local file");
+            }
+            FileChannel fc = (FileChannel) channel;
+            buffer = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            readHeader();
+            initialized = true;
+        } finally {
+            if (!initialized) {
+                close();
+            }
+        }
+    }
+
+    private void readHeader() throws StoreException {
+        if (buffer.capacity() < HEADER_SIZE) {
+            throw new StoreException("Packed R-tree file is too short to be valid");
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(i) != MAGIC[i]) {
+                throw new StoreException("Not a packed R-tree file, invalid magic number");
+            }
+        }
+        byte version = buffer.get(3);
+        if (version != VERSION) {
+            throw new StoreException("Unsupported packed R-tree version " + version);
+        }
+        nodeSize = buffer.getInt(4);
+        numItems = buffer.getInt(8);
+        bounds = new Envelope(buffer.getDouble(12), buffer.getDouble(28), buffer.getDouble(20), buffer.getDouble(36));
+        if (nodeSize < 2) {
+            throw new StoreException("Invalid packed R-tree node size " + nodeSize);
+        }
+        if (numItems > 0) {
+            levelBounds = levelBounds(numItems, nodeSize);
+            numNodes = levelBounds[1];
+            if (buffer.capacity() < HEADER_SIZE + (long) numNodes * NODE_SIZE) {
+                throw new StoreException("Packed R-tree file is truncated, expected " + numNodes + " nodes");
+            }
+        }
+    }
+
+    /**
+     * Computes the node positions of each level of a tree with the given number of items and node size. The returned
+     * array contains the start (inclusive) and end (exclusive) positions of each level, starting from the leaves.
+     * Since the leaves are last in the layout, the end of the leaf level is also the total number of nodes.
+     */
+    static int[] levelBounds(int numItems, int nodeSize) {
+        // count the nodes in each level, from the leaves up to the root
+        int[] levelNumNodes = new int[32];
+        int levels = 0;
+        long n = numItems;
+        long total = n;
+        levelNumNodes[levels++] = (int) n;
+        do {
+            n = (n + nodeSize - 1) / nodeSize;
+            total += n;
+            levelNumNodes[levels++] = (int) n;
+        } while (n != 1);
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many items for a packed R-tree: " + numItems);
+        }
+
+        // the root comes first, the leaves last
+        int[] result = new int[levels * 2];
+        int offset = (int) total;
+        for (int i = 0; i < levels; i++) {
+            offset -= levelNumNodes[i];
+            result[i * 2] = offset;
+            result[i * 2 + 1] = offset + levelNumNodes[i];
+        }
+        return result;
+    }
+
+    /** The number of children per node */
+    public int getNodeSize() {
+        return nodeSize;
+    }
+
+    /** The number of indexed records */
+    public int getNumItems() {
+        return numItems;
+    }
+
+    /** The bounds of all the indexed records */
+    public Envelope getBounds() {
+        return new Envelope(bounds);
+    }
+
+    /**
+     * Returns the records whose bounds intersect the given envelope, sorted by their offset in the .shp file. The
+     * returned {@link Data} contain the record number (always zero, as in {@link
+     * org.geotools.data.shapefile.index.CachedQuadTree}) and the byte offset in the .shp, and the same {@link Data}
+     * instance is reused across calls to next().
+     */
+    public CloseableIterator<Data> search(Envelope bbox) throws StoreException {
+        final Offsets offsets = new Offsets();
+        if (numItems > 0 && bbox.intersects(bounds)) {
+            collectOffsets(bbox, offsets);
+            offsets.sort();
+        }
+
+        final Data data = new Data(DATA_DEFINITION);
+        return new CloseableIterator<>() {
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < offsets.size;
+            }
+
+            @Override
+            public Data next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    data.clear();
+                    data.addValue(0);
+                    data.addValue((long) offsets.values[idx++]);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                return data;
+            }
+
+            @Override
+            public void close() throws IOException {
+                offsets.clear();
+            }
+        };
+    }
+
+    /** Walks the tree without recursion, using a stack of node positions and levels */
+    void collectOffsets(Envelope bbox, Offsets offsets) {
+        final double minX = bbox.getMinX();
+        final double minY = bbox.getMinY();
+        final double maxX = bbox.getMaxX();
+        final double maxY = bbox.getMaxY();
+        final int leavesStart = levelBounds[0];
+
+        // the stack can hold at most nodeSize entries per level
+        final int levels = levelBounds.length / 2;
+        int[] stack = new int[(nodeSize + 1) * levels * 2];
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = levels - 1;
+        while (top > 0) {
+            final int level = stack[--top];
+            final int nodeIndex = stack[--top];
+            final boolean isLeaf = nodeIndex >= leavesStart;
+            final int end = Math.min(nodeIndex + nodeSize, levelBounds[level * 2 + 1]);
+            for (int pos = nodeIndex; pos < end; pos++) {
+                int base = HEADER_SIZE + pos * NODE_SIZE;
+                if (maxX < buffer.getDouble(base)
+                        || maxY < buffer.getDouble(base + 8)
+                        || minX > buffer.getDouble(base + 16)
+                        || minY > buffer.getDouble(base + 24)) {
+                    continue;
+                }
+                if (isLeaf) {
+                    offsets.add(buffer.getInt(base + 36));
+                } else {
+                    stack[top++] = buffer.getInt(base + 32);
+                    stack[top++] = level - 1;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer != null) {
+            NIOUtilities.clean(buffer, true);
+            buffer = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    @Override
+    public String id() {
+        return getClass().getName();
+    }
+
+    /** A growable array of shp offsets */
+    static class Offsets {
+        int[] values = new int[64];
+
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void sort() {
+            Arrays.sort(values, 0, size);
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.index.packed;
+
+import static org.geotools.data.shapefile.index.packed.PackedRTree.HEADER_SIZE;
+import static org.geotools.data.shapefile.index.packed.PackedRTree.NODE_SIZE;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import org.geotools.util.NIOUtilities;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Builds a {@link PackedRTree} file in bulk. The record bounds are accumulated in primitive arrays, sorted by the
+ * Hilbert value of their centers, and then written out level by level, leaves first.
+ */
+public class PackedRTreeBuilder {
+
+    /** Number of bits per axis of the grid used to compute the Hilbert values */
+    static final int HILBERT_BITS = 15;
+
+    static final int HILBERT_MAX = (1 << HILBERT_BITS) - 1;
+
+    int nodeSize;
+
+    int numItems;
+
+    int[] positions;
+
+    int[] offsets;
+
+    /** The item bounds, as sequences of minX, minY, maxX, maxY */
+    double[] boxes;
+
+    Envelope bounds = new Envelope();
+
+    /**
+     * Creates a new builder
+     *
+     * @param nodeSize The number of children per node, at least 2
+     * @param expectedItems The expected number of items, used to size the internal arrays
+     */
+    public PackedRTreeBuilder(int nodeSize, int expectedItems) {
+        if (nodeSize < 2) {
+            throw new IllegalArgumentException("The node size must be at least 2, but was " + nodeSize);
+        }
+        this.nodeSize = nodeSize;
+        int capacity = Math.max(expectedItems, 16);
+        this.positions = new int[capacity];
+        this.offsets = new int[capacity];
+        this.boxes = new double[capacity * 4];
+    }
+
+    /**
+     * Adds a record to the tree
+     *
+     * @param position The record position in the .shx file (zero based)
+     * @param offset The record offset in the .shp file, in bytes
+     */
+    public void add(int position, int offset, double minX, double minY, double maxX, double maxY) {
+        if (numItems == positions.length) {
+            int capacity = positions.length * 2;
+            positions = Arrays.copyOf(positions, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            boxes = Arrays.copyOf(boxes, capacity * 4);
+        }
+        positions[numItems] = position;
+        offsets[numItems] = offset;
+        int base = numItems * 4;
+        boxes[base] = minX;
+        boxes[base + 1] = minY;
+        boxes[base + 2] = maxX;
+        boxes[base + 3] = maxY;
+        bounds.expandToInclude(minX, minY);
+        bounds.expandToInclude(maxX, maxY);
+        numItems++;
+    }
+
+    /** The number of items added so far */
+    public int getNumItems() {
+        return numItems;
+    }
+
+    /** Writes the tree to the specified file, overwriting its contents */
+    public void write(File file) throws IOException {
+        int[] order = sortByHilbertValue();
+        int[] levelBounds = numItems > 0 ? PackedRTree.levelBounds(numItems, nodeSize) : new int[] {0, 0};
+        long size = HEADER_SIZE + (long) levelBounds[1] * NODE_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Too many records for a packed R-tree index: " + numItems);
+        }
+
+        MappedByteBuffer buffer = null;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+                FileChannel channel = raf.getChannel()) {
+            raf.setLength(size);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            writeHeader(buffer);
+            if (numItems > 0) {
+                writeLeaves(buffer, order, levelBounds[0]);
+                writeInternalNodes(buffer, levelBounds);
+            }
+            buffer.force();
+        } finally {
+            if (buffer != null) {
+                NIOUtilities.clean(buffer, true);
+            }
+        }
+    }
+
+    private void writeHeader(MappedByteBuffer buffer) {
+        for (int i = 0; i < PackedRTree.MAGIC.length; i++) {
+            buffer.put(i, PackedRTree.MAGIC[i]);
+        }
+        buffer.put(3, PackedRTree.VERSION);
+        buffer.putInt(4, nodeSize);
+        buffer.putInt(8, numItems);
+        buffer.putDouble(12, bounds.getMinX());
+        buffer.putDouble(20, bounds.getMinY());
+        buffer.putDouble(28, bounds.getMaxX());
+        buffer.putDouble(36, bounds.getMaxY());
+    }
+
+    private void writeLeaves(MappedByteBuffer buffer, int[] order, int leavesStart) {
+        for (int i = 0; i < numItems; i++) {
+            int item = order[i];
+            int base = HEADER_SIZE + (leavesStart + i) * NODE_SIZE;
+            int box = item * 4;
+            buffer.putDouble(base, boxes[box]);
+            buffer.putDouble(base + 8, boxes[box + 1]);
+            buffer.putDouble(base + 16, boxes[box + 2]);
+            buffer.putDouble(base + 24, boxes[box + 3]);
+            buffer.putInt(base + 32, positions[item]);
+            buffer.putInt(base + 36, offsets[item]);
+        }
+    }
+
+    /** Builds the upper levels bottom up, each node covering up to nodeSize consecutive nodes of the level below */
+    private void writeInternalNodes(MappedByteBuffer buffer, int[] levelBounds) {
+        for (int level = 1; level < levelBounds.length / 2; level++) {
+            int childStart = levelBounds[(level - 1) * 2];
+            int childEnd = levelBounds[(level - 1) * 2 + 1];
+            int start = levelBounds[level * 2];
+            int end = levelBounds[level * 2 + 1];
+            for (int pos = start; pos < end; pos++) {
+                int firstChild = childStart + (pos - start) * nodeSize;
+                int lastChild = Math.min(firstChild + nodeSize, childEnd);
+                double minX = Double.POSITIVE_INFINITY;
+                double minY = Double.POSITIVE_INFINITY;
+                double maxX = Double.NEGATIVE_INFINITY;
+                double maxY = Double.NEGATIVE_INFINITY;
+                for (int child = firstChild; child < lastChild; child++) {
+                    int base = HEADER_SIZE + child * NODE_SIZE;
+                    minX = Math.min(minX, buffer.getDouble(base));
+                    minY = Math.min(minY, buffer.getDouble(base + 8));
+                    maxX = Math.max(maxX, buffer.getDouble(base + 16));
+                    maxY = Math.max(maxY, buffer.getDouble(base + 24));
+                }
+                int base = HEADER_SIZE + pos * NODE_SIZE;
+                buffer.putDouble(base, minX);
+                buffer.putDouble(base + 8, minY);
+                buffer.putDouble(base + 16, maxX);
+                buffer.putDouble(base + 24, maxY);
+                buffer.putInt(base + 32, firstChild);
+                buffer.putInt(base + 36, -1);
+            }
+        }
+    }
+
+    /** Returns the item indexes sorted by the Hilbert value of their center, ties keep the insertion order */
+    int[] sortByHilbertValue() {
+        double width = bounds.getWidth();
+        double height = bounds.getHeight();
+        long[] keys = new long[numItems];
+        for (int i = 0; i < numItems; i++) {
+            int box = i * 4;
+            double cx = (boxes[box] + boxes[box + 2]) / 2;
+            double cy = (boxes[box + 1] + boxes[box + 3]) / 2;
+            int x = width > 0 ? (int) (HILBERT_MAX * (cx - bounds.getMinX()) / width) : 0;
+            int y = height > 0 ? (int) (HILBERT_MAX * (cy - bounds.getMinY()) / height) : 0;
+            // the Hilbert value uses at most 30 bits, so the keys are always positive
+            keys[i] = ((long) hilbert(x, y) << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[numItems];
+        for (int i = 0; i < numItems; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    /**
+     * Computes the distance along the Hilbert curve of the given cell, in a grid of 2^{@link #HILBERT_BITS} cells per
+     * side
+     */
+    static int hilbert(int x, int y) {
+        int n = 1 << HILBERT_BITS;
+        int d = 0;
+        for (int s = n / 2; s > 0; s /= 2) {
+            int rx = (x & s) > 0 ? 1 : 0;
+            int ry = (y & s) > 0 ? 1 : 0;
+            d += s * s * ((3 * rx) ^ ry);
+            // rotate the quadrant so that the curve stays continuous
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = n - 1 - x;
+                    y = n - 1 - y;
+                }
+                int t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return d;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.Filter;
+import org.geotools.data.shapefile.dbf.DbaseFileReader;
+import org.geotools.data.shapefile.files.ShpFiles;
+import org.geotools.util.URLs;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DbaseRowFilterTest extends TestCaseSupport {
+
+    private File shp;
+
+    private ShapefileDataStore store;
+
+    private SimpleFeatureType schema;
+
+    private int[] dbfindexes;
+
+    @Before
+    public void setUp() throws Exception {
+        shp = copyShapefiles(STATE_POP);
+        store = new ShapefileDataStore(URLs.fileToUrl(shp));
+        store.setIndexed(false);
+        schema = store.getSchema();
+        // the geometry is not in the dbf, the other attributes follow the dbf column order
+        dbfindexes = new int[schema.getAttributeCount()];
+        for (int i = 0; i < dbfindexes.length; i++) {
+            dbfindexes[i] = i - 1;
+        }
+    }
+
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        store.dispose();
+        super.tearDown();
+    }
+
+    @Test
+    public void testStringEquals() throws Exception {
+        assertMatches(ff.equals(ff.property("STATE_NAME"), ff.literal("Illinois")), 1);
+        assertMatches(ff.equals(ff.literal("Illinois"), ff.property("STATE_NAME")), 1);
+        assertMatches(ff.equals(ff.property("STATE_NAME"), ff.literal("Illin")), 0);
+    }
+
+    @Test
+    public void testLikePrefix() throws Exception {
+        assertMatches(ff.like(ff.property("STATE_NAME"), "New%"), 4);
+        assertMatches(ff.like(ff.property("STATE_NAME"), "N%"), 8);
+    }
+
+    @Test
+    public void testNumberRanges() throws Exception {
+        assertMatches(ff.greater(ff.property("PERSONS"), ff.literal(3000000)), -1);
+        assertMatches(ff.lessOrEqual(ff.literal(3000000), ff.property("PERSONS")), -1);
+        assertMatches(ff.between(ff.property("PERSONS"), ff.literal(1000000), ff.literal(5000000.5)), -1);
+        assertMatches(ff.equals(ff.property("LAND_KM"), ff.literal(-1)), 0);
+    }
+
+    @Test
+    public void testAndWithUnsupportedPart() throws Exception {
+        Filter filter = ff.and(
+                ff.greater(ff.property("PERSONS"), ff.literal(3000000)),
+                ff.bbox("the_geom", -100, 30, -80, 40, null));
+        assertMatches(filter, -1);
+    }
+
+    @Test
+    public void testUnsupported() throws Exception {
+        try (DbaseFileReader dbf = openDbf()) {
+            // case insensitive comparisons cannot be performed on the raw bytes
+            assertNull(build(ff.equal(ff.property("STATE_NAME"), ff.literal("illinois"), false), dbf));
+            // the wildcard is not at the end
+            assertNull(build(ff.like(ff.property("STATE_NAME"), "%York"), dbf));
+            assertNull(build(ff.or(
+                            ff.equals(ff.property("STATE_NAME"), ff.literal("Illinois")),
+                            ff.equals(ff.property("STATE_NAME"), ff.literal("Ohio"))),
+                    dbf));
+            assertNull(build(ff.bbox("the_geom", -100, 30, -80, 40, null), dbf));
+            assertNull(build(Filter.INCLUDE, dbf));
+        }
+    }
+
+    /**
+     * Checks that the raw row filter accepts exactly the rows matched by the full filter, and that the datastore
+     * returns the same features with and without it
+     *
+     * @param expected The expected number of matches, or -1 to only check there is at least one
+     */
+    private void assertMatches(Filter filter, int expected) throws Exception {
+        List<String> matches = new ArrayList<>();
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                store.getFeatureReader(new Query(schema.getTypeName()), Transaction.AUTO_COMMIT)) {
+            while (reader.hasNext()) {
+                SimpleFeature feature = reader.next();
+                if (filter.evaluate(feature)) {
+                    matches.add(feature.getID());
+                }
+            }
+        }
+        if (expected >= 0) {
+            assertEquals(expected, matches.size());
+        } else {
+            assertFalse(matches.isEmpty());
+        }
+
+        try (DbaseFileReader dbf = openDbf()) {
+            DbaseRowFilter rowFilter = build(filter, dbf);
+            assertNotNull(rowFilter);
+            int accepted = 0;
+            while (dbf.hasNext()) {
+                if (rowFilter.accepts(dbf.readRow())) {
+                    accepted++;
+                }
+            }
+            assertEquals(matches.size(), accepted);
+        }
+
+        List<String> actual = new ArrayList<>();
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                store.getFeatureReader(new Query(schema.getTypeName(), filter), Transaction.AUTO_COMMIT)) {
+            while (reader.hasNext()) {
+                actual.add(reader.next().getID());
+            }
+        }
+        assertEquals(matches, actual);
+    }
+
+    private DbaseRowFilter build(Filter filter, DbaseFileReader dbf) {
+        return DbaseRowFilter.build(filter, schema, dbfindexes, dbf);
+    }
+
+    private DbaseFileReader openDbf() throws Exception {
+        return new DbaseFileReader(new ShpFiles(shp), false, StandardCharsets.ISO_8859_1);
+    }
+}
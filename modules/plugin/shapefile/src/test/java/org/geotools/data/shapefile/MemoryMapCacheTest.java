@@ -0,0 +1,139 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import org.geotools.data.shapefile.files.FileReader;
+import org.geotools.data.shapefile.files.MemoryMapCacheStatistics;
+import org.geotools.data.shapefile.files.ShpFileType;
+import org.geotools.data.shapefile.files.ShpFiles;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MemoryMapCacheTest extends TestCaseSupport implements FileReader {
+
+    private File shp;
+
+    private ShpFiles shpFiles;
+
+    private long maxSize;
+
+    @Before
+    public void setUp() throws Exception {
+        shp = copyShapefiles(STATE_POP);
+        shpFiles = new ShpFiles(shp);
+        shpFiles.setMemoryMapCacheEnabled(true);
+        maxSize = ShpFiles.getMemoryMapCacheMaxSize();
+        ShpFiles.resetMemoryMapCacheStatistics();
+    }
+
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        shpFiles.dispose();
+        ShpFiles.setMemoryMapCacheMaxSize(maxSize);
+        super.tearDown();
+    }
+
+    @Test
+    public void testHitsAndMisses() throws Exception {
+        map(ShpFileType.SHP);
+        map(ShpFileType.SHP);
+        map(ShpFileType.DBF);
+
+        MemoryMapCacheStatistics stats = ShpFiles.getMemoryMapCacheStatistics();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0, stats.getEvictionCount());
+        assertEquals(2, stats.getRegionCount());
+        assertEquals(size(ShpFileType.SHP) + size(ShpFileType.DBF), stats.getCachedSize());
+
+        shpFiles.dispose();
+        stats = ShpFiles.getMemoryMapCacheStatistics();
+        assertEquals(0, stats.getRegionCount());
+        assertEquals(0, stats.getCachedSize());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws Exception {
+        // room for the shp and the shx, but not for the dbf too
+        ShpFiles.setMemoryMapCacheMaxSize(size(ShpFileType.SHP) + size(ShpFileType.SHX));
+        map(ShpFileType.SHP);
+        map(ShpFileType.SHX);
+        // the shp becomes the most recently used
+        map(ShpFileType.SHP);
+        map(ShpFileType.DBF);
+
+        MemoryMapCacheStatistics stats = ShpFiles.getMemoryMapCacheStatistics();
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(size(ShpFileType.SHP) + size(ShpFileType.DBF), stats.getCachedSize());
+        assertEquals(0, stats.getPendingSize());
+
+        // the shp is still cached, the shx has been evicted
+        map(ShpFileType.SHP);
+        map(ShpFileType.SHX);
+        stats = ShpFiles.getMemoryMapCacheStatistics();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(4, stats.getMissCount());
+    }
+
+    @Test
+    public void testEvictionWhileReading() throws Exception {
+        ShpFiles.setMemoryMapCacheMaxSize(size(ShpFileType.SHP));
+        map(ShpFileType.SHP);
+        try (FileChannel channel = (FileChannel) shpFiles.getReadChannel(ShpFileType.SHX, this)) {
+            channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            // the shp buffer could be in use by another reader, it cannot be unmapped yet
+            MemoryMapCacheStatistics stats = ShpFiles.getMemoryMapCacheStatistics();
+            assertEquals(1, stats.getEvictionCount());
+            assertEquals(size(ShpFileType.SHP), stats.getPendingSize());
+        }
+        // released along with the last read lock
+        assertEquals(0, ShpFiles.getMemoryMapCacheStatistics().getPendingSize());
+    }
+
+    @Test
+    public void testRegionLargerThanMaxSize() throws Exception {
+        ShpFiles.setMemoryMapCacheMaxSize(10);
+        MappedByteBuffer buffer = map(ShpFileType.SHP);
+        assertEquals(size(ShpFileType.SHP), buffer.capacity());
+
+        MemoryMapCacheStatistics stats = ShpFiles.getMemoryMapCacheStatistics();
+        assertEquals(1, stats.getUncacheableCount());
+        assertEquals(0, stats.getRegionCount());
+    }
+
+    private MappedByteBuffer map(ShpFileType type) throws Exception {
+        try (FileChannel channel = (FileChannel) shpFiles.getReadChannel(type, this)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private long size(ShpFileType type) {
+        return sibling(shp, type.extension).length();
+    }
+
+    @Override
+    public String id() {
+        return getClass().getName();
+    }
+}
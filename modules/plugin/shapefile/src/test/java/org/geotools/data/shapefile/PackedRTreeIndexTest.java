@@ -0,0 +1,194 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import static org.geotools.data.shapefile.files.ShpFileType.PRX;
+import static org.geotools.data.shapefile.files.ShpFileType.QIX;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.api.data.CloseableIterator;
+import org.geotools.api.data.Query;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.data.shapefile.files.ShpFileType;
+import org.geotools.data.shapefile.files.ShpFiles;
+import org.geotools.data.shapefile.index.Data;
+import org.geotools.data.shapefile.index.packed.PackedRTree;
+import org.geotools.data.shapefile.shp.IndexFile;
+import org.geotools.data.shapefile.shp.ShapefileReader;
+import org.geotools.data.shapefile.shp.ShapefileReader.Record;
+import org.geotools.data.simple.SimpleFeatureIterator;
+import org.geotools.util.URLs;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+
+public class PackedRTreeIndexTest extends TestCaseSupport {
+
+    private File shpFile;
+
+    private ShpFiles shpFiles;
+
+    @Before
+    public void setUp() throws Exception {
+        shpFile = copyShapefiles(STATE_POP);
+        shpFiles = new ShpFiles(shpFile);
+        deleteIndex(QIX);
+
+        ShapeFileIndexer indexer = new ShapeFileIndexer();
+        indexer.setShapeFileName(shpFiles);
+        indexer.setIndexType(PRX);
+        // small nodes, to get a few levels out of the 49 states
+        indexer.setLeafSize(4);
+        assertEquals(49, indexer.index(false, null));
+    }
+
+    @After
+    @Override
+    public void tearDown() throws Exception {
+        shpFiles.dispose();
+        super.tearDown();
+    }
+
+    @Test
+    public void testSearchMatchesScan() throws Exception {
+        Envelope[] queries = {
+            new Envelope(-100, -90, 30, 40),
+            new Envelope(-75, -74, 40, 41),
+            new Envelope(-124, -120, 30, 50),
+            new Envelope(0, 10, 0, 10)
+        };
+        try (PackedRTree tree = new PackedRTree(shpFiles)) {
+            assertEquals(49, tree.getNumItems());
+            assertEquals(4, tree.getNodeSize());
+            for (Envelope query : queries) {
+                assertEquals(scan(query), search(tree, query));
+            }
+        }
+    }
+
+    @Test
+    public void testIndexManagerPicksPackedIndex() throws Exception {
+        ShapefileDataStore store = new ShapefileDataStore(URLs.fileToUrl(shpFile));
+        try {
+            IndexManager manager = store.indexManager;
+            assertTrue(manager.isSpatialIndexAvailable());
+            assertTrue(manager.isPackedSpatialIndexUseable());
+
+            Envelope query = new Envelope(-100, -90, 30, 40);
+            List<Long> offsets = new ArrayList<>();
+            try (CloseableIterator<Data> it = manager.querySpatialIndex(query)) {
+                while (it.hasNext()) {
+                    offsets.add((Long) it.next().getValue(1));
+                }
+            }
+            assertEquals(scan(query), offsets);
+
+            // the whole extent needs no index
+            assertNull(manager.querySpatialIndex(new Envelope(-180, 180, -90, 90)));
+
+            // the quadtree was not built, the packed index was used instead
+            assertFalse(shpFiles.exists(QIX));
+        } finally {
+            store.dispose();
+        }
+    }
+
+    @Test
+    public void testBBoxQuery() throws Exception {
+        ShapefileDataStore indexed = new ShapefileDataStore(URLs.fileToUrl(shpFile));
+        ShapefileDataStore plain = new ShapefileDataStore(URLs.fileToUrl(shpFile));
+        plain.setIndexed(false);
+        try {
+            Query query = new Query(indexed.getTypeNames()[0], ff.bbox("the_geom", -100, 30, -90, 40, null));
+            List<String> expected = getIds(plain, query);
+            List<String> actual = getIds(indexed, query);
+            assertFalse(expected.isEmpty());
+            assertEquals(expected, actual);
+            assertFalse(shpFiles.exists(QIX));
+        } finally {
+            indexed.dispose();
+            plain.dispose();
+        }
+    }
+
+    @Test
+    public void testStaleIndexIgnored() throws Exception {
+        File prx = sibling(shpFile, "prx");
+        assertTrue(prx.setLastModified(shpFile.lastModified() - 10000));
+
+        ShapefileDataStore store = new ShapefileDataStore(URLs.fileToUrl(shpFile));
+        try {
+            assertFalse(store.indexManager.isPackedSpatialIndexUseable());
+        } finally {
+            store.dispose();
+        }
+    }
+
+    private List<String> getIds(ShapefileDataStore store, Query query) throws Exception {
+        List<String> ids = new ArrayList<>();
+        try (SimpleFeatureIterator it = store.getFeatureSource().getFeatures(query).features()) {
+            while (it.hasNext()) {
+                SimpleFeature feature = it.next();
+                ids.add(feature.getID());
+            }
+        }
+        return ids;
+    }
+
+    private List<Long> search(PackedRTree tree, Envelope query) throws Exception {
+        List<Long> offsets = new ArrayList<>();
+        try (CloseableIterator<Data> it = tree.search(query)) {
+            while (it.hasNext()) {
+                offsets.add((Long) it.next().getValue(1));
+            }
+        }
+        return offsets;
+    }
+
+    /** Brute force lookup of the records intersecting the query, sorted by offset */
+    private List<Long> scan(Envelope query) throws Exception {
+        List<Long> offsets = new ArrayList<>();
+        try (ShapefileReader reader = new ShapefileReader(shpFiles, false, false, new GeometryFactory());
+                IndexFile shx = new IndexFile(shpFiles, false)) {
+            int recno = 0;
+            while (reader.hasNext()) {
+                Record record = reader.nextRecord();
+                Envelope bounds = new Envelope(record.minX, record.maxX, record.minY, record.maxY);
+                if (query.intersects(bounds)) {
+                    offsets.add((long) shx.getOffsetInBytes(recno));
+                }
+                recno++;
+            }
+        }
+        return offsets;
+    }
+
+    private void deleteIndex(ShpFileType type) {
+        File file = sibling(shpFile, type.extension);
+        if (file.exists()) {
+            assertTrue(file.delete());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.feature.visitor.BoundsVisitor;
+import org.geotools.feature.visitor.SumVisitor;
+import org.geotools.util.URLs;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ParallelShapefileFeatureReaderTest extends TestCaseSupport {
+
+    private ShapefileDataStore sequential;
+
+    private ShapefileDataStore parallel;
+
+    private ForkJoinPool pool;
+
+    @Before
+    public void setUp() throws Exception {
+        File shp = copyShapefiles(STATE_POP);
+        sequential = new ShapefileDataStore(URLs.fileToUrl(shp));
+        parallel = new ShapefileDataStore(URLs.fileToUrl(shp));
+        parallel.setParallelScan(true);
+        // statepop has 49 records, make sure we get several ranges, the last one partial
+        parallel.setParallelScanChunkSize(5);
+        pool = new ForkJoinPool(3);
+        parallel.setParallelScanPool(pool);
+    }
+
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        sequential.dispose();
+        parallel.dispose();
+        pool.shutdown();
+        super.tearDown();
+    }
+
+    @Test
+    public void testParallelReaderUsed() throws Exception {
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                parallel.getFeatureReader(new Query(parallel.getTypeNames()[0]), Transaction.AUTO_COMMIT)) {
+            assertTrue(reader instanceof ParallelShapefileFeatureReader);
+        }
+
+        // not enough records to split
+        parallel.setParallelScanChunkSize(1000);
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                parallel.getFeatureReader(new Query(parallel.getTypeNames()[0]), Transaction.AUTO_COMMIT)) {
+            assertFalse(reader instanceof ParallelShapefileFeatureReader);
+        }
+    }
+
+    @Test
+    public void testSameContentsAndOrder() throws Exception {
+        assertSameFeatures(new Query(sequential.getTypeNames()[0]));
+    }
+
+    @Test
+    public void testFilterAndRetype() throws Exception {
+        Query query = new Query(sequential.getTypeNames()[0]);
+        query.setFilter(ff.greater(ff.property("PERSONS"), ff.literal(3000000)));
+        query.setPropertyNames("STATE_NAME");
+        assertSameFeatures(query);
+    }
+
+    @Test
+    public void testBoundingBox() throws Exception {
+        Query query = new Query(sequential.getTypeNames()[0]);
+        query.setFilter(ff.bbox("the_geom", -100, 30, -90, 40, null));
+        // make sure the spatial index does not kick in
+        sequential.setIndexed(false);
+        parallel.setIndexed(false);
+        assertSameFeatures(query);
+    }
+
+    @Test
+    public void testVisitors() throws Exception {
+        BoundsVisitor expectedBounds = new BoundsVisitor();
+        SumVisitor expectedSum = new SumVisitor("PERSONS", sequential.getSchema());
+        sequential.getFeatureSource().getFeatures().accepts(expectedBounds, null);
+        sequential.getFeatureSource().getFeatures().accepts(expectedSum, null);
+
+        BoundsVisitor bounds = new BoundsVisitor();
+        SumVisitor sum = new SumVisitor("PERSONS", parallel.getSchema());
+        parallel.getFeatureSource().getFeatures().accepts(bounds, null);
+        parallel.getFeatureSource().getFeatures().accepts(sum, null);
+
+        assertEquals(expectedBounds.getBounds(), bounds.getBounds());
+        assertEquals(expectedSum.getResult().toDouble(), sum.getResult().toDouble(), 0d);
+    }
+
+    @Test
+    public void testEarlyClose() throws Exception {
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                parallel.getFeatureReader(new Query(parallel.getTypeNames()[0]), Transaction.AUTO_COMMIT)) {
+            assertTrue(reader.hasNext());
+            reader.next();
+        }
+        // the files are still readable once the reader has been closed mid-way
+        assertSameFeatures(new Query(sequential.getTypeNames()[0]));
+    }
+
+    private void assertSameFeatures(Query query) throws Exception {
+        List<SimpleFeature> expected = readAll(sequential, query);
+        List<SimpleFeature> actual = readAll(parallel, query);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            SimpleFeature e = expected.get(i);
+            SimpleFeature a = actual.get(i);
+            assertEquals(e.getID(), a.getID());
+            assertEquals(e.getAttributes(), a.getAttributes());
+        }
+    }
+
+    private List<SimpleFeature> readAll(ShapefileDataStore store, Query query) throws Exception {
+        List<SimpleFeature> result = new ArrayList<>();
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                store.getFeatureReader(query, Transaction.AUTO_COMMIT)) {
+            while (reader.hasNext()) {
+                result.add(reader.next());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.api.filter.sort.SortOrder;
+import org.geotools.feature.simple.FlyweightSimpleFeature;
+import org.geotools.util.URLs;
+import org.geotools.util.factory.Hints;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ShapefileFeatureReuseTest extends TestCaseSupport {
+
+    private ShapefileDataStore store;
+
+    @Before
+    public void setUp() throws Exception {
+        File shp = copyShapefiles(STATE_POP);
+        store = new ShapefileDataStore(URLs.fileToUrl(shp));
+    }
+
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        store.dispose();
+        super.tearDown();
+    }
+
+    @Test
+    public void testHintSupported() throws Exception {
+        assertTrue(store.getFeatureSource().getSupportedHints().contains(Hints.FEATURE_REUSE));
+    }
+
+    @Test
+    public void testSameFeatures() throws Exception {
+        assertSameFeatures(new Query(store.getTypeNames()[0]), true);
+    }
+
+    @Test
+    public void testFilterAndRetype() throws Exception {
+        Query query = new Query(store.getTypeNames()[0]);
+        query.setFilter(ff.greater(ff.property("PERSONS"), ff.literal(3000000)));
+        query.setPropertyNames("STATE_NAME", "the_geom");
+        assertSameFeatures(query, false);
+    }
+
+    @Test
+    public void testSorted() throws Exception {
+        // the sort keeps the features in memory, has to copy them
+        Query query = new Query(store.getTypeNames()[0]);
+        query.setSortBy(ff.sort("PERSONS", SortOrder.DESCENDING));
+        assertSameFeatures(query, false);
+    }
+
+    private void assertSameFeatures(Query query, boolean checkReuse) throws Exception {
+        List<SimpleFeature> expected = read(new Query(query));
+        Query reuse = new Query(query);
+        reuse.setHints(new Hints(Hints.FEATURE_REUSE, true));
+        List<SimpleFeature> actual = read(reuse);
+        assertEquals(expected, actual);
+        if (checkReuse) {
+            try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                    store.getFeatureReader(reuse, Transaction.AUTO_COMMIT)) {
+                SimpleFeature first = reader.next();
+                assertTrue(first instanceof FlyweightSimpleFeature);
+                assertSame(first, reader.next());
+            }
+        }
+    }
+
+    private List<SimpleFeature> read(Query query) throws Exception {
+        List<SimpleFeature> result = new ArrayList<>();
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                store.getFeatureReader(query, Transaction.AUTO_COMMIT)) {
+            while (reader.hasNext()) {
+                result.add(FlyweightSimpleFeature.retain(reader.next()));
+            }
+        }
+        return result;
+    }
+}
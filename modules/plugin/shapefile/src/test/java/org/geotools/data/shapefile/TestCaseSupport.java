@@ -92,6 +92,8 @@ public void tearDown() throws Exception {
             dieDieDIE(sibling(targetFile, "shx"));
             // Quad tree index
             dieDieDIE(sibling(targetFile, "qix"));
+            // Packed R-tree index
+            dieDieDIE(sibling(targetFile, "prx"));
             // Feature ID index
             dieDieDIE(sibling(targetFile, "fix"));
             // R-Tree index
@@ -19,9 +19,14 @@
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.InputStream;
 import java.nio.channels.Channels;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
@@ -57,4 +62,45 @@ public void test() throws Exception {
             assertThat(records.get(98245L), nullValue()); // this fails with 0.0
         }
     }
+
+    @Test
+    public void testRawAccess() throws Exception {
+        try (InputStream dbf = getClass()
+                        .getResourceAsStream("/org/geotools/data/shapefile/test-data/dbase-file-reader/nulls.dbf");
+                DbaseFileReader dbfReader =
+                        new DbaseFileReader(Channels.newChannel(dbf), false, StandardCharsets.UTF_8)) {
+
+            Map<Double, Double> records = new HashMap<>();
+            while (dbfReader.hasNext()) {
+                DbaseFileReader.Row row = dbfReader.readRow();
+                // parsed from the raw bytes, before the row gets decoded
+                double id = row.readDouble(0);
+                double loss = row.readDouble(1);
+                assertEquals(((Number) row.read(0)).doubleValue(), id, 0d);
+                records.put(id, loss);
+            }
+
+            assertThat(records.get(98586d), is(5.21));
+            assertThat(records.get(98538d), is(0.0));
+            assertTrue(Double.isNaN(records.get(98289d)));
+            assertTrue(Double.isNaN(records.get(98245d)));
+        }
+    }
+
+    @Test
+    public void testEncodeForRawComparison() throws Exception {
+        try (InputStream dbf = getClass()
+                        .getResourceAsStream("/org/geotools/data/shapefile/test-data/dbase-file-reader/nulls.dbf");
+                DbaseFileReader dbfReader =
+                        new DbaseFileReader(Channels.newChannel(dbf), false, StandardCharsets.US_ASCII)) {
+            assertEquals(3, dbfReader.encode("abc").length);
+            // cannot be represented in the charset
+            assertNull(dbfReader.encode("\u00e8"));
+        }
+
+        assertTrue(DbaseFileReader.isRawComparable(StandardCharsets.UTF_8));
+        assertTrue(DbaseFileReader.isRawComparable(StandardCharsets.ISO_8859_1));
+        assertTrue(DbaseFileReader.isRawComparable(Charset.forName("windows-1252")));
+        assertFalse(DbaseFileReader.isRawComparable(StandardCharsets.UTF_16));
+    }
 }
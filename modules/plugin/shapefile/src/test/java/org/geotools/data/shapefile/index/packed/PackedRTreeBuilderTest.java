@@ -0,0 +1,67 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.data.shapefile.index.packed;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class PackedRTreeBuilderTest {
+
+    @Test
+    public void testHilbertCurve() {
+        // the first 16 steps of the curve fill the 4x4 block at the origin, moving between adjacent cells
+        Map<Integer, int[]> cells = new HashMap<>();
+        for (int x = 0; x < 4; x++) {
+            for (int y = 0; y < 4; y++) {
+                cells.put(PackedRTreeBuilder.hilbert(x, y), new int[] {x, y});
+            }
+        }
+        assertEquals(16, cells.size());
+        for (int d = 0; d < 16; d++) {
+            assertTrue(cells.containsKey(d));
+        }
+        for (int d = 1; d < 16; d++) {
+            int[] prev = cells.get(d - 1);
+            int[] curr = cells.get(d);
+            assertEquals(1, Math.abs(prev[0] - curr[0]) + Math.abs(prev[1] - curr[1]));
+        }
+    }
+
+    @Test
+    public void testLevelBounds() {
+        // 49 leaves, 13, 4 and then the root, laid out root first
+        assertArrayEquals(new int[] {18, 67, 5, 18, 1, 5, 0, 1}, PackedRTree.levelBounds(49, 4));
+        // a single item still gets a root node
+        assertArrayEquals(new int[] {1, 2, 0, 1}, PackedRTree.levelBounds(1, 16));
+    }
+
+    @Test
+    public void testSortByHilbertValue() {
+        PackedRTreeBuilder builder = new PackedRTreeBuilder(2, 4);
+        builder.add(0, 100, 9, 9, 10, 10);
+        builder.add(1, 200, 0, 0, 1, 1);
+        builder.add(2, 300, 9, 0, 10, 1);
+        builder.add(3, 400, 0, 9, 1, 10);
+        // the curve starts at the origin, goes up, across and down
+        assertArrayEquals(new int[] {1, 3, 0, 2}, builder.sortByHilbertValue());
+    }
+}
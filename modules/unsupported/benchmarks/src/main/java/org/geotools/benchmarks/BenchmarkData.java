@@ -0,0 +1,136 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import org.geotools.api.data.SimpleFeatureStore;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.DataUtilities;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.data.shapefile.ShapefileDataStore;
+import org.geotools.feature.SchemaException;
+import org.geotools.feature.simple.SimpleFeatureBuilder;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+
+/**
+ * Builds the data sets the benchmarks run on. They are generated from a fixed seed, so that all runs, on all versions,
+ * work on the same features.
+ */
+final class BenchmarkData {
+
+    /** The area the features are spread over */
+    static final ReferencedEnvelope BOUNDS = new ReferencedEnvelope(-20, 40, 30, 70, DefaultGeographicCRS.WGS84);
+
+    static final SimpleFeatureType TYPE;
+
+    static {
+        try {
+            TYPE = DataUtilities.createType(
+                    "benchmark",
+                    "the_geom:MultiPolygon:srid=4326,name:String,value:Integer,height:Double,date:Date");
+        } catch (SchemaException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final GeometryFactory GF = new GeometryFactory();
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns features with star shaped polygons
+     *
+     * @param count the number of features
+     * @param vertices the number of vertices of each polygon
+     */
+    static List<SimpleFeature> features(int count, int vertices) {
+        Random random = new Random(42);
+        SimpleFeatureBuilder fb = new SimpleFeatureBuilder(TYPE);
+        List<SimpleFeature> features = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double x = BOUNDS.getMinX() + random.nextDouble() * BOUNDS.getWidth();
+            double y = BOUNDS.getMinY() + random.nextDouble() * BOUNDS.getHeight();
+            fb.add(GF.createMultiPolygon(new Polygon[] {star(random, x, y, 0.2, vertices)}));
+            fb.add("name" + random.nextInt(1000));
+            fb.add(random.nextInt(1000));
+            fb.add(random.nextDouble() * 100);
+            fb.add(new Date(1_600_000_000_000L + random.nextInt(1_000_000) * 1000L));
+            features.add(fb.buildFeature("benchmark." + i));
+        }
+        return features;
+    }
+
+    static ListFeatureCollection collection(int count, int vertices) {
+        return new ListFeatureCollection(TYPE, features(count, vertices));
+    }
+
+    /** Returns the multipolygons of the features */
+    static List<MultiPolygon> geometries(int count, int vertices) {
+        List<MultiPolygon> geometries = new ArrayList<>(count);
+        for (SimpleFeature feature : features(count, vertices)) {
+            geometries.add((MultiPolygon) feature.getDefaultGeometry());
+        }
+        return geometries;
+    }
+
+    private static Polygon star(Random random, double x, double y, double radius, int vertices) {
+        Coordinate[] ring = new Coordinate[vertices + 1];
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            double r = radius * (0.5 + random.nextDouble() * 0.5);
+            ring[i] = new Coordinate(x + r * Math.cos(angle), y + r * Math.sin(angle));
+        }
+        ring[vertices] = ring[0];
+        return GF.createPolygon(ring);
+    }
+
+    /** Writes the features as a shapefile in the given directory, and returns the .shp file */
+    static File shapefile(File directory, int count, int vertices) throws IOException {
+        File file = new File(directory, "benchmark.shp");
+        ShapefileDataStore store = new ShapefileDataStore(file.toURI().toURL());
+        try {
+            store.createSchema(TYPE);
+            SimpleFeatureStore featureStore = (SimpleFeatureStore) store.getFeatureSource();
+            featureStore.addFeatures(collection(count, vertices));
+        } finally {
+            store.dispose();
+        }
+        return file;
+    }
+
+    /** Deletes a directory and its contents */
+    static void delete(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs the benchmarks, accepting the usual JMH command line options, e.g.:
+ *
+ * <pre><code>
+ * java -jar target/benchmarks.jar FilterBenchmark -p compiled=true
+ * </code></pre>
+ *
+ * Unless another result format is requested, the results are written as JSON to <code>jmh-result.json</code>, so that
+ * runs on different versions can be compared with {@link ResultComparison}.
+ */
+public class Benchmarks {
+
+    public static void main(String[] args) throws Exception {
+        List<String> options = new ArrayList<>(Arrays.asList(args));
+        if (!options.contains("-rf")) {
+            options.addAll(0, Arrays.asList("-rf", "json"));
+            if (!options.contains("-rff")) {
+                options.addAll(2, Arrays.asList("-rff", "jmh-result.json"));
+            }
+        }
+        org.openjdk.jmh.Main.main(options.toArray(new String[options.size()]));
+    }
+}
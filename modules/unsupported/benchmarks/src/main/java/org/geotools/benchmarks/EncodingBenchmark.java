@@ -0,0 +1,81 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.geotools.data.collection.ListFeatureCollection;
+import org.geotools.data.geojson.GeoJSONWriter;
+import org.geotools.gml3.GML;
+import org.geotools.gml3.GMLConfiguration;
+import org.geotools.xsd.Encoder;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Encodes features as GeoJSON, and geometries as GML 3. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodingBenchmark {
+
+    private ListFeatureCollection features;
+
+    private List<MultiPolygon> geometries;
+
+    private Encoder gmlEncoder;
+
+    @Setup
+    public void setup() {
+        features = BenchmarkData.collection(1000, 64);
+        geometries = BenchmarkData.geometries(1000, 64);
+        gmlEncoder = new Encoder(new GMLConfiguration());
+        gmlEncoder.setIndenting(false);
+        gmlEncoder.setOmitXMLDeclaration(true);
+    }
+
+    @Benchmark
+    public int geoJSON() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GeoJSONWriter writer = new GeoJSONWriter(out)) {
+            writer.writeFeatureCollection(features);
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public int gml3() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (MultiPolygon geometry : geometries) {
+            gmlEncoder.encode(geometry, GML.MultiPolygon, out);
+        }
+        return out.size();
+    }
+}
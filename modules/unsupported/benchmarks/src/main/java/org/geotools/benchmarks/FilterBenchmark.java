@@ -0,0 +1,82 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.filter.Filter;
+import org.geotools.filter.FilterCompiler;
+import org.geotools.filter.text.ecql.ECQL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Evaluates common filter shapes against in memory features, as interpreted filters and compiled ones. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterBenchmark {
+
+    @Param({
+        "name = 'name17'",
+        "value BETWEEN 100 AND 200",
+        "name LIKE 'name1%'",
+        "value IN (1, 5, 7, 42, 99)",
+        "BBOX(the_geom, 0, 40, 10, 50)",
+        "INTERSECTS(the_geom, POLYGON((0 40, 10 40, 10 50, 0 50, 0 40)))",
+        "value > 100 AND height < 50 AND name LIKE '%5'",
+        "date AFTER 2021-01-01T00:00:00Z"
+    })
+    public String filter;
+
+    @Param({"false", "true"})
+    public boolean compiled;
+
+    private List<SimpleFeature> features;
+
+    private Filter evaluated;
+
+    @Setup
+    public void setup() throws Exception {
+        features = BenchmarkData.features(10000, 32);
+        Filter parsed = ECQL.toFilter(filter);
+        evaluated = compiled ? FilterCompiler.compile(parsed, BenchmarkData.TYPE) : parsed;
+    }
+
+    @Benchmark
+    public int evaluate() {
+        int count = 0;
+        for (SimpleFeature feature : features) {
+            if (evaluated.evaluate(feature)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
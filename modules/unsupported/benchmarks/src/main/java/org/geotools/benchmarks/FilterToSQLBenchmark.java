@@ -0,0 +1,74 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.filter.Filter;
+import org.geotools.data.jdbc.FilterToSQLException;
+import org.geotools.data.postgis.PostGISDialect;
+import org.geotools.data.postgis.PostgisFilterToSQL;
+import org.geotools.filter.text.ecql.ECQL;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Encodes common filter shapes to SQL, using the PostGIS encoder as the most used one. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterToSQLBenchmark {
+
+    @Param({
+        "name = 'name17'",
+        "value BETWEEN 100 AND 200",
+        "name LIKE 'name1%'",
+        "value IN (1, 5, 7, 42, 99)",
+        "BBOX(the_geom, 0, 40, 10, 50)",
+        "INTERSECTS(the_geom, POLYGON((0 40, 10 40, 10 50, 0 50, 0 40)))",
+        "value > 100 AND height < 50 AND name LIKE '%5'",
+        "date AFTER 2021-01-01T00:00:00Z"
+    })
+    public String filter;
+
+    private Filter parsed;
+
+    private PostGISDialect dialect;
+
+    @Setup
+    public void setup() throws Exception {
+        parsed = ECQL.toFilter(filter);
+        dialect = new PostGISDialect(null);
+    }
+
+    @Benchmark
+    public String encode() throws FilterToSQLException {
+        PostgisFilterToSQL encoder = new PostgisFilterToSQL(dialect);
+        encoder.setFeatureType(BenchmarkData.TYPE);
+        return encoder.encodeToString(parsed);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.geotools.data.postgis.TWKBReader;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Decodes multipolygons from WKB, with the JTS and GeoTools readers, and from TWKB. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeometryDecodingBenchmark {
+
+    static final int COUNT = 1000;
+
+    /** Decimal digits kept in the TWKB encoding */
+    static final int TWKB_PRECISION = 6;
+
+    @Param({"16", "256"})
+    public int vertices;
+
+    private byte[][] wkb;
+
+    private byte[][] twkb;
+
+    private final GeometryFactory factory = new GeometryFactory();
+
+    @Setup
+    public void setup() throws IOException {
+        List<MultiPolygon> geometries = BenchmarkData.geometries(COUNT, vertices);
+        WKBWriter writer = new WKBWriter();
+        wkb = new byte[COUNT][];
+        twkb = new byte[COUNT][];
+        for (int i = 0; i < COUNT; i++) {
+            wkb[i] = writer.write(geometries.get(i));
+            twkb[i] = toTWKB(geometries.get(i));
+        }
+    }
+
+    @Benchmark
+    public void jtsWKB(Blackhole blackhole) throws ParseException {
+        org.locationtech.jts.io.WKBReader reader = new org.locationtech.jts.io.WKBReader(factory);
+        for (byte[] bytes : wkb) {
+            blackhole.consume(reader.read(bytes));
+        }
+    }
+
+    @Benchmark
+    public void geotoolsWKB(Blackhole blackhole) throws ParseException {
+        org.geotools.geometry.jts.WKBReader reader = new org.geotools.geometry.jts.WKBReader(factory);
+        for (byte[] bytes : wkb) {
+            blackhole.consume(reader.read(bytes));
+        }
+    }
+
+    @Benchmark
+    public void twkb(Blackhole blackhole) throws ParseException, IOException {
+        TWKBReader reader = new TWKBReader(factory);
+        for (byte[] bytes : twkb) {
+            blackhole.consume(reader.read(bytes));
+        }
+    }
+
+    /** Encodes a multipolygon as TWKB, without bounding box, size or id list */
+    static byte[] toTWKB(MultiPolygon mp) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        // type 6 (multipolygon) and the zigzag encoded precision
+        out.write(6 | (zigzag(TWKB_PRECISION) << 4));
+        out.write(0);
+        long[] last = new long[2];
+        writeVarint(out, mp.getNumGeometries());
+        for (int i = 0; i < mp.getNumGeometries(); i++) {
+            Polygon polygon = (Polygon) mp.getGeometryN(i);
+            writeVarint(out, 1 + polygon.getNumInteriorRing());
+            writeRing(out, polygon.getExteriorRing(), last);
+            for (int j = 0; j < polygon.getNumInteriorRing(); j++) {
+                writeRing(out, polygon.getInteriorRingN(j), last);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeRing(ByteArrayOutputStream out, LineString ring, long[] last) {
+        double scale = Math.pow(10, TWKB_PRECISION);
+        writeVarint(out, ring.getNumPoints());
+        for (int i = 0; i < ring.getNumPoints(); i++) {
+            Coordinate c = ring.getCoordinateN(i);
+            long x = Math.round(c.x * scale);
+            long y = Math.round(c.y * scale);
+            // coordinates are deltas from the previous point, across the whole geometry
+            writeVarint(out, zigzag(x - last[0]));
+            writeVarint(out, zigzag(y - last[1]));
+            last[0] = x;
+            last[1] = y;
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.referencing.operation.MathTransform;
+import org.geotools.api.referencing.operation.TransformException;
+import org.geotools.referencing.CRS;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Transforms points between popular CRS pairs, both as a single array and one point at a time, the latter being what
+ * callers transforming short coordinate sequences end up doing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MathTransformBenchmark {
+
+    static final int POINTS = 10000;
+
+    @Param({"EPSG:4326>EPSG:3857", "EPSG:3857>EPSG:4326", "EPSG:4326>EPSG:32632", "EPSG:4326>EPSG:27700"})
+    public String pair;
+
+    private MathTransform transform;
+
+    private double[] source;
+
+    private double[] target;
+
+    @Setup
+    public void setup() throws Exception {
+        String[] codes = pair.split(">");
+        CoordinateReferenceSystem sourceCRS = CRS.decode(codes[0], true);
+        CoordinateReferenceSystem targetCRS = CRS.decode(codes[1], true);
+        transform = CRS.findMathTransform(sourceCRS, targetCRS, true);
+
+        // points over western Europe, valid for all the pairs
+        Random random = new Random(42);
+        double[] lonLat = new double[POINTS * 2];
+        for (int i = 0; i < POINTS; i++) {
+            lonLat[i * 2] = -5 + random.nextDouble() * 10;
+            lonLat[i * 2 + 1] = 45 + random.nextDouble() * 10;
+        }
+        source = new double[POINTS * 2];
+        MathTransform toSource = CRS.findMathTransform(CRS.decode("EPSG:4326", true), sourceCRS, true);
+        toSource.transform(lonLat, 0, source, 0, POINTS);
+        target = new double[POINTS * transform.getTargetDimensions()];
+    }
+
+    @Benchmark
+    public double[] transformArray() throws TransformException {
+        transform.transform(source, 0, target, 0, POINTS);
+        return target;
+    }
+
+    @Benchmark
+    public double[] transformPoints() throws TransformException {
+        for (int i = 0; i < POINTS; i++) {
+            transform.transform(source, i * 2, target, i * 2, 1);
+        }
+        return target;
+    }
+}
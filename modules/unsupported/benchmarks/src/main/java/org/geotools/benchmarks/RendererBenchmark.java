@@ -0,0 +1,103 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.referencing.crs.CoordinateReferenceSystem;
+import org.geotools.api.style.Style;
+import org.geotools.data.memory.MemoryDataStore;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.map.FeatureLayer;
+import org.geotools.map.MapContent;
+import org.geotools.referencing.CRS;
+import org.geotools.renderer.lite.StreamingRenderer;
+import org.geotools.styling.StyleBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Paints a fixed polygon data set with the {@link StreamingRenderer}, natively and reprojected. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RendererBenchmark {
+
+    static final int WIDTH = 1024;
+
+    static final int HEIGHT = 768;
+
+    @Param({"EPSG:4326", "EPSG:3857"})
+    public String crs;
+
+    private MemoryDataStore store;
+
+    private MapContent map;
+
+    private ReferencedEnvelope bounds;
+
+    private BufferedImage image;
+
+    @Setup
+    public void setup() throws Exception {
+        store = new MemoryDataStore(BenchmarkData.collection(5000, 64));
+        StyleBuilder sb = new StyleBuilder();
+        Style style = sb.createStyle(sb.createPolygonSymbolizer(Color.ORANGE, Color.BLACK, 1));
+        map = new MapContent();
+        map.addLayer(new FeatureLayer(store.getFeatureSource(BenchmarkData.TYPE.getTypeName()), style));
+
+        CoordinateReferenceSystem target = CRS.decode(crs, true);
+        bounds = BenchmarkData.BOUNDS.transform(target, true);
+        image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_4BYTE_ABGR);
+    }
+
+    @TearDown
+    public void tearDown() {
+        map.dispose();
+        store.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paint() {
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            StreamingRenderer renderer = new StreamingRenderer();
+            renderer.setMapContent(map);
+            renderer.paint(graphics, new Rectangle(WIDTH, HEIGHT), bounds);
+        } finally {
+            graphics.dispose();
+        }
+        return image;
+    }
+}
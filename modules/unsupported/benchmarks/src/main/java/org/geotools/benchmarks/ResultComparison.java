@@ -0,0 +1,113 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files, a baseline and a candidate, and reports the benchmarks whose score got worse by
+ * more than a threshold, 10% by default. Differences within the score errors are not reported. The exit code is 1
+ * when there are regressions, so that the comparison can fail a build:
+ *
+ * <pre><code>
+ * java -cp target/benchmarks.jar org.geotools.benchmarks.ResultComparison baseline.json jmh-result.json 5
+ * </code></pre>
+ */
+public class ResultComparison {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ResultComparison <baseline.json> <candidate.json> [threshold percentage]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) / 100 : 0.1;
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> candidate = read(new File(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : candidate.entrySet()) {
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.println("NEW        " + entry.getKey());
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            double change = change(before, after);
+            boolean significant = Math.abs(change) > threshold && !overlaps(before, after);
+            String status = !significant ? "SAME" : change < 0 ? "REGRESSION" : "IMPROVED";
+            if ("REGRESSION".equals(status)) {
+                regressions++;
+            }
+            System.out.printf(
+                    "%-10s %s: %.3f -> %.3f %s (%+.1f%%)%n",
+                    status,
+                    entry.getKey(),
+                    score(before),
+                    score(after),
+                    after.path("primaryMetric").path("scoreUnit").asText(),
+                    change * 100);
+        }
+        System.out.println(regressions + " regression(s) over " + threshold * 100 + "%");
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    /** Reads the results, keyed by benchmark name and parameters */
+    static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            JsonNode params = result.path("params");
+            for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+                Map.Entry<String, JsonNode> param = it.next();
+                key.append(key.indexOf("{") < 0 ? " {" : ", ");
+                key.append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            if (params.size() > 0) {
+                key.append('}');
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    /** Returns the relative improvement, negative for regressions, taking into account the benchmark mode */
+    static double change(JsonNode before, JsonNode after) {
+        double ratio = (score(after) - score(before)) / score(before);
+        // throughput is better when higher, all other modes measure time
+        return "thrpt".equals(after.path("mode").asText()) ? ratio : -ratio;
+    }
+
+    static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    /** Returns true if the confidence intervals of the two results overlap */
+    static boolean overlaps(JsonNode before, JsonNode after) {
+        JsonNode b = before.path("primaryMetric").path("scoreConfidence");
+        JsonNode a = after.path("primaryMetric").path("scoreConfidence");
+        if (b.size() != 2 || a.size() != 2 || Double.isNaN(b.get(0).asDouble()) || Double.isNaN(a.get(0).asDouble())) {
+            return false;
+        }
+        return a.get(0).asDouble() <= b.get(1).asDouble() && b.get(0).asDouble() <= a.get(1).asDouble();
+    }
+}
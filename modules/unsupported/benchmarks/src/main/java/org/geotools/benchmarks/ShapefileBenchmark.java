@@ -0,0 +1,100 @@
+/*
+ *    GeoTools - The Open Source Java GIS Toolkit
+ *    http://geotools.org
+ *
+ *    (C) 2026, Open Source Geospatial Foundation (OSGeo)
+ *
+ *    This library is free software; you can redistribute it and/or
+ *    modify it under the terms of the GNU Lesser General Public
+ *    License as published by the Free Software Foundation;
+ *    version 2.1 of the License.
+ *
+ *    This library is distributed in the hope that it will be useful,
+ *    but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ *    Lesser General Public License for more details.
+ */
+package org.geotools.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.geotools.api.data.FeatureReader;
+import org.geotools.api.data.Query;
+import org.geotools.api.data.Transaction;
+import org.geotools.api.feature.simple.SimpleFeature;
+import org.geotools.api.feature.simple.SimpleFeatureType;
+import org.geotools.data.shapefile.ShapefileDataStore;
+import org.geotools.data.shapefile.dbf.DbaseFileReader;
+import org.geotools.data.shapefile.files.ShpFiles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Reads a generated shapefile, both as features and as plain dbf records. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShapefileBenchmark {
+
+    @Param({"false", "true"})
+    public boolean memoryMapped;
+
+    private File directory;
+
+    private File shapefile;
+
+    private ShapefileDataStore store;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("gt-benchmark").toFile();
+        shapefile = BenchmarkData.shapefile(directory, 20000, 64);
+        store = new ShapefileDataStore(shapefile.toURI().toURL());
+        store.setMemoryMapped(memoryMapped);
+    }
+
+    @TearDown
+    public void tearDown() {
+        store.dispose();
+        BenchmarkData.delete(directory);
+    }
+
+    @Benchmark
+    public void readFeatures(Blackhole blackhole) throws IOException {
+        try (FeatureReader<SimpleFeatureType, SimpleFeature> reader =
+                store.getFeatureReader(new Query(store.getTypeNames()[0]), Transaction.AUTO_COMMIT)) {
+            while (reader.hasNext()) {
+                SimpleFeature feature = reader.next();
+                blackhole.consume(feature.getDefaultGeometry());
+                blackhole.consume(feature.getAttribute("value"));
+            }
+        }
+    }
+
+    @Benchmark
+    public void readDbf(Blackhole blackhole) throws IOException {
+        try (DbaseFileReader reader =
+                new DbaseFileReader(new ShpFiles(shapefile), memoryMapped, StandardCharsets.ISO_8859_1)) {
+            Object[] entry = new Object[reader.getHeader().getNumFields()];
+            while (reader.hasNext()) {
+                blackhole.consume(reader.readEntry(entry));
+            }
+        }
+    }
+}